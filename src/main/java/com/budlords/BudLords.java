@@ -5,7 +5,9 @@ import com.budlords.challenges.ChallengeManager;
 import com.budlords.collections.CollectionManager;
 import com.budlords.commands.*;
 import com.budlords.crossbreed.CrossbreedManager;
+import com.budlords.data.AutosaveManager;
 import com.budlords.data.DataManager;
+import com.budlords.data.PersistenceManager;
 import com.budlords.diseases.DiseaseManager;
 import com.budlords.economy.EconomyManager;
 import com.budlords.events.RandomEventManager;
@@ -24,7 +26,9 @@ import com.budlords.listeners.PlayerListener;
 import com.budlords.npc.NPCManager;
 import com.budlords.packaging.DroppedBudTracker;
 import com.budlords.packaging.PackagingManager;
+import com.budlords.perf.TaskProfiler;
 import com.budlords.prestige.PrestigeManager;
+import com.budlords.progression.PlayerModifierCache;
 import com.budlords.progression.RankManager;
 import com.budlords.quality.QualityItemManager;
 import com.budlords.seasons.SeasonManager;
@@ -39,13 +43,17 @@ import java.util.logging.Level;
 
 public class BudLords extends JavaPlugin {
 
+    private TaskProfiler taskProfiler;
     private DataManager dataManager;
+    private PersistenceManager persistenceManager;
+    private AutosaveManager autosaveManager;
     private EconomyManager economyManager;
     private StrainManager strainManager;
     private FarmingManager farmingManager;
     private NPCManager npcManager;
     private PackagingManager packagingManager;
     private RankManager rankManager;
+    private PlayerModifierCache playerModifierCache;
     private QualityItemManager qualityItemManager;
     private MarketShopGUI marketShopGUI;
     private BlackMarketShopGUI blackMarketShopGUI;
@@ -118,10 +126,15 @@ public class BudLords extends JavaPlugin {
             saveDefaultConfig();
             
             // Initialize managers in order of dependency
+            // The profiler first: managers schedule their tasks through it
+            this.taskProfiler = new TaskProfiler(this);
             this.dataManager = new DataManager(this);
+            this.persistenceManager = new PersistenceManager(this);
+            this.autosaveManager = new AutosaveManager(this, persistenceManager);
             this.strainManager = new StrainManager(this, dataManager);
             this.economyManager = new EconomyManager(this, dataManager);
             this.rankManager = new RankManager(this, dataManager);
+            this.playerModifierCache = new PlayerModifierCache(this);
             this.packagingManager = new PackagingManager(this, strainManager);
             this.farmingManager = new FarmingManager(this, dataManager, strainManager);
             this.npcManager = new NPCManager(this, economyManager, strainManager, rankManager, packagingManager);
@@ -203,6 +216,9 @@ public class BudLords extends JavaPlugin {
             // Start autosave task
             startAutosaveTask();
             
+            // Periodic dump of the task timings
+            taskProfiler.start();
+            
             getLogger().info("BudLords has been enabled successfully!");
             getLogger().info("Loaded " + strainManager.getStrainCount() + " strains.");
             getLogger().info("Loaded " + farmingManager.getPlantCount() + " active plants.");
@@ -261,12 +277,8 @@ public class BudLords extends JavaPlugin {
     @Override
     public void onDisable() {
         try {
-            if (dataManager != null) {
-                dataManager.saveAll();
-                getLogger().info("All data saved successfully.");
-            }
-            if (statsManager != null) {
-                statsManager.saveStats();
+            if (taskProfiler != null) {
+                taskProfiler.shutdown();
             }
             if (farmingManager != null) {
                 farmingManager.shutdown();
@@ -290,15 +302,6 @@ public class BudLords extends JavaPlugin {
             if (diseaseManager != null) {
                 diseaseManager.shutdown();
             }
-            if (achievementManager != null) {
-                achievementManager.saveAchievements();
-            }
-            if (skillManager != null) {
-                skillManager.saveSkills();
-            }
-            if (collectionManager != null) {
-                collectionManager.saveCollections();
-            }
             // v3.0.0 shutdown
             if (marketDemandManager != null) {
                 marketDemandManager.shutdown();
@@ -324,9 +327,6 @@ public class BudLords extends JavaPlugin {
                 harvestMinigame.shutdown();
             }
             // v3.4.0 shutdown
-            if (buyerRegistry != null) {
-                buyerRegistry.saveBuyers();
-            }
             if (travelingBuyerManager != null) {
                 travelingBuyerManager.shutdown();
             }
@@ -340,6 +340,15 @@ public class BudLords extends JavaPlugin {
             if (dynamicBuyerManager != null) {
                 dynamicBuyerManager.shutdown();
             }
+            // Last, so changes made by the shutdowns above are included:
+            // saves the documents, flushes the record logs and exports the YAML files
+            if (autosaveManager != null) {
+                autosaveManager.shutdown();
+            }
+            if (persistenceManager != null) {
+                persistenceManager.shutdown();
+                getLogger().info("All data saved successfully.");
+            }
             getLogger().info("BudLords has been disabled.");
         } catch (Exception e) {
             getLogger().log(Level.WARNING, "Error during shutdown", e);
@@ -349,7 +358,7 @@ public class BudLords extends JavaPlugin {
     private void registerCommands() {
         BalanceCommand balanceCommand = new BalanceCommand(economyManager, rankManager);
         AddMoneyCommand addMoneyCommand = new AddMoneyCommand(economyManager);
-        PayCommand payCommand = new PayCommand(economyManager);
+        PayCommand payCommand = new PayCommand(economyManager, statsManager);
         StrainCreatorCommand strainCreatorCommand = new StrainCreatorCommand(this, strainManager);
         SpawnMarketCommand spawnMarketCommand = new SpawnMarketCommand(npcManager);
         SpawnBlackMarketCommand spawnBlackMarketCommand = new SpawnBlackMarketCommand(npcManager);
@@ -438,8 +447,8 @@ public class BudLords extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new PlayerListener(this, dataManager), this);
         getServer().getPluginManager().registerEvents(new ItemDropListener(this, strainManager, packagingManager, droppedBudTracker, jointRollingManager), this);
         
-        // Register GUI listener for new features
-        getServer().getPluginManager().registerEvents(new GUIListener(this), this);
+        // Dispatches the clicks of every GUI to its holder
+        getServer().getPluginManager().registerEvents(new GUIListener(), this);
         
         // v3.5.0 - Dynamic Buyer System entity spawn listener
         getServer().getPluginManager().registerEvents(new com.budlords.listeners.EntityListener(this), this);
@@ -449,20 +458,28 @@ public class BudLords extends JavaPlugin {
     }
 
     private void startAutosaveTask() {
-        int intervalTicks = getConfig().getInt("autosave-interval-seconds", 300) * 20;
-        getServer().getScheduler().runTaskTimerAsynchronously(this, () -> {
-            try {
-                dataManager.saveAll();
-            } catch (Exception e) {
-                getLogger().log(Level.WARNING, "Autosave failed", e);
-            }
-        }, intervalTicks, intervalTicks);
+        // Changed records are flushed incrementally; the YAML files are exported on shutdown
+        persistenceManager.start();
+        // strains.yml and market.yml: snapshot on the main thread, written off it
+        autosaveManager.start();
+    }
+
+    public TaskProfiler getTaskProfiler() {
+        return taskProfiler;
     }
 
     public DataManager getDataManager() {
         return dataManager;
     }
 
+    public PersistenceManager getPersistenceManager() {
+        return persistenceManager;
+    }
+
+    public AutosaveManager getAutosaveManager() {
+        return autosaveManager;
+    }
+
     public EconomyManager getEconomyManager() {
         return economyManager;
     }
@@ -486,6 +503,10 @@ public class BudLords extends JavaPlugin {
     public RankManager getRankManager() {
         return rankManager;
     }
+
+    public PlayerModifierCache getPlayerModifierCache() {
+        return playerModifierCache;
+    }
     
     public QualityItemManager getQualityItemManager() {
         return qualityItemManager;
@@ -1,7 +1,9 @@
 package com.budlords.achievements;
 
 import com.budlords.BudLords;
+import com.budlords.data.RecordStore;
 import com.budlords.economy.EconomyManager;
+import com.budlords.gui.Menu;
 import com.budlords.stats.PlayerStats;
 import com.budlords.stats.StatsManager;
 import org.bukkit.Bukkit;
@@ -12,8 +14,6 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -25,7 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Manages player achievements in BudLords v2.0.0.
  */
-public class AchievementManager implements InventoryHolder {
+public class AchievementManager {
 
     private final BudLords plugin;
     private final EconomyManager economyManager;
@@ -40,6 +40,7 @@ public class AchievementManager implements InventoryHolder {
     // Data file
     private File achievementsFile;
     private FileConfiguration achievementsConfig;
+    private RecordStore<UUID> achievementStore;
 
     public AchievementManager(BudLords plugin, EconomyManager economyManager, StatsManager statsManager) {
         this.plugin = plugin;
@@ -63,22 +64,18 @@ public class AchievementManager implements InventoryHolder {
             }
         }
         achievementsConfig = YamlConfiguration.loadConfiguration(achievementsFile);
+        achievementStore = plugin.getPersistenceManager().registerPlayerStore("achievements", () -> achievementsConfig,
+            achievementsFile, "players", this::writeAchievements, this::readAchievements, this::unloadAchievements);
+        achievementStore.replay();
         
         ConfigurationSection playersSection = achievementsConfig.getConfigurationSection("players");
         if (playersSection != null) {
             for (String uuidStr : playersSection.getKeys(false)) {
                 try {
                     UUID uuid = UUID.fromString(uuidStr);
-                    List<String> unlocked = playersSection.getStringList(uuidStr + ".unlocked");
-                    playerAchievements.put(uuid, new HashSet<>(unlocked));
-                    
-                    ConfigurationSection progressSection = playersSection.getConfigurationSection(uuidStr + ".progress");
-                    if (progressSection != null) {
-                        Map<String, Integer> progress = new HashMap<>();
-                        for (String achievementName : progressSection.getKeys(false)) {
-                            progress.put(achievementName, progressSection.getInt(achievementName));
-                        }
-                        achievementProgress.put(uuid, progress);
+                    ConfigurationSection section = playersSection.getConfigurationSection(uuidStr);
+                    if (section != null) {
+                        readAchievements(uuid, section);
                     }
                 } catch (Exception e) {
                     plugin.getLogger().warning("Failed to load achievements for " + uuidStr);
@@ -87,26 +84,47 @@ public class AchievementManager implements InventoryHolder {
         }
     }
 
-    public void saveAchievements() {
-        achievementsConfig.set("players", null);
-        
-        for (Map.Entry<UUID, Set<String>> entry : playerAchievements.entrySet()) {
-            String path = "players." + entry.getKey().toString();
-            achievementsConfig.set(path + ".unlocked", new ArrayList<>(entry.getValue()));
-            
-            Map<String, Integer> progress = achievementProgress.get(entry.getKey());
-            if (progress != null) {
-                for (Map.Entry<String, Integer> progressEntry : progress.entrySet()) {
-                    achievementsConfig.set(path + ".progress." + progressEntry.getKey(), progressEntry.getValue());
-                }
+    private void readAchievements(UUID uuid, ConfigurationSection section) {
+        List<String> unlocked = section.getStringList("unlocked");
+        playerAchievements.put(uuid, new HashSet<>(unlocked));
+        
+        ConfigurationSection progressSection = section.getConfigurationSection("progress");
+        if (progressSection != null) {
+            Map<String, Integer> progress = new HashMap<>();
+            for (String achievementName : progressSection.getKeys(false)) {
+                progress.put(achievementName, progressSection.getInt(achievementName));
             }
+            achievementProgress.put(uuid, progress);
         }
+    }
+
+    /**
+     * Exports all achievements to achievements.yml. Changes are persisted incrementally,
+     * so this is only needed to get an up-to-date file.
+     */
+    public void saveAchievements() {
+        plugin.getPersistenceManager().export(achievementStore);
+    }
+
+    private void unloadAchievements(UUID uuid) {
+        playerAchievements.remove(uuid);
+        achievementProgress.remove(uuid);
+    }
+
+    private boolean writeAchievements(UUID uuid, ConfigurationSection section) {
+        Set<String> unlocked = playerAchievements.get(uuid);
+        if (unlocked == null) {
+            return false;
+        }
+        section.set("unlocked", new ArrayList<>(unlocked));
         
-        try {
-            achievementsConfig.save(achievementsFile);
-        } catch (IOException e) {
-            plugin.getLogger().warning("Failed to save achievements: " + e.getMessage());
+        Map<String, Integer> progress = achievementProgress.get(uuid);
+        if (progress != null) {
+            for (Map.Entry<String, Integer> progressEntry : progress.entrySet()) {
+                section.set("progress." + progressEntry.getKey(), progressEntry.getValue());
+            }
         }
+        return true;
     }
 
     /**
@@ -114,6 +132,7 @@ public class AchievementManager implements InventoryHolder {
      */
     public void updateProgress(Player player, Achievement achievement, int amount) {
         UUID uuid = player.getUniqueId();
+        achievementStore.load(uuid);
         
         // Check if already unlocked
         Set<String> unlocked = playerAchievements.computeIfAbsent(uuid, k -> new HashSet<>());
@@ -124,6 +143,7 @@ public class AchievementManager implements InventoryHolder {
         int current = progress.getOrDefault(achievement.name(), 0);
         current += amount;
         progress.put(achievement.name(), current);
+        achievementStore.markDirty(uuid);
         
         // Check if completed
         if (current >= achievement.getRequirement()) {
@@ -136,12 +156,14 @@ public class AchievementManager implements InventoryHolder {
      */
     public void setProgress(Player player, Achievement achievement, int amount) {
         UUID uuid = player.getUniqueId();
+        achievementStore.load(uuid);
         
         Set<String> unlocked = playerAchievements.computeIfAbsent(uuid, k -> new HashSet<>());
         if (unlocked.contains(achievement.name())) return;
         
         Map<String, Integer> progress = achievementProgress.computeIfAbsent(uuid, k -> new HashMap<>());
         progress.put(achievement.name(), amount);
+        achievementStore.markDirty(uuid);
         
         if (amount >= achievement.getRequirement()) {
             unlockAchievement(player, achievement);
@@ -153,11 +175,13 @@ public class AchievementManager implements InventoryHolder {
      */
     public void unlockAchievement(Player player, Achievement achievement) {
         UUID uuid = player.getUniqueId();
+        achievementStore.load(uuid);
         Set<String> unlocked = playerAchievements.computeIfAbsent(uuid, k -> new HashSet<>());
         
         if (unlocked.contains(achievement.name())) return;
         
         unlocked.add(achievement.name());
+        achievementStore.markDirty(uuid);
         
         // Give rewards
         economyManager.addBalance(player, achievement.getRewardMoney());
@@ -173,9 +197,6 @@ public class AchievementManager implements InventoryHolder {
         
         // Check for Completionist achievement
         checkCompletionist(player);
-        
-        // Save
-        saveAchievements();
     }
 
     private void sendAchievementNotification(Player player, Achievement achievement) {
@@ -335,18 +356,18 @@ public class AchievementManager implements InventoryHolder {
      */
     @SuppressWarnings("deprecation")
     public void openAchievementsGUI(Player player, Achievement.AchievementCategory category) {
-        Inventory inv = Bukkit.createInventory(this, 54, 
+        Menu<Achievement.AchievementCategory> menu = new Menu<>(category, 54, 
             "§6§l✦ Achievements - " + category.getDisplayName() + " ✦");
         
         // Border
         ItemStack border = createItem(Material.GOLD_NUGGET, " ", null);
         for (int i = 0; i < 9; i++) {
-            inv.setItem(i, border);
-            inv.setItem(45 + i, border);
+            menu.set(i, border);
+            menu.set(45 + i, border);
         }
         for (int i = 9; i < 45; i += 9) {
-            inv.setItem(i, border);
-            inv.setItem(i + 8, border);
+            menu.set(i, border);
+            menu.set(i + 8, border);
         }
         
         // Category navigation
@@ -355,12 +376,13 @@ public class AchievementManager implements InventoryHolder {
             Material mat = cat == category ? Material.EMERALD : Material.COAL;
             ItemStack catItem = createItem(mat, cat.getColor() + cat.getDisplayName(),
                 Arrays.asList("", "§7" + cat.getDescription(), "", "§eClick to view"));
-            inv.setItem(categorySlot++, catItem);
+            menu.set(categorySlot++, catItem, (p, event) -> openAchievementsGUI(p, cat));
             if (categorySlot >= 53) break;
         }
         
         // Get player's achievements
         UUID uuid = player.getUniqueId();
+        achievementStore.load(uuid);
         Set<String> unlocked = playerAchievements.getOrDefault(uuid, new HashSet<>());
         Map<String, Integer> progress = achievementProgress.getOrDefault(uuid, new HashMap<>());
         
@@ -396,7 +418,7 @@ public class AchievementManager implements InventoryHolder {
             lore.add("§7Rarity: " + achievement.getRarity().getDisplay());
             lore.add("§7Rewards: §e$" + String.format("%,.0f", achievement.getRewardMoney()));
             
-            inv.setItem(slot++, createItem(material, name, lore));
+            menu.set(slot++, createItem(material, name, lore));
         }
         
         // Summary
@@ -409,7 +431,7 @@ public class AchievementManager implements InventoryHolder {
             }
         }
         
-        inv.setItem(4, createItem(Material.BOOK, 
+        menu.set(4, createItem(Material.BOOK, 
             "§e" + category.getDisplayName() + " Progress",
             Arrays.asList(
                 "",
@@ -418,7 +440,7 @@ public class AchievementManager implements InventoryHolder {
                 ""
             )));
         
-        player.openInventory(inv);
+        menu.open(player);
         player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.2f);
     }
 
@@ -426,6 +448,7 @@ public class AchievementManager implements InventoryHolder {
      * Gets the count of unlocked achievements for a player.
      */
     public int getUnlockedCount(UUID uuid) {
+        achievementStore.load(uuid);
         Set<String> unlocked = playerAchievements.get(uuid);
         return unlocked != null ? unlocked.size() : 0;
     }
@@ -441,6 +464,7 @@ public class AchievementManager implements InventoryHolder {
      * Checks if a player has unlocked an achievement.
      */
     public boolean hasAchievement(UUID uuid, Achievement achievement) {
+        achievementStore.load(uuid);
         Set<String> unlocked = playerAchievements.get(uuid);
         return unlocked != null && unlocked.contains(achievement.name());
     }
@@ -469,9 +493,4 @@ public class AchievementManager implements InventoryHolder {
         }
         return item;
     }
-
-    @Override
-    public Inventory getInventory() {
-        return null;
-    }
 }
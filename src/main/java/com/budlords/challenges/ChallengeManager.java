@@ -2,6 +2,7 @@ package com.budlords.challenges;
 
 import com.budlords.BudLords;
 import com.budlords.economy.EconomyManager;
+import com.budlords.gui.Menu;
 import com.budlords.progression.RankManager.Rank;
 import com.budlords.stats.PlayerStats;
 import com.budlords.stats.StatsManager;
@@ -10,8 +11,6 @@ import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.scheduler.BukkitTask;
@@ -25,7 +24,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * Provides engaging goals and rewards for regular play.
  * Challenges are scaled based on player rank.
  */
-public class ChallengeManager implements InventoryHolder {
+public class ChallengeManager {
 
     private final BudLords plugin;
     private final EconomyManager economyManager;
@@ -100,7 +99,7 @@ public class ChallengeManager implements InventoryHolder {
 
     private void startRefreshTask() {
         // Check every hour for challenge refresh
-        refreshTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        refreshTask = plugin.getTaskProfiler().runTaskTimer("ChallengeManager.refresh", () -> {
             long now = System.currentTimeMillis();
             
             // Daily refresh (24 hours)
@@ -195,24 +194,32 @@ public class ChallengeManager implements InventoryHolder {
     /**
      * Opens the challenges GUI for a player.
      */
-    @SuppressWarnings("deprecation")
     public void openChallengesGUI(Player player) {
-        Inventory inv = Bukkit.createInventory(this, 54, "§e§l✦ Daily & Weekly Challenges ✦");
-        
+        Menu<Void> menu = new Menu<>(null, 54, "§e§l✦ Daily & Weekly Challenges ✦");
+        drawChallengesGUI(menu, player);
+        menu.open(player);
+        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.0f);
+    }
+
+    /**
+     * Draws the challenges into the menu; after a claim only the changed slots are updated.
+     */
+    @SuppressWarnings("deprecation")
+    private void drawChallengesGUI(Menu<Void> menu, Player player) {
         // Border
         ItemStack borderYellow = createItem(Material.YELLOW_STAINED_GLASS_PANE, " ", null);
         ItemStack borderOrange = createItem(Material.ORANGE_STAINED_GLASS_PANE, " ", null);
         for (int i = 0; i < 9; i++) {
-            inv.setItem(i, i % 2 == 0 ? borderYellow : borderOrange);
-            inv.setItem(45 + i, i % 2 == 0 ? borderYellow : borderOrange);
+            menu.set(i, i % 2 == 0 ? borderYellow : borderOrange);
+            menu.set(45 + i, i % 2 == 0 ? borderYellow : borderOrange);
         }
         for (int i = 9; i < 45; i += 9) {
-            inv.setItem(i, borderYellow);
-            inv.setItem(i + 8, borderYellow);
+            menu.set(i, borderYellow);
+            menu.set(i + 8, borderYellow);
         }
         
         // Daily challenges header
-        inv.setItem(11, createItem(Material.SUNFLOWER, 
+        menu.set(11, createItem(Material.SUNFLOWER, 
             "§e§l☀ Daily Challenges",
             Arrays.asList(
                 "",
@@ -224,12 +231,12 @@ public class ChallengeManager implements InventoryHolder {
         // Display daily challenges
         int dailySlot = 19;
         for (Challenge challenge : dailyChallenges) {
-            inv.setItem(dailySlot, createChallengeItem(player, challenge));
+            menu.set(dailySlot, createChallengeItem(player, challenge), (p, event) -> claimReward(menu, p, challenge));
             dailySlot += 2;
         }
         
         // Weekly challenges header
-        inv.setItem(15, createItem(Material.CLOCK, 
+        menu.set(15, createItem(Material.CLOCK, 
             "§6§l⌚ Weekly Challenges",
             Arrays.asList(
                 "",
@@ -241,13 +248,13 @@ public class ChallengeManager implements InventoryHolder {
         // Display weekly challenges
         int weeklySlot = 29;
         for (Challenge challenge : weeklyChallenges) {
-            inv.setItem(weeklySlot, createChallengeItem(player, challenge));
+            menu.set(weeklySlot, createChallengeItem(player, challenge), (p, event) -> claimReward(menu, p, challenge));
             weeklySlot += 2;
         }
         
         // Stats summary
         PlayerStats stats = statsManager.getStats(player);
-        inv.setItem(40, createItem(Material.EMERALD, 
+        menu.set(40, createItem(Material.EMERALD, 
             "§a§l★ Your Progress",
             Arrays.asList(
                 "",
@@ -256,9 +263,6 @@ public class ChallengeManager implements InventoryHolder {
                 "§7Total Challenges: §a" + stats.getChallengesCompleted(),
                 ""
             )));
-        
-        player.openInventory(inv);
-        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.0f);
     }
     
     /**
@@ -366,34 +370,15 @@ public class ChallengeManager implements InventoryHolder {
     }
 
     /**
-     * Handles clicking a challenge to claim rewards.
+     * Claims the reward of a clicked challenge.
      */
-    public void handleChallengeClick(Player player, int slot) {
-        Challenge clickedChallenge = null;
-        
-        // Find which challenge was clicked
-        int dailySlot = 19;
-        for (Challenge c : dailyChallenges) {
-            if (slot == dailySlot) {
-                clickedChallenge = c;
-                break;
-            }
-            dailySlot += 2;
-        }
-        
-        if (clickedChallenge == null) {
-            int weeklySlot = 29;
-            for (Challenge c : weeklyChallenges) {
-                if (slot == weeklySlot) {
-                    clickedChallenge = c;
-                    break;
-                }
-                weeklySlot += 2;
-            }
+    private void claimReward(Menu<Void> menu, Player player, Challenge clickedChallenge) {
+        // The challenges may have been refreshed while the menu was open
+        if (!dailyChallenges.contains(clickedChallenge) && !weeklyChallenges.contains(clickedChallenge)) {
+            drawChallengesGUI(menu, player);
+            return;
         }
-        
-        if (clickedChallenge == null) return;
-        
+
         // Get rank-scaled version for rewards
         Challenge scaledChallenge = getScaledChallenge(player, clickedChallenge);
         Challenge.PlayerChallengeProgress progress = getProgress(player.getUniqueId(), clickedChallenge.getId());
@@ -436,7 +421,7 @@ public class ChallengeManager implements InventoryHolder {
         player.sendMessage("");
         
         // Refresh GUI
-        openChallengesGUI(player);
+        drawChallengesGUI(menu, player);
     }
 
     /**
@@ -525,11 +510,6 @@ public class ChallengeManager implements InventoryHolder {
         return item;
     }
 
-    @Override
-    public Inventory getInventory() {
-        return null;
-    }
-
     /**
      * Template for generating challenges.
      */
@@ -1,9 +1,10 @@
 package com.budlords.collections;
 
 import com.budlords.BudLords;
+import com.budlords.data.RecordStore;
+import com.budlords.gui.Menu;
 import com.budlords.strain.Strain;
 import com.budlords.strain.StrainManager;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -11,8 +12,6 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -25,7 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * Manages the strain collection book system in BudLords v2.0.0.
  * Players can collect and display their discovered strains.
  */
-public class CollectionManager implements InventoryHolder {
+public class CollectionManager {
 
     private final BudLords plugin;
     private final StrainManager strainManager;
@@ -39,6 +38,7 @@ public class CollectionManager implements InventoryHolder {
     // Data file
     private File collectionsFile;
     private FileConfiguration collectionsConfig;
+    private RecordStore<UUID> collectionStore;
 
     public CollectionManager(BudLords plugin, StrainManager strainManager) {
         this.plugin = plugin;
@@ -61,35 +61,18 @@ public class CollectionManager implements InventoryHolder {
             }
         }
         collectionsConfig = YamlConfiguration.loadConfiguration(collectionsFile);
+        collectionStore = plugin.getPersistenceManager().registerPlayerStore("collections", () -> collectionsConfig,
+            collectionsFile, "players", this::writeCollection, this::readCollection, this::unloadCollection);
+        collectionStore.replay();
         
         ConfigurationSection playersSection = collectionsConfig.getConfigurationSection("players");
         if (playersSection != null) {
             for (String uuidStr : playersSection.getKeys(false)) {
                 try {
                     UUID uuid = UUID.fromString(uuidStr);
-                    
-                    // Load collected strains
-                    List<String> collected = playersSection.getStringList(uuidStr + ".strains");
-                    playerCollections.put(uuid, new HashSet<>(collected));
-                    
-                    // Load stats
-                    ConfigurationSection statsSection = playersSection.getConfigurationSection(uuidStr + ".stats");
-                    if (statsSection != null) {
-                        CollectionStats stats = new CollectionStats();
-                        stats.commonCollected = statsSection.getInt("common", 0);
-                        stats.uncommonCollected = statsSection.getInt("uncommon", 0);
-                        stats.rareCollected = statsSection.getInt("rare", 0);
-                        stats.legendaryCollected = statsSection.getInt("legendary", 0);
-                        stats.totalHarvestsPerStrain = new HashMap<>();
-                        
-                        ConfigurationSection harvestsSection = statsSection.getConfigurationSection("harvests");
-                        if (harvestsSection != null) {
-                            for (String strainId : harvestsSection.getKeys(false)) {
-                                stats.totalHarvestsPerStrain.put(strainId, harvestsSection.getInt(strainId));
-                            }
-                        }
-                        
-                        collectionStats.put(uuid, stats);
+                    ConfigurationSection section = playersSection.getConfigurationSection(uuidStr);
+                    if (section != null) {
+                        readCollection(uuid, section);
                     }
                 } catch (Exception e) {
                     plugin.getLogger().warning("Failed to load collection for " + uuidStr);
@@ -98,35 +81,67 @@ public class CollectionManager implements InventoryHolder {
         }
     }
 
-    public void saveCollections() {
-        collectionsConfig.set("players", null);
+    private void readCollection(UUID uuid, ConfigurationSection section) {
+        // Load collected strains
+        List<String> collected = section.getStringList("strains");
+        playerCollections.put(uuid, new HashSet<>(collected));
         
-        for (UUID uuid : playerCollections.keySet()) {
-            String path = "players." + uuid.toString();
-            
-            // Save collected strains
-            Set<String> strains = playerCollections.get(uuid);
-            collectionsConfig.set(path + ".strains", new ArrayList<>(strains));
+        // Load stats
+        ConfigurationSection statsSection = section.getConfigurationSection("stats");
+        if (statsSection != null) {
+            CollectionStats stats = new CollectionStats();
+            stats.commonCollected = statsSection.getInt("common", 0);
+            stats.uncommonCollected = statsSection.getInt("uncommon", 0);
+            stats.rareCollected = statsSection.getInt("rare", 0);
+            stats.legendaryCollected = statsSection.getInt("legendary", 0);
+            stats.totalHarvestsPerStrain = new HashMap<>();
             
-            // Save stats
-            CollectionStats stats = collectionStats.get(uuid);
-            if (stats != null) {
-                collectionsConfig.set(path + ".stats.common", stats.commonCollected);
-                collectionsConfig.set(path + ".stats.uncommon", stats.uncommonCollected);
-                collectionsConfig.set(path + ".stats.rare", stats.rareCollected);
-                collectionsConfig.set(path + ".stats.legendary", stats.legendaryCollected);
-                
-                for (Map.Entry<String, Integer> entry : stats.totalHarvestsPerStrain.entrySet()) {
-                    collectionsConfig.set(path + ".stats.harvests." + entry.getKey(), entry.getValue());
+            ConfigurationSection harvestsSection = statsSection.getConfigurationSection("harvests");
+            if (harvestsSection != null) {
+                for (String strainId : harvestsSection.getKeys(false)) {
+                    stats.totalHarvestsPerStrain.put(strainId, harvestsSection.getInt(strainId));
                 }
             }
+            
+            collectionStats.put(uuid, stats);
         }
+    }
+
+    /**
+     * Exports all collections to collections.yml. Changes are persisted incrementally,
+     * so this is only needed to get an up-to-date file.
+     */
+    public void saveCollections() {
+        plugin.getPersistenceManager().export(collectionStore);
+    }
+
+    private void unloadCollection(UUID uuid) {
+        playerCollections.remove(uuid);
+        collectionStats.remove(uuid);
+    }
+
+    private boolean writeCollection(UUID uuid, ConfigurationSection section) {
+        Set<String> strains = playerCollections.get(uuid);
+        if (strains == null) {
+            return false;
+        }
+        
+        // Collected strains
+        section.set("strains", new ArrayList<>(strains));
         
-        try {
-            collectionsConfig.save(collectionsFile);
-        } catch (IOException e) {
-            plugin.getLogger().warning("Failed to save collections: " + e.getMessage());
+        // Stats
+        CollectionStats stats = collectionStats.get(uuid);
+        if (stats != null) {
+            section.set("stats.common", stats.commonCollected);
+            section.set("stats.uncommon", stats.uncommonCollected);
+            section.set("stats.rare", stats.rareCollected);
+            section.set("stats.legendary", stats.legendaryCollected);
+            
+            for (Map.Entry<String, Integer> entry : stats.totalHarvestsPerStrain.entrySet()) {
+                section.set("stats.harvests." + entry.getKey(), entry.getValue());
+            }
         }
+        return true;
     }
 
     /**
@@ -134,11 +149,13 @@ public class CollectionManager implements InventoryHolder {
      */
     public void addToCollection(Player player, String strainId) {
         UUID uuid = player.getUniqueId();
+        collectionStore.load(uuid);
         Set<String> collection = playerCollections.computeIfAbsent(uuid, k -> new HashSet<>());
         CollectionStats stats = collectionStats.computeIfAbsent(uuid, k -> new CollectionStats());
         
         // Track harvest count
         stats.totalHarvestsPerStrain.merge(strainId, 1, Integer::sum);
+        collectionStore.markDirty(uuid);
         
         // Check if new discovery
         boolean isNewDiscovery = !collection.contains(strainId);
@@ -234,20 +251,21 @@ public class CollectionManager implements InventoryHolder {
     @SuppressWarnings("deprecation")
     public void openCollectionGUI(Player player, int page) {
         UUID uuid = player.getUniqueId();
+        collectionStore.load(uuid);
         Set<String> collection = playerCollections.getOrDefault(uuid, new HashSet<>());
         CollectionStats stats = collectionStats.getOrDefault(uuid, new CollectionStats());
         
-        Inventory inv = Bukkit.createInventory(this, 54, "§d§l📖 Collection Book - Page " + (page + 1));
+        Menu<Integer> menu = new Menu<>(page, 54, "§d§l📖 Collection Book - Page " + (page + 1));
         
         // Border
         ItemStack border = createItem(Material.PURPLE_STAINED_GLASS_PANE, " ", null);
         for (int i = 0; i < 9; i++) {
-            inv.setItem(i, border);
-            inv.setItem(45 + i, border);
+            menu.set(i, border);
+            menu.set(45 + i, border);
         }
         for (int i = 9; i < 45; i += 9) {
-            inv.setItem(i, border);
-            inv.setItem(i + 8, border);
+            menu.set(i, border);
+            menu.set(i + 8, border);
         }
         
         // Collection stats header
@@ -255,7 +273,7 @@ public class CollectionManager implements InventoryHolder {
         int collectedCount = collection.size();
         double completionPercent = totalStrains > 0 ? (collectedCount * 100.0 / totalStrains) : 0;
         
-        inv.setItem(4, createItem(Material.BOOK, 
+        menu.set(4, createItem(Material.BOOK, 
             "§d§lYour Collection",
             Arrays.asList(
                 "",
@@ -334,31 +352,33 @@ public class CollectionManager implements InventoryHolder {
                 lore.add("§7Harvest this strain to discover it!");
             }
             
-            inv.setItem(slot++, createItem(material, name, lore));
+            menu.set(slot++, createItem(material, name, lore));
         }
         
         // Navigation
         int totalPages = (allStrains.size() + itemsPerPage - 1) / itemsPerPage;
         
         if (page > 0) {
-            inv.setItem(47, createItem(Material.ARROW, "§e← Previous Page", 
-                Collections.singletonList("§7Page " + page + "/" + totalPages)));
+            menu.set(47, createItem(Material.ARROW, "§e← Previous Page", 
+                Collections.singletonList("§7Page " + page + "/" + totalPages)),
+                (p, event) -> openCollectionGUI(p, page - 1));
         }
         
         if (page < totalPages - 1) {
-            inv.setItem(51, createItem(Material.ARROW, "§eNext Page →", 
-                Collections.singletonList("§7Page " + (page + 2) + "/" + totalPages)));
+            menu.set(51, createItem(Material.ARROW, "§eNext Page →", 
+                Collections.singletonList("§7Page " + (page + 2) + "/" + totalPages)),
+                (p, event) -> openCollectionGUI(p, page + 1));
         }
         
         // Filter options
-        inv.setItem(48, createItem(Material.HOPPER, "§eFilter Options", 
+        menu.set(48, createItem(Material.HOPPER, "§eFilter Options", 
             Arrays.asList("", "§7Click to filter by rarity", "§7(Coming soon!)")));
         
         // Search
-        inv.setItem(50, createItem(Material.COMPASS, "§eSearch Strains", 
+        menu.set(50, createItem(Material.COMPASS, "§eSearch Strains", 
             Arrays.asList("", "§7Click to search by name", "§7(Coming soon!)")));
         
-        player.openInventory(inv);
+        menu.open(player);
         player.playSound(player.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 0.5f, 1.0f);
     }
 
@@ -366,6 +386,7 @@ public class CollectionManager implements InventoryHolder {
      * Gets the collection completion percentage for a player.
      */
     public double getCompletionPercent(UUID uuid) {
+        collectionStore.load(uuid);
         Set<String> collection = playerCollections.get(uuid);
         if (collection == null) return 0;
         
@@ -377,6 +398,7 @@ public class CollectionManager implements InventoryHolder {
      * Checks if a player has collected a specific strain.
      */
     public boolean hasCollected(UUID uuid, String strainId) {
+        collectionStore.load(uuid);
         Set<String> collection = playerCollections.get(uuid);
         return collection != null && collection.contains(strainId);
     }
@@ -385,6 +407,7 @@ public class CollectionManager implements InventoryHolder {
      * Gets the number of collected strains for a player.
      */
     public int getCollectedCount(UUID uuid) {
+        collectionStore.load(uuid);
         Set<String> collection = playerCollections.get(uuid);
         return collection != null ? collection.size() : 0;
     }
@@ -414,11 +437,6 @@ public class CollectionManager implements InventoryHolder {
         return item;
     }
 
-    @Override
-    public Inventory getInventory() {
-        return null;
-    }
-
     /**
      * Statistics for a player's collection.
      */
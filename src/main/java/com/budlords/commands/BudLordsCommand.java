@@ -1,13 +1,18 @@
 package com.budlords.commands;
 
 import com.budlords.BudLords;
+import com.budlords.perf.TaskProfiler;
+import com.budlords.perf.TaskStats;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 
+import java.io.File;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 public class BudLordsCommand implements CommandExecutor, TabCompleter {
@@ -32,6 +37,14 @@ public class BudLordsCommand implements CommandExecutor, TabCompleter {
                     sender.sendMessage("§aBudLords configuration reloaded!");
                     return true;
                 }
+                case "perf" -> {
+                    if (!sender.hasPermission("budlords.admin")) {
+                        sender.sendMessage("§cYou don't have permission to use this command!");
+                        return true;
+                    }
+                    handlePerf(sender, args);
+                    return true;
+                }
                 case "guide" -> {
                     if (args.length > 1) {
                         showGuide(sender, args[1].toLowerCase());
@@ -85,6 +98,7 @@ public class BudLordsCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage("§7  /spawnmarket §8- §fSpawn Market Joe");
             sender.sendMessage("§7  /spawnblackmarket §8- §fSpawn BlackMarket Joe");
             sender.sendMessage("§7  /budlords reload §8- §fReload config");
+            sender.sendMessage("§7  /budlords perf [reset|dump] §8- §fTask timings");
             sender.sendMessage("");
         }
         sender.sendMessage("§8§m                                          ");
@@ -92,6 +106,39 @@ public class BudLordsCommand implements CommandExecutor, TabCompleter {
         return true;
     }
     
+    private void handlePerf(CommandSender sender, String[] args) {
+        TaskProfiler profiler = plugin.getTaskProfiler();
+        
+        if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+            profiler.reset();
+            sender.sendMessage("§aTask timings reset.");
+            return;
+        }
+        if (args.length > 1 && args[1].equalsIgnoreCase("dump")) {
+            File file = profiler.dump();
+            sender.sendMessage("§aTask timings written to §e" + file.getPath());
+            return;
+        }
+        
+        String since = new SimpleDateFormat("HH:mm:ss").format(new Date(profiler.getResetAt()));
+        sender.sendMessage("§8§m                                          ");
+        sender.sendMessage("§2§l  BudLords Task Timings §7(since " + since + ")");
+        sender.sendMessage("§7  task §8- §fruns §7| §fp50 §7/ §fp99 §7/ §fmax ms §7| §fentities");
+        sender.sendMessage("");
+        for (TaskStats stats : profiler.getStats()) {
+            if (stats.getInvocations() == 0) continue;
+            sender.sendMessage("§e  " + stats.getName() + " §8- §f" + stats.getInvocations()
+                + " §7| §f" + TaskProfiler.millis(stats.getPercentileNanos(50))
+                + " §7/ §f" + TaskProfiler.millis(stats.getPercentileNanos(99))
+                + " §7/ §c" + TaskProfiler.millis(stats.getMaxNanos())
+                + " §7| §f" + stats.getEntities() + " §8(last " + stats.getLastEntities() + ")");
+        }
+        sender.sendMessage("");
+        sender.sendMessage("§7  /budlords perf reset §8- §fStart a new window");
+        sender.sendMessage("§7  /budlords perf dump §8- §fWrite the timings to the data folder");
+        sender.sendMessage("§8§m                                          ");
+    }
+    
     private void showGuideMenu(CommandSender sender) {
         sender.sendMessage("§8§m                                          ");
         sender.sendMessage("§2§l  BudLords Guides");
@@ -285,9 +332,18 @@ public class BudLordsCommand implements CommandExecutor, TabCompleter {
             // Admin options
             if (sender.hasPermission("budlords.admin")) {
                 if ("reload".startsWith(input)) options.add("reload");
+                if ("perf".startsWith(input)) options.add("perf");
             }
             return options;
         }
+        if (args.length == 2 && args[0].equalsIgnoreCase("perf") && sender.hasPermission("budlords.admin")) {
+            String input = args[1].toLowerCase();
+            List<String> filtered = new ArrayList<>();
+            for (String option : Arrays.asList("reset", "dump")) {
+                if (option.startsWith(input)) filtered.add(option);
+            }
+            return filtered;
+        }
         if (args.length == 2 && args[0].equalsIgnoreCase("guide")) {
             String input = args[1].toLowerCase();
             List<String> guides = Arrays.asList("growing", "joint", "selling", "quality", "crossbreed", "formations");
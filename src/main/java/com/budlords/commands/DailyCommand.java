@@ -103,16 +103,17 @@ public class DailyCommand implements CommandExecutor {
         double totalReward = BASE_REWARD * rewardMultiplier;
         
         // Apply prestige bonus if available
-        if (plugin.getPrestigeManager() != null && stats.getPrestigeLevel() > 0) {
-            double prestigeMultiplier = plugin.getPrestigeManager().getEarningsMultiplier(stats.getPrestigeLevel());
-            totalReward *= prestigeMultiplier;
+        if (plugin.getPlayerModifierCache() != null) {
+            totalReward *= plugin.getPlayerModifierCache().get(player.getUniqueId()).earningsMultiplier();
         }
         
         // Give reward
         economyManager.addBalance(player, totalReward);
         
-        // Save stats
-        statsManager.saveStats();
+        // Persist the claim right away instead of waiting for the next flush
+        if (plugin.getPersistenceManager() != null) {
+            plugin.getPersistenceManager().flush();
+        }
         
         // Display reward message
         player.sendMessage("");
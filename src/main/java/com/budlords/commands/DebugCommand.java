@@ -1,6 +1,8 @@
 package com.budlords.commands;
 
 import com.budlords.BudLords;
+import com.budlords.data.AutosaveManager;
+import com.budlords.data.PersistenceManager;
 import com.budlords.effects.StrainEffect;
 import com.budlords.effects.StrainEffectType;
 import com.budlords.farming.FarmingManager;
@@ -108,6 +110,8 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
             case "unlock" -> handleUnlockAll(sender, args);
             case "maxout" -> handleMaxOut(sender, args);
             case "analytics" -> handleAnalytics(sender);
+            case "guibench" -> handleGuiBench(sender, args);
+            case "outbreak" -> handleOutbreak(sender, args);
             case "dump" -> handleDump(sender, args);
             default -> showDebugHelp(sender);
         }
@@ -182,6 +186,8 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§e  /debug sellbulk §7- Bulk sales debug");
         sender.sendMessage("§e  /debug formations §7- Formation detection info");
         sender.sendMessage("§e  /debug analytics §7- Full system analytics");
+        sender.sendMessage("§e  /debug guibench [clicks] [trades] §7- Time sale GUI redraws");
+        sender.sendMessage("§e  /debug outbreak [size] [checks] [seed] §7- Simulate a disease outbreak");
         sender.sendMessage("§e  /debug dump <type> §7- Dump data (json)");
         sender.sendMessage("");
         sender.sendMessage("§d§lUtility Commands:");
@@ -270,6 +276,36 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
             }
         }
         
+        sender.sendMessage("");
+        sender.sendMessage("§7  Growth queue: §e" + farmingManager.getGrowthScheduler().size() + 
+            " §7| Last tick: §e" + farmingManager.getGrowthScheduler().getLastProcessed() + 
+            (farmingManager.getGrowthScheduler().hadBacklog() ? " §c(backlog)" : ""));
+        com.budlords.farming.PlantSimulation simulation = farmingManager.getSimulation();
+        sender.sendMessage("§7  Simulation: §e" + String.format("%.3f", simulation.getLastTickNanos() / 1_000_000.0) +
+            " ms §7last tick, last pass §e" + simulation.getLastPassTicks() + "§7/§e" +
+            com.budlords.farming.PlantSimulation.PASS_TICKS + " §7ticks, §e" + simulation.getOverBudgetTicks() +
+            " §7ticks over budget");
+        for (com.budlords.farming.PlantSimulation.StageInfo stage : simulation.getStages()) {
+            sender.sendMessage("§7    " + stage.getName() + " §8(" + stage.getPeriodTicks() + "t)§7: §e" +
+                String.format("%.3f", stage.getLastPassNanos() / 1_000_000.0) + " ms §7for §e" +
+                stage.getLastPassPlants() + " §7plants last pass, §e" +
+                String.format("%.1f", stage.getTotalNanos() / 1_000_000.0) + " ms §7total");
+        }
+        sender.sendMessage("§7  Co-op distance checks: §e" + farmingManager.getLastCooperativeDistanceChecks() +
+            " §7last pass, §e" + farmingManager.getTotalCooperativeDistanceChecks() + " §7total");
+        if (plugin.getPlantVisualizationManager() != null) {
+            com.budlords.farming.PlantVisualizationManager visuals = plugin.getPlantVisualizationManager();
+            sender.sendMessage("§7  Renderer: §e" + visuals.getRenderer().getName());
+            com.budlords.farming.PlantViewTracker views = visuals.getViewTracker();
+            sender.sendMessage("§7  Viewed plants: §e" + views.getViewedCount() + "§7/§e" + views.getTrackedCount() + 
+                " §7(§e" + views.getReevaluationCount() + " §7LOD re-evaluations)");
+            com.budlords.farming.ArmorStandPool pool = visuals.getArmorStandPool();
+            if (pool != null) {
+                sender.sendMessage("§7  Armor stands: §e" + pool.getSpawnedCount() + " §7spawned, §e" + 
+                    pool.getReusedCount() + " §7reused, §e" + pool.getDespawnedCount() + " §7despawned, §e" + 
+                    pool.getFreeCount() + " §7idle");
+            }
+        }
         sender.sendMessage("§8§m════════════════════════════════════════");
     }
 
@@ -703,8 +739,24 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
     }
 
     private void handleSave(CommandSender sender) {
-        plugin.getDataManager().saveAll();
+        PersistenceManager persistence = plugin.getPersistenceManager();
+        AutosaveManager autosave = plugin.getAutosaveManager();
+        autosave.saveAllAndWait();
+        persistence.exportAll();
         sender.sendMessage("§a§l[DEBUG] §7All data saved!");
+        sender.sendMessage("§7  Records flushed: §e" + persistence.getRecordsFlushed() + " §7in §e" +
+            persistence.getFlushCount() + " §7flushes (last: §e" + String.format("%.2f", persistence.getLastFlushMillis()) +
+            "ms§7), compactions: §e" + persistence.getCompactionCount());
+        sender.sendMessage("§7  Quit flushes: §e" + persistence.getQuitFlushCount() + " §7for §e" +
+            persistence.getQuitPlayersFlushed() + " §7players");
+        sender.sendMessage("§7  Storage: §e" + persistence.getBackendName() + " §7(§e" +
+            String.format("%.1f", persistence.getStorageBytes() / 1024.0) + " KB§7), offline players loaded: §e" +
+            persistence.getOfflinePlayerCount() + " §7(evicted: §e" + persistence.getEvictionCount() + "§7)");
+        sender.sendMessage("§7  Autosave: §e" + autosave.getWriteCount() + " §7writes, §e" +
+            String.format("%.1f", autosave.getBytesWritten() / 1024.0) + " KB§7, snapshot §e" +
+            String.format("%.0f", autosave.getLastSnapshotMicros()) + "µs §7(max §e" +
+            String.format("%.0f", autosave.getMaxSnapshotMicros()) + "µs§7), write §e" +
+            String.format("%.2f", autosave.getLastWriteMillis()) + "ms");
     }
 
     private void handleConfigInfo(CommandSender sender, String[] args) {
@@ -1201,6 +1253,9 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
         if (args.length > 2 && args[1].equalsIgnoreCase("set")) {
             int level = parseInt(args[2], 1);
             plugin.getStatsManager().getStats(player).setPrestigeLevel(level);
+            if (plugin.getPlayerModifierCache() != null) {
+                plugin.getPlayerModifierCache().invalidate(player.getUniqueId());
+            }
             sender.sendMessage("§a§l[DEBUG] §7Set prestige level to §d" + level);
             return;
         }
@@ -1647,6 +1702,9 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
             PlayerStats stats = plugin.getStatsManager().getStats(player);
             if (stats != null) {
                 stats.setPrestigeLevel(10);
+                if (plugin.getPlayerModifierCache() != null) {
+                    plugin.getPlayerModifierCache().invalidate(player.getUniqueId());
+                }
                 sender.sendMessage("§a  ✓ Prestige level 10");
             }
         }
@@ -1717,6 +1775,57 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§8§m════════════════════════════════════════");
     }
     
+    /**
+     * Times the redraws of the sale GUI over simulated trades with the sender's items.
+     */
+    private void handleGuiBench(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage("§cThis command must be run by a player!");
+            return;
+        }
+        if (plugin.getMobSaleGUI() == null) {
+            sender.sendMessage("§cSale GUI is not available!");
+            return;
+        }
+        
+        int clicks = 20;
+        int trades = 50;
+        try {
+            if (args.length > 1) clicks = Math.max(1, Math.min(200, Integer.parseInt(args[1])));
+            if (args.length > 2) trades = Math.max(1, Math.min(1000, Integer.parseInt(args[2])));
+        } catch (NumberFormatException e) {
+            sender.sendMessage("§cUsage: /debug guibench [clicks] [trades]");
+            return;
+        }
+        
+        plugin.getMobSaleGUI().benchmarkTrades(player, clicks, trades).forEach(sender::sendMessage);
+    }
+    
+    private void handleOutbreak(CommandSender sender, String[] args) {
+        int size = 50;
+        int checks = 200;
+        long seed = plugin.getConfig().getLong("diseases.random-seed", System.currentTimeMillis());
+        try {
+            if (args.length > 1) size = Math.max(1, Math.min(200, Integer.parseInt(args[1])));
+            if (args.length > 2) checks = Math.max(1, Math.min(2000, Integer.parseInt(args[2])));
+            if (args.length > 3) seed = Long.parseLong(args[3]);
+        } catch (NumberFormatException e) {
+            sender.sendMessage("§cUsage: /debug outbreak [size] [checks] [seed]");
+            return;
+        }
+        
+        // The simulated farm shares nothing with the live plants, so it runs off the main thread
+        int radius = plugin.getConfig().getInt("diseases.spread-radius", 3);
+        com.budlords.diseases.OutbreakSimulation simulation =
+            new com.budlords.diseases.OutbreakSimulation(size, radius, seed);
+        int maxChecks = checks;
+        sender.sendMessage("§7Simulating outbreak...");
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            List<String> report = simulation.run(maxChecks);
+            Bukkit.getScheduler().runTask(plugin, () -> report.forEach(sender::sendMessage));
+        });
+    }
+    
     private void handleDump(CommandSender sender, String[] args) {
         if (args.length < 2) {
             sender.sendMessage("§cUsage: /debug dump <strains|buyers|plants|skills>");
@@ -2056,7 +2165,7 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
             completions.addAll(Arrays.asList(
                 // Plant commands
                 "plants", "growplant", "setplantstage", "refreshplant", "waterplant", 
-                "setquality", "removeplant", "infect", "cure",
+                "setquality", "removeplant", "infect", "cure", "outbreak",
                 // Item commands
                 "giveseed", "givebud", "giveitem", "joint",
                 // Economy commands
@@ -139,6 +139,8 @@ public class LeaderboardCommand implements CommandExecutor, TabCompleter {
     }
 
     private String getPlayerName(UUID playerId) {
+        String indexed = statsManager.getSummaryIndex().getName(playerId);
+        if (indexed != null) return indexed;
         OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(playerId);
         String name = offlinePlayer.getName();
         return name != null ? name : "Unknown";
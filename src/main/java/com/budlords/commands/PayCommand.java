@@ -1,6 +1,7 @@
 package com.budlords.commands;
 
 import com.budlords.economy.EconomyManager;
+import com.budlords.stats.StatsManager;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -10,14 +11,17 @@ import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class PayCommand implements CommandExecutor, TabCompleter {
 
     private final EconomyManager economyManager;
+    private final StatsManager statsManager;
 
-    public PayCommand(EconomyManager economyManager) {
+    public PayCommand(EconomyManager economyManager, StatsManager statsManager) {
         this.economyManager = economyManager;
+        this.statsManager = statsManager;
     }
 
     @Override
@@ -32,13 +36,17 @@ public class PayCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
+        // Offline players are looked up in the summary index rather than through Bukkit's player cache
         Player target = Bukkit.getPlayer(args[0]);
-        if (target == null) {
+        UUID targetId = target != null ? target.getUniqueId()
+            : statsManager != null ? statsManager.getSummaryIndex().findByName(args[0]) : null;
+        if (targetId == null || (target == null && !economyManager.hasAccount(targetId))) {
             sender.sendMessage("§cPlayer not found!");
             return true;
         }
+        String targetName = target != null ? target.getName() : statsManager.getSummaryIndex().getName(targetId);
 
-        if (target.equals(player)) {
+        if (targetId.equals(player.getUniqueId())) {
             sender.sendMessage("§cYou cannot pay yourself!");
             return true;
         }
@@ -60,9 +68,11 @@ public class PayCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        if (economyManager.transfer(player, target, amount)) {
-            sender.sendMessage("§aYou paid " + economyManager.formatMoney(amount) + " to " + target.getName() + "!");
-            target.sendMessage("§aYou received " + economyManager.formatMoney(amount) + " from " + player.getName() + "!");
+        if (economyManager.transfer(player.getUniqueId(), targetId, amount)) {
+            sender.sendMessage("§aYou paid " + economyManager.formatMoney(amount) + " to " + targetName + "!");
+            if (target != null) {
+                target.sendMessage("§aYou received " + economyManager.formatMoney(amount) + " from " + player.getName() + "!");
+            }
         } else {
             sender.sendMessage("§cPayment failed!");
         }
@@ -2,6 +2,7 @@ package com.budlords.crossbreed;
 
 import com.budlords.BudLords;
 import com.budlords.economy.EconomyManager;
+import com.budlords.gui.Menu;
 import com.budlords.quality.StarRating;
 import com.budlords.stats.PlayerStats;
 import com.budlords.stats.StatsManager;
@@ -12,8 +13,7 @@ import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -24,7 +24,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * Manages the strain crossbreeding system.
  * Players can combine two strains to create new hybrid strains.
  */
-public class CrossbreedManager implements InventoryHolder {
+public class CrossbreedManager {
 
     private final BudLords plugin;
     private final StrainManager strainManager;
@@ -69,29 +69,35 @@ public class CrossbreedManager implements InventoryHolder {
         CrossbreedSession session = activeSessions.computeIfAbsent(
             player.getUniqueId(), k -> new CrossbreedSession());
         
-        Inventory inv = Bukkit.createInventory(this, 45, "§d§l✿ Strain Crossbreeding Lab ✿");
-        updateCrossbreedGUI(inv, session);
-        player.openInventory(inv);
+        Menu<CrossbreedSession> menu = new Menu<>(session, 45, "§d§l✿ Strain Crossbreeding Lab ✿");
+        menu.setOtherClickHandler((p, event) -> {
+            // Let them pick up seeds from their own inventory to drop on the parent slots
+            if (event.getRawSlot() >= 45 && strainManager.isSeedItem(event.getCurrentItem())) {
+                event.setCancelled(false);
+            }
+        });
+        updateCrossbreedGUI(menu);
+        menu.open(player);
         player.playSound(player.getLocation(), Sound.BLOCK_BREWING_STAND_BREW, 0.5f, 1.2f);
     }
 
-    private void updateCrossbreedGUI(Inventory inv, CrossbreedSession session) {
-        inv.clear();
+    private void updateCrossbreedGUI(Menu<CrossbreedSession> menu) {
+        CrossbreedSession session = menu.getSession();
         
         // Border - Use more visible colors
         ItemStack borderPink = createItem(Material.PINK_STAINED_GLASS_PANE, " ", null);
         ItemStack borderMagenta = createItem(Material.MAGENTA_STAINED_GLASS_PANE, " ", null);
         for (int i = 0; i < 9; i++) {
-            inv.setItem(i, i % 2 == 0 ? borderPink : borderMagenta);
-            inv.setItem(36 + i, i % 2 == 0 ? borderPink : borderMagenta);
+            menu.set(i, i % 2 == 0 ? borderPink : borderMagenta);
+            menu.set(36 + i, i % 2 == 0 ? borderPink : borderMagenta);
         }
         for (int i = 9; i < 36; i += 9) {
-            inv.setItem(i, borderPink);
-            inv.setItem(i + 8, borderPink);
+            menu.set(i, borderPink);
+            menu.set(i + 8, borderPink);
         }
         
         // Header
-        inv.setItem(4, createItem(Material.FLOWER_POT, 
+        menu.set(4, createItem(Material.FLOWER_POT, 
             "§d§l✿ Crossbreeding Lab ✿",
             Arrays.asList(
                 "",
@@ -105,11 +111,10 @@ public class CrossbreedManager implements InventoryHolder {
         // Parent strain 1 slot - Use more visible material
         if (session.strain1 != null) {
             Strain strain = strainManager.getStrain(session.strain1);
-            if (strain != null) {
-                inv.setItem(20, createStrainItem(strain, session.strain1Rating, "§a§lParent 1"));
-            }
+            menu.set(20, strain != null ? createStrainItem(strain, session.strain1Rating, "§a§lParent 1") : null,
+                (p, event) -> dropSeed(menu, p, event));
         } else {
-            inv.setItem(20, createItem(Material.LIME_STAINED_GLASS_PANE, 
+            menu.set(20, createItem(Material.LIME_STAINED_GLASS_PANE, 
                 "§a§l✦ Parent 1 ✦",
                 Arrays.asList(
                     "",
@@ -120,20 +125,20 @@ public class CrossbreedManager implements InventoryHolder {
                     "",
                     "§7Click with seed in hand",
                     "§7or drag from your inventory"
-                )));
+                )),
+                (p, event) -> dropSeed(menu, p, event));
         }
         
         // Plus symbol
-        inv.setItem(21, createItem(Material.END_ROD, "§e§l+", null));
+        menu.set(21, createItem(Material.END_ROD, "§e§l+", null));
         
         // Parent strain 2 slot - Use more visible material
         if (session.strain2 != null) {
             Strain strain = strainManager.getStrain(session.strain2);
-            if (strain != null) {
-                inv.setItem(22, createStrainItem(strain, session.strain2Rating, "§b§lParent 2"));
-            }
+            menu.set(22, strain != null ? createStrainItem(strain, session.strain2Rating, "§b§lParent 2") : null,
+                (p, event) -> dropSeed(menu, p, event));
         } else {
-            inv.setItem(22, createItem(Material.CYAN_STAINED_GLASS_PANE, 
+            menu.set(22, createItem(Material.CYAN_STAINED_GLASS_PANE, 
                 "§b§l✦ Parent 2 ✦",
                 Arrays.asList(
                     "",
@@ -144,18 +149,19 @@ public class CrossbreedManager implements InventoryHolder {
                     "",
                     "§7Click with seed in hand",
                     "§7or drag from your inventory"
-                )));
+                )),
+                (p, event) -> dropSeed(menu, p, event));
         }
         
         // Equals symbol
-        inv.setItem(23, createItem(Material.END_ROD, "§e§l=", null));
+        menu.set(23, createItem(Material.END_ROD, "§e§l=", null));
         
         // Result preview
         if (session.strain1 != null && session.strain2 != null) {
             CrossbreedResult preview = calculateCrossbreed(session);
-            inv.setItem(24, createPreviewItem(preview));
+            menu.set(24, createPreviewItem(preview));
         } else {
-            inv.setItem(24, createItem(Material.GRAY_STAINED_GLASS_PANE, 
+            menu.set(24, createItem(Material.GRAY_STAINED_GLASS_PANE, 
                 "§7§l???",
                 Arrays.asList(
                     "",
@@ -166,7 +172,7 @@ public class CrossbreedManager implements InventoryHolder {
         
         // Cost display
         double cost = calculateCost(session);
-        inv.setItem(31, createItem(Material.EMERALD, 
+        menu.set(31, createItem(Material.EMERALD, 
             "§e§l💰 Crossbreed Cost",
             Arrays.asList(
                 "",
@@ -180,7 +186,7 @@ public class CrossbreedManager implements InventoryHolder {
         boolean canCrossbreed = session.strain1 != null && session.strain2 != null;
         Material buttonMat = canCrossbreed ? Material.BREWING_STAND : Material.BARRIER;
         String buttonName = canCrossbreed ? "§a§l✓ CROSSBREED!" : "§c§l✗ Select Both Parents";
-        inv.setItem(40, createItem(buttonMat, buttonName,
+        menu.set(40, createItem(buttonMat, buttonName,
             canCrossbreed 
                 ? Arrays.asList(
                     "",
@@ -193,14 +199,16 @@ public class CrossbreedManager implements InventoryHolder {
                     "",
                     "§7You need to select",
                     "§7both parent strains first!"
-                )));
+                )),
+            (p, event) -> crossbreed(p, session));
         
         // Clear button
-        inv.setItem(36, createItem(Material.BARRIER, "§c§lClear Selection",
-            Arrays.asList("", "§7Remove both parents", "§7and start over.")));
+        menu.set(36, createItem(Material.BARRIER, "§c§lClear Selection",
+            Arrays.asList("", "§7Remove both parents", "§7and start over.")),
+            (p, event) -> clearSelection(menu, p));
         
         // Enhanced Info/Tutorial panel
-        inv.setItem(44, createItem(Material.ENCHANTED_BOOK, 
+        menu.set(44, createItem(Material.ENCHANTED_BOOK, 
             "§d§l✿ Crossbreeding Guide ✿",
             Arrays.asList(
                 "",
@@ -256,89 +264,69 @@ public class CrossbreedManager implements InventoryHolder {
     }
 
     /**
-     * Handles dropping a seed into the crossbreed GUI.
+     * Sets a parent from the seed on the cursor.
      */
-    public boolean handleSeedDrop(Player player, ItemStack item, int slot) {
-        CrossbreedSession session = activeSessions.get(player.getUniqueId());
-        if (session == null) return false;
+    private void dropSeed(Menu<CrossbreedSession> menu, Player player, InventoryClickEvent event) {
+        ItemStack cursor = event.getCursor();
+        if (cursor == null || !strainManager.isSeedItem(cursor)) return;
+        CrossbreedSession session = menu.getSession();
         
         // Check if it's a seed
-        String strainId = strainManager.getStrainIdFromSeed(item);
+        String strainId = strainManager.getStrainIdFromSeed(cursor);
         if (strainId == null) {
             player.sendMessage("§cYou can only use seeds for crossbreeding!");
-            return false;
+            return;
         }
         
-        StarRating rating = strainManager.getSeedRating(item);
+        StarRating rating = strainManager.getSeedRating(cursor);
         
         // Determine which slot was clicked
-        if (slot == 20) {
+        if (event.getRawSlot() == 20) {
             session.strain1 = strainId;
             session.strain1Rating = rating;
             player.sendMessage("§aSet Parent 1: §e" + strainManager.getStrain(strainId).getName());
-            player.playSound(player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 0.5f, 1.2f);
-        } else if (slot == 22) {
+        } else {
             session.strain2 = strainId;
             session.strain2Rating = rating;
             player.sendMessage("§aSet Parent 2: §e" + strainManager.getStrain(strainId).getName());
-            player.playSound(player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 0.5f, 1.2f);
-        } else {
-            return false;
         }
+        player.playSound(player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 0.5f, 1.2f);
         
         // Update GUI
-        Inventory inv = player.getOpenInventory().getTopInventory();
-        if (inv.getHolder() instanceof CrossbreedManager) {
-            updateCrossbreedGUI(inv, session);
-        }
+        updateCrossbreedGUI(menu);
+    }
+
+    private void clearSelection(Menu<CrossbreedSession> menu, Player player) {
+        CrossbreedSession session = menu.getSession();
+        session.strain1 = null;
+        session.strain2 = null;
+        session.strain1Rating = null;
+        session.strain2Rating = null;
+        player.sendMessage("§7Cleared selection.");
+        player.playSound(player.getLocation(), Sound.ENTITY_ITEM_BREAK, 0.5f, 1.0f);
         
-        return true;
+        updateCrossbreedGUI(menu);
     }
 
     /**
      * Handles clicking the crossbreed button.
      */
-    public boolean handleCrossbreedClick(Player player, int slot) {
-        CrossbreedSession session = activeSessions.get(player.getUniqueId());
-        if (session == null) return false;
-        
-        // Clear button
-        if (slot == 36) {
-            session.strain1 = null;
-            session.strain2 = null;
-            session.strain1Rating = null;
-            session.strain2Rating = null;
-            player.sendMessage("§7Cleared selection.");
-            player.playSound(player.getLocation(), Sound.ENTITY_ITEM_BREAK, 0.5f, 1.0f);
-            
-            Inventory inv = player.getOpenInventory().getTopInventory();
-            if (inv.getHolder() instanceof CrossbreedManager) {
-                updateCrossbreedGUI(inv, session);
-            }
-            return true;
+    private void crossbreed(Player player, CrossbreedSession session) {
+        if (session.strain1 == null || session.strain2 == null) {
+            player.sendMessage("§cSelect both parent strains first!");
+            player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 0.5f, 1.0f);
+            return;
         }
         
-        // Crossbreed button
-        if (slot == 40) {
-            if (session.strain1 == null || session.strain2 == null) {
-                player.sendMessage("§cSelect both parent strains first!");
-                player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 0.5f, 1.0f);
-                return true;
-            }
-            
-            double cost = calculateCost(session);
-            if (economyManager.getBalance(player) < cost) {
-                player.sendMessage("§cYou need §e$" + String.format("%,.0f", cost) + " §cto crossbreed!");
-                player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 0.5f, 1.0f);
-                return true;
-            }
-            
-            // Perform crossbreeding
-            performCrossbreed(player, session, cost);
-            return true;
+        double cost = calculateCost(session);
+        if (economyManager.getBalance(player) < cost) {
+            player.sendMessage("§cYou need §e$" + String.format("%,.0f", cost) + " §cto crossbreed!");
+            player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 0.5f, 1.0f);
+            return;
         }
         
-        return false;
+        // Perform crossbreeding
+        performCrossbreed(player, session, cost);
     }
 
     private void performCrossbreed(Player player, CrossbreedSession session, double cost) {
@@ -648,11 +636,6 @@ public class CrossbreedManager implements InventoryHolder {
         return item;
     }
 
-    @Override
-    public Inventory getInventory() {
-        return null;
-    }
-
     /**
      * Session data for crossbreeding.
      */
@@ -1,6 +1,7 @@
 package com.budlords.daily;
 
 import com.budlords.BudLords;
+import com.budlords.perf.ProfiledRunnable;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
@@ -232,11 +233,11 @@ public class DailyQuestManager {
     }
     
     private void startDailyResetTask() {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "DailyQuestManager.dailyReset") {
             private LocalDate lastReset = LocalDate.now();
             
             @Override
-            public void run() {
+            protected void tick() {
                 LocalDate now = LocalDate.now();
                 if (!now.equals(lastReset)) {
                     lastReset = now;
@@ -260,9 +261,9 @@ public class DailyQuestManager {
     
     private void startTimedEventSystem() {
         // Random bonus events every 1-3 hours
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "DailyQuestManager.timedEvents") {
             @Override
-            public void run() {
+            protected void tick() {
                 if (Bukkit.getOnlinePlayers().size() > 0) {
                     triggerRandomEvent();
                 }
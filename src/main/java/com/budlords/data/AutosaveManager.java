@@ -0,0 +1,229 @@
+package com.budlords.data;
+
+import com.budlords.BudLords;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+/**
+ * Saves the YAML documents that aren't made of records: strains.yml and market.yml
+ * (market demand, buyer reputation, haggle skill).
+ *
+ * A save has two phases. On the main thread every manager contributing to a document
+ * copies its current values into a fresh, detached configuration (the snapshot), so the
+ * game never waits on YAML or disk. The persistence writer thread then turns the snapshot
+ * into YAML and writes it to a temporary file that is synced and renamed over the old
+ * one, so a crash mid-write leaves the previous file intact.
+ *
+ * Saves are coalesced: while a document's write is still queued, a newer snapshot
+ * replaces the queued one instead of adding a second write.
+ *
+ * Player, plant and buyer records are persisted by the {@link PersistenceManager}.
+ */
+public class AutosaveManager {
+
+    /**
+     * Copies a manager's part of a document into the snapshot. Main thread.
+     */
+    @FunctionalInterface
+    public interface SnapshotWriter {
+        void write(ConfigurationSection snapshot);
+    }
+
+    private static final class Document {
+        private final File file;
+        private final List<SnapshotWriter> writers = new ArrayList<>();
+        private final AtomicReference<YamlConfiguration> pending = new AtomicReference<>();
+
+        private Document(File file) {
+            this.file = file;
+        }
+    }
+
+    private final BudLords plugin;
+    private final PersistenceManager persistence;
+    private final Map<String, Document> documents;
+    private BukkitTask autosaveTask;
+
+    // Statistics
+    private long saves;
+    private long lastSnapshotNanos;
+    private long maxSnapshotNanos;
+    private volatile long writes;
+    private volatile long lastWriteNanos;
+    private volatile long bytesWritten;
+
+    public AutosaveManager(BudLords plugin, PersistenceManager persistence) {
+        this.plugin = plugin;
+        this.persistence = persistence;
+        this.documents = new LinkedHashMap<>();
+
+        DataManager dataManager = plugin.getDataManager();
+        register(dataManager.getStrainsFile().getName(), snapshot -> copyValues(dataManager.getStrainsConfig(), snapshot));
+    }
+
+    /**
+     * Adds a manager's part to a document in the data folder.
+     */
+    public void register(String fileName, SnapshotWriter writer) {
+        documents.computeIfAbsent(fileName, name -> new Document(new File(plugin.getDataFolder(), name)))
+            .writers.add(writer);
+    }
+
+    /**
+     * Reads a document as it was last saved (empty if it doesn't exist yet).
+     */
+    public FileConfiguration load(String fileName) {
+        return YamlConfiguration.loadConfiguration(new File(plugin.getDataFolder(), fileName));
+    }
+
+    /**
+     * Starts the periodic save ({@code autosave-interval-seconds}).
+     */
+    public void start() {
+        long intervalTicks = Math.max(1, plugin.getConfig().getInt("autosave-interval-seconds", 300)) * 20L;
+        autosaveTask = plugin.getTaskProfiler().runTaskTimer("AutosaveManager.autosave", this::saveAll, intervalTicks, intervalTicks);
+    }
+
+    public void saveAll() {
+        for (String fileName : documents.keySet()) {
+            save(fileName);
+        }
+    }
+
+    /**
+     * Snapshots a document and queues it for writing. Main thread only.
+     */
+    public void save(String fileName) {
+        Document document = documents.get(fileName);
+        if (document == null) {
+            throw new IllegalArgumentException("Unknown document: " + fileName);
+        }
+
+        long start = System.nanoTime();
+        YamlConfiguration snapshot = new YamlConfiguration();
+        for (SnapshotWriter writer : document.writers) {
+            try {
+                writer.write(snapshot);
+            } catch (Exception e) {
+                // Don't write a document with a part missing
+                plugin.getLogger().log(Level.WARNING, "Failed to snapshot " + fileName, e);
+                return;
+            }
+        }
+        lastSnapshotNanos = System.nanoTime() - start;
+        maxSnapshotNanos = Math.max(maxSnapshotNanos, lastSnapshotNanos);
+        saves++;
+
+        if (document.pending.getAndSet(snapshot) == null) {
+            persistence.submit(() -> write(document));
+        }
+    }
+
+    /**
+     * Saves every document and blocks until they are written.
+     */
+    public void saveAllAndWait() {
+        saveAll();
+        persistence.awaitWriter();
+    }
+
+    /**
+     * Stops the periodic save and writes everything one last time (plugin disable).
+     * Call before {@link PersistenceManager#shutdown()}, which stops the writer.
+     */
+    public void shutdown() {
+        if (autosaveTask != null) {
+            autosaveTask.cancel();
+        }
+        saveAllAndWait();
+    }
+
+    private void write(Document document) {
+        YamlConfiguration snapshot = document.pending.getAndSet(null);
+        if (snapshot == null) return;
+
+        long start = System.nanoTime();
+        try {
+            byte[] data = snapshot.saveToString().getBytes(StandardCharsets.UTF_8);
+            writeAtomically(document.file, data);
+            bytesWritten += data.length; // Writer thread only
+            writes++;
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save " + document.file.getName(), e);
+        }
+        lastWriteNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Replaces a file's contents through a synced temporary file and a rename.
+     */
+    static void writeAtomically(File file, byte[] data) throws IOException {
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(data);
+            out.getFD().sync();
+        }
+
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Copies every value of a section into another one. Lists are copied too, since the
+     * source may still change them after the snapshot was taken.
+     */
+    public static void copyValues(ConfigurationSection from, ConfigurationSection to) {
+        for (Map.Entry<String, Object> entry : from.getValues(true).entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof ConfigurationSection) continue;
+            to.set(entry.getKey(), value instanceof List<?> list ? new ArrayList<>(list) : value);
+        }
+    }
+
+    public int getDocumentCount() {
+        return documents.size();
+    }
+
+    public long getSaveCount() {
+        return saves;
+    }
+
+    public long getWriteCount() {
+        return writes;
+    }
+
+    public double getLastSnapshotMicros() {
+        return lastSnapshotNanos / 1_000.0;
+    }
+
+    public double getMaxSnapshotMicros() {
+        return maxSnapshotNanos / 1_000.0;
+    }
+
+    public double getLastWriteMillis() {
+        return lastWriteNanos / 1_000_000.0;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+}
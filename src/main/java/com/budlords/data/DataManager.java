@@ -6,7 +6,7 @@ import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 
 public class DataManager {
@@ -63,35 +63,31 @@ public class DataManager {
         savePlants();
     }
 
-    public CompletableFuture<Void> saveAllAsync() {
-        return CompletableFuture.runAsync(() -> {
-            saveStrains();
-            savePlayers();
-            savePlants();
-        });
-    }
-
+    /**
+     * Snapshots strains.yml and queues it for writing, see {@link AutosaveManager}.
+     */
     public void saveStrains() {
-        try {
-            strainsConfig.save(strainsFile);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.WARNING, "Could not save strains.yml", e);
+        AutosaveManager autosave = plugin.getAutosaveManager();
+        if (autosave != null) {
+            autosave.save(strainsFile.getName());
+            return;
         }
+        save(strainsConfig, strainsFile);
     }
 
     public void savePlayers() {
-        try {
-            playersConfig.save(playersFile);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.WARNING, "Could not save players.yml", e);
-        }
+        save(playersConfig, playersFile);
     }
 
     public void savePlants() {
+        save(plantsConfig, plantsFile);
+    }
+
+    private void save(FileConfiguration config, File file) {
         try {
-            plantsConfig.save(plantsFile);
+            AutosaveManager.writeAtomically(file, config.saveToString().getBytes(StandardCharsets.UTF_8));
         } catch (IOException e) {
-            plugin.getLogger().log(Level.WARNING, "Could not save plants.yml", e);
+            plugin.getLogger().log(Level.WARNING, "Could not save " + file.getName(), e);
         }
     }
 
@@ -107,19 +103,47 @@ public class DataManager {
         return plantsConfig;
     }
 
+    public File getStrainsFile() {
+        return strainsFile;
+    }
+
+    public File getPlayersFile() {
+        return playersFile;
+    }
+
+    public File getPlantsFile() {
+        return plantsFile;
+    }
+
     public void reloadStrains() {
         strainsConfig = YamlConfiguration.loadConfiguration(strainsFile);
     }
 
     public void reloadPlayers() {
-        playersConfig = YamlConfiguration.loadConfiguration(playersFile);
+        reloadWithRecords(() -> playersConfig = YamlConfiguration.loadConfiguration(playersFile));
     }
 
     public void reloadPlants() {
-        plantsConfig = YamlConfiguration.loadConfiguration(plantsFile);
+        reloadWithRecords(() -> plantsConfig = YamlConfiguration.loadConfiguration(plantsFile));
     }
 
     public void reloadAll() {
-        loadConfigs();
+        reloadWithRecords(this::loadConfigs);
+    }
+
+    /**
+     * The YAML files only hold what was last exported; changes since then are in the
+     * persistence logs (or the database), so those are written out first and replayed
+     * over the fresh configs.
+     */
+    private void reloadWithRecords(Runnable reload) {
+        PersistenceManager persistence = plugin.getPersistenceManager();
+        if (persistence != null) {
+            persistence.flushAndWait();
+        }
+        reload.run();
+        if (persistence != null) {
+            persistence.replayAll();
+        }
     }
 }
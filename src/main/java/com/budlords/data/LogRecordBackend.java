@@ -0,0 +1,117 @@
+package com.budlords.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the changes made since the last YAML export in a {@link RecordLog}. The YAML file
+ * stays the primary copy: the log is replayed over it on startup and emptied on export.
+ */
+final class LogRecordBackend implements RecordBackend {
+
+    private final RecordLog log;
+
+    // Framed size of the latest entry per key, to decide when to compact
+    private final Map<String, Integer> liveSizes;
+    private long liveBytes;
+
+    LogRecordBackend(File logFile) {
+        this.log = new RecordLog(logFile);
+        this.liveSizes = new HashMap<>();
+    }
+
+    @Override
+    public boolean isAuthoritative() {
+        return false;
+    }
+
+    @Override
+    public boolean isImported() {
+        return true;
+    }
+
+    @Override
+    public void importRecords(Map<String, Map<String, Object>> records) {
+        // Nothing to import: the YAML file is read directly
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> readAll() throws IOException {
+        Map<String, RecordLog.Entry> entries = log.readLatest();
+        Map<String, Map<String, Object>> records = new LinkedHashMap<>();
+        synchronized (liveSizes) {
+            liveSizes.clear();
+            liveBytes = 0;
+            for (RecordLog.Entry entry : entries.values()) {
+                records.put(entry.key(), entry.fields());
+                liveSizes.put(entry.key(), entry.size());
+                liveBytes += entry.size();
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public int write(List<RecordStore.PendingRecord> batch, boolean clear) throws IOException {
+        // Clearing needs nothing here: owners that re-key export the YAML right away, which empties the log
+        List<byte[]> encoded = new ArrayList<>(batch.size());
+        synchronized (liveSizes) {
+            for (RecordStore.PendingRecord record : batch) {
+                byte[] entry = record.fields() == null
+                    ? RecordLog.encodeDelete(record.key())
+                    : RecordLog.encodePut(record.key(), record.fields());
+                encoded.add(entry);
+
+                // Deletes stay live: they must keep hiding the record in the YAML until the next export
+                Integer previous = liveSizes.put(record.key(), entry.length);
+                liveBytes += entry.length - (previous != null ? previous : 0);
+            }
+        }
+        log.append(encoded);
+        return encoded.size();
+    }
+
+    /**
+     * Rewrites the log keeping only the latest entry per record, once superseded entries
+     * make up enough of it.
+     */
+    @Override
+    public boolean maintain(long compactionMinBytes, double compactionRatio) throws IOException {
+        long logBytes = log.size();
+        synchronized (liveSizes) {
+            if (logBytes <= compactionMinBytes || logBytes <= liveBytes * compactionRatio) {
+                return false;
+            }
+        }
+        Map<String, RecordLog.Entry> latest = log.readLatest();
+        log.compact(latest.values());
+        return true;
+    }
+
+    /**
+     * Empties the log: its records are all in the YAML file now.
+     */
+    @Override
+    public void exported() throws IOException {
+        log.truncate();
+        synchronized (liveSizes) {
+            liveSizes.clear();
+            liveBytes = 0;
+        }
+    }
+
+    @Override
+    public long size() {
+        return log.size();
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+}
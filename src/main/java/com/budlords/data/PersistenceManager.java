@@ -0,0 +1,570 @@
+package com.budlords.data;
+
+import com.budlords.BudLords;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Incremental persistence for player, plant and buyer data.
+ *
+ * Managers register a {@link RecordStore} per kind of record and mark records dirty as
+ * they change. Every flush interval the dirty records are written into their YAML
+ * sections on the main thread and handed as one batch to a single background writer,
+ * which appends them to the stores' logs under {@code data/} and compacts a log once
+ * superseded entries dominate it. Autosave cost therefore follows how much changed,
+ * not how much data there is.
+ *
+ * The YAML files remain the import/export format: they are read on startup (with the
+ * logs replayed on top) and written out in full on shutdown or {@link #exportAll()},
+ * after which the exported stores' logs are emptied.
+ *
+ * With {@code persistence.backend: sqlite} the records go to an embedded SQLite database
+ * ({@code data/budlords.db}) instead of the logs. The YAML files are imported into it
+ * once, stores that opt in load their records per player on demand, and the YAML files
+ * only get those records again through an explicit {@link #exportAll()}.
+ *
+ * Per-player stores ({@link #registerPlayerStore}) are then loaded while a player logs
+ * in, written back when they quit, and dropped from memory once more than
+ * {@code persistence.offline-player-cache} offline players are held, least recently
+ * seen first.
+ *
+ * Quits are written in groups: the first quit starts a short window
+ * ({@code persistence.quit-flush-delay-ticks}) and everyone who leaves within it is
+ * written in one batch holding only their records, so an emptying server costs a
+ * handful of writes. All writes, record and document alike, go through the one writer
+ * thread, so no file ever has two writers.
+ */
+public class PersistenceManager {
+
+    private final BudLords plugin;
+    private final File logDirectory;
+    private final Map<String, RecordStore<?>> stores;
+    private final ExecutorService writer;
+    private final SqliteDatabase database;
+    private final long compactionMinBytes;
+    private final double compactionRatio;
+    private final List<RecordStore<UUID>> playerStores;
+    private final int offlineCacheSize;
+    private final long quitFlushDelayTicks;
+    private BukkitTask flushTask;
+    private BukkitTask quitFlushTask;
+    private boolean closed;
+
+    // Players who quit since the last quit flush. Main thread only
+    private final Set<UUID> quitPlayers;
+
+    // Offline players whose records are still loaded, least recently seen first. Main thread only
+    private final LinkedHashMap<UUID, Boolean> offlinePlayers;
+    private long batchesSubmitted;
+    private volatile long batchesWritten;
+
+    // Statistics
+    private long flushes;
+    private long recordsFlushed;
+    private long lastFlushNanos;
+    private volatile long recordsWritten;
+    private volatile long compactions;
+    private long evictions;
+    private long quitFlushes;
+    private long quitPlayersFlushed;
+
+    public PersistenceManager(BudLords plugin) {
+        this.plugin = plugin;
+        this.logDirectory = new File(plugin.getDataFolder(), "data");
+        if (!logDirectory.exists()) {
+            logDirectory.mkdirs();
+        }
+        this.stores = new LinkedHashMap<>();
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BudLords-Persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.compactionMinBytes = plugin.getConfig().getLong("persistence.compaction-min-kb", 256) * 1024L;
+        this.compactionRatio = Math.max(1.5, plugin.getConfig().getDouble("persistence.compaction-ratio", 3.0));
+        this.database = openDatabase();
+        this.playerStores = new ArrayList<>();
+        this.offlineCacheSize = Math.max(0, plugin.getConfig().getInt("persistence.offline-player-cache", 500));
+        this.offlinePlayers = new LinkedHashMap<>();
+        this.quitFlushDelayTicks = Math.max(0, plugin.getConfig().getInt("persistence.quit-flush-delay-ticks", 20));
+        this.quitPlayers = new LinkedHashSet<>();
+    }
+
+    private SqliteDatabase openDatabase() {
+        String backend = plugin.getConfig().getString("persistence.backend", "yaml");
+        if (!"sqlite".equalsIgnoreCase(backend)) {
+            return null;
+        }
+        try {
+            SqliteDatabase opened = new SqliteDatabase(new File(logDirectory, "budlords.db"));
+            plugin.getLogger().info("Using SQLite storage (data/budlords.db)");
+            return opened;
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not open the SQLite database, falling back to YAML storage", e);
+            return null;
+        }
+    }
+
+    /**
+     * Registers a store whose records live under {@code root} in the given YAML file.
+     *
+     * @param name Unique store name, also the log file name and the database store id
+     * @param config Supplies the YAML configuration (may be swapped out by a reload)
+     * @param yamlFile The file the configuration is exported to
+     * @param root Section holding one sub-section per record
+     * @param keyEncoder Turns a key into its section name (must not contain '.')
+     * @param recordWriter Writes a record's current state
+     */
+    public <K> RecordStore<K> register(String name, Supplier<FileConfiguration> config, File yamlFile, String root,
+                                       Function<K, String> keyEncoder, RecordStore.RecordWriter<K> recordWriter) {
+        if (stores.containsKey(name)) {
+            throw new IllegalArgumentException("Record store already registered: " + name);
+        }
+        File logFile = new File(logDirectory, name + ".log");
+        RecordBackend backend = database != null
+            ? new SqliteRecordBackend(database, name, logFile)
+            : new LogRecordBackend(logFile);
+        RecordStore<K> store = new RecordStore<>(name, config, yamlFile, root, keyEncoder, recordWriter, backend);
+        stores.put(name, store);
+        return store;
+    }
+
+    /**
+     * Registers a store with one record per player, loaded on demand when the backend
+     * allows it (see {@link RecordStore#loadLazily}).
+     *
+     * @param reader Parses a player's record into the owner
+     * @param unloader Drops a player's record from the owner's memory
+     */
+    public RecordStore<UUID> registerPlayerStore(String name, Supplier<FileConfiguration> config, File yamlFile,
+                                                 String root, RecordStore.RecordWriter<UUID> recordWriter,
+                                                 RecordStore.RecordReader<UUID> reader, Consumer<UUID> unloader) {
+        RecordStore<UUID> store = register(name, config, yamlFile, root, UUID::toString, recordWriter)
+            .loadLazily(reader, unloader);
+        playerStores.add(store);
+        return store;
+    }
+
+    /**
+     * Loads a player's records from every per-player store. Safe to call off the main
+     * thread, which is how logins use it, so the reads don't hold up the server.
+     *
+     * @throws IllegalStateException If a record could not be read
+     */
+    public void loadPlayer(UUID playerId) {
+        for (RecordStore<UUID> store : playerStores) {
+            store.load(playerId);
+        }
+    }
+
+    /**
+     * The player is online again, so their records must stay loaded.
+     */
+    public void playerJoined(UUID playerId) {
+        offlinePlayers.remove(playerId);
+    }
+
+    /**
+     * Queues the player's changes to be written with the other quits of the next few
+     * ticks, and their records for eviction.
+     */
+    public void playerQuit(UUID playerId) {
+        if (closed) return; // Kicked during shutdown: the final export has them
+        if (database != null) {
+            offlinePlayers.remove(playerId);
+            offlinePlayers.put(playerId, Boolean.TRUE);
+        }
+
+        quitPlayers.add(playerId);
+        if (quitFlushTask == null) {
+            quitFlushTask = plugin.getServer().getScheduler().runTaskLater(plugin, this::flushQuits, quitFlushDelayTicks);
+        }
+    }
+
+    /**
+     * Writes the records of the players who quit since the last call, and nothing else.
+     * Main thread only.
+     */
+    private void flushQuits() {
+        if (quitFlushTask != null) {
+            quitFlushTask.cancel();
+            quitFlushTask = null;
+        }
+        if (quitPlayers.isEmpty()) return;
+
+        List<UUID> players = new ArrayList<>(quitPlayers);
+        quitPlayers.clear();
+        Map<RecordStore<?>, RecordStore.Batch> batch = new LinkedHashMap<>();
+        int count = 0;
+        for (RecordStore<UUID> store : playerStores) {
+            try {
+                RecordStore.Batch pending = store.drainDirty(players);
+                if (pending != null) {
+                    batch.put(store, pending);
+                    count += pending.records().size();
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to flush " + store.getName() + " records", e);
+            }
+        }
+
+        quitFlushes++;
+        quitPlayersFlushed += players.size();
+        if (batch.isEmpty()) return;
+
+        recordsFlushed += count;
+        batchesSubmitted++;
+        writer.submit(() -> writeBatch(batch));
+    }
+
+    /**
+     * Picks up offline players whose records were loaded on demand (e.g. someone paid
+     * them), so they are evicted like players who quit.
+     */
+    private void trackOfflineLoads() {
+        for (RecordStore<UUID> store : playerStores) {
+            for (UUID playerId : store.getLoadedKeys()) {
+                if (!offlinePlayers.containsKey(playerId) && plugin.getServer().getPlayer(playerId) == null) {
+                    offlinePlayers.put(playerId, Boolean.TRUE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unloads the least recently seen offline players beyond the cache size. Only runs
+     * while the writer has caught up, so an unloaded record can always be read back as
+     * it was; players with unflushed changes are skipped until the next round. Records
+     * only load on demand with the database backend, so there is nothing to evict otherwise.
+     */
+    private void evictOfflinePlayers() {
+        if (database == null) return;
+        trackOfflineLoads();
+        if (offlinePlayers.size() <= offlineCacheSize || batchesWritten != batchesSubmitted) {
+            return;
+        }
+
+        Iterator<UUID> iterator = offlinePlayers.keySet().iterator();
+        while (offlinePlayers.size() > offlineCacheSize && iterator.hasNext()) {
+            UUID playerId = iterator.next();
+            if (plugin.getServer().getPlayer(playerId) != null) {
+                iterator.remove();
+                continue;
+            }
+
+            boolean dirty = false;
+            for (RecordStore<UUID> store : playerStores) {
+                if (store.isDirty(playerId)) {
+                    dirty = true;
+                    break;
+                }
+            }
+            if (dirty) continue;
+
+            for (RecordStore<UUID> store : playerStores) {
+                store.unload(playerId);
+            }
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Starts the periodic flush.
+     */
+    public void start() {
+        long intervalTicks = Math.max(1, plugin.getConfig().getInt("persistence.flush-interval-seconds", 5)) * 20L;
+        flushTask = plugin.getTaskProfiler().runTaskTimer("PersistenceManager.flush", this::flush, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Writes dirty records and queues them for the writer thread.
+     * Main thread only.
+     */
+    public Future<?> flush() {
+        evictOfflinePlayers();
+
+        long start = System.nanoTime();
+        Map<RecordStore<?>, RecordStore.Batch> batch = new LinkedHashMap<>();
+        int count = 0;
+        for (RecordStore<?> store : stores.values()) {
+            try {
+                RecordStore.Batch pending = store.drainDirty();
+                if (pending != null) {
+                    batch.put(store, pending);
+                    count += pending.records().size();
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to flush " + store.getName() + " records", e);
+            }
+        }
+        lastFlushNanos = System.nanoTime() - start;
+        if (batch.isEmpty()) {
+            return null;
+        }
+
+        flushes++;
+        recordsFlushed += count;
+        batchesSubmitted++;
+        return writer.submit(() -> writeBatch(batch));
+    }
+
+    /**
+     * Flushes and blocks until the writer has written everything queued so far.
+     */
+    public void flushAndWait() {
+        flush();
+        awaitWriter();
+    }
+
+    /**
+     * Queues a task on the writer thread, behind everything flushed so far.
+     */
+    Future<?> submit(Runnable task) {
+        return writer.submit(task);
+    }
+
+    /**
+     * Blocks until the writer has finished everything queued so far.
+     */
+    void awaitWriter() {
+        await(writer.submit(() -> {}));
+    }
+
+    /**
+     * Replays every store onto its YAML configuration, e.g. after the configuration was
+     * reloaded from disk. Call {@link #flushAndWait()} first so the backends are complete.
+     */
+    public void replayAll() {
+        for (RecordStore<?> store : stores.values()) {
+            try {
+                store.replay();
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to replay " + store.getName() + " records", e);
+            }
+        }
+    }
+
+    /**
+     * Writes out the YAML file of the given store (and of the stores sharing it) in full,
+     * then empties their logs.
+     */
+    public void export(RecordStore<?> store) {
+        exportFiles(List.of(store.getYamlFile()), true);
+    }
+
+    /**
+     * Writes out every store's YAML file in full and empties the logs.
+     */
+    public void exportAll() {
+        exportFiles(getYamlFiles(), true);
+    }
+
+    private List<File> getYamlFiles() {
+        List<File> files = new ArrayList<>();
+        for (RecordStore<?> store : stores.values()) {
+            if (!files.contains(store.getYamlFile())) {
+                files.add(store.getYamlFile());
+            }
+        }
+        return files;
+    }
+
+    /**
+     * @param full Also put the records of lazily loaded stores into the files, reading
+     *             them all from the database
+     */
+    private void exportFiles(List<File> files, boolean full) {
+        flushAndWait();
+
+        List<RecordStore<?>> exported = new ArrayList<>();
+        for (File file : files) {
+            List<RecordStore<?>> sharing = new ArrayList<>();
+            for (RecordStore<?> store : stores.values()) {
+                if (store.getYamlFile().equals(file)) {
+                    sharing.add(store);
+                }
+            }
+            if (sharing.isEmpty()) continue;
+
+            List<RecordStore<?>> filled = new ArrayList<>();
+            try {
+                if (full) {
+                    for (RecordStore<?> store : sharing) {
+                        if (store.fillForExport()) {
+                            filled.add(store);
+                        }
+                    }
+                }
+                AutosaveManager.writeAtomically(file,
+                    sharing.get(0).getConfig().saveToString().getBytes(StandardCharsets.UTF_8));
+                exported.addAll(sharing);
+            } catch (IOException e) {
+                // Keep the logs: they still hold everything the YAML is missing
+                plugin.getLogger().log(Level.WARNING, "Could not save " + file.getName(), e);
+            } finally {
+                for (RecordStore<?> store : filled) {
+                    store.clearAfterExport();
+                }
+            }
+        }
+
+        await(writer.submit(() -> {
+            for (RecordStore<?> store : exported) {
+                try {
+                    store.getBackend().exported();
+                } catch (IOException e) {
+                    plugin.getLogger().log(Level.WARNING, "Could not reset " + store.getName() + " log", e);
+                }
+            }
+        }));
+    }
+
+    /**
+     * Exports everything and stops the writer (plugin disable). Records only kept in the
+     * database aren't exported, so shutdown doesn't read back every player.
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        // Barrier: pending quits, then everything still dirty, are written before the export
+        flushQuits();
+        closed = true;
+        exportFiles(getYamlFiles(), false);
+
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Persistence writer did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (RecordStore<?> store : stores.values()) {
+            store.getBackend().close();
+        }
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    private void writeBatch(Map<RecordStore<?>, RecordStore.Batch> batch) {
+        try {
+            writeStores(batch);
+        } finally {
+            batchesWritten++; // Writer thread only
+        }
+    }
+
+    private void writeStores(Map<RecordStore<?>, RecordStore.Batch> batch) {
+        for (Map.Entry<RecordStore<?>, RecordStore.Batch> entry : batch.entrySet()) {
+            RecordStore<?> store = entry.getKey();
+            RecordBackend backend = store.getBackend();
+            try {
+                recordsWritten += backend.write(entry.getValue().records(), entry.getValue().clear());
+                if (backend.maintain(compactionMinBytes, compactionRatio)) {
+                    compactions++;
+                }
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Could not write " + store.getName() + " records", e);
+            }
+        }
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Waiting for the persistence writer failed", e);
+        }
+    }
+
+    public int getStoreCount() {
+        return stores.size();
+    }
+
+    public int getDirtyCount() {
+        int total = 0;
+        for (RecordStore<?> store : stores.values()) {
+            total += store.getDirtyCount();
+        }
+        return total;
+    }
+
+    /**
+     * @return "sqlite" or "yaml"
+     */
+    public String getBackendName() {
+        return database != null ? "sqlite" : "yaml";
+    }
+
+    /**
+     * @return Size of the record logs, or of the database
+     */
+    public long getStorageBytes() {
+        long total = database != null ? database.size() : 0;
+        for (RecordStore<?> store : stores.values()) {
+            total += store.getBackend().size();
+        }
+        return total;
+    }
+
+    public long getFlushCount() {
+        return flushes;
+    }
+
+    public long getRecordsFlushed() {
+        return recordsFlushed;
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    public long getCompactionCount() {
+        return compactions;
+    }
+
+    public int getOfflinePlayerCount() {
+        return offlinePlayers.size();
+    }
+
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    public long getQuitFlushCount() {
+        return quitFlushes;
+    }
+
+    public long getQuitPlayersFlushed() {
+        return quitPlayersFlushed;
+    }
+
+    public double getLastFlushMillis() {
+        return lastFlushNanos / 1_000_000.0;
+    }
+}
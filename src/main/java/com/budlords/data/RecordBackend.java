@@ -0,0 +1,73 @@
+package com.budlords.data;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage behind a {@link RecordStore}.
+ *
+ * Either a log of the changes made since the YAML file was last exported
+ * ({@link LogRecordBackend}), or a database holding every record, in which case the
+ * YAML file is only imported once and otherwise just exported on request
+ * ({@link SqliteRecordBackend}).
+ *
+ * Writes, maintenance and {@link #exported()} run on the persistence writer thread;
+ * reads run on the main thread.
+ */
+interface RecordBackend {
+
+    /**
+     * @return Whether this backend holds every record (rather than changes on top of the YAML file)
+     */
+    boolean isAuthoritative();
+
+    /**
+     * @return Whether the records have been imported from YAML (always true for non-authoritative backends)
+     */
+    boolean isImported();
+
+    /**
+     * Stores the given records (read from YAML) and remembers that the import was done.
+     */
+    void importRecords(Map<String, Map<String, Object>> records) throws IOException;
+
+    /**
+     * @return The latest state of every stored key, in storage order; a null value is a delete
+     */
+    Map<String, Map<String, Object>> readAll() throws IOException;
+
+    /**
+     * Looks up a single record, for lazily loaded stores. Only authoritative backends hold
+     * whole records; the others only replay their changes as a whole and hold none.
+     * @return The record's fields, or null if it isn't stored
+     */
+    default Map<String, Object> read(String key) throws IOException {
+        return null;
+    }
+
+    /**
+     * Writes a batch of flushed records.
+     * @param clear Remove every stored record before writing the batch
+     * @return Number of records written
+     */
+    int write(List<RecordStore.PendingRecord> batch, boolean clear) throws IOException;
+
+    /**
+     * Housekeeping after a write.
+     * @return Whether anything was compacted
+     */
+    boolean maintain(long compactionMinBytes, double compactionRatio) throws IOException;
+
+    /**
+     * Called once the YAML file holds everything this backend does.
+     */
+    void exported() throws IOException;
+
+    /**
+     * @return Bytes this store takes up on disk, where that can be told apart from other stores
+     */
+    long size();
+
+    void close();
+}
@@ -0,0 +1,313 @@
+package com.budlords.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of record changes for one {@link RecordStore}.
+ *
+ * Every entry is framed as [length][crc32][body], the body being an op byte, the record
+ * key and, for puts, the record's flattened fields. A crash can only tear the last entry:
+ * reading stops at the first entry whose frame or checksum doesn't add up, and the file is
+ * cut back to the last intact entry before anything new is appended.
+ */
+final class RecordLog {
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_LIST = 6;
+
+    private static final int MAX_ENTRY_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * One decoded entry. {@code fields} is null for deletes, {@code size} is the framed size on disk.
+     */
+    record Entry(String key, Map<String, Object> fields, int size) {
+        boolean isDelete() {
+            return fields == null;
+        }
+    }
+
+    private final File file;
+    private FileChannel channel; // Opened lazily for appending, writer thread only
+    private long validLength;    // Bytes of intact entries, as found by the last read
+    private long size;
+
+    RecordLog(File file) {
+        this.file = file;
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Reads the log and returns the latest entry for every key, in first-written order.
+     * Remembers where the intact part of the file ends, so a torn tail gets cut off on the next append.
+     */
+    Map<String, Entry> readLatest() throws IOException {
+        Map<String, Entry> latest = new LinkedHashMap<>();
+        if (!file.exists()) {
+            validLength = 0;
+            size = 0;
+            return latest;
+        }
+
+        long offset = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                int checksum;
+                byte[] body;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0 || length > MAX_ENTRY_BYTES) break;
+                    body = new byte[length];
+                    in.readFully(body);
+                } catch (EOFException e) {
+                    break;
+                }
+
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) break;
+
+                Entry entry = decode(body, 8 + length);
+                latest.put(entry.key(), entry);
+                offset += 8 + length;
+            }
+        }
+
+        validLength = offset;
+        size = offset;
+        return latest;
+    }
+
+    /**
+     * Appends encoded entries and forces them to disk in one go.
+     */
+    void append(List<byte[]> entries) throws IOException {
+        if (entries.isEmpty()) return;
+        FileChannel out = openChannel();
+
+        int total = 0;
+        for (byte[] entry : entries) {
+            total += entry.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        for (byte[] entry : entries) {
+            buffer.put(entry);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        out.force(false);
+        size += total;
+    }
+
+    /**
+     * Rewrites the log with only the given entries (the latest one per key) and swaps it
+     * in with an atomic rename, so a crash mid-compaction leaves the old log untouched.
+     */
+    void compact(Collection<Entry> entries) throws IOException {
+        close();
+
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        long written = 0;
+        try (FileOutputStream fileOut = new FileOutputStream(temp);
+             BufferedOutputStream out = new BufferedOutputStream(fileOut)) {
+            for (Entry entry : entries) {
+                byte[] encoded = entry.isDelete() ? encodeDelete(entry.key()) : encodePut(entry.key(), entry.fields());
+                out.write(encoded);
+                written += encoded.length;
+            }
+            out.flush();
+            fileOut.getFD().sync();
+        }
+
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        validLength = written;
+        size = written;
+    }
+
+    /**
+     * Empties the log (its records have been exported to YAML).
+     */
+    void truncate() throws IOException {
+        openChannel().truncate(0);
+        validLength = 0;
+        size = 0;
+    }
+
+    void close() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        channel = null;
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (channel.size() > validLength) {
+                channel.truncate(validLength); // Drop a torn tail
+            }
+            channel.position(validLength);
+        }
+        return channel;
+    }
+
+    // ===== ENCODING =====
+
+    static byte[] encodePut(String key, Map<String, Object> fields) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + fields.size() * 24);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(OP_PUT);
+        out.writeUTF(key);
+        writeFields(out, fields);
+        return frame(bytes.toByteArray());
+    }
+
+    /**
+     * Encodes just a record's fields, in the same format as a put entry's body.
+     */
+    static byte[] encodeFields(Map<String, Object> fields) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + fields.size() * 24);
+        writeFields(new DataOutputStream(bytes), fields);
+        return bytes.toByteArray();
+    }
+
+    static Map<String, Object> decodeFields(byte[] data) throws IOException {
+        return readFields(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    static byte[] encodeDelete(String key) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(48);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(OP_DELETE);
+        out.writeUTF(key);
+        return frame(bytes.toByteArray());
+    }
+
+    private static byte[] frame(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return ByteBuffer.allocate(8 + body.length)
+            .putInt(body.length)
+            .putInt((int) crc.getValue())
+            .put(body)
+            .array();
+    }
+
+    private static void writeFields(DataOutputStream out, Map<String, Object> fields) throws IOException {
+        out.writeShort(fields.size());
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            out.writeUTF(field.getKey());
+            writeValue(out, field.getValue());
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Integer i) {
+            out.writeByte(TYPE_INT);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(l);
+        } else if (value instanceof Double d) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(d);
+        } else if (value instanceof Float f) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(f);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TYPE_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                out.writeUTF(String.valueOf(element));
+            }
+        } else {
+            out.writeByte(TYPE_STRING);
+            out.writeUTF(String.valueOf(value));
+        }
+    }
+
+    private static Entry decode(byte[] body, int size) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        byte op = in.readByte();
+        String key = in.readUTF();
+        if (op == OP_DELETE) {
+            return new Entry(key, null, size);
+        }
+        return new Entry(key, readFields(in), size);
+    }
+
+    private static Map<String, Object> readFields(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        Map<String, Object> fields = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String path = in.readUTF();
+            byte type = in.readByte();
+            Object value = switch (type) {
+                case TYPE_INT -> in.readInt();
+                case TYPE_LONG -> in.readLong();
+                case TYPE_DOUBLE -> in.readDouble();
+                case TYPE_BOOLEAN -> in.readBoolean();
+                case TYPE_LIST -> {
+                    int length = in.readInt();
+                    List<String> list = new ArrayList<>(length);
+                    for (int j = 0; j < length; j++) {
+                        list.add(in.readUTF());
+                    }
+                    yield list;
+                }
+                default -> in.readUTF();
+            };
+            fields.put(path, value);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,426 @@
+package com.budlords.data;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * One kind of persisted record (plants, balances, stats, ...) that is written incrementally.
+ *
+ * Records live as sections under {@code root} in the store's YAML file, one per key, and
+ * the code that owns them marks a key dirty whenever it changes something. On each flush
+ * only the dirty records are re-written and handed to the store's {@link RecordBackend};
+ * the YAML file itself is only written on export (shutdown, or an explicit save). On
+ * startup {@link #replay()} brings the YAML section up to date with the backend before
+ * the owner parses it, so the owner keeps loading from YAML exactly as before.
+ *
+ * Stores registered with {@link #loadLazily} don't get their records into the YAML
+ * section when the backend is a database: the owner pulls each record in with
+ * {@link #load(Object)} the first time it needs it, and drops it again on {@link #unload(Object)}.
+ *
+ * @param <K> The record key type, e.g. a player or plant UUID
+ */
+public class RecordStore<K> {
+
+    /**
+     * Writes the current state of one record.
+     */
+    @FunctionalInterface
+    public interface RecordWriter<K> {
+        /**
+         * @param key The dirty record's key
+         * @param section Empty section to write the record's fields into
+         * @return false if the record no longer exists and should be deleted
+         */
+        boolean write(K key, ConfigurationSection section);
+    }
+
+    /**
+     * Parses one lazily loaded record into its owner.
+     */
+    @FunctionalInterface
+    public interface RecordReader<K> {
+        /**
+         * @param key The record's key
+         * @param section The record's fields, laid out as the {@link RecordWriter} wrote them
+         */
+        void read(K key, ConfigurationSection section);
+    }
+
+    /**
+     * A flushed record waiting for the writer thread; fields is null for deletes.
+     */
+    record PendingRecord(String key, Map<String, Object> fields) {}
+
+    /**
+     * The records drained by one flush; clear means the stored records are dropped first.
+     */
+    record Batch(List<PendingRecord> records, boolean clear) {}
+
+    private final String name;
+    private final Supplier<FileConfiguration> config;
+    private final File yamlFile;
+    private final String root;
+    private final Function<K, String> keyEncoder;
+    private final RecordWriter<K> writer;
+    private final RecordBackend backend;
+    private final Set<K> dirty;
+    private final Map<K, Boolean> loaded;
+    private RecordReader<K> reader;
+    private Consumer<K> unloader;
+    private volatile boolean clearPending;
+
+    RecordStore(String name, Supplier<FileConfiguration> config, File yamlFile, String root,
+                Function<K, String> keyEncoder, RecordWriter<K> writer, RecordBackend backend) {
+        this.name = name;
+        this.config = config;
+        this.yamlFile = yamlFile;
+        this.root = root;
+        this.keyEncoder = keyEncoder;
+        this.writer = writer;
+        this.backend = backend;
+        this.dirty = ConcurrentHashMap.newKeySet();
+        this.loaded = new ConcurrentHashMap<>();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    File getYamlFile() {
+        return yamlFile;
+    }
+
+    FileConfiguration getConfig() {
+        return config.get();
+    }
+
+    RecordBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Lets the owner load records one at a time through {@link #load(Object)} instead of
+     * parsing them all on startup. Only takes effect with a database backend; call before
+     * {@link #replay()}.
+     *
+     * @param reader Parses a loaded record into the owner
+     * @param unloader Drops a record from the owner's memory again
+     */
+    public RecordStore<K> loadLazily(RecordReader<K> reader, Consumer<K> unloader) {
+        this.reader = reader;
+        this.unloader = unloader;
+        return this;
+    }
+
+    /**
+     * @return Whether records are loaded on demand rather than being in the YAML section on startup
+     */
+    public boolean isLazy() {
+        return reader != null && backend.isAuthoritative();
+    }
+
+    /**
+     * Reads a record from the backend and passes it to the store's {@link RecordReader},
+     * the first time a key is asked for. Owners call this before touching a record of a
+     * lazily loaded store, so they never overwrite a stored record they haven't read.
+     * Safe to call from any thread; a caller asking for a key that another thread is
+     * loading waits for that load to finish.
+     *
+     * @return Whether a stored record was read; false if there is none, it was loaded
+     *         before, or the store isn't lazily loaded
+     */
+    public boolean load(K key) {
+        if (key == null || !isLazy() || loaded.containsKey(key)) return false;
+
+        boolean[] found = new boolean[1];
+        loaded.computeIfAbsent(key, k -> {
+            Map<String, Object> fields;
+            try {
+                fields = backend.read(keyEncoder.apply(k));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not load " + name + " record " + k, e);
+            }
+            if (fields != null) {
+                MemoryConfiguration section = new MemoryConfiguration();
+                for (Map.Entry<String, Object> field : fields.entrySet()) {
+                    section.set(field.getKey(), field.getValue());
+                }
+                reader.read(k, section);
+                found[0] = true;
+            }
+            return Boolean.TRUE;
+        });
+        return found[0];
+    }
+
+    /**
+     * Drops a loaded record from the owner's memory. Refused while the record has changes
+     * that haven't been flushed; the caller also has to make sure flushed changes were
+     * written before the record can be loaded again.
+     *
+     * @return Whether the record was unloaded
+     */
+    public boolean unload(K key) {
+        if (!isLazy() || dirty.contains(key)) return false;
+
+        boolean[] unloaded = new boolean[1];
+        loaded.computeIfPresent(key, (k, v) -> {
+            // Inside the map's lock for this key, so a concurrent load() can't interleave
+            unloader.accept(k);
+            unloaded[0] = true;
+            return null;
+        });
+        return unloaded[0];
+    }
+
+    /**
+     * @return Live view of the keys loaded through {@link #load(Object)}
+     */
+    public Set<K> getLoadedKeys() {
+        return loaded.keySet();
+    }
+
+    /**
+     * @return Whether the record has changes waiting for the next flush
+     */
+    public boolean isDirty(K key) {
+        return dirty.contains(key);
+    }
+
+    /**
+     * Reads every stored record without loading it into the owner, e.g. to build an index.
+     * Goes through the database for lazily loaded stores, and the YAML section otherwise.
+     *
+     * @param visitor Gets each record's encoded key and its fields
+     */
+    public void scan(BiConsumer<String, ConfigurationSection> visitor) {
+        if (isLazy()) {
+            Map<String, Map<String, Object>> records;
+            try {
+                records = backend.readAll();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read " + name + " records", e);
+            }
+            for (Map.Entry<String, Map<String, Object>> record : records.entrySet()) {
+                MemoryConfiguration section = new MemoryConfiguration();
+                for (Map.Entry<String, Object> field : record.getValue().entrySet()) {
+                    section.set(field.getKey(), field.getValue());
+                }
+                visitor.accept(record.getKey(), section);
+            }
+            return;
+        }
+
+        ConfigurationSection section = config.get().getConfigurationSection(root);
+        if (section == null) return;
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection record = section.getConfigurationSection(key);
+            if (record != null) {
+                visitor.accept(key, record);
+            }
+        }
+    }
+
+    /**
+     * Marks a record as changed (or removed). Safe to call from any thread.
+     */
+    public void markDirty(K key) {
+        if (key != null) {
+            dirty.add(key);
+        }
+    }
+
+    public void markAllDirty(Collection<? extends K> keys) {
+        dirty.addAll(keys);
+    }
+
+    public int getDirtyCount() {
+        return dirty.size();
+    }
+
+    /**
+     * Clears the records' YAML section and stored records and marks every given key dirty,
+     * so the next flush writes all of them again. For owners that change how their records are keyed.
+     * A log backend keeps the old records in the YAML file on disk, so the owner has to
+     * export the file afterwards.
+     */
+    public void reimport(Collection<? extends K> keys) {
+        config.get().set(root, null);
+        clearPending = true;
+        markAllDirty(keys);
+    }
+
+    /**
+     * Brings the YAML section up to date with the backend. Called by the owner right before
+     * it parses the configuration.
+     *
+     * With a log backend the log is applied on top of the YAML: puts replace the record's
+     * section, deletes remove it. With a database the section is replaced by the stored
+     * records (or left empty for lazily loaded stores); the first time, the YAML records
+     * are imported into the database instead.
+     *
+     * @return Number of records replayed
+     */
+    public int replay() {
+        try {
+            if (!backend.isAuthoritative()) {
+                Map<String, Map<String, Object>> changes = backend.readAll();
+                apply(changes);
+                return changes.size();
+            }
+
+            if (!backend.isImported()) {
+                importYaml();
+            }
+            config.get().set(root, null);
+            if (isLazy()) {
+                return 0;
+            }
+            Map<String, Map<String, Object>> records = backend.readAll();
+            apply(records);
+            return records.size();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + name + " records", e);
+        }
+    }
+
+    private void apply(Map<String, Map<String, Object>> records) {
+        FileConfiguration target = config.get();
+        for (Map.Entry<String, Map<String, Object>> record : records.entrySet()) {
+            String path = root + "." + record.getKey();
+            if (record.getValue() == null) {
+                target.set(path, null);
+                continue;
+            }
+            ConfigurationSection section = target.createSection(path);
+            for (Map.Entry<String, Object> field : record.getValue().entrySet()) {
+                section.set(field.getKey(), field.getValue());
+            }
+        }
+    }
+
+    /**
+     * One-shot migration of the YAML records into the database. The YAML file is copied
+     * aside first, as it won't hold these records any more once it's next saved.
+     */
+    private void importYaml() throws IOException {
+        Map<String, Map<String, Object>> records = new LinkedHashMap<>();
+        ConfigurationSection section = config.get().getConfigurationSection(root);
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                ConfigurationSection record = section.getConfigurationSection(key);
+                if (record != null) {
+                    records.put(key, flatten(record));
+                }
+            }
+        }
+
+        File backup = new File(yamlFile.getParentFile(), yamlFile.getName() + ".pre-sqlite");
+        if (yamlFile.exists() && !backup.exists()) {
+            Files.copy(yamlFile.toPath(), backup.toPath());
+        }
+        backend.importRecords(records);
+    }
+
+    /**
+     * Puts every stored record into the YAML section of a lazily loaded store, for a full export.
+     * @return Whether anything had to be filled in
+     */
+    boolean fillForExport() throws IOException {
+        if (!isLazy()) return false;
+        apply(backend.readAll());
+        return true;
+    }
+
+    /**
+     * Drops the records {@link #fillForExport()} put into the YAML section.
+     */
+    void clearAfterExport() {
+        config.get().set(root, null);
+    }
+
+    /**
+     * Writes every dirty record into its YAML section and returns the flattened records
+     * for the writer thread. Main thread only: this is the one place that reads the
+     * domain objects, and its cost is proportional to the number of changed records.
+     * Lazily loaded stores write into a scratch section instead, so the YAML section
+     * doesn't end up holding every player that was ever loaded.
+     */
+    Batch drainDirty() {
+        boolean clear = clearPending;
+        if (dirty.isEmpty() && !clear) return null;
+        clearPending = false;
+
+        boolean lazy = isLazy();
+        ConfigurationSection target = lazy ? new MemoryConfiguration() : config.get();
+        List<PendingRecord> pending = new ArrayList<>(dirty.size());
+        for (K key : dirty) {
+            drainKey(key, target, lazy, pending);
+        }
+        return new Batch(pending, clear);
+    }
+
+    /**
+     * Like {@link #drainDirty()}, but only for the given keys; other dirty records are
+     * left for the next full drain. Main thread only.
+     */
+    Batch drainDirty(Collection<K> keys) {
+        if (clearPending) {
+            return drainDirty(); // A clear has to go out with every record
+        }
+        if (dirty.isEmpty()) return null;
+
+        boolean lazy = isLazy();
+        ConfigurationSection target = lazy ? new MemoryConfiguration() : config.get();
+        List<PendingRecord> pending = new ArrayList<>();
+        for (K key : keys) {
+            if (dirty.contains(key)) {
+                drainKey(key, target, lazy, pending);
+            }
+        }
+        return pending.isEmpty() ? null : new Batch(pending, false);
+    }
+
+    private void drainKey(K key, ConfigurationSection target, boolean lazy, List<PendingRecord> pending) {
+        dirty.remove(key); // Changes made after this point mark it dirty again
+        if (lazy && !loaded.containsKey(key)) {
+            return; // Stale mark for an unloaded record: writing it would clobber the stored one
+        }
+
+        String encoded = keyEncoder.apply(key);
+        String path = root + "." + encoded;
+        ConfigurationSection section = target.createSection(path);
+        if (!writer.write(key, section)) {
+            target.set(path, null);
+            pending.add(new PendingRecord(encoded, null));
+            return;
+        }
+        pending.add(new PendingRecord(encoded, flatten(section)));
+    }
+
+    private static Map<String, Object> flatten(ConfigurationSection section) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> value : section.getValues(true).entrySet()) {
+            Object v = value.getValue();
+            if (v instanceof ConfigurationSection) continue;
+            fields.put(value.getKey(), v instanceof List<?> list ? new ArrayList<>(list) : v);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,226 @@
+package com.budlords.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The embedded SQLite database behind {@link SqliteRecordBackend}: one file holding a
+ * {@code records} table keyed by (store, id), each row carrying the record's fields in
+ * the same binary encoding the record logs use.
+ *
+ * The database runs in WAL mode with one connection for the writer thread and one for
+ * reads, so looking up a player while a batch is being committed doesn't block. The
+ * JDBC driver is the one that ships with the server, no external service is involved.
+ */
+final class SqliteDatabase {
+
+    private static final String DRIVER = "org.sqlite.JDBC";
+
+    private final File file;
+    private final Connection writeConnection;
+    private final Connection readConnection;
+    private final PreparedStatement upsert;
+    private final PreparedStatement delete;
+
+    SqliteDatabase(File file) throws SQLException {
+        this.file = file;
+        try {
+            Class.forName(DRIVER);
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite driver not available", e);
+        }
+
+        String url = "jdbc:sqlite:" + file.getAbsolutePath();
+        this.writeConnection = DriverManager.getConnection(url);
+        try (Statement statement = writeConnection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA synchronous=NORMAL");
+            statement.execute("PRAGMA busy_timeout=5000");
+            statement.execute("CREATE TABLE IF NOT EXISTS records ("
+                + "store TEXT NOT NULL, id TEXT NOT NULL, data BLOB NOT NULL, "
+                + "PRIMARY KEY (store, id)) WITHOUT ROWID");
+            statement.execute("CREATE TABLE IF NOT EXISTS imports ("
+                + "store TEXT PRIMARY KEY, imported_at INTEGER NOT NULL)");
+        }
+        this.upsert = writeConnection.prepareStatement("INSERT OR REPLACE INTO records (store, id, data) VALUES (?, ?, ?)");
+        this.delete = writeConnection.prepareStatement("DELETE FROM records WHERE store = ? AND id = ?");
+
+        this.readConnection = DriverManager.getConnection(url);
+        try (Statement statement = readConnection.createStatement()) {
+            statement.execute("PRAGMA busy_timeout=5000");
+        }
+    }
+
+    /**
+     * @return The database file plus its write-ahead log
+     */
+    long size() {
+        return file.length() + new File(file.getPath() + "-wal").length();
+    }
+
+    boolean isImported(String store) throws IOException {
+        synchronized (readConnection) {
+            try (PreparedStatement query = readConnection.prepareStatement("SELECT 1 FROM imports WHERE store = ?")) {
+                query.setString(1, store);
+                try (ResultSet result = query.executeQuery()) {
+                    return result.next();
+                }
+            } catch (SQLException e) {
+                throw new IOException("Could not check import state of " + store, e);
+            }
+        }
+    }
+
+    /**
+     * Replaces a store's records with the given ones and marks the store as imported,
+     * all in one transaction.
+     */
+    void importRecords(String store, Map<String, Map<String, Object>> records) throws IOException {
+        synchronized (writeConnection) {
+            try {
+                writeConnection.setAutoCommit(false);
+                clear(store);
+                for (Map.Entry<String, Map<String, Object>> record : records.entrySet()) {
+                    addUpsert(store, record.getKey(), record.getValue());
+                }
+                upsert.executeBatch();
+                try (PreparedStatement marker = writeConnection.prepareStatement(
+                        "INSERT OR REPLACE INTO imports (store, imported_at) VALUES (?, ?)")) {
+                    marker.setString(1, store);
+                    marker.setLong(2, System.currentTimeMillis());
+                    marker.executeUpdate();
+                }
+                writeConnection.commit();
+            } catch (SQLException e) {
+                rollback();
+                throw new IOException("Could not import " + store + " records", e);
+            } finally {
+                restoreAutoCommit();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch of records in one transaction, puts and deletes each as one statement batch.
+     * @return Number of records written
+     */
+    int write(String store, List<RecordStore.PendingRecord> batch, boolean clear) throws IOException {
+        synchronized (writeConnection) {
+            try {
+                writeConnection.setAutoCommit(false);
+                if (clear) {
+                    clear(store);
+                }
+                boolean hasPuts = false;
+                boolean hasDeletes = false;
+                for (RecordStore.PendingRecord record : batch) {
+                    if (record.fields() == null) {
+                        delete.setString(1, store);
+                        delete.setString(2, record.key());
+                        delete.addBatch();
+                        hasDeletes = true;
+                    } else {
+                        addUpsert(store, record.key(), record.fields());
+                        hasPuts = true;
+                    }
+                }
+                if (hasPuts) upsert.executeBatch();
+                if (hasDeletes) delete.executeBatch();
+                writeConnection.commit();
+                return batch.size();
+            } catch (SQLException e) {
+                rollback();
+                throw new IOException("Could not write " + store + " records", e);
+            } finally {
+                restoreAutoCommit();
+            }
+        }
+    }
+
+    Map<String, Map<String, Object>> readAll(String store) throws IOException {
+        Map<String, Map<String, Object>> records = new LinkedHashMap<>();
+        synchronized (readConnection) {
+            try (PreparedStatement query = readConnection.prepareStatement("SELECT id, data FROM records WHERE store = ?")) {
+                query.setString(1, store);
+                try (ResultSet result = query.executeQuery()) {
+                    while (result.next()) {
+                        records.put(result.getString(1), RecordLog.decodeFields(result.getBytes(2)));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IOException("Could not read " + store + " records", e);
+            }
+        }
+        return records;
+    }
+
+    Map<String, Object> read(String store, String key) throws IOException {
+        synchronized (readConnection) {
+            try (PreparedStatement query = readConnection.prepareStatement("SELECT data FROM records WHERE store = ? AND id = ?")) {
+                query.setString(1, store);
+                query.setString(2, key);
+                try (ResultSet result = query.executeQuery()) {
+                    return result.next() ? RecordLog.decodeFields(result.getBytes(1)) : null;
+                }
+            } catch (SQLException e) {
+                throw new IOException("Could not read " + store + " record " + key, e);
+            }
+        }
+    }
+
+    void close() {
+        synchronized (writeConnection) {
+            try {
+                upsert.close();
+                delete.close();
+                writeConnection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+        synchronized (readConnection) {
+            try {
+                readConnection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private void addUpsert(String store, String key, Map<String, Object> fields) throws SQLException, IOException {
+        upsert.setString(1, store);
+        upsert.setString(2, key);
+        upsert.setBytes(3, RecordLog.encodeFields(fields));
+        upsert.addBatch();
+    }
+
+    private void clear(String store) throws SQLException {
+        try (PreparedStatement statement = writeConnection.prepareStatement("DELETE FROM records WHERE store = ?")) {
+            statement.setString(1, store);
+            statement.executeUpdate();
+        }
+    }
+
+    private void rollback() {
+        try {
+            upsert.clearBatch();
+            delete.clearBatch();
+            writeConnection.rollback();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private void restoreAutoCommit() {
+        try {
+            writeConnection.setAutoCommit(true);
+        } catch (SQLException ignored) {
+        }
+    }
+}
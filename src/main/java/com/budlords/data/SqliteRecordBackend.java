@@ -0,0 +1,98 @@
+package com.budlords.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps one store's records in the shared {@link SqliteDatabase}.
+ *
+ * The database is the primary copy. The YAML file is imported once, when the store is
+ * first opened against the database; any changes still sitting in the store's record
+ * log (from a crash while on the log backend) are applied on top of it first, and the
+ * log is removed once the import has committed.
+ */
+final class SqliteRecordBackend implements RecordBackend {
+
+    private final SqliteDatabase database;
+    private final String store;
+    private final File legacyLog;
+    private Boolean imported;
+
+    SqliteRecordBackend(SqliteDatabase database, String store, File legacyLog) {
+        this.database = database;
+        this.store = store;
+        this.legacyLog = legacyLog;
+    }
+
+    @Override
+    public boolean isAuthoritative() {
+        return true;
+    }
+
+    @Override
+    public boolean isImported() {
+        if (imported == null) {
+            try {
+                imported = database.isImported(store);
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+        return imported;
+    }
+
+    @Override
+    public void importRecords(Map<String, Map<String, Object>> records) throws IOException {
+        RecordLog log = new RecordLog(legacyLog);
+        for (RecordLog.Entry entry : log.readLatest().values()) {
+            if (entry.isDelete()) {
+                records.remove(entry.key());
+            } else {
+                records.put(entry.key(), entry.fields());
+            }
+        }
+
+        database.importRecords(store, records);
+        imported = true;
+        if (legacyLog.exists() && !legacyLog.delete()) {
+            legacyLog.deleteOnExit();
+        }
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> readAll() throws IOException {
+        return database.readAll(store);
+    }
+
+    @Override
+    public Map<String, Object> read(String key) throws IOException {
+        return database.read(store, key);
+    }
+
+    @Override
+    public int write(List<RecordStore.PendingRecord> batch, boolean clear) throws IOException {
+        return database.write(store, batch, clear);
+    }
+
+    @Override
+    public boolean maintain(long compactionMinBytes, double compactionRatio) {
+        return false; // SQLite reuses freed pages and checkpoints its WAL by itself
+    }
+
+    @Override
+    public void exported() {
+        // The database stays the primary copy
+    }
+
+    @Override
+    public long size() {
+        return 0; // All stores share one file, see PersistenceManager#getStorageBytes
+    }
+
+    @Override
+    public void close() {
+        // The database is closed by the PersistenceManager
+    }
+}
@@ -1,18 +1,18 @@
 package com.budlords.diseases;
 
 import com.budlords.BudLords;
+import com.budlords.farming.BlockKey;
 import com.budlords.farming.FarmingManager;
 import com.budlords.farming.Plant;
+import com.budlords.farming.PlantSimulation;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Manages plant diseases, infections, and cures.
@@ -23,18 +23,24 @@ public class DiseaseManager {
     private final BudLords plugin;
     private final FarmingManager farmingManager;
     
-    // Track infected plants: plantLocationKey -> Disease
-    private final Map<String, PlantDisease> infectedPlants;
+    // Track infected plants: plant block -> Disease
+    private final Map<BlockKey, PlantDisease> infectedPlants;
     
-    // Track infection severity: plantLocationKey -> severity (0.0 to 1.0)
-    private final Map<String, Double> infectionSeverity;
+    // Track infection severity: plant block -> severity (0.0 to 1.0)
+    private final Map<BlockKey, Double> infectionSeverity;
     
-    // Disease check task
-    private BukkitTask diseaseTask;
-    private BukkitTask particleTask;
+    // Infections spread during the current disease pass, applied when it ends
+    private final DiseaseSpread spread;
+    private final boolean spreadEnabled;
+    
+    // All disease rolls; seeded from diseases.random-seed, if set, so outbreaks can be replayed
+    private final Random random;
 
     // Configuration
     private static final long DISEASE_CHECK_INTERVAL_TICKS = 20L * 60 * 2; // Every 2 minutes
+    private static final long DISEASE_CHECK_INTERVAL_MS = DISEASE_CHECK_INTERVAL_TICKS * 50;
+    static final double INITIAL_SEVERITY = 0.1; // Start with 10% severity
+    static final double SEVERITY_PER_CHECK = 0.05; // +5% per check
     private static final long PARTICLE_INTERVAL_TICKS = 40L; // Every 2 seconds
 
     public DiseaseManager(BudLords plugin, FarmingManager farmingManager) {
@@ -42,6 +48,11 @@ public class DiseaseManager {
         this.farmingManager = farmingManager;
         this.infectedPlants = new ConcurrentHashMap<>();
         this.infectionSeverity = new ConcurrentHashMap<>();
+        this.spread = new DiseaseSpread(plugin.getConfig().getInt("diseases.spread-radius", 3));
+        this.spreadEnabled = plugin.getConfig().getBoolean("diseases.spread-enabled", true);
+        this.random = plugin.getConfig().isSet("diseases.random-seed")
+            ? new Random(plugin.getConfig().getLong("diseases.random-seed"))
+            : new Random();
         
         startDiseaseTasks();
         
@@ -49,40 +60,66 @@ public class DiseaseManager {
     }
 
     private void startDiseaseTasks() {
-        // Check for new infections and spread
-        diseaseTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            checkForNewInfections();
-            spreadDiseases();
-            progressInfections();
-        }, DISEASE_CHECK_INTERVAL_TICKS, DISEASE_CHECK_INTERVAL_TICKS);
+        // Check for new infections, spread and progress as part of the plant simulation
+        farmingManager.getSimulation().addStage("diseases", (int) DISEASE_CHECK_INTERVAL_TICKS,
+            new PlantSimulation.Stage() {
+                @Override
+                public void tick(Plant plant) {
+                    checkPlant(plant);
+                }
+
+                @Override
+                public void endPass() {
+                    applySpread();
+                }
+            });
         
         // Visual effects for infected plants
-        particleTask = Bukkit.getScheduler().runTaskTimer(plugin, 
-            this::spawnDiseaseParticles, PARTICLE_INTERVAL_TICKS, PARTICLE_INTERVAL_TICKS);
+        farmingManager.getSimulation().addStage("disease-particles", (int) PARTICLE_INTERVAL_TICKS,
+            this::spawnDiseaseParticles);
     }
 
     /**
-     * Checks all plants for potential new infections.
+     * Runs one disease check on a plant in a loaded chunk: a healthy plant may catch a
+     * disease, an infected one may spread it and gets worse.
      */
-    private void checkForNewInfections() {
-        for (Plant plant : farmingManager.getAllPlants()) {
-            String key = plant.getLocationString();
-            
-            // Skip already infected plants
-            if (infectedPlants.containsKey(key)) continue;
-            
+    private void checkPlant(Plant plant) {
+        BlockKey key = plant.getBlockKey();
+        PlantDisease disease = infectedPlants.get(key);
+        
+        if (disease == null) {
             // Check infection conditions
-            PlantDisease disease = rollForInfection(plant);
+            disease = rollForInfection(plant);
             if (disease != null) {
                 infectPlant(plant, disease);
             }
+            return;
         }
+        
+        spreadFrom(plant, disease);
+        progressInfection(key, disease);
     }
 
     /**
      * Rolls for a potential infection based on plant conditions.
      */
     private PlantDisease rollForInfection(Plant plant) {
+        double baseChance = getBaseInfectionChance(plant);
+        
+        // Roll for each disease
+        for (PlantDisease disease : PlantDisease.values()) {
+            if (random.nextDouble() < getInfectionChance(disease, baseChance)) {
+                return disease;
+            }
+        }
+        
+        return null;
+    }
+
+    /**
+     * Gets the infection chance per check of a plant, before disease and season.
+     */
+    private double getBaseInfectionChance(Plant plant) {
         // Base infection chance modified by plant conditions
         double baseChance = 0.01; // 1% base chance per check
         
@@ -103,22 +140,19 @@ public class DiseaseManager {
             baseChance *= 1.5;
         }
         
-        // Roll for each disease
-        for (PlantDisease disease : PlantDisease.values()) {
-            double effectiveChance = baseChance * disease.getInfectionChance() * 10;
-            
-            // Season affects certain diseases
-            if (plugin.getSeasonManager() != null) {
-                com.budlords.strain.SeedType.Season season = plugin.getSeasonManager().getCurrentSeason();
-                effectiveChance *= getSeasonalDiseaseMod(disease, season);
-            }
-            
-            if (ThreadLocalRandom.current().nextDouble() < effectiveChance) {
-                return disease;
-            }
+        return baseChance;
+    }
+
+    private double getInfectionChance(PlantDisease disease, double baseChance) {
+        double effectiveChance = baseChance * disease.getInfectionChance() * 10;
+        
+        // Season affects certain diseases
+        if (plugin.getSeasonManager() != null) {
+            com.budlords.strain.SeedType.Season season = plugin.getSeasonManager().getCurrentSeason();
+            effectiveChance *= getSeasonalDiseaseMod(disease, season);
         }
         
-        return null;
+        return effectiveChance;
     }
 
     /**
@@ -153,9 +187,9 @@ public class DiseaseManager {
      * Only notifies the plant owner if they're online and have the plant monitoring phone app.
      */
     public void infectPlant(Plant plant, PlantDisease disease) {
-        String key = plant.getLocationString();
+        BlockKey key = plant.getBlockKey();
         infectedPlants.put(key, disease);
-        infectionSeverity.put(key, 0.1); // Start with 10% severity
+        infectionSeverity.put(key, INITIAL_SEVERITY);
         
         // Notify ONLY the plant owner (no public chat broadcast)
         Player owner = Bukkit.getPlayer(plant.getOwnerUuid());
@@ -186,124 +220,165 @@ public class DiseaseManager {
     }
 
     /**
-     * Spreads diseases to nearby plants.
+     * Rolls whether an infected plant spreads its disease to nearby plants.
      */
-    private void spreadDiseases() {
-        List<String> keysToInfect = new ArrayList<>();
+    private void spreadFrom(Plant infectedPlant, PlantDisease disease) {
+        if (!spreadEnabled) return;
         
-        for (Map.Entry<String, PlantDisease> entry : infectedPlants.entrySet()) {
-            String key = entry.getKey();
-            PlantDisease disease = entry.getValue();
-            
-            // Get severity - higher severity = more spread
-            double severity = infectionSeverity.getOrDefault(key, 0.0);
-            
-            if (ThreadLocalRandom.current().nextDouble() < disease.getSpreadChance() * severity) {
-                // Try to spread to nearby plants
-                Plant infectedPlant = farmingManager.getPlantAt(parseLocation(key));
-                if (infectedPlant == null) continue;
-                
-                Location loc = infectedPlant.getLocation();
-                
-                // Check nearby plants (3 block radius)
-                for (Plant nearbyPlant : farmingManager.getAllPlants()) {
-                    if (nearbyPlant.getLocation().distance(loc) < 3 && 
-                        nearbyPlant.getLocation().distance(loc) > 0) {
-                        String nearbyKey = nearbyPlant.getLocationString();
-                        if (!infectedPlants.containsKey(nearbyKey)) {
-                            keysToInfect.add(nearbyKey + ":" + disease.name());
-                        }
-                    }
-                }
+        // Get severity - higher severity = more spread
+        double severity = infectionSeverity.getOrDefault(infectedPlant.getBlockKey(), 0.0);
+        if (random.nextDouble() >= disease.getSpreadChance() * severity) return;
+        
+        spread.spread(farmingManager.getPlantIndex(), infectedPlant.getBlockKey(), disease,
+            infectedPlants::containsKey);
+    }
+
+    /**
+     * Applies the spreads rolled during a disease pass.
+     */
+    private void applySpread() {
+        DiseaseSpread.Infection infection;
+        while ((infection = spread.poll()) != null) {
+            Plant plant = farmingManager.getPlantAt(infection.target());
+            if (plant != null && !infectedPlants.containsKey(infection.target())) {
+                infectPlant(plant, infection.disease());
             }
         }
+    }
+
+    /**
+     * Progresses infection severity over time.
+     * Plants in unloaded chunks are caught up when they wake instead.
+     */
+    private void progressInfection(BlockKey key, PlantDisease disease) {
+        // Increase severity
+        double severity = infectionSeverity.getOrDefault(key, 0.0) + SEVERITY_PER_CHECK;
         
-        // Apply spread infections
-        for (String spread : keysToInfect) {
-            String[] parts = spread.split(":");
-            if (parts.length >= 2) {
-                String locationKey = parts[0];
-                PlantDisease disease = PlantDisease.valueOf(parts[1]);
-                Plant plant = farmingManager.getPlantAt(parseLocation(locationKey));
-                if (plant != null) {
-                    infectPlant(plant, disease);
+        if (severity >= 1.0) {
+            // Plant may die at max severity
+            if (random.nextDouble() > disease.getSeverity().getSurvivalRate()) {
+                if (killPlant(key, disease)) {
+                    // Clean up dead plants
+                    infectedPlants.remove(key);
+                    infectionSeverity.remove(key);
+                    return;
                 }
             }
         }
+        
+        infectionSeverity.put(key, Math.min(1.0, severity));
     }
 
     /**
-     * Progresses infection severity over time.
+     * Removes a plant that died from its disease.
+     * @return false if the plant's world is gone
+     */
+    private boolean killPlant(BlockKey key, PlantDisease disease) {
+        Location loc = key.toLocation();
+        if (loc == null) return false;
+        
+        Plant deadPlant = farmingManager.getPlantAt(loc);
+        farmingManager.removePlant(loc);
+        loc.getBlock().setType(org.bukkit.Material.AIR);
+        
+        // Spawn death particles
+        loc.getWorld().spawnParticle(Particle.SMOKE_LARGE, loc.clone().add(0.5, 0.5, 0.5), 
+            30, 0.3, 0.3, 0.3, 0.05);
+        loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_DEATH, 0.5f, 0.5f);
+        
+        // Notify ONLY the plant owner (no public broadcast)
+        if (deadPlant != null) {
+            Player plantOwner = Bukkit.getPlayer(deadPlant.getOwnerUuid());
+            if (plantOwner != null && plantOwner.isOnline()) {
+                plantOwner.sendMessage("§4§l☠ §cYour plant has died from " + disease.getDisplayName() + "!");
+                plantOwner.playSound(plantOwner.getLocation(), Sound.ENTITY_WITHER_DEATH, 0.5f, 0.5f);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rolls the disease checks a plant missed while its chunk was unloaded, all at once.
+     *
+     * The check that first infects a healthy plant is drawn from the geometric
+     * distribution of the per-check chance, and the disease from the order the checks
+     * roll them in. An infection then worsens by 5% per check, and a plant that spent k
+     * checks at full severity survives them with the disease's survival rate to the
+     * power of k. Infection chances use the care levels the plant woke up with, and
+     * sleeping plants don't spread diseases to each other.
+     *
+     * @param elapsedMs How long the plant slept
      */
-    private void progressInfections() {
-        List<String> toRemove = new ArrayList<>();
+    public void catchUp(Plant plant, long elapsedMs) {
+        long checks = elapsedMs / DISEASE_CHECK_INTERVAL_MS;
+        if (checks <= 0) return;
         
-        for (Map.Entry<String, Double> entry : infectionSeverity.entrySet()) {
-            String key = entry.getKey();
-            double severity = entry.getValue();
+        BlockKey key = plant.getBlockKey();
+        if (!infectedPlants.containsKey(key)) {
+            double baseChance = getBaseInfectionChance(plant);
+            PlantDisease[] diseases = PlantDisease.values();
+            double[] chances = new double[diseases.length];
+            double healthy = 1.0;
+            for (int i = 0; i < diseases.length; i++) {
+                chances[i] = Math.min(1.0, getInfectionChance(diseases[i], baseChance));
+                healthy *= 1.0 - chances[i];
+            }
+            if (healthy >= 1.0) return;
             
-            // Increase severity
-            severity += 0.05; // +5% per check
+            // Number of the check that infects the plant
+            long infectedAt = healthy <= 0.0 ? 1
+                : (long) Math.ceil(Math.log(1.0 - random.nextDouble()) / Math.log(healthy));
+            if (infectedAt > checks) return;
             
-            if (severity >= 1.0) {
-                // Plant may die at max severity
-                PlantDisease disease = infectedPlants.get(key);
-                if (disease != null && ThreadLocalRandom.current().nextDouble() > disease.getSeverity().getSurvivalRate()) {
-                    // Plant dies from disease
-                    Location loc = parseLocation(key);
-                    if (loc != null) {
-                        farmingManager.removePlant(loc);
-                        loc.getBlock().setType(org.bukkit.Material.AIR);
-                        
-                        // Spawn death particles
-                        loc.getWorld().spawnParticle(Particle.SMOKE_LARGE, loc.clone().add(0.5, 0.5, 0.5), 
-                            30, 0.3, 0.3, 0.3, 0.05);
-                        loc.getWorld().playSound(loc, Sound.ENTITY_GENERIC_DEATH, 0.5f, 0.5f);
-                        
-                        toRemove.add(key);
-                        
-                        // Notify ONLY the plant owner (no public broadcast)
-                        Plant deadPlant = farmingManager.getPlantAt(loc);
-                        if (deadPlant != null) {
-                            Player plantOwner = Bukkit.getPlayer(deadPlant.getOwnerUuid());
-                            if (plantOwner != null && plantOwner.isOnline()) {
-                                plantOwner.sendMessage("§4§l☠ §cYour plant has died from " + disease.getDisplayName() + "!");
-                                plantOwner.playSound(plantOwner.getLocation(), Sound.ENTITY_WITHER_DEATH, 0.5f, 0.5f);
-                            }
-                        }
-                    }
+            // Which disease a check infects with, given that it infects
+            double roll = random.nextDouble() * (1.0 - healthy);
+            PlantDisease disease = diseases[diseases.length - 1];
+            double passed = 1.0;
+            for (int i = 0; i < diseases.length; i++) {
+                double chance = passed * chances[i];
+                if (roll < chance) {
+                    disease = diseases[i];
+                    break;
                 }
+                roll -= chance;
+                passed *= 1.0 - chances[i];
             }
             
-            infectionSeverity.put(key, Math.min(1.0, severity));
+            infectPlant(plant, disease);
+            checks -= Math.max(infectedAt, 1);
         }
         
-        // Clean up dead plants
-        for (String key : toRemove) {
-            infectedPlants.remove(key);
-            infectionSeverity.remove(key);
+        double severity = infectionSeverity.getOrDefault(key, 0.0);
+        long checksToMax = Math.max(1, (long) Math.ceil((1.0 - severity) / SEVERITY_PER_CHECK - 1e-9));
+        infectionSeverity.put(key, Math.min(1.0, severity + checks * SEVERITY_PER_CHECK));
+        if (checks < checksToMax) return;
+        
+        PlantDisease disease = infectedPlants.get(key);
+        long deathRolls = checks - checksToMax + 1;
+        if (disease != null && random.nextDouble() > Math.pow(disease.getSeverity().getSurvivalRate(), deathRolls)) {
+            if (killPlant(key, disease)) {
+                infectedPlants.remove(key);
+                infectionSeverity.remove(key);
+            }
         }
     }
 
     /**
-     * Spawns visual particles for infected plants.
+     * Spawns visual particles for an infected plant.
      */
-    private void spawnDiseaseParticles() {
-        for (Map.Entry<String, PlantDisease> entry : infectedPlants.entrySet()) {
-            Location loc = parseLocation(entry.getKey());
-            if (loc == null || loc.getWorld() == null) continue;
-            if (!loc.getWorld().isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) continue;
-            
-            PlantDisease disease = entry.getValue();
-            double severity = infectionSeverity.getOrDefault(entry.getKey(), 0.0);
-            
-            // Particle intensity based on severity
-            int particleCount = (int) (3 + severity * 10);
-            
-            Location particleLoc = loc.clone().add(0.5, 0.5, 0.5);
-            loc.getWorld().spawnParticle(disease.getParticle(), particleLoc, 
-                particleCount, 0.2, 0.2, 0.2, 0.01);
-        }
+    private void spawnDiseaseParticles(Plant plant) {
+        BlockKey key = plant.getBlockKey();
+        PlantDisease disease = infectedPlants.get(key);
+        if (disease == null) return;
+        
+        double severity = infectionSeverity.getOrDefault(key, 0.0);
+        
+        // Particle intensity based on severity
+        int particleCount = (int) (3 + severity * 10);
+        
+        Location loc = plant.getLocation();
+        loc.getWorld().spawnParticle(disease.getParticle(), loc.clone().add(0.5, 0.5, 0.5), 
+            particleCount, 0.2, 0.2, 0.2, 0.01);
     }
 
     /**
@@ -311,10 +386,7 @@ public class DiseaseManager {
      * Universal cure works for all diseases with high effectiveness.
      */
     public boolean curePlant(Player player, Location location, PlantDisease.Cure cure) {
-        String key = location.getWorld().getName() + "," + 
-                    location.getBlockX() + "," + 
-                    location.getBlockY() + "," + 
-                    location.getBlockZ();
+        BlockKey key = BlockKey.of(location);
         
         PlantDisease disease = infectedPlants.get(key);
         if (disease == null) {
@@ -326,7 +398,7 @@ public class DiseaseManager {
         double effectiveness = cure.getEffectiveness();
         
         // Roll for cure success
-        if (ThreadLocalRandom.current().nextDouble() < effectiveness) {
+        if (random.nextDouble() < effectiveness) {
             // Cure successful!
             infectedPlants.remove(key);
             infectionSeverity.remove(key);
@@ -360,21 +432,21 @@ public class DiseaseManager {
      * Checks if a plant is infected.
      */
     public boolean isInfected(Plant plant) {
-        return infectedPlants.containsKey(plant.getLocationString());
+        return infectedPlants.containsKey(plant.getBlockKey());
     }
 
     /**
      * Gets the disease affecting a plant.
      */
     public PlantDisease getDisease(Plant plant) {
-        return infectedPlants.get(plant.getLocationString());
+        return infectedPlants.get(plant.getBlockKey());
     }
 
     /**
      * Gets the infection severity for a plant (0.0 to 1.0).
      */
     public double getSeverity(Plant plant) {
-        return infectionSeverity.getOrDefault(plant.getLocationString(), 0.0);
+        return infectionSeverity.getOrDefault(plant.getBlockKey(), 0.0);
     }
 
     /**
@@ -410,26 +482,6 @@ public class DiseaseManager {
         return disease.getMutationModifier() * severity;
     }
 
-    /**
-     * Parses a location string back to Location.
-     */
-    private Location parseLocation(String key) {
-        String[] parts = key.split(",");
-        if (parts.length != 4) return null;
-        
-        org.bukkit.World world = Bukkit.getWorld(parts[0]);
-        if (world == null) return null;
-        
-        try {
-            int x = Integer.parseInt(parts[1]);
-            int y = Integer.parseInt(parts[2]);
-            int z = Integer.parseInt(parts[3]);
-            return new Location(world, x, y, z);
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
-
     /**
      * Gets count of currently infected plants.
      */
@@ -441,11 +493,7 @@ public class DiseaseManager {
      * Shuts down the disease manager.
      */
     public void shutdown() {
-        if (diseaseTask != null) {
-            diseaseTask.cancel();
-        }
-        if (particleTask != null) {
-            particleTask.cancel();
-        }
+        // Disease checks run in the plant simulation, which stops with the FarmingManager
+        spread.clear();
     }
 }
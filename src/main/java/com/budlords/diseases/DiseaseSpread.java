@@ -0,0 +1,126 @@
+package com.budlords.diseases;
+
+import com.budlords.farming.BlockKey;
+import com.budlords.farming.SpatialIndex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Finds the plants a disease spreads to and queues their infections.
+ *
+ * The blocks within the spread radius are a fixed table of offsets, built once, so
+ * spreading from a plant is one index lookup per offset instead of a radius query that
+ * measures the distance to every plant in the surrounding chunks. Index lookups are
+ * hashed within the chunk column, so the cost doesn't grow with how dense the farm
+ * is. Infections are queued until the end of the disease pass, so a plant infected
+ * during a pass doesn't spread in the same pass; a plant reached by several sources is
+ * queued once, with the disease that reached it first.
+ *
+ * Main thread only.
+ */
+final class DiseaseSpread {
+
+    /**
+     * A queued infection.
+     */
+    record Infection(BlockKey target, PlantDisease disease) {
+    }
+
+    // dx, dy, dz of every block within the radius, nearest first
+    private final int[] offsets;
+    private final ArrayDeque<Infection> queue;
+    private final Set<BlockKey> queued;
+
+    /**
+     * @param radius Blocks closer than this (and not the plant's own) can be infected
+     */
+    DiseaseSpread(int radius) {
+        this.offsets = buildOffsets(radius);
+        this.queue = new ArrayDeque<>();
+        this.queued = new HashSet<>();
+    }
+
+    private static int[] buildOffsets(int radius) {
+        int reach = Math.max(0, radius - 1);
+        List<int[]> within = new ArrayList<>();
+        for (int dx = -reach; dx <= reach; dx++) {
+            for (int dy = -reach; dy <= reach; dy++) {
+                for (int dz = -reach; dz <= reach; dz++) {
+                    int distanceSq = dx * dx + dy * dy + dz * dz;
+                    if (distanceSq > 0 && distanceSq < radius * radius) {
+                        within.add(new int[] {dx, dy, dz});
+                    }
+                }
+            }
+        }
+        within.sort((a, b) -> Integer.compare(a[0] * a[0] + a[1] * a[1] + a[2] * a[2],
+            b[0] * b[0] + b[1] * b[1] + b[2] * b[2]));
+
+        int[] offsets = new int[within.size() * 3];
+        for (int i = 0; i < within.size(); i++) {
+            System.arraycopy(within.get(i), 0, offsets, i * 3, 3);
+        }
+        return offsets;
+    }
+
+    /**
+     * @return How many blocks a plant can spread to
+     */
+    int getNeighborCount() {
+        return offsets.length / 3;
+    }
+
+    /**
+     * Queues an infection for every plant around the source that isn't infected yet.
+     *
+     * @param plants Index of the plants that can be infected
+     * @param isInfected Whether the plant at a block already has a disease
+     * @return How many plants were queued
+     */
+    int spread(SpatialIndex<?> plants, BlockKey source, PlantDisease disease, Predicate<BlockKey> isInfected) {
+        UUID worldId = source.getWorldId();
+        int x = source.getX();
+        int y = source.getY();
+        int z = source.getZ();
+
+        int added = 0;
+        for (int i = 0; i < offsets.length; i += 3) {
+            int nx = x + offsets[i];
+            int ny = y + offsets[i + 1];
+            int nz = z + offsets[i + 2];
+            if (plants.get(worldId, nx, ny, nz) == null) continue;
+
+            BlockKey target = BlockKey.of(worldId, nx, ny, nz);
+            if (isInfected.test(target) || !queued.add(target)) continue;
+            queue.add(new Infection(target, disease));
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * @return The next queued infection, or null once the queue is empty
+     */
+    Infection poll() {
+        Infection infection = queue.poll();
+        if (infection != null) {
+            queued.remove(infection.target());
+        }
+        return infection;
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    void clear() {
+        queue.clear();
+        queued.clear();
+    }
+}
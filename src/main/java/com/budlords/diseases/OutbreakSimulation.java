@@ -0,0 +1,158 @@
+package com.budlords.diseases;
+
+import com.budlords.farming.BlockKey;
+import com.budlords.farming.SpatialIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Replays a disease outbreak on a synthetic farm, away from the live plants.
+ *
+ * A square field of plants, one per block, starts with a single infected plant in the
+ * middle. Every pass is one disease check, with the spread, severity and death rules
+ * of the {@link DiseaseManager}; new infections only come from spreading. All rolls come
+ * from one seeded Random and plants are checked in a fixed order, so the same seed always
+ * plays out the same outbreak, which makes runs comparable while tuning the spread.
+ *
+ * Used by /debug outbreak.
+ */
+public class OutbreakSimulation {
+
+    private final int size;
+    private final long seed;
+    private final Random random;
+    private final UUID worldId;
+
+    private final SpatialIndex<BlockKey> plants;
+    private final List<BlockKey> order;
+    private final Map<BlockKey, PlantDisease> infected;
+    private final Map<BlockKey, Double> severity;
+    private final DiseaseSpread spread;
+
+    private PlantDisease disease;
+    private int passes;
+    private int peakInfected;
+    private int totalInfected;
+    private int dead;
+    private long spreadNanos;
+
+    /**
+     * @param size Plants along each side of the field
+     * @param radius Spread radius in blocks, as diseases.spread-radius
+     * @param seed Seed of every roll
+     */
+    public OutbreakSimulation(int size, int radius, long seed) {
+        this.size = size;
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.worldId = new UUID(seed, ~seed);
+        this.plants = new SpatialIndex<>();
+        this.order = new ArrayList<>(size * size);
+        this.infected = new HashMap<>();
+        this.severity = new HashMap<>();
+        this.spread = new DiseaseSpread(radius);
+
+        for (int x = 0; x < size; x++) {
+            for (int z = 0; z < size; z++) {
+                BlockKey key = BlockKey.of(worldId, x, 64, z);
+                plants.put(worldId, x, 64, z, key);
+                order.add(key);
+            }
+        }
+
+        PlantDisease[] diseases = PlantDisease.values();
+        infect(BlockKey.of(worldId, size / 2, 64, size / 2), diseases[random.nextInt(diseases.length)]);
+    }
+
+    /**
+     * Runs disease checks until the given number of passes or until no plant is infected.
+     * @return A report of the outbreak
+     */
+    public List<String> run(int maxPasses) {
+        long start = System.nanoTime();
+        while (passes < maxPasses && !infected.isEmpty()) {
+            runPass();
+        }
+        long nanos = System.nanoTime() - start;
+
+        int plantCount = size * size;
+        return List.of(
+            "§6§lOutbreak simulation §7(" + plantCount + " plants, seed " + seed + ")",
+            "§7Disease: " + disease.getColoredDisplay() + " §7over §e" + passes + " §7checks",
+            "§7Infected: §e" + totalInfected + " §7total, §e" + peakInfected + " §7at peak, §e"
+                + infected.size() + " §7at the end",
+            "§7Died: §c" + dead + " §7(" + String.format("%.1f", dead * 100.0 / plantCount) + "%)",
+            "§7Time: §e" + String.format("%.1f", nanos / 1_000_000.0) + "ms§7, spreading §e"
+                + String.format("%.1f", spreadNanos / 1_000_000.0) + "ms §7("
+                + spread.getNeighborCount() + " blocks per spread)"
+        );
+    }
+
+    private void runPass() {
+        passes++;
+        for (BlockKey key : order) {
+            PlantDisease plantDisease = infected.get(key);
+            if (plantDisease == null) continue;
+
+            // Same order as a disease check: spread, then get worse
+            if (random.nextDouble() < plantDisease.getSpreadChance() * severity.get(key)) {
+                long start = System.nanoTime();
+                spread.spread(plants, key, plantDisease, infected::containsKey);
+                spreadNanos += System.nanoTime() - start;
+            }
+            progress(key, plantDisease);
+        }
+
+        DiseaseSpread.Infection infection;
+        while ((infection = spread.poll()) != null) {
+            if (plants.get(worldId, infection.target().getX(), infection.target().getY(),
+                    infection.target().getZ()) != null && !infected.containsKey(infection.target())) {
+                infect(infection.target(), infection.disease());
+            }
+        }
+        peakInfected = Math.max(peakInfected, infected.size());
+    }
+
+    private void infect(BlockKey key, PlantDisease plantDisease) {
+        if (disease == null) {
+            disease = plantDisease;
+        }
+        infected.put(key, plantDisease);
+        severity.put(key, DiseaseManager.INITIAL_SEVERITY);
+        totalInfected++;
+        peakInfected = Math.max(peakInfected, infected.size());
+    }
+
+    private void progress(BlockKey key, PlantDisease plantDisease) {
+        double value = severity.get(key) + DiseaseManager.SEVERITY_PER_CHECK;
+        if (value >= 1.0 && random.nextDouble() > plantDisease.getSeverity().getSurvivalRate()) {
+            plants.remove(worldId, key.getX(), key.getY(), key.getZ());
+            infected.remove(key);
+            severity.remove(key);
+            dead++;
+            return;
+        }
+        severity.put(key, Math.min(1.0, value));
+    }
+
+    public int getPasses() {
+        return passes;
+    }
+
+    public int getPeakInfected() {
+        return peakInfected;
+    }
+
+    public int getTotalInfected() {
+        return totalInfected;
+    }
+
+    public int getDead() {
+        return dead;
+    }
+}
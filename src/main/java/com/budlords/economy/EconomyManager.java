@@ -2,7 +2,8 @@ package com.budlords.economy;
 
 import com.budlords.BudLords;
 import com.budlords.data.DataManager;
-import com.budlords.stats.PlayerStats;
+import com.budlords.data.RecordStore;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
@@ -16,48 +17,70 @@ public class EconomyManager {
     private final DataManager dataManager;
     private final Map<UUID, Double> balances;
     private final Map<UUID, Double> totalEarnings;
+    private final RecordStore<UUID> balanceStore;
 
     public EconomyManager(BudLords plugin, DataManager dataManager) {
         this.plugin = plugin;
         this.dataManager = dataManager;
         this.balances = new ConcurrentHashMap<>();
         this.totalEarnings = new ConcurrentHashMap<>();
+        this.balanceStore = plugin.getPersistenceManager().registerPlayerStore("balances", dataManager::getPlayersConfig,
+            dataManager.getPlayersFile(), "players", this::writeBalance, this::readBalance, this::unloadBalance);
         loadBalances();
     }
 
     private void loadBalances() {
+        balanceStore.replay();
         FileConfiguration config = dataManager.getPlayersConfig();
         
         if (config.getConfigurationSection("players") == null) {
             return;
         }
 
-        for (String uuidStr : config.getConfigurationSection("players").getKeys(false)) {
+        ConfigurationSection players = config.getConfigurationSection("players");
+        for (String uuidStr : players.getKeys(false)) {
             try {
                 UUID uuid = UUID.fromString(uuidStr);
-                double balance = config.getDouble("players." + uuidStr + ".balance", 0.0);
-                double earnings = config.getDouble("players." + uuidStr + ".total-earnings", 0.0);
-                balances.put(uuid, balance);
-                totalEarnings.put(uuid, earnings);
+                ConfigurationSection section = players.getConfigurationSection(uuidStr);
+                if (section != null) {
+                    readBalance(uuid, section);
+                }
             } catch (IllegalArgumentException e) {
                 plugin.getLogger().warning("Invalid UUID in players.yml: " + uuidStr);
             }
         }
     }
 
-    public void saveBalances() {
-        FileConfiguration config = dataManager.getPlayersConfig();
-        
-        for (Map.Entry<UUID, Double> entry : balances.entrySet()) {
-            String uuid = entry.getKey().toString();
-            config.set("players." + uuid + ".balance", entry.getValue());
-            config.set("players." + uuid + ".total-earnings", totalEarnings.getOrDefault(entry.getKey(), 0.0));
+    private void readBalance(UUID playerUuid, ConfigurationSection section) {
+        balances.put(playerUuid, section.getDouble("balance", 0.0));
+        totalEarnings.put(playerUuid, section.getDouble("total-earnings", 0.0));
+    }
+
+    private void unloadBalance(UUID playerUuid) {
+        balances.remove(playerUuid);
+        totalEarnings.remove(playerUuid);
+    }
+
+    private boolean writeBalance(UUID playerUuid, ConfigurationSection section) {
+        Double balance = balances.get(playerUuid);
+        if (balance == null) {
+            return false;
         }
-        
-        dataManager.savePlayers();
+        section.set("balance", balance);
+        section.set("total-earnings", totalEarnings.getOrDefault(playerUuid, 0.0));
+        return true;
+    }
+
+    /**
+     * Exports all balances to players.yml. Changes are persisted incrementally,
+     * so this is only needed to get an up-to-date file.
+     */
+    public void saveBalances() {
+        plugin.getPersistenceManager().export(balanceStore);
     }
 
     public double getBalance(UUID playerUuid) {
+        balanceStore.load(playerUuid);
         return balances.getOrDefault(playerUuid, 0.0);
     }
 
@@ -66,7 +89,9 @@ public class EconomyManager {
     }
 
     public void setBalance(UUID playerUuid, double amount) {
+        balanceStore.load(playerUuid);
         balances.put(playerUuid, Math.max(0, amount));
+        balanceStore.markDirty(playerUuid);
     }
 
     public void setBalance(Player player, double amount) {
@@ -96,18 +121,11 @@ public class EconomyManager {
      * @return The amount after applying prestige multiplier
      */
     public double applyPrestigeEarningsBonus(Player player, double baseAmount) {
-        if (plugin.getStatsManager() == null || plugin.getPrestigeManager() == null) {
+        if (plugin.getPlayerModifierCache() == null) {
             return baseAmount;
         }
         
-        PlayerStats stats = plugin.getStatsManager().getStats(player);
-        int prestigeLevel = stats.getPrestigeLevel();
-        
-        if (prestigeLevel <= 0) {
-            return baseAmount;
-        }
-        
-        double multiplier = plugin.getPrestigeManager().getEarningsMultiplier(prestigeLevel);
+        double multiplier = plugin.getPlayerModifierCache().get(player.getUniqueId()).earningsMultiplier();
         return baseAmount * multiplier;
     }
 
@@ -160,8 +178,10 @@ public class EconomyManager {
     }
 
     public void recordEarnings(UUID playerUuid, double amount) {
+        balanceStore.load(playerUuid);
         double current = totalEarnings.getOrDefault(playerUuid, 0.0);
         totalEarnings.put(playerUuid, current + amount);
+        balanceStore.markDirty(playerUuid);
     }
 
     public void recordEarnings(Player player, double amount) {
@@ -169,6 +189,7 @@ public class EconomyManager {
     }
 
     public double getTotalEarnings(UUID playerUuid) {
+        balanceStore.load(playerUuid);
         return totalEarnings.getOrDefault(playerUuid, 0.0);
     }
 
@@ -181,11 +202,21 @@ public class EconomyManager {
         return symbol + String.format("%.2f", amount);
     }
 
+    /**
+     * @return Whether the player has an account, i.e. has played before
+     */
+    public boolean hasAccount(UUID playerUuid) {
+        balanceStore.load(playerUuid);
+        return balances.containsKey(playerUuid);
+    }
+
     public void initializePlayer(UUID playerUuid) {
+        balanceStore.load(playerUuid);
         if (!balances.containsKey(playerUuid)) {
             double startingBalance = plugin.getConfig().getDouble("economy.starting-balance", 0.0);
             balances.put(playerUuid, startingBalance);
             totalEarnings.put(playerUuid, 0.0);
+            balanceStore.markDirty(playerUuid);
         }
     }
 
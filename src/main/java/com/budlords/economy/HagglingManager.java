@@ -2,6 +2,7 @@ package com.budlords.economy;
 
 import com.budlords.BudLords;
 import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
 import java.util.Map;
@@ -48,8 +49,16 @@ public class HagglingManager {
     }
     
     private void loadSkills() {
-        var config = plugin.getDataManager().getPlayersConfig();
-        var skillSection = config.getConfigurationSection("haggle-skill");
+        var market = plugin.getAutosaveManager();
+        var skillSection = market.load("market.yml").getConfigurationSection("haggle-skill");
+        boolean legacy = false;
+        if (skillSection == null) {
+            // Older versions kept haggle skill in players.yml
+            var playersConfig = plugin.getDataManager().getPlayersConfig();
+            skillSection = playersConfig.getConfigurationSection("haggle-skill");
+            playersConfig.set("haggle-skill", null);
+            legacy = skillSection != null;
+        }
         if (skillSection != null) {
             for (String uuid : skillSection.getKeys(false)) {
                 try {
@@ -57,14 +66,20 @@ public class HagglingManager {
                 } catch (IllegalArgumentException ignored) {}
             }
         }
+        market.register("market.yml", this::writeSkills);
+        if (legacy) {
+            saveSkills();
+        }
     }
-    
-    public void saveSkills() {
-        var config = plugin.getDataManager().getPlayersConfig();
+
+    private void writeSkills(ConfigurationSection snapshot) {
         for (Map.Entry<UUID, Integer> entry : haggleSkill.entrySet()) {
-            config.set("haggle-skill." + entry.getKey().toString(), entry.getValue());
+            snapshot.set("haggle-skill." + entry.getKey().toString(), entry.getValue());
         }
-        plugin.getDataManager().savePlayers();
+    }
+    
+    public void saveSkills() {
+        plugin.getAutosaveManager().save("market.yml");
     }
     
     /**
@@ -25,6 +25,9 @@ public class MarketDemandManager {
     private String currentMarketEvent;
     private long eventEndTime;
     private double eventMultiplier;
+
+    // Bumped whenever any demand multiplier changes, so prices can be cached
+    private int version;
     
     // Constants for demand fluctuation
     private static final double MIN_DEMAND = 0.5;      // 50% of base price
@@ -62,7 +65,14 @@ public class MarketDemandManager {
     }
     
     private void loadDemandData() {
-        FileConfiguration config = plugin.getDataManager().getPlayersConfig();
+        var market = plugin.getAutosaveManager();
+        FileConfiguration config = market.load("market.yml");
+        boolean legacy = false;
+        if (!config.contains("market-demand") && !config.contains("market-event")) {
+            // Older versions kept market data in players.yml
+            config = plugin.getDataManager().getPlayersConfig();
+            legacy = config.contains("market-demand") || config.contains("market-event");
+        }
         ConfigurationSection demandSection = config.getConfigurationSection("market-demand");
         
         if (demandSection != null) {
@@ -81,27 +91,34 @@ public class MarketDemandManager {
             currentMarketEvent = "NORMAL";
             eventMultiplier = 1.0;
         }
+
+        market.register("market.yml", this::writeDemandData);
+        if (legacy) {
+            config.set("market-demand", null);
+            config.set("market-event", null);
+            saveDemandData();
+        }
     }
-    
-    public void saveDemandData() {
-        FileConfiguration config = plugin.getDataManager().getPlayersConfig();
-        
+
+    private void writeDemandData(ConfigurationSection snapshot) {
         for (Map.Entry<String, Double> entry : strainDemand.entrySet()) {
-            config.set("market-demand." + entry.getKey(), entry.getValue());
+            snapshot.set("market-demand." + entry.getKey(), entry.getValue());
         }
         
-        config.set("market-event.type", currentMarketEvent);
-        config.set("market-event.end-time", eventEndTime);
-        config.set("market-event.multiplier", eventMultiplier);
-        
-        plugin.getDataManager().savePlayers();
+        snapshot.set("market-event.type", currentMarketEvent);
+        snapshot.set("market-event.end-time", eventEndTime);
+        snapshot.set("market-event.multiplier", eventMultiplier);
+    }
+    
+    public void saveDemandData() {
+        plugin.getAutosaveManager().save("market.yml");
     }
     
     private void startDemandUpdateTask() {
         // Initialize strains at startup rather than in the task
         initializeStrainDemand();
         
-        demandUpdateTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        demandUpdateTask = plugin.getTaskProfiler().runTaskTimer("MarketDemandManager.demandUpdate", () -> {
             // Randomly fluctuate demand for each strain
             for (String strainId : strainDemand.keySet()) {
                 double current = strainDemand.get(strainId);
@@ -109,6 +126,7 @@ public class MarketDemandManager {
                 double newDemand = Math.max(MIN_DEMAND, Math.min(MAX_DEMAND, current + change));
                 strainDemand.put(strainId, newDemand);
             }
+            version++;
         }, DEMAND_UPDATE_INTERVAL, DEMAND_UPDATE_INTERVAL);
     }
     
@@ -129,11 +147,12 @@ public class MarketDemandManager {
     }
     
     private void startEventCheckTask() {
-        eventCheckTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        eventCheckTask = plugin.getTaskProfiler().runTaskTimer("MarketDemandManager.eventCheck", () -> {
             // Check if current event has expired
             if (System.currentTimeMillis() > eventEndTime && !currentMarketEvent.equals("NORMAL")) {
                 currentMarketEvent = "NORMAL";
                 eventMultiplier = 1.0;
+                version++;
                 broadcastMarketNews("§e[Market News] §7Market conditions have returned to normal.");
             }
             
@@ -180,6 +199,7 @@ public class MarketDemandManager {
             }
             default -> eventMultiplier = 1.0;
         }
+        version++;
         
         saveDemandData();
     }
@@ -201,6 +221,14 @@ public class MarketDemandManager {
         return baseDemand * eventMultiplier;
     }
     
+    /**
+     * Gets a number that changes whenever {@link #getDemandMultiplier} may return
+     * something else for any strain.
+     */
+    public int getVersion() {
+        return version;
+    }
+    
     /**
      * Gets the current market event.
      */
@@ -235,6 +263,7 @@ public class MarketDemandManager {
         // Each sale slightly decreases demand (market saturation)
         double decrease = 0.01 * amount;
         strainDemand.put(strainId, Math.max(MIN_DEMAND, current - decrease));
+        version++;
     }
     
     /**
@@ -4,6 +4,7 @@ import com.budlords.BudLords;
 import com.budlords.stats.PlayerStats;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
 import java.util.Map;
@@ -53,22 +54,35 @@ public class ReputationManager {
     }
     
     private void loadReputation() {
-        // Load reputation from player config
-        var config = plugin.getDataManager().getPlayersConfig();
-        var repSection = config.getConfigurationSection("reputation");
+        var market = plugin.getAutosaveManager();
+        var repSection = market.load("market.yml").getConfigurationSection("reputation");
+        boolean legacy = false;
+        if (repSection == null) {
+            // Older versions kept reputation in players.yml
+            var playersConfig = plugin.getDataManager().getPlayersConfig();
+            repSection = playersConfig.getConfigurationSection("reputation");
+            playersConfig.set("reputation", null);
+            legacy = repSection != null;
+        }
         if (repSection != null) {
             for (String key : repSection.getKeys(false)) {
                 buyerReputation.put(key, repSection.getInt(key, 0));
             }
         }
+        market.register("market.yml", this::writeReputation);
+        if (legacy) {
+            saveReputation();
+        }
     }
-    
-    public void saveReputation() {
-        var config = plugin.getDataManager().getPlayersConfig();
+
+    private void writeReputation(ConfigurationSection snapshot) {
         for (Map.Entry<String, Integer> entry : buyerReputation.entrySet()) {
-            config.set("reputation." + entry.getKey(), entry.getValue());
+            snapshot.set("reputation." + entry.getKey(), entry.getValue());
         }
-        plugin.getDataManager().savePlayers();
+    }
+    
+    public void saveReputation() {
+        plugin.getAutosaveManager().save("market.yml");
     }
     
     /**
@@ -3,6 +3,7 @@ package com.budlords.effects;
 import com.budlords.BudLords;
 import com.budlords.quality.StarRating;
 import com.budlords.strain.Strain;
+import com.budlords.perf.ProfiledRunnable;
 import org.bukkit.*;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
@@ -194,11 +195,11 @@ public class StrainEffectsManager implements Listener {
     private void startEntityParticleTask(LivingEntity entity, List<StrainEffect> effects, int duration) {
         UUID entityId = entity.getUniqueId();
         
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.entityParticle") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 Entity ent = Bukkit.getEntity(entityId);
                 if (ent == null || !ent.isValid() || elapsed >= duration) {
                     cancel();
@@ -248,11 +249,11 @@ public class StrainEffectsManager implements Listener {
     private void startGenericHighParticles(LivingEntity entity, int duration) {
         UUID entityId = entity.getUniqueId();
         
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.genericHighParticles") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 Entity ent = Bukkit.getEntity(entityId);
                 if (ent == null || !ent.isValid() || elapsed >= duration) {
                     cancel();
@@ -717,11 +718,11 @@ public class StrainEffectsManager implements Listener {
     }
     
     private void makeNearbyEntitiesGlow(Player player, int duration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.entityGlow") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= duration) {
                     cancel();
                     return;
@@ -737,11 +738,11 @@ public class StrainEffectsManager implements Listener {
     }
     
     private void scheduleTimeWarpEffects(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.timeWarp") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -760,11 +761,11 @@ public class StrainEffectsManager implements Listener {
     }
     
     private void scheduleRealityBenderEffects(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.realityBender") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -798,11 +799,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules the water walk effect - allows player to walk on water.
      */
     private void scheduleWaterWalkEffect(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.waterWalk") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -839,11 +840,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules plant growth boost for nearby plants.
      */
     private void schedulePlantGrowthBoost(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.plantGrowthBoost") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -892,11 +893,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules rocket boost effect - occasional upward boost.
      */
     private void scheduleRocketBoostEffect(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.rocketBoost") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -918,11 +919,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules blink step effect - short-range teleportation hints.
      */
     private void scheduleBlinkStepEffect(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.blinkStep") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -955,11 +956,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules earthquake effect - ground shaking visual.
      */
     private void scheduleEarthquakeEffect(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.earthquake") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -983,11 +984,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules elemental chaos effect - random elemental particles.
      */
     private void scheduleElementalChaosEffect(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.elementalChaos") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -1012,11 +1013,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules universe control effect - cosmic distortion.
      */
     private void scheduleUniverseControlEffect(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.universeControl") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -1049,11 +1050,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules storm caller effect - lightning and storm particles.
      */
     private void scheduleStormCallerEffect(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.stormCaller") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -1082,11 +1083,11 @@ public class StrainEffectsManager implements Listener {
      * Schedules electric surge effect - electric sparks periodically.
      */
     private void scheduleElectricSurgeEffect(Player player, int totalDuration) {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.electricSurge") {
             int elapsed = 0;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || elapsed >= totalDuration) {
                     cancel();
                     return;
@@ -1132,9 +1133,9 @@ public class StrainEffectsManager implements Listener {
             existingTask.cancel();
         }
         
-        BukkitTask task = new BukkitRunnable() {
+        BukkitTask task = new ProfiledRunnable(plugin.getTaskProfiler(), "StrainEffectsManager.particle") {
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || !activeSessions.containsKey(player.getUniqueId())) {
                     cancel();
                     particleTasks.remove(player.getUniqueId());
@@ -3,6 +3,7 @@ package com.budlords.events;
 import com.budlords.BudLords;
 import com.budlords.farming.FarmingManager;
 import com.budlords.farming.Plant;
+import com.budlords.farming.PlantSimulation;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -26,6 +27,8 @@ public class RandomEventManager {
     private BukkitTask eventCheckTask;
     private RandomEvent activeEvent;
     private long eventEndTime;
+    // Whether the drought drain runs in the current simulation pass
+    private boolean droughtActive;
     
     // Event probabilities (per hour)
     private static final double DROUGHT_CHANCE = 0.05;
@@ -39,11 +42,12 @@ public class RandomEventManager {
         this.plugin = plugin;
         this.farmingManager = farmingManager;
         startEventCheck();
+        startDroughtDrain();
     }
 
     private void startEventCheck() {
         // Check for random events every 5 minutes
-        eventCheckTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        eventCheckTask = plugin.getTaskProfiler().runTaskTimer("RandomEventManager.eventCheck", () -> {
             // Check if there's an active event
             if (activeEvent != null) {
                 if (System.currentTimeMillis() > eventEndTime) {
@@ -86,6 +90,10 @@ public class RandomEventManager {
         this.activeEvent = event;
         this.eventEndTime = System.currentTimeMillis() + event.getDurationMinutes() * 60 * 1000L;
         
+        if (plugin.getPlayerModifierCache() != null) {
+            plugin.getPlayerModifierCache().invalidateAll();
+        }
+        
         // Announce event
         broadcastEvent(event, true);
         
@@ -105,6 +113,10 @@ public class RandomEventManager {
             broadcastEvent(activeEvent, false);
             activeEvent = null;
             eventEndTime = 0;
+            
+            if (plugin.getPlayerModifierCache() != null) {
+                plugin.getPlayerModifierCache().invalidateAll();
+            }
         }
     }
 
@@ -140,24 +152,29 @@ public class RandomEventManager {
             plant.setWaterLevel(currentWater * 0.5); // Halve water levels
         }
         
-        // Schedule ongoing drought effects
-        Bukkit.getScheduler().runTaskTimer(plugin, task -> {
-            if (activeEvent != RandomEvent.DROUGHT) {
-                task.cancel();
-                return;
+        // Ongoing drought effects run in the plant simulation while the event lasts
+    }
+
+    private void startDroughtDrain() {
+        farmingManager.getSimulation().addStage("drought", 20 * 60, new PlantSimulation.Stage() { // Every minute
+            @Override
+            public void beginPass() {
+                droughtActive = activeEvent == RandomEvent.DROUGHT;
             }
-            
-            for (Plant plant : farmingManager.getAllPlants()) {
+
+            @Override
+            public void tick(Plant plant) {
+                if (!droughtActive) return;
+                
+                // Sleeping plants in unloaded chunks are spared the extra drain
                 plant.setWaterLevel(plant.getWaterLevel() - 0.05); // Extra water drain
                 
                 // Spawn dry particles
                 Location loc = plant.getLocation();
-                if (loc.getWorld() != null && loc.getWorld().isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) {
-                    loc.getWorld().spawnParticle(Particle.SMOKE_NORMAL, loc.clone().add(0.5, 0.3, 0.5), 
-                        3, 0.2, 0.1, 0.2, 0.01);
-                }
+                loc.getWorld().spawnParticle(Particle.SMOKE_NORMAL, loc.clone().add(0.5, 0.3, 0.5), 
+                    3, 0.2, 0.1, 0.2, 0.01);
             }
-        }, 0L, 20L * 60); // Every minute
+        });
     }
 
     private void applyBlightEffect() {
@@ -195,6 +212,7 @@ public class RandomEventManager {
         for (Plant plant : farmingManager.getAllPlants()) {
             plant.setNutrientLevel(Math.min(1.0, plant.getNutrientLevel() + 0.3));
             plant.setWaterLevel(Math.min(1.0, plant.getWaterLevel() + 0.2));
+            farmingManager.onCareImproved(plant);
             
             // Spawn rain particles
             Location loc = plant.getLocation();
@@ -210,7 +228,7 @@ public class RandomEventManager {
     private void applyPoliceRaidWarning() {
         // Just a warning - no immediate effect, but trading is riskier
         // Schedule police activity particles in trading areas
-        Bukkit.getScheduler().runTaskTimer(plugin, task -> {
+        plugin.getTaskProfiler().runTaskTimer("RandomEventManager.policeRaid", task -> {
             if (activeEvent != RandomEvent.POLICE_RAID_WARNING) {
                 task.cancel();
                 return;
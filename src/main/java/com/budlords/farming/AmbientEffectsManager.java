@@ -8,9 +8,7 @@ import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.util.Collection;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -23,9 +21,11 @@ public class AmbientEffectsManager {
     private final FarmingManager farmingManager;
     private final StrainManager strainManager;
     
-    private BukkitTask ambientTask;
-    private BukkitTask weatherEffectTask;
-    private BukkitTask fireflyTask;
+    // Whether the particle caps apply, and particles spawned so far in the current pass of each effect
+    private boolean manyPlants;
+    private int ambientSpawned;
+    private int weatherSpawned;
+    private int firefliesSpawned;
     
     // Effect settings - optimized for better performance with many plants
     private static final int AMBIENT_INTERVAL_TICKS = 100;     // 5 seconds (increased from 3)
@@ -53,95 +53,90 @@ public class AmbientEffectsManager {
     }
 
     private void startAmbientEffects() {
-        ambientTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            Collection<Plant> plants = farmingManager.getAllPlants();
-            
-            // Performance optimization: limit particle spawning when many plants exist
-            int plantCount = plants.size();
-            boolean manyPlants = plantCount > MANY_PLANTS_THRESHOLD;
-            int particlesSpawned = 0;
-            
-            for (Plant plant : plants) {
-                if (!isChunkLoaded(plant.getLocation())) continue;
-                
+        farmingManager.getSimulation().addStage("ambient", AMBIENT_INTERVAL_TICKS, new PlantSimulation.Stage() {
+            @Override
+            public void beginPass() {
+                // Performance optimization: limit particle spawning when many plants exist
+                manyPlants = farmingManager.getPlantIndex().size() > MANY_PLANTS_THRESHOLD;
+                ambientSpawned = 0;
+            }
+
+            @Override
+            public void tick(Plant plant) {
                 // Limit total particles when there are many plants
-                if (manyPlants && particlesSpawned >= MAX_PARTICLES_PER_CYCLE) break;
+                if (manyPlants && ambientSpawned >= MAX_PARTICLES_PER_CYCLE) return;
                 
                 // Spawn ambient particles based on plant state
                 spawnAmbientParticles(plant);
-                particlesSpawned++;
+                ambientSpawned++;
             }
-        }, AMBIENT_INTERVAL_TICKS, AMBIENT_INTERVAL_TICKS);
+        });
     }
 
     private void startWeatherEffects() {
-        weatherEffectTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            Collection<Plant> plants = farmingManager.getAllPlants();
-            
-            // Performance optimization: limit particle spawning when many plants exist
-            int plantCount = plants.size();
-            boolean manyPlants = plantCount > MANY_PLANTS_THRESHOLD;
-            int particlesSpawned = 0;
-            
-            for (Plant plant : plants) {
-                if (!isChunkLoaded(plant.getLocation())) continue;
-                
+        farmingManager.getSimulation().addStage("ambient-weather", WEATHER_INTERVAL_TICKS, new PlantSimulation.Stage() {
+            @Override
+            public void beginPass() {
+                manyPlants = farmingManager.getPlantIndex().size() > MANY_PLANTS_THRESHOLD;
+                weatherSpawned = 0;
+            }
+
+            @Override
+            public void tick(Plant plant) {
                 // Limit total particles when there are many plants
-                if (manyPlants && particlesSpawned >= MAX_PARTICLES_PER_CYCLE) break;
+                if (manyPlants && weatherSpawned >= MAX_PARTICLES_PER_CYCLE) return;
                 
                 World world = plant.getLocation().getWorld();
-                if (world == null) continue;
+                if (world == null) return;
+                boolean night = world.getTime() >= 13000 && world.getTime() <= 23000;
+                SkyExposureMap skyExposure = farmingManager.getSkyExposure();
                 
-                // Weather-based effects
+                // Weather-based effects; rain and sunlight only reach plants under the open sky
                 if (world.hasStorm()) {
-                    spawnRainEffects(plant);
-                } else if (world.getTime() >= 13000 && world.getTime() <= 23000) {
+                    if (skyExposure.isExposed(plant)) spawnRainEffects(plant);
+                } else if (night) {
                     // Night time effects
                     spawnNightEffects(plant);
                 } else {
                     // Day time effects
-                    spawnDayEffects(plant);
+                    if (skyExposure.isExposed(plant)) spawnDayEffects(plant);
                 }
-                particlesSpawned++;
+                weatherSpawned++;
             }
-        }, WEATHER_INTERVAL_TICKS, WEATHER_INTERVAL_TICKS);
+        });
     }
 
     private void startFireflyEffects() {
-        fireflyTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            Collection<Plant> plants = farmingManager.getAllPlants();
-            
-            // Performance optimization: limit fireflies when many plants exist
-            int plantCount = plants.size();
-            boolean manyPlants = plantCount > MANY_PLANTS_THRESHOLD;
-            int firefliesSpawned = 0;
-            int maxFireflies = manyPlants ? 10 : 20; // Limit fireflies when many plants
-            
-            for (Plant plant : plants) {
-                if (!isChunkLoaded(plant.getLocation())) continue;
+        farmingManager.getSimulation().addStage("fireflies", FIREFLY_INTERVAL_TICKS, new PlantSimulation.Stage() {
+            @Override
+            public void beginPass() {
+                // Performance optimization: limit fireflies when many plants exist
+                manyPlants = farmingManager.getPlantIndex().size() > MANY_PLANTS_THRESHOLD;
+                firefliesSpawned = 0;
+            }
+
+            @Override
+            public void tick(Plant plant) {
+                int maxFireflies = manyPlants ? 10 : 20; // Limit fireflies when many plants
+                double spawnChance = manyPlants ? FIREFLY_SPAWN_CHANCE * MANY_PLANTS_SPAWN_REDUCTION : FIREFLY_SPAWN_CHANCE;
                 
                 // Limit total fireflies when there are many plants
-                if (manyPlants && firefliesSpawned >= maxFireflies) break;
+                if (manyPlants && firefliesSpawned >= maxFireflies) return;
                 
+                // Fireflies only at night, and only near mature plants
                 World world = plant.getLocation().getWorld();
-                if (world == null) continue;
+                if (world == null || world.getTime() < 13000 || world.getTime() > 23000) return;
                 
-                // Fireflies only at night near mature plants
-                if (world.getTime() >= 13000 && world.getTime() <= 23000 && plant.isFullyGrown()) {
-                    double spawnChance = manyPlants ? FIREFLY_SPAWN_CHANCE * MANY_PLANTS_SPAWN_REDUCTION : FIREFLY_SPAWN_CHANCE;
-                    if (ThreadLocalRandom.current().nextDouble() < spawnChance) {
-                        spawnFirefly(plant.getLocation());
-                        firefliesSpawned++;
-                    }
+                if (plant.isFullyGrown() && ThreadLocalRandom.current().nextDouble() < spawnChance) {
+                    spawnFirefly(plant.getLocation());
+                    firefliesSpawned++;
                 }
             }
-        }, FIREFLY_INTERVAL_TICKS, FIREFLY_INTERVAL_TICKS);
+        });
     }
 
     public void shutdown() {
-        if (ambientTask != null) ambientTask.cancel();
-        if (weatherEffectTask != null) weatherEffectTask.cancel();
-        if (fireflyTask != null) fireflyTask.cancel();
+        // Effects run in the plant simulation, which stops with the FarmingManager
     }
 
     // ===== PARTICLE EFFECTS =====
@@ -436,11 +431,4 @@ public class AmbientEffectsManager {
         
         world.playSound(loc, Sound.ITEM_BONE_MEAL_USE, 0.8f, 1.0f);
     }
-
-    // ===== UTILITY =====
-
-    private boolean isChunkLoaded(Location loc) {
-        if (loc.getWorld() == null) return false;
-        return loc.getWorld().isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
-    }
 }
@@ -0,0 +1,757 @@
+package com.budlords.farming;
+
+import com.budlords.farming.PlantVisualizationManager.DetailLevel;
+import com.budlords.quality.StarRating;
+import com.budlords.strain.StrainVisualConfig;
+import com.budlords.strain.StrainVisualConfig.AnimationStyle;
+import com.budlords.strain.StrainVisualConfig.BudType;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.EulerAngle;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The original plant renderer: builds each growth stage out of many small,
+ * invisible armor stands wearing block and item helmets, and animates them by
+ * nudging their head poses.
+ *
+ * Stands come from an {@link ArmorStandPool}, so stage changes re-dress the
+ * plant's existing stands instead of respawning them.
+ */
+public class ArmorStandPlantRenderer implements PlantRenderer {
+
+    private final ArmorStandPool standPool;
+    // Stands acquired while a model is being built, in the order their ids are added
+    private List<ArmorStand> building;
+    
+    // Custom model data IDs (these would correspond to resource pack custom models)
+    // For now we'll use vanilla items creatively
+    private static final int MODEL_SEED = 1;
+    private static final int MODEL_SPROUT = 2;
+    private static final int MODEL_LEAF_SMALL = 3;
+    private static final int MODEL_LEAF_LARGE = 4;
+    private static final int MODEL_BUD = 5;
+    
+    // Visual detail constants
+    private static final double POSITION_RANDOMIZATION_RANGE = 0.08;
+    private static final int SOIL_PARTICLE_COUNT = 3;
+    private static final double SOIL_PARTICLE_SPREAD = 0.04;
+    private static final int MIN_NODE_LEAVES = 2;
+    private static final int MAX_NODE_LEAVES = 4;
+    
+    // Y offset to position plants inside the pot rather than floating above
+    // Plant location is 1 block above pot, so we offset down to appear inside pot
+    // Small armor stands render helmets ~0.5 blocks above spawn point, so we need
+    // to go deeper to get the helmet inside the pot
+    // 
+    // Math: For an item to render at pot level:
+    // - Plant location = pot + 1
+    // - Helmet renders at = armor_stand_Y + 0.5
+    // - To render at pot level: (pot + 1) + offset + 0.5 = pot
+    // - Therefore: offset = -1.5
+    //
+    // To render INSIDE the pot (0.2-0.3 blocks down from top):
+    // - offset = -1.5 - 0.2 = -1.7 (to -1.8)
+    private static final double POT_Y_OFFSET = -1.50;
+    
+    // Specific Y offsets for early growth stages to ensure proper positioning
+    // Stage 0 (Seed): Deep in the soil, near bottom of pot
+    private static final double SEED_Y_OFFSET = -1.75;
+    // Stage 1 (Sprout): Emerging from soil, still mostly inside pot  
+    private static final double SPROUT_Y_OFFSET = -1.65;
+    // Stage 2 (Vegetative): Growing from pot base, bottom leaves at pot rim
+    private static final double VEG_Y_OFFSET = -1.55;
+    
+    // Animation phase table: each style's cycle is sampled at this many steps
+    private static final int PHASE_STEPS = 32;
+    // Head pose offset (x, y, z) per style, detail level and phase step, shared by every model
+    private static final double[][][] POSE_OFFSETS =
+        new double[AnimationStyle.values().length][DetailLevel.values().length][];
+    // Length of one animation cycle per style at speed 1.0, in ms
+    private static final double[] CYCLE_MILLIS = new double[AnimationStyle.values().length];
+    // Whether a style moves head poses at all
+    private static final boolean[] MOVES_HEAD = new boolean[AnimationStyle.values().length];
+    
+    static {
+        // Sway amplitudes match the drift the old per-run head pose increments added up to
+        java.util.Random shakeNoise = new java.util.Random(0x5EED);
+        for (AnimationStyle style : AnimationStyle.values()) {
+            double[] sway = new double[PHASE_STEPS];
+            double[] spin = new double[PHASE_STEPS];
+            double cycle = 1000;
+            boolean moves = false;
+            for (int step = 0; step < PHASE_STEPS; step++) {
+                double angle = Math.PI * 2 * step / PHASE_STEPS;
+                switch (style) {
+                    case GENTLE_SWAY -> sway[step] = Math.sin(angle) * 0.035 * 2.4;
+                    case AGGRESSIVE -> sway[step] = Math.sin(angle) * 0.10;
+                    case WAVE -> sway[step] = Math.sin(angle) * 0.05 * 1.8;
+                    case SHAKE -> sway[step] = (shakeNoise.nextDouble() - 0.5) * 0.04;
+                    case SPIN -> spin[step] = angle;
+                    default -> { } // Pulse, bounce, float and heartbeat don't move head poses
+                }
+                moves |= sway[step] != 0 || spin[step] != 0;
+            }
+            switch (style) {
+                case GENTLE_SWAY -> cycle = Math.PI * 2 * 1200;
+                case AGGRESSIVE -> cycle = Math.PI * 2 * 180;
+                case WAVE -> cycle = Math.PI * 2 * 900;
+                case SPIN -> cycle = Math.PI * 2 * 2500;
+                default -> { }
+            }
+            for (DetailLevel lod : DetailLevel.values()) {
+                // PROFESSIONAL: Enhanced animation intensity for more impressive visuals
+                double intensityMult = switch (lod) {
+                    case LOW -> 0.7;    // 70% intensity (increased from 30%)
+                    case MEDIUM -> 0.9; // 90% intensity (increased from 60%)
+                    case HIGH -> 1.3;   // 130% intensity - more dramatic and cool!
+                };
+                double[] offsets = new double[PHASE_STEPS * 3];
+                for (int step = 0; step < PHASE_STEPS; step++) {
+                    double offset = sway[step] * intensityMult;
+                    offsets[step * 3] = offset * 0.15;
+                    offsets[step * 3 + 1] = spin[step];
+                    offsets[step * 3 + 2] = offset * 0.08;
+                }
+                POSE_OFFSETS[style.ordinal()][lod.ordinal()] = offsets;
+            }
+            CYCLE_MILLIS[style.ordinal()] = cycle;
+            MOVES_HEAD[style.ordinal()] = moves;
+        }
+    }
+
+    public ArmorStandPlantRenderer(int poolSizePerWorld) {
+        this.standPool = new ArmorStandPool(poolSizePerWorld);
+    }
+
+    @Override
+    public String getName() {
+        return "armor_stand";
+    }
+
+    @Override
+    public PlantModel render(Plant plant, Location loc, StrainVisualConfig config, DetailLevel lod) {
+        building = new ArrayList<>();
+        List<UUID> ids;
+        List<ArmorStand> stands;
+        try {
+            ids = switch (plant.getGrowthStage()) {
+                case 0 -> createSeedVisual(plant, loc, config, lod);
+                case 1 -> createSproutVisual(plant, loc, config, lod);
+                case 2 -> createVegetativeVisual(plant, loc, config, lod);
+                case 3 -> createFloweringVisual(plant, loc, config, lod);
+                default -> new ArrayList<>();
+            };
+            stands = building;
+        } finally {
+            building = null;
+        }
+        
+        // Despawn whatever the new stage did not need beyond the pool limit
+        if (loc.getWorld() != null) {
+            standPool.trim(loc.getWorld());
+        }
+        
+        // Keep the stands and their build poses as the animation's rest poses
+        ArmorStand[] entities = stands.toArray(new ArmorStand[0]);
+        EulerAngle[] restPoses = new EulerAngle[entities.length];
+        for (int i = 0; i < entities.length; i++) {
+            restPoses[i] = entities[i].getHeadPose();
+        }
+        return new Model(ids, config, entities, restPoses);
+    }
+
+    @Override
+    public int remove(PlantModel model) {
+        Set<World> worlds = new HashSet<>();
+        int released = 0;
+        for (Entity entity : model.getEntities()) {
+            if (entity instanceof ArmorStand stand && stand.isValid()) {
+                worlds.add(stand.getWorld());
+                standPool.release(stand);
+                released++;
+            }
+        }
+        // Parked stands go to the front of the freelist, so trimming the oldest
+        // never takes the ones a follow-up render is about to reuse
+        for (World world : worlds) {
+            standPool.trim(world);
+        }
+        return released;
+    }
+
+    /**
+     * Creates the seed stage visual (Stage 0).
+     * A realistic cannabis seed sitting deep in the soil with proper depth.
+     * Enhanced with additional detail elements for a more professional look.
+     * Seeds appear firmly planted in the pot, not floating above it.
+     * 
+     * FIXED: Corrected Y offset calculation to prevent floating
+     * IMPROVED: Added soil coverage and multiple seed detail levels
+     * 
+     * @param lod Detail level to build the model at
+     */
+    private List<UUID> createSeedVisual(Plant plant, Location loc, StrainVisualConfig config, DetailLevel lod) {
+        List<UUID> ids = new ArrayList<>();
+        World world = loc.getWorld();
+        if (world == null) return ids;
+        
+        double heightScale = config != null ? config.getHeightScale() : 1.0;
+        boolean glowing = config != null && config.isGlowing();
+        
+        // Base location - centered on the pot block with slight randomization
+        double randomX = (Math.random() - 0.5) * POSITION_RANDOMIZATION_RANGE;
+        double randomZ = (Math.random() - 0.5) * POSITION_RANDOMIZATION_RANGE;
+        Location baseLoc = loc.clone().add(0.5 + randomX, SEED_Y_OFFSET, 0.5 + randomZ);
+        
+        // Soil layer representation (in MEDIUM and HIGH detail)
+        if (lod != DetailLevel.LOW) {
+            ArmorStand soil = createBaseArmorStand(world, baseLoc.clone().add(0, -0.06, 0));
+            soil.setHelmet(new ItemStack(Material.DIRT));
+            soil.setSmall(true);
+            soil.setHeadPose(new EulerAngle(Math.toRadians(85), 0, 0));
+            ids.add(soil.getUniqueId());
+        }
+        
+        // Additional soil detail for HIGH mode
+        if (lod == DetailLevel.HIGH) {
+            // Small peat moss/soil particles around seed
+            for (int i = 0; i < SOIL_PARTICLE_COUNT; i++) {
+                double angle = (Math.PI * 2 / SOIL_PARTICLE_COUNT) * i;
+                double offsetX = Math.cos(angle) * SOIL_PARTICLE_SPREAD;
+                double offsetZ = Math.sin(angle) * SOIL_PARTICLE_SPREAD;
+                ArmorStand particle = createBaseArmorStand(world, baseLoc.clone().add(offsetX, -0.03, offsetZ));
+                particle.setHelmet(new ItemStack(Material.BROWN_CONCRETE_POWDER));
+                particle.setSmall(true);
+                particle.setHeadPose(new EulerAngle(Math.toRadians(90), angle, 0));
+                ids.add(particle.getUniqueId());
+            }
+        }
+        
+        // Main seed - positioned deeper for more realistic appearance
+        ArmorStand seed = createBaseArmorStand(world, baseLoc);
+        seed.setHelmet(new ItemStack(Material.COCOA_BEANS));
+        seed.setSmall(true);
+        if (glowing) seed.setGlowing(true);
+        
+        // Natural tilt for organic look
+        double randomAngle = Math.random() * Math.PI * 2;
+        seed.setHeadPose(new EulerAngle(Math.toRadians(25), randomAngle, Math.toRadians(8)));
+        ids.add(seed.getUniqueId());
+        
+        return ids;
+    }
+
+    /**
+     * Creates the sprout stage visual (Stage 1).
+     * A realistic cannabis seedling with cotyledons (seed leaves) and first true leaves emerging.
+     * Shows the characteristic double-round seed leaves with the first serrated cannabis leaves above.
+     * The sprout is anchored firmly in the soil with visible root system and proper stem structure.
+     * 
+     * FIXED: Corrected Y offset to prevent floating appearance
+     * IMPROVED: Enhanced stem detail, better leaf positioning, added root representation
+     * 
+     * @param lod Detail level to build the model at
+     */
+    private List<UUID> createSproutVisual(Plant plant, Location loc, StrainVisualConfig config, DetailLevel lod) {
+        List<UUID> ids = new ArrayList<>();
+        World world = loc.getWorld();
+        if (world == null) return ids;
+        
+        double heightScale = config != null ? config.getHeightScale() : 1.0;
+        double leafScale = config != null ? config.getLeafScale() : 1.0;
+        Material leafMaterial = config != null && config.getLeafMaterial() != null ? 
+            config.getLeafMaterial() : Material.FERN;
+        boolean glowing = config != null && config.isGlowing();
+        
+        // Add random rotation offset for visual variety
+        double randomRotation = Math.random() * Math.PI * 2;
+        
+        Location baseLoc = loc.clone().add(0.5, SPROUT_Y_OFFSET, 0.5);
+        
+        // Root/soil anchor (only in MEDIUM and HIGH detail)
+        if (lod != DetailLevel.LOW) {
+            ArmorStand rootBase = createBaseArmorStand(world, baseLoc.clone().add(0, -0.05, 0));
+            rootBase.setHelmet(new ItemStack(Material.BROWN_MUSHROOM_BLOCK));
+            rootBase.setSmall(true);
+            rootBase.setHeadPose(new EulerAngle(Math.toRadians(90), 0, 0));
+            ids.add(rootBase.getUniqueId());
+        }
+        
+        // Lower stem base - thicker, more visible, anchored in soil
+        ArmorStand stemBase = createBaseArmorStand(world, baseLoc.clone().add(0, 0.02, 0));
+        stemBase.setHelmet(new ItemStack(Material.BAMBOO));
+        stemBase.setSmall(true);
+        stemBase.setHeadPose(new EulerAngle(0, 0, 0)); // Straight up
+        ids.add(stemBase.getUniqueId());
+        
+        // Middle stem segment - transition zone
+        ArmorStand stemMiddle = createBaseArmorStand(world, baseLoc.clone().add(0, 0.12 * heightScale, 0));
+        stemMiddle.setHelmet(new ItemStack(Material.STICK));
+        stemMiddle.setSmall(true);
+        ids.add(stemMiddle.getUniqueId());
+        
+        // Upper stem segment - young green stem
+        ArmorStand stem = createBaseArmorStand(world, baseLoc.clone().add(0, 0.20 * heightScale, 0));
+        stem.setHelmet(new ItemStack(Material.END_ROD));
+        stem.setSmall(true);
+        if (glowing) stem.setGlowing(true);
+        ids.add(stem.getUniqueId());
+        
+        // Cotyledons (seed leaves) - rounded, opposite pairs
+        for (int i = 0; i < 2; i++) {
+            double angle = randomRotation + (Math.PI * i);
+            double offsetX = Math.cos(angle) * 0.11 * leafScale;
+            double offsetZ = Math.sin(angle) * 0.11 * leafScale;
+            
+            ArmorStand coty = createBaseArmorStand(world, baseLoc.clone().add(offsetX, 0.25 * heightScale, offsetZ));
+            coty.setHelmet(new ItemStack(Material.LILY_PAD));
+            coty.setSmall(true);
+            coty.setHeadPose(new EulerAngle(Math.toRadians(50), angle + Math.toRadians(90), Math.toRadians(12)));
+            ids.add(coty.getUniqueId());
+        }
+        
+        // First true leaves - characteristic serrated cannabis leaves
+        if (lod != DetailLevel.LOW) {
+            for (int i = 0; i < 2; i++) {
+                double angle = randomRotation + Math.PI * i + Math.toRadians(90); // Perpendicular to cotyledons
+                double offsetX = Math.cos(angle) * 0.09 * leafScale;
+                double offsetZ = Math.sin(angle) * 0.09 * leafScale;
+                
+                ArmorStand trueLeaf = createBaseArmorStand(world, baseLoc.clone().add(offsetX, 0.36 * heightScale, offsetZ));
+                trueLeaf.setHelmet(new ItemStack(leafMaterial));
+                trueLeaf.setSmall(true);
+                trueLeaf.setHeadPose(new EulerAngle(Math.toRadians(38), angle + Math.toRadians(90), Math.toRadians(6)));
+                ids.add(trueLeaf.getUniqueId());
+            }
+        }
+        
+        // Second set of true leaves - only in HIGH LOD
+        if (lod == DetailLevel.HIGH) {
+            for (int i = 0; i < 2; i++) {
+                double angle = randomRotation + Math.PI * i + Math.toRadians(45);
+                double offsetX = Math.cos(angle) * 0.06 * leafScale;
+                double offsetZ = Math.sin(angle) * 0.06 * leafScale;
+                
+                ArmorStand youngLeaf = createBaseArmorStand(world, baseLoc.clone().add(offsetX, 0.45 * heightScale, offsetZ));
+                youngLeaf.setHelmet(new ItemStack(Material.OAK_LEAVES));
+                youngLeaf.setSmall(true);
+                youngLeaf.setHeadPose(new EulerAngle(Math.toRadians(25), angle + Math.toRadians(90), Math.toRadians(3)));
+                ids.add(youngLeaf.getUniqueId());
+            }
+        }
+        
+        // Growing tip/apical meristem - only show in HIGH LOD
+        if (lod == DetailLevel.HIGH) {
+            ArmorStand growingTip = createBaseArmorStand(world, baseLoc.clone().add(0, 0.52 * heightScale, 0));
+            growingTip.setHelmet(new ItemStack(Material.SWEET_BERRIES));
+            growingTip.setSmall(true);
+            if (glowing) growingTip.setGlowing(true);
+            ids.add(growingTip.getUniqueId());
+        }
+        
+        return ids;
+    }
+
+    /**
+     * Creates the vegetative stage visual (Stage 2).
+     * A detailed cannabis plant in vegetative growth with multiple node levels,
+     * realistic fan leaves with proper finger arrangement, and a structured stem system.
+     * This stage shows rapid vegetative growth with lush green foliage anchored in the pot.
+     * 
+     * FIXED: Corrected Y offset to ensure plant grows from pot base, not floating
+     * IMPROVED: Enhanced root representation, better stem structure, more detailed nodes
+     * OPTIMIZED: Balanced detail levels - 8-18 armor stands based on LOD
+     * - LOW: 8 stands (root + stem + basic leaves)
+     * - MEDIUM: 13 stands (root + stem + leaves + some details)
+     * - HIGH: 18 stands (root + stem + leaves + fingers + internodes)
+     * 
+     * @param lod Detail level to build the model at
+     */
+    private List<UUID> createVegetativeVisual(Plant plant, Location loc, StrainVisualConfig config, DetailLevel lod) {
+        List<UUID> ids = new ArrayList<>();
+        World world = loc.getWorld();
+        if (world == null) return ids;
+        
+        Location baseLoc = loc.clone().add(0.5, VEG_Y_OFFSET, 0.5);
+        
+        double heightScale = config != null ? config.getHeightScale() : 1.0;
+        double leafScale = config != null ? config.getLeafScale() : 1.0;
+        Material leafMaterial = config != null && config.getLeafMaterial() != null ? 
+            config.getLeafMaterial() : Material.FERN;
+        boolean glowing = config != null && config.isGlowing();
+        
+        // Random rotation for visual variety
+        double randomRotation = Math.random() * Math.PI * 2;
+        
+        // ===== ROOT SYSTEM / POT BASE (only in MEDIUM and HIGH) =====
+        if (lod != DetailLevel.LOW) {
+            ArmorStand rootMass = createBaseArmorStand(world, baseLoc.clone().add(0, -0.04, 0));
+            rootMass.setHelmet(new ItemStack(Material.BROWN_MUSHROOM_BLOCK));
+            rootMass.setSmall(true);
+            rootMass.setHeadPose(new EulerAngle(Math.toRadians(85), 0, 0));
+            ids.add(rootMass.getUniqueId());
+        }
+        
+        // ===== MAIN STEM (3-4 segments based on LOD) =====
+        // Lower stem - thick, woody base
+        ArmorStand stemBase = createBaseArmorStand(world, baseLoc.clone().add(0, 0.02, 0));
+        stemBase.setHelmet(new ItemStack(Material.DARK_OAK_LOG));
+        stemBase.setSmall(true);
+        ids.add(stemBase.getUniqueId());
+        
+        ArmorStand stemLower = createBaseArmorStand(world, baseLoc.clone().add(0, 0.12 * heightScale, 0));
+        stemLower.setHelmet(new ItemStack(Material.BAMBOO));
+        stemLower.setSmall(true);
+        if (glowing) stemLower.setGlowing(true);
+        ids.add(stemLower.getUniqueId());
+        
+        if (lod != DetailLevel.LOW) {
+            ArmorStand stemMiddle = createBaseArmorStand(world, baseLoc.clone().add(0, 0.32 * heightScale, 0));
+            stemMiddle.setHelmet(new ItemStack(Material.STICK));
+            stemMiddle.setSmall(true);
+            ids.add(stemMiddle.getUniqueId());
+        }
+        
+        ArmorStand stemUpper = createBaseArmorStand(world, baseLoc.clone().add(0, 0.52 * heightScale, 0));
+        stemUpper.setHelmet(new ItemStack(Material.END_ROD));
+        stemUpper.setSmall(true);
+        ids.add(stemUpper.getUniqueId());
+        
+        // ===== NODE 1 - BOTTOM FAN LEAVES =====
+        double node1Height = 0.22 * heightScale;
+        // Always show at least minimum leaves for structure
+        int node1Leaves = (lod == DetailLevel.LOW) ? MIN_NODE_LEAVES : MAX_NODE_LEAVES;
+        for (int i = 0; i < node1Leaves; i++) {
+            double angle = randomRotation + (Math.PI * 2 / node1Leaves) * i;
+            double offsetX = Math.cos(angle) * 0.18 * leafScale;
+            double offsetZ = Math.sin(angle) * 0.18 * leafScale;
+            
+            ArmorStand fanLeaf = createBaseArmorStand(world, baseLoc.clone().add(offsetX, node1Height, offsetZ));
+            fanLeaf.setHelmet(new ItemStack(Material.JUNGLE_LEAVES));
+            fanLeaf.setSmall(true);
+            fanLeaf.setHeadPose(new EulerAngle(Math.toRadians(55), angle + Math.toRadians(90), Math.toRadians(12)));
+            ids.add(fanLeaf.getUniqueId());
+            
+            // Add characteristic 5-finger detail in HIGH LOD mode
+            if (lod == DetailLevel.HIGH && i < 2) {
+                for (int j = -1; j <= 1; j += 2) {
+                    double fingerAngle = angle + Math.toRadians(j * 20);
+                    double fingerDist = 0.13 * leafScale;
+                    double fingerX = Math.cos(fingerAngle) * fingerDist;
+                    double fingerZ = Math.sin(fingerAngle) * fingerDist;
+                    
+                    ArmorStand finger = createBaseArmorStand(world, baseLoc.clone().add(fingerX, node1Height + 0.02, fingerZ));
+                    finger.setHelmet(new ItemStack(Material.OAK_LEAVES));
+                    finger.setSmall(true);
+                    finger.setHeadPose(new EulerAngle(Math.toRadians(48), fingerAngle + Math.toRadians(90), Math.toRadians(j * 8)));
+                    ids.add(finger.getUniqueId());
+                }
+            }
+        }
+        
+        // ===== NODE 2 - MIDDLE INTERNODAL LEAVES (only in MEDIUM and HIGH) =====
+        if (lod != DetailLevel.LOW) {
+            double node2Height = 0.42 * heightScale;
+            int node2Leaves = (lod == DetailLevel.MEDIUM) ? MIN_NODE_LEAVES : MAX_NODE_LEAVES;
+            for (int i = 0; i < node2Leaves; i++) {
+                double angle = randomRotation + (Math.PI * 2 / node2Leaves) * i + Math.toRadians(45);
+                double offsetX = Math.cos(angle) * 0.14 * leafScale;
+                double offsetZ = Math.sin(angle) * 0.14 * leafScale;
+                
+                ArmorStand fanLeaf = createBaseArmorStand(world, baseLoc.clone().add(offsetX, node2Height, offsetZ));
+                fanLeaf.setHelmet(new ItemStack(leafMaterial));
+                fanLeaf.setSmall(true);
+                fanLeaf.setHeadPose(new EulerAngle(Math.toRadians(45), angle + Math.toRadians(90), Math.toRadians(10)));
+                ids.add(fanLeaf.getUniqueId());
+            }
+        }
+        
+        // ===== NODE 3 - UPPER DEVELOPING LEAVES (only in HIGH) =====
+        if (lod == DetailLevel.HIGH) {
+            double node3Height = 0.62 * heightScale;
+            for (int i = 0; i < 4; i++) {
+                double angle = randomRotation + (Math.PI / 2) * i;
+                double offsetX = Math.cos(angle) * 0.10 * leafScale;
+                double offsetZ = Math.sin(angle) * 0.10 * leafScale;
+                
+                ArmorStand youngLeaf = createBaseArmorStand(world, baseLoc.clone().add(offsetX, node3Height, offsetZ));
+                youngLeaf.setHelmet(new ItemStack(Material.AZALEA_LEAVES));
+                youngLeaf.setSmall(true);
+                youngLeaf.setHeadPose(new EulerAngle(Math.toRadians(32), angle + Math.toRadians(90), Math.toRadians(5)));
+                if (glowing) youngLeaf.setGlowing(true);
+                ids.add(youngLeaf.getUniqueId());
+            }
+        }
+        
+        // ===== APICAL MERISTEM / GROWING TIP =====
+        ArmorStand growingTip = createBaseArmorStand(world, baseLoc.clone().add(0, 0.72 * heightScale, 0));
+        growingTip.setHelmet(new ItemStack(Material.SWEET_BERRIES));
+        growingTip.setSmall(true);
+        if (glowing) growingTip.setGlowing(true);
+        ids.add(growingTip.getUniqueId());
+        
+        return ids;
+    }
+
+    /**
+     * Creates the flowering/mature stage visual (Stage 3).
+     * PROFESSIONAL PREMIUM QUALITY: Stunning, highly detailed cannabis plant with:
+     * - Multiple impressive cola structures (main + side colas)
+     * - Dense, beautiful bud formations with visible calyxes
+     * - Lush sugar leaves interspersed with buds
+     * - Full canopy structure with gorgeous fan leaves
+     * - Enhanced trichome representation on high-quality plants
+     * - Realistic proportions with extra visual polish
+     * 
+     * ENHANCED: More impressive visuals with 10-35 armor stands based on LOD.
+     * - LOW: 10 stands (stem + enhanced buds + leaves)
+     * - MEDIUM: 20 stands (stem + full buds + leaves + some details)
+     * - HIGH: 35 stands (stem + premium buds + full details + trichomes)
+     * 
+     * @param lod Detail level to build the model at
+     */
+    private List<UUID> createFloweringVisual(Plant plant, Location loc, StrainVisualConfig config, DetailLevel lod) {
+        List<UUID> ids = new ArrayList<>();
+        World world = loc.getWorld();
+        if (world == null) return ids;
+        
+        Location baseLoc = loc.clone().add(0.5, POT_Y_OFFSET, 0.5);
+        StarRating rating = plant.calculateFinalBudRating(null);
+        int qualityLevel = rating != null ? rating.getStars() : 2;
+        
+        double heightScale = config != null ? config.getHeightScale() : 1.0;
+        double leafScale = config != null ? config.getLeafScale() : 1.0;
+        double budScale = config != null ? config.getBudScale() : 1.0;
+        
+        Material leafMaterial = config != null && config.getLeafMaterial() != null ? 
+            config.getLeafMaterial() : Material.FERN;
+        BudType budType = config != null ? config.getBudType() : BudType.NORMAL;
+        boolean glowing = config != null && config.isGlowing();
+        
+        // Random rotation for visual variety
+        double randomRotation = Math.random() * Math.PI * 2;
+        
+        // ===== MAIN STEM (2-3 segments based on LOD) =====
+        ArmorStand stemBase = createBaseArmorStand(world, baseLoc.clone().add(0, 0.08 * heightScale, 0));
+        stemBase.setHelmet(new ItemStack(Material.BAMBOO));
+        stemBase.setSmall(true);
+        if (glowing) stemBase.setGlowing(true);
+        ids.add(stemBase.getUniqueId());
+        
+        if (lod != DetailLevel.LOW) {
+            ArmorStand stemMiddle = createBaseArmorStand(world, baseLoc.clone().add(0, 0.32 * heightScale, 0));
+            stemMiddle.setHelmet(new ItemStack(Material.STICK));
+            stemMiddle.setSmall(true);
+            ids.add(stemMiddle.getUniqueId());
+        }
+        
+        ArmorStand stemUpper = createBaseArmorStand(world, baseLoc.clone().add(0, 0.52 * heightScale, 0));
+        stemUpper.setHelmet(new ItemStack(Material.END_ROD));
+        stemUpper.setSmall(true);
+        ids.add(stemUpper.getUniqueId());
+        
+        // ===== BOTTOM FAN LEAVES (ENHANCED - more lush and impressive) =====
+        double fanLeafLevel = 0.18 * heightScale;
+        int leafCount = (lod == DetailLevel.LOW) ? 3 : 6; // Increased from 2:4 to 3:6 for fuller look
+        for (int i = 0; i < leafCount; i++) {
+            double angle = randomRotation + (Math.PI * 2 / leafCount) * i;
+            double offsetX = Math.cos(angle) * 0.22 * leafScale;
+            double offsetZ = Math.sin(angle) * 0.22 * leafScale;
+            
+            ArmorStand fanLeaf = createBaseArmorStand(world, baseLoc.clone().add(offsetX, fanLeafLevel, offsetZ));
+            fanLeaf.setHelmet(new ItemStack(Material.JUNGLE_LEAVES));
+            fanLeaf.setSmall(true);
+            fanLeaf.setHeadPose(new EulerAngle(Math.toRadians(58), angle + Math.toRadians(90), Math.toRadians(10)));
+            if (glowing && qualityLevel >= 4) fanLeaf.setGlowing(true); // High quality plants glow
+            ids.add(fanLeaf.getUniqueId());
+            
+            // PROFESSIONAL: Add more finger details for richer, fuller appearance
+            if (lod != DetailLevel.LOW && i < 3) { // More leaves get fingers
+                for (int f = -1; f <= 1; f += 2) {
+                    double fingerAngle = angle + Math.toRadians(f * 16);
+                    double fingerX = Math.cos(fingerAngle) * 0.13 * leafScale;
+                    double fingerZ = Math.sin(fingerAngle) * 0.13 * leafScale;
+                    
+                    ArmorStand finger = createBaseArmorStand(world, baseLoc.clone().add(fingerX, fanLeafLevel + 0.02, fingerZ));
+                    finger.setHelmet(new ItemStack(Material.OAK_LEAVES));
+                    finger.setSmall(true);
+                    finger.setHeadPose(new EulerAngle(Math.toRadians(52), fingerAngle + Math.toRadians(90), Math.toRadians(f * 6)));
+                    ids.add(finger.getUniqueId());
+                }
+            }
+        }
+        
+        // ===== BRANCH BUDS (ENHANCED - more impressive bud count) =====
+        int branchBudCount;
+        if (lod == DetailLevel.LOW) {
+            branchBudCount = 3; // Increased from 2
+        } else if (lod == DetailLevel.MEDIUM) {
+            branchBudCount = 5; // Increased from 3
+        } else {
+            branchBudCount = Math.min(qualityLevel + 2, 6); // More buds for impressive look
+        }
+        
+        for (int i = 0; i < branchBudCount; i++) {
+            double angle = randomRotation + (Math.PI * 2 / branchBudCount) * i;
+            double radius = 0.14 * budScale;
+            double offsetX = Math.cos(angle) * radius;
+            double offsetZ = Math.sin(angle) * radius;
+            double height = (0.52 + (i % 2) * 0.06) * heightScale;
+            
+            // Skip branch stems in LOW mode for performance
+            if (lod != DetailLevel.LOW) {
+                ArmorStand branchStem = createBaseArmorStand(world, baseLoc.clone().add(offsetX * 0.5, height - 0.08, offsetZ * 0.5));
+                branchStem.setHelmet(new ItemStack(Material.STICK));
+                branchStem.setSmall(true);
+                branchStem.setHeadPose(new EulerAngle(Math.toRadians(45), angle, 0));
+                ids.add(branchStem.getUniqueId());
+            }
+            
+            ArmorStand sideBud = createBaseArmorStand(world, baseLoc.clone().add(offsetX, height, offsetZ));
+            sideBud.setHelmet(PlantRenderer.createBudItem(rating, budType, config));
+            sideBud.setSmall(true);
+            if (glowing) sideBud.setGlowing(true);
+            sideBud.setHeadPose(new EulerAngle(Math.toRadians(22), angle, Math.toRadians(12)));
+            ids.add(sideBud.getUniqueId());
+        }
+        
+        // ===== MAIN COLA (PROFESSIONAL - more impressive and detailed) =====
+        double colaBase = 0.68 * heightScale;
+        
+        // ENHANCED: More sugar leaves for fuller, more premium appearance
+        int sugarLeafCount = switch (lod) {
+            case LOW -> 2;      // Even LOW gets some detail
+            case MEDIUM -> 4;   // Increased from 2
+            case HIGH -> 6;     // Increased from 4 for lush look
+        };
+        
+        for (int i = 0; i < sugarLeafCount; i++) {
+            double angle = randomRotation + (Math.PI * 2 / sugarLeafCount) * i;
+            ArmorStand colaSugarLeaf = createBaseArmorStand(world, baseLoc.clone().add(
+                Math.cos(angle) * 0.06, colaBase, Math.sin(angle) * 0.06));
+            colaSugarLeaf.setHelmet(new ItemStack(Material.BIRCH_LEAVES));
+            colaSugarLeaf.setSmall(true);
+            colaSugarLeaf.setHeadPose(new EulerAngle(Math.toRadians(32), angle + Math.toRadians(90), 0));
+            if (glowing && qualityLevel >= 3) colaSugarLeaf.setGlowing(true);
+            ids.add(colaSugarLeaf.getUniqueId());
+        }
+        
+        // PROFESSIONAL: More cola segments for impressive, dense bud structure
+        int colaSegments = switch (lod) {
+            case LOW -> 2;      // Increased from 1
+            case MEDIUM -> 3;   // Increased from 2
+            case HIGH -> 5;     // Increased from 3 for stunning appearance
+        };
+        
+        for (int i = 0; i < colaSegments; i++) {
+            double yOffset = colaBase + (0.04 + i * 0.06) * heightScale;
+            ArmorStand colaSegment = createBaseArmorStand(world, baseLoc.clone().add(0, yOffset, 0));
+            colaSegment.setHelmet(PlantRenderer.createBudItem(rating, budType, config));
+            colaSegment.setSmall(true);
+            if (glowing) colaSegment.setGlowing(true);
+            ids.add(colaSegment.getUniqueId());
+        }
+        
+        // ===== PISTILS (ENHANCED - visible on 3+ star plants in MEDIUM and HIGH) =====
+        if (lod != DetailLevel.LOW && qualityLevel >= 3) {
+            int pistilCount = (lod == DetailLevel.MEDIUM) ? 4 : 6; // More pistils in HIGH mode
+            for (int i = 0; i < pistilCount; i++) {
+                double angle = randomRotation + (Math.PI * 2 / pistilCount) * i;
+                ArmorStand pistil = createBaseArmorStand(world, baseLoc.clone().add(
+                    Math.cos(angle) * 0.035, colaBase + 0.16 * heightScale, Math.sin(angle) * 0.035));
+                pistil.setHelmet(new ItemStack(Material.ORANGE_WOOL));
+                pistil.setSmall(true);
+                pistil.setHeadPose(new EulerAngle(Math.toRadians(18), angle, Math.toRadians(25)));
+                ids.add(pistil.getUniqueId());
+            }
+        }
+        
+        // ===== TRICHOMES (PROFESSIONAL - visible on 4+ star plants for premium look) =====
+        if (lod != DetailLevel.LOW && qualityLevel >= 4) {
+            // Multiple trichome layers for ultra-premium appearance
+            int trichomeCount = (lod == DetailLevel.HIGH && qualityLevel >= 5) ? 3 : 2;
+            for (int t = 0; t < trichomeCount; t++) {
+                ArmorStand trichomes = createBaseArmorStand(world, baseLoc.clone().add(0, colaBase + (0.12 + t * 0.04) * heightScale, 0));
+                trichomes.setHelmet(new ItemStack(Material.WHITE_STAINED_GLASS));
+                trichomes.setSmall(true);
+                trichomes.setGlowing(true);
+                ids.add(trichomes.getUniqueId());
+            }
+        }
+        
+        return ids;
+    }
+
+    /**
+     * Gets a base armor stand with proper settings, reusing a pooled one when available.
+     */
+    private ArmorStand createBaseArmorStand(World world, Location loc) {
+        ArmorStand stand = standPool.acquire(world, loc);
+        if (building != null) building.add(stand);
+        return stand;
+    }
+
+
+    /**
+     * Sets every stand to its rest pose plus the style's offset for the current phase step.
+     * Offsets come from the shared phase table, so a run performs no entity lookups and
+     * models keep no animation state beyond their rest poses.
+     */
+    @Override
+    public void animate(PlantModel plantModel, long time, DetailLevel lod) {
+        if (!(plantModel instanceof Model model)) return;
+        StrainVisualConfig config = model.getConfig();
+        AnimationStyle style = config != null ? config.getAnimationStyle() : AnimationStyle.GENTLE_SWAY;
+        if (!MOVES_HEAD[style.ordinal()]) return; // Frozen, or a style that doesn't move head poses
+        
+        double[] offsets = POSE_OFFSETS[style.ordinal()][lod.ordinal()];
+        
+        double speed = config != null ? config.getAnimationSpeed() : 1.0;
+        int step = (int) ((long) (time * speed * PHASE_STEPS / CYCLE_MILLIS[style.ordinal()]) % PHASE_STEPS);
+        
+        // Animate MORE armor stands for smoother, more professional look
+        int updateInterval = lod == DetailLevel.LOW ? 2 : 1; // Every 2nd stand in LOW
+        
+        double dx = offsets[step * 3];
+        double dy = offsets[step * 3 + 1];
+        double dz = offsets[step * 3 + 2];
+        
+        Entity[] entities = model.getEntities();
+        int standCount = Math.min(entities.length, model.restPoses.length);
+        for (int i = 0; i < standCount; i += updateInterval) {
+            if (!(entities[i] instanceof ArmorStand stand)) continue;
+            stand.setHeadPose(model.restPoses[i].add(dx, dy, dz));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        standPool.clear();
+    }
+
+    public ArmorStandPool getStandPool() {
+        return standPool;
+    }
+
+    /**
+     * Armor stand model: the stands plus their rest head poses.
+     */
+    private static final class Model extends PlantModel {
+        private final EulerAngle[] restPoses;
+
+        private Model(List<UUID> ids, StrainVisualConfig config, ArmorStand[] stands, EulerAngle[] restPoses) {
+            super(ids, config, stands);
+            this.restPoses = restPoses;
+        }
+    }
+}
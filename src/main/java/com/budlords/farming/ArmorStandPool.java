@@ -0,0 +1,146 @@
+package com.budlords.farming;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.EntityType;
+import org.bukkit.util.EulerAngle;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recycles the armor stands used by plant visualizations.
+ *
+ * Released stands are stripped (no helmet, no glow, neutral pose) and parked on a
+ * per-world freelist instead of being removed. The next visual built in that world
+ * takes them back before spawning anything new, so a growth stage change mostly
+ * re-dresses and moves the plant's own stands rather than despawning and spawning
+ * a whole new set.
+ *
+ * Parked stands are non-persistent, so they disappear with their chunk and are never
+ * saved; such stands are skipped when taken from the freelist. Main thread only.
+ */
+public class ArmorStandPool {
+
+    private final Map<UUID, Deque<ArmorStand>> freeStands; // worldId -> parked stands
+    private final int maxFreePerWorld;
+
+    // Lifetime counters
+    private long spawned;
+    private long reused;
+    private long despawned;
+
+    public ArmorStandPool(int maxFreePerWorld) {
+        this.freeStands = new ConcurrentHashMap<>();
+        this.maxFreePerWorld = Math.max(0, maxFreePerWorld);
+    }
+
+    /**
+     * Takes a parked stand from the world's freelist and moves it to {@code loc},
+     * or spawns a new one if none is available.
+     */
+    public ArmorStand acquire(World world, Location loc) {
+        Deque<ArmorStand> free = freeStands.get(world.getUID());
+        if (free != null) {
+            ArmorStand stand;
+            while ((stand = free.pollFirst()) != null) {
+                if (!stand.isValid()) continue; // Unloaded with its chunk
+                stand.teleport(loc);
+                stand.setPersistent(true);
+                reused++;
+                return stand;
+            }
+        }
+
+        ArmorStand stand = (ArmorStand) world.spawnEntity(loc, EntityType.ARMOR_STAND);
+        stand.setVisible(false);
+        stand.setGravity(false);
+        stand.setBasePlate(false);
+        stand.setArms(false);
+        stand.setInvulnerable(true);
+        stand.setCanPickupItems(false);
+        stand.setPersistent(true);
+        stand.setCustomNameVisible(false);
+        stand.setMarker(true); // Makes it non-collidable
+        spawned++;
+        return stand;
+    }
+
+    /**
+     * Strips a stand and parks it on its world's freelist.
+     * Stands released last are handed out first.
+     */
+    public void release(ArmorStand stand) {
+        if (!stand.isValid()) return;
+
+        stand.setHelmet(null);
+        stand.setGlowing(false);
+        stand.setHeadPose(EulerAngle.ZERO);
+        stand.setPersistent(false);
+        freeStands.computeIfAbsent(stand.getWorld().getUID(), id -> new ArrayDeque<>()).addFirst(stand);
+    }
+
+    /**
+     * Despawns parked stands beyond the per-world limit, oldest first.
+     */
+    public void trim(World world) {
+        Deque<ArmorStand> free = freeStands.get(world.getUID());
+        if (free == null) return;
+        while (free.size() > maxFreePerWorld) {
+            ArmorStand stand = free.pollLast();
+            if (stand.isValid()) {
+                stand.remove();
+                despawned++;
+            }
+        }
+    }
+
+    /**
+     * Despawns a stand outright without parking it.
+     */
+    public void destroy(ArmorStand stand) {
+        if (stand.isValid()) {
+            stand.remove();
+            despawned++;
+        }
+    }
+
+    /**
+     * Despawns every parked stand (plugin disable).
+     */
+    public void clear() {
+        for (Deque<ArmorStand> free : freeStands.values()) {
+            for (ArmorStand stand : free) {
+                if (stand.isValid()) {
+                    stand.remove();
+                    despawned++;
+                }
+            }
+        }
+        freeStands.clear();
+    }
+
+    public int getFreeCount() {
+        int total = 0;
+        for (Deque<ArmorStand> free : freeStands.values()) {
+            total += free.size();
+        }
+        return total;
+    }
+
+    public long getSpawnedCount() {
+        return spawned;
+    }
+
+    public long getReusedCount() {
+        return reused;
+    }
+
+    public long getDespawnedCount() {
+        return despawned;
+    }
+}
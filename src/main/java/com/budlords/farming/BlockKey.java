@@ -0,0 +1,141 @@
+package com.budlords.farming;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.UUID;
+
+/**
+ * Immutable block position used as a map key: world id plus the block coordinates
+ * packed into a single long (same layout as {@link SpatialIndex#pack}).
+ *
+ * Replaces the "world,x,y,z" strings that plants, pots, lamps, diseases and plant
+ * visuals used to be keyed on, so lookups neither build nor parse strings. The string
+ * form is still available through {@link #toString()} and {@link #fromString(String)}
+ * for anything that stores or displays locations that way.
+ */
+public final class BlockKey {
+
+    private final UUID worldId;
+    private final long packed;
+    private final int hash;
+
+    private BlockKey(UUID worldId, long packed) {
+        this.worldId = worldId;
+        this.packed = packed;
+        this.hash = worldId.hashCode() * 31 + Long.hashCode(packed);
+    }
+
+    public static BlockKey of(UUID worldId, int x, int y, int z) {
+        return new BlockKey(worldId, SpatialIndex.pack(x, y, z));
+    }
+
+    public static BlockKey of(World world, int x, int y, int z) {
+        return of(world.getUID(), x, y, z);
+    }
+
+    /**
+     * @return Key of the block at the location, or null if it has no world
+     */
+    public static BlockKey of(Location location) {
+        World world = location.getWorld();
+        if (world == null) return null;
+        return of(world.getUID(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Parses the legacy "world,x,y,z" form.
+     * @return The key, or null if the string is malformed or the world isn't loaded
+     */
+    public static BlockKey fromString(String key) {
+        if (key == null) return null;
+        String[] parts = key.split(",");
+        if (parts.length != 4) return null;
+
+        World world = Bukkit.getWorld(parts[0]);
+        if (world == null) return null;
+
+        try {
+            return of(world.getUID(), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                Integer.parseInt(parts[3]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public UUID getWorldId() {
+        return worldId;
+    }
+
+    public int getX() {
+        return SpatialIndex.unpackX(packed);
+    }
+
+    public int getY() {
+        return SpatialIndex.unpackY(packed);
+    }
+
+    public int getZ() {
+        return SpatialIndex.unpackZ(packed);
+    }
+
+    public int getChunkX() {
+        return getX() >> 4;
+    }
+
+    public int getChunkZ() {
+        return getZ() >> 4;
+    }
+
+    /**
+     * @return Key of the containing chunk, as produced by {@link SpatialIndex#chunkKey}
+     */
+    public long getChunkKey() {
+        return SpatialIndex.chunkKey(getChunkX(), getChunkZ());
+    }
+
+    /**
+     * @return The world, or null if it isn't loaded
+     */
+    public World getWorld() {
+        return Bukkit.getWorld(worldId);
+    }
+
+    /**
+     * @return A new block location, or null if the world isn't loaded
+     */
+    public Location toLocation() {
+        World world = getWorld();
+        return world != null ? new Location(world, getX(), getY(), getZ()) : null;
+    }
+
+    /**
+     * @return Whether the block's chunk is loaded
+     */
+    public boolean isChunkLoaded() {
+        World world = getWorld();
+        return world != null && world.isChunkLoaded(getChunkX(), getChunkZ());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BlockKey other)) return false;
+        return packed == other.packed && worldId.equals(other.worldId);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * @return The legacy "world,x,y,z" form (world id instead of name if the world isn't loaded)
+     */
+    @Override
+    public String toString() {
+        World world = getWorld();
+        return (world != null ? world.getName() : worldId.toString()) + "," + getX() + "," + getY() + "," + getZ();
+    }
+}
@@ -0,0 +1,405 @@
+package com.budlords.farming;
+
+import com.budlords.farming.PlantVisualizationManager.DetailLevel;
+import com.budlords.quality.StarRating;
+import com.budlords.strain.StrainVisualConfig;
+import com.budlords.strain.StrainVisualConfig.AnimationStyle;
+import com.budlords.strain.StrainVisualConfig.BudType;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Transformation;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plant renderer built on item and block display entities (1.19.4+).
+ *
+ * Every part of the model is a display entity anchored at the plant's base and
+ * placed with a transformation matrix, so a plant needs only a handful of entities
+ * and none of them tick like armor stands do. Animations are driven by client-side
+ * interpolation: once per half period the model gets its next key pose together with
+ * an interpolation duration, and the client smoothly moves between poses on its own.
+ */
+public class DisplayEntityPlantRenderer implements PlantRenderer {
+
+    // Plant location is the block above the pot; this puts the model's base on the soil
+    private static final double BASE_Y_OFFSET = -0.70;
+    // Animation task runs every 10 ticks, so key poses can't change faster than that
+    private static final int MIN_HALF_PERIOD_TICKS = 10;
+
+    // Key poses per style, LOD and phase (phases alternate; spin steps through 4 quarter turns)
+    private static final KeyPose[][][] KEY_POSES =
+        new KeyPose[AnimationStyle.values().length][DetailLevel.values().length][4];
+    // Half period per style at speed 1.0, in ticks
+    private static final int[] HALF_PERIOD_TICKS = new int[AnimationStyle.values().length];
+
+    static {
+        for (AnimationStyle style : AnimationStyle.values()) {
+            HALF_PERIOD_TICKS[style.ordinal()] = switch (style) {
+                case AGGRESSIVE, SHAKE -> 10;
+                case WAVE -> 30;
+                case PULSE -> 24;
+                case HEARTBEAT -> 12;
+                case BOUNCE -> 14;
+                case FLOAT -> 36;
+                case SPIN -> 50;
+                default -> 40;
+            };
+            for (DetailLevel lod : DetailLevel.values()) {
+                for (int phase = 0; phase < 4; phase++) {
+                    KEY_POSES[style.ordinal()][lod.ordinal()][phase] = computeKeyPose(style, lod, phase);
+                }
+            }
+        }
+    }
+
+    // Parts spawned for the model being built, in the order their ids are added
+    private List<Display> building;
+    private List<Transformation> buildingRest;
+
+    @Override
+    public String getName() {
+        return "display";
+    }
+
+    @Override
+    public PlantModel render(Plant plant, Location loc, StrainVisualConfig config, DetailLevel lod) {
+        List<UUID> ids = new ArrayList<>();
+        World world = loc.getWorld();
+        if (world == null) return new Model(ids, config, new Display[0], new Transformation[0]);
+
+        Location base = loc.clone().add(0.5, BASE_Y_OFFSET, 0.5);
+        ModelStyle style = new ModelStyle(config);
+        float rotation = (float) (Math.random() * Math.PI * 2);
+
+        building = new ArrayList<>();
+        buildingRest = new ArrayList<>();
+        try {
+            switch (plant.getGrowthStage()) {
+                case 0 -> buildSeed(ids, world, base, style, rotation);
+                case 1 -> buildSprout(ids, world, base, style, rotation, lod);
+                case 2 -> buildVegetative(ids, world, base, style, rotation, lod);
+                case 3 -> buildFlowering(ids, world, base, style, rotation, lod, plant.calculateFinalBudRating(null));
+            }
+            return new Model(ids, config, building.toArray(new Display[0]),
+                buildingRest.toArray(new Transformation[0]));
+        } finally {
+            building = null;
+            buildingRest = null;
+        }
+    }
+
+    // ===== MODELS =====
+
+    private void buildSeed(List<UUID> ids, World world, Location base, ModelStyle style, float rotation) {
+        ids.add(spawnItem(world, base, new ItemStack(Material.COCOA_BEANS),
+            new Vector3f(0, 0.04f, 0), new Quaternionf().rotateY(rotation).rotateX((float) Math.toRadians(25)),
+            0.22f, style.glowing, style.glowColor));
+    }
+
+    private void buildSprout(List<UUID> ids, World world, Location base, ModelStyle style, float rotation,
+                             DetailLevel lod) {
+        float h = style.height;
+        ids.add(spawnStem(world, base, style, 0.04f, 0.30f * h));
+
+        // Cotyledons (seed leaves) - rounded, opposite pair
+        for (int i = 0; i < 2; i++) {
+            float angle = rotation + (float) Math.PI * i;
+            ids.add(spawnLeaf(world, base, new ItemStack(Material.LILY_PAD), angle, 0.09f * style.leaf,
+                0.26f * h, 60, 0.20f * style.leaf, false, style));
+        }
+
+        // First true leaves, perpendicular to the cotyledons
+        if (lod != DetailLevel.LOW) {
+            for (int i = 0; i < 2; i++) {
+                float angle = rotation + (float) Math.PI * i + (float) Math.toRadians(90);
+                ids.add(spawnLeaf(world, base, new ItemStack(style.leafMaterial), angle, 0.08f * style.leaf,
+                    0.34f * h, 40, 0.22f * style.leaf, false, style));
+            }
+        }
+    }
+
+    private void buildVegetative(List<UUID> ids, World world, Location base, ModelStyle style, float rotation,
+                                 DetailLevel lod) {
+        float h = style.height;
+        ids.add(spawnStem(world, base, style, 0.06f, 0.68f * h));
+
+        // Node 1 - bottom fan leaves
+        int node1Leaves = lod == DetailLevel.LOW ? 2 : 4;
+        for (int i = 0; i < node1Leaves; i++) {
+            float angle = rotation + (float) (Math.PI * 2 / node1Leaves) * i;
+            ids.add(spawnLeaf(world, base, new ItemStack(Material.JUNGLE_LEAVES), angle, 0.18f * style.leaf,
+                0.22f * h, 55, 0.34f * style.leaf, false, style));
+        }
+
+        // Node 2 - middle leaves in the strain's leaf material
+        if (lod != DetailLevel.LOW) {
+            int node2Leaves = lod == DetailLevel.MEDIUM ? 2 : 4;
+            for (int i = 0; i < node2Leaves; i++) {
+                float angle = rotation + (float) (Math.PI * 2 / node2Leaves) * i + (float) Math.toRadians(45);
+                ids.add(spawnLeaf(world, base, new ItemStack(style.leafMaterial), angle, 0.14f * style.leaf,
+                    0.44f * h, 45, 0.28f * style.leaf, false, style));
+            }
+        }
+
+        // Growing tip
+        if (lod == DetailLevel.HIGH) {
+            ids.add(spawnItem(world, base, new ItemStack(Material.SWEET_BERRIES),
+                new Vector3f(0, 0.72f * h, 0), new Quaternionf().rotateY(rotation), 0.18f,
+                style.glowing, style.glowColor));
+        }
+    }
+
+    private void buildFlowering(List<UUID> ids, World world, Location base, ModelStyle style, float rotation,
+                                DetailLevel lod, StarRating rating) {
+        float h = style.height;
+        int qualityLevel = rating != null ? rating.getStars() : 2;
+        ItemStack budItem = PlantRenderer.createBudItem(rating, style.budType, style.config);
+
+        ids.add(spawnStem(world, base, style, 0.07f, 0.72f * h));
+
+        // Bottom fan leaves
+        int leafCount = lod == DetailLevel.LOW ? 3 : 6;
+        for (int i = 0; i < leafCount; i++) {
+            float angle = rotation + (float) (Math.PI * 2 / leafCount) * i;
+            ids.add(spawnLeaf(world, base, new ItemStack(Material.JUNGLE_LEAVES), angle, 0.22f * style.leaf,
+                0.18f * h, 58, 0.38f * style.leaf, style.glowing && qualityLevel >= 4, style));
+        }
+
+        // Sugar leaves around the cola
+        if (lod != DetailLevel.LOW) {
+            int sugarLeaves = lod == DetailLevel.MEDIUM ? 2 : 4;
+            for (int i = 0; i < sugarLeaves; i++) {
+                float angle = rotation + (float) (Math.PI * 2 / sugarLeaves) * i;
+                ids.add(spawnLeaf(world, base, new ItemStack(style.leafMaterial), angle, 0.08f * style.leaf,
+                    0.62f * h, 32, 0.22f * style.leaf, style.glowing && qualityLevel >= 3, style));
+            }
+        }
+
+        // Branch buds
+        int branchBuds = switch (lod) {
+            case LOW -> 2;
+            case MEDIUM -> 3;
+            case HIGH -> Math.min(qualityLevel + 1, 5);
+        };
+        for (int i = 0; i < branchBuds; i++) {
+            float angle = rotation + (float) (Math.PI * 2 / branchBuds) * i;
+            float radius = 0.15f * style.bud;
+            Vector3f offset = new Vector3f((float) Math.cos(angle) * radius, (0.50f + (i % 2) * 0.06f) * h,
+                (float) Math.sin(angle) * radius);
+            ids.add(spawnItem(world, base, budItem.clone(), offset,
+                new Quaternionf().rotateY(-angle).rotateX((float) Math.toRadians(20)), 0.20f * style.bud,
+                style.glowing, style.glowColor));
+        }
+
+        // Main cola
+        ids.add(spawnItem(world, base, budItem.clone(), new Vector3f(0, 0.80f * h, 0),
+            new Quaternionf().rotateY(rotation), 0.30f * style.bud, style.glowing, style.glowColor));
+
+        // Trichomes on premium plants
+        if (lod != DetailLevel.LOW && qualityLevel >= 4) {
+            ids.add(spawnItem(world, base, new ItemStack(Material.WHITE_STAINED_GLASS),
+                new Vector3f(0, 0.88f * h, 0), new Quaternionf().rotateY(rotation), 0.16f, true, style.glowColor));
+        }
+    }
+
+    // ===== ENTITY HELPERS =====
+
+    private UUID spawnLeaf(World world, Location base, ItemStack item, float angle, float distance, float height,
+                           int tiltDegrees, float scale, boolean glowing, ModelStyle style) {
+        Vector3f offset = new Vector3f((float) Math.cos(angle) * distance, height, (float) Math.sin(angle) * distance);
+        Quaternionf rotation = new Quaternionf()
+            .rotateY(-angle + (float) Math.toRadians(90))
+            .rotateX((float) Math.toRadians(tiltDegrees));
+        return spawnItem(world, base, item, offset, rotation, scale, glowing, style.glowColor);
+    }
+
+    private UUID spawnItem(World world, Location base, ItemStack item, Vector3f translation, Quaternionf rotation,
+                           float scale, boolean glowing, Color glowColor) {
+        ItemDisplay display = world.spawn(base, ItemDisplay.class);
+        display.setItemStack(item);
+        Transformation rest = new Transformation(translation, rotation,
+            new Vector3f(scale, scale, scale), new Quaternionf());
+        return setup(display, rest, glowing, glowColor);
+    }
+
+    private UUID spawnStem(World world, Location base, ModelStyle style, float width, float height) {
+        BlockDisplay display = world.spawn(base, BlockDisplay.class);
+        display.setBlock(style.stemMaterial.createBlockData());
+        // Block models span 0..1, so shift by half the width to centre the stem
+        Transformation rest = new Transformation(new Vector3f(-width / 2, 0, -width / 2), new Quaternionf(),
+            new Vector3f(width, height, width), new Quaternionf());
+        return setup(display, rest, style.glowing, style.glowColor);
+    }
+
+    private UUID setup(Display display, Transformation rest, boolean glowing, Color glowColor) {
+        display.setPersistent(true);
+        display.setTransformation(rest);
+        display.setInterpolationDuration(0);
+        if (glowing) {
+            display.setGlowing(true);
+            if (glowColor != null) display.setGlowColorOverride(glowColor);
+        }
+        if (building != null) {
+            building.add(display);
+            buildingRest.add(rest);
+        }
+        return display.getUniqueId();
+    }
+
+    // ===== REMOVAL =====
+
+    @Override
+    public int remove(PlantModel model) {
+        int removed = 0;
+        for (Entity entity : model.getEntities()) {
+            if (entity != null && entity.isValid()) {
+                entity.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public void shutdown() {
+        // Models own all per-plant state; nothing is held here
+    }
+
+    // ===== ANIMATION =====
+
+    /**
+     * Pushes the next key pose when the model's animation phase has moved on.
+     * The client interpolates towards it over one half period, so between key
+     * poses there is no server-side work at all.
+     */
+    @Override
+    public void animate(PlantModel plantModel, long time, DetailLevel lod) {
+        if (!(plantModel instanceof Model model)) return;
+        StrainVisualConfig config = model.getConfig();
+        AnimationStyle style = config != null ? config.getAnimationStyle() : AnimationStyle.GENTLE_SWAY;
+        if (style == AnimationStyle.FROZEN) return;
+        double speed = config != null ? config.getAnimationSpeed() : 1.0;
+
+        int halfPeriodTicks = Math.max(MIN_HALF_PERIOD_TICKS,
+            (int) Math.round(HALF_PERIOD_TICKS[style.ordinal()] / speed));
+        long phase = time / (halfPeriodTicks * 50L);
+        if (phase == model.lastPhase) return;
+        model.lastPhase = phase;
+
+        KeyPose pose = KEY_POSES[style.ordinal()][lod.ordinal()][(int) (phase & 3)];
+        Entity[] entities = model.getEntities();
+        for (int i = 0; i < entities.length; i++) {
+            if (!(entities[i] instanceof Display display)) continue;
+            Transformation rest = model.restPoses[i];
+
+            // Rotate and scale every part around the plant's base so the model moves as one
+            Vector3f translation = pose.rotation.transform(new Vector3f(rest.getTranslation()))
+                .mul(pose.scale).add(0, pose.lift, 0);
+            Quaternionf leftRotation = new Quaternionf(pose.rotation).mul(rest.getLeftRotation());
+            Vector3f partScale = new Vector3f(rest.getScale()).mul(pose.scale);
+
+            display.setInterpolationDelay(0);
+            display.setInterpolationDuration(halfPeriodTicks);
+            display.setTransformation(new Transformation(translation, leftRotation, partScale,
+                rest.getRightRotation()));
+        }
+    }
+
+    /**
+     * Key pose of a style for one phase. Even and odd phases alternate between the
+     * two extremes; spin advances a quarter turn per phase.
+     */
+    private static KeyPose computeKeyPose(AnimationStyle style, DetailLevel lod, int phase) {
+        float intensity = switch (lod) {
+            case LOW -> 0.7f;
+            case MEDIUM -> 0.9f;
+            case HIGH -> 1.3f;
+        };
+        float sign = (phase & 1) == 0 ? 1f : -1f;
+
+        float tiltX = 0;
+        float tiltZ = 0;
+        float yaw = 0;
+        float lift = 0;
+        float scale = 1;
+        switch (style) {
+            case FROZEN -> { }
+            case AGGRESSIVE -> tiltX = sign * (float) Math.toRadians(10) * intensity;
+            case WAVE -> {
+                tiltX = sign * (float) Math.toRadians(6) * intensity;
+                tiltZ = -sign * (float) Math.toRadians(3) * intensity;
+            }
+            case SHAKE -> tiltZ = sign * (float) Math.toRadians(2.5) * intensity;
+            case PULSE -> scale = 1 + sign * 0.05f * intensity;
+            case HEARTBEAT -> scale = sign > 0 ? 1 + 0.06f * intensity : 1;
+            case BOUNCE -> lift = sign > 0 ? 0.06f * intensity : 0;
+            case FLOAT -> lift = sign * 0.04f * intensity;
+            case SPIN -> yaw = (float) (Math.PI / 2) * phase;
+            default -> tiltX = sign * (float) Math.toRadians(4) * intensity; // Gentle sway
+        }
+        return new KeyPose(new Quaternionf().rotateY(yaw).rotateX(tiltX).rotateZ(tiltZ), lift, scale);
+    }
+
+    /**
+     * Rotation, lift and scale applied to the whole model around its base.
+     * Shared between models, never mutated.
+     */
+    private record KeyPose(Quaternionf rotation, float lift, float scale) {
+    }
+
+    /**
+     * Display model: rest transformation of every part and the last phase pushed.
+     */
+    private static final class Model extends PlantModel {
+        private final Transformation[] restPoses;
+        private long lastPhase = -1;
+
+        private Model(List<UUID> ids, StrainVisualConfig config, Display[] parts, Transformation[] restPoses) {
+            super(ids, config, parts);
+            this.restPoses = restPoses;
+        }
+    }
+
+    /**
+     * StrainVisualConfig values resolved once per model, so themes map onto the
+     * display model the same way they do for armor stands.
+     */
+    private static final class ModelStyle {
+        private final StrainVisualConfig config;
+        private final float height;
+        private final float leaf;
+        private final float bud;
+        private final Material leafMaterial;
+        private final Material stemMaterial;
+        private final BudType budType;
+        private final boolean glowing;
+        private final Color glowColor;
+
+        private ModelStyle(StrainVisualConfig config) {
+            this.config = config;
+            this.height = config != null ? (float) config.getHeightScale() : 1f;
+            this.leaf = config != null ? (float) config.getLeafScale() : 1f;
+            this.bud = config != null ? (float) config.getBudScale() : 1f;
+            this.leafMaterial = config != null && config.getLeafMaterial() != null
+                ? config.getLeafMaterial() : Material.FERN;
+            Material stem = config != null ? config.getStemMaterial() : null;
+            // Block displays need a full block; the default bamboo plant maps to its block form
+            this.stemMaterial = stem != null && stem.isBlock() && stem.isSolid() ? stem : Material.BAMBOO_BLOCK;
+            this.budType = config != null ? config.getBudType() : BudType.NORMAL;
+            this.glowing = config != null && config.isGlowing();
+            this.glowColor = config != null ? config.getGlowColor() : null;
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.budlords.farming;
 
 import com.budlords.BudLords;
 import com.budlords.data.DataManager;
+import com.budlords.data.RecordStore;
 import com.budlords.quality.GrowingPot;
 import com.budlords.quality.PlacedLamp;
 import com.budlords.quality.StarRating;
 import com.budlords.strain.Strain;
 import com.budlords.strain.StrainManager;
+import com.budlords.weather.WeatherManager;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
@@ -27,13 +29,39 @@ public class FarmingManager {
     private final DataManager dataManager;
     private final StrainManager strainManager;
     
-    private final Map<String, Plant> plants; // locationString -> Plant
-    private final Map<String, GrowingPot> pots; // locationString -> GrowingPot
-    private final Map<String, PlacedLamp> placedLamps; // locationString -> PlacedLamp
+    private final Map<BlockKey, Plant> plants; // block -> Plant
+    // Plants in loaded chunks; the periodic tasks only walk these
+    private final Map<BlockKey, Plant> activePlants;
+    // Plants in unloaded chunks, caught up on the time they slept when the chunk loads
+    private final Map<BlockKey, Dormancy> dormantPlants;
+    private final Map<BlockKey, GrowingPot> pots; // block -> GrowingPot
+    private final Map<BlockKey, PlacedLamp> placedLamps; // block -> PlacedLamp
+    
+    // Incremental persistence of plants, pots and lamps into plants.yml
+    private final RecordStore<Plant> plantStore;
+    private final RecordStore<BlockKey> potStore;
+    private final RecordStore<BlockKey> lampStore;
+    
+    // Chunk-bucketed spatial index so radius lookups only touch nearby chunks
+    private final SpatialIndex<Plant> plantIndex;
+    // Per-column lamp coverage, updated on lamp place/remove
+    private final LampCoverageMap lampCoverage;
+    // Cached sky exposure per plant, for rain and weather effects
+    private final SkyExposureMap skyExposure;
+    
+    // Due-time ordered growth checks, drained under a per-tick time budget
+    private final GrowthScheduler growthScheduler;
+    // Periodic per-plant work (care decay, rain, diseases, particles) in one pass
+    private final PlantSimulation simulation;
+    // Last chunk each online player was seen in, used to detect farm-area entry/exit
+    private final Map<UUID, PlayerChunk> lastPlayerChunks;
+    // Chunk-bucketed player positions for the cooperative bonus, refreshed every tick
+    private final PlayerPositionSnapshot playerPositions;
+    private long baseGrowthIntervalMs;
+    private long growthRetryIntervalMs;
     private BukkitTask growthTask;
-    private BukkitTask particleTask;
-    private BukkitTask careDecayTask;
-    private BukkitTask lampEffectTask;
+    private BukkitTask farmPresenceTask;
+    private BukkitTask simulationTask;
     
     // Maximum star rating for pots and plants (including demon formation bonus)
     private static final int MAX_STAR_RATING = 6;
@@ -43,19 +71,42 @@ public class FarmingManager {
         this.dataManager = dataManager;
         this.strainManager = strainManager;
         this.plants = new ConcurrentHashMap<>();
+        this.activePlants = new ConcurrentHashMap<>();
+        this.dormantPlants = new HashMap<>();
         this.pots = new ConcurrentHashMap<>();
         this.placedLamps = new ConcurrentHashMap<>();
+        this.plantIndex = new SpatialIndex<>();
+        this.lampCoverage = new LampCoverageMap();
+        this.skyExposure = new SkyExposureMap(plugin);
+        this.growthScheduler = new GrowthScheduler();
+        this.simulation = new PlantSimulation(activePlants::values);
+        this.lastPlayerChunks = new HashMap<>();
+        this.playerPositions = new PlayerPositionSnapshot(COOPERATIVE_FARMING_RADIUS);
+        this.plantStore = plugin.getPersistenceManager().register("plants", dataManager::getPlantsConfig,
+            dataManager.getPlantsFile(), "plants", plant -> plant.getId().toString(), this::writePlant);
+        this.potStore = plugin.getPersistenceManager().register("pots", dataManager::getPlantsConfig,
+            dataManager.getPlantsFile(), "pots", FarmingManager::recordKey, this::writePot);
+        this.lampStore = plugin.getPersistenceManager().register("lamps", dataManager::getPlantsConfig,
+            dataManager.getPlantsFile(), "placed-lamps", FarmingManager::recordKey, this::writeLamp);
         
         loadPlants();
-        loadPots();
-        loadPlacedLamps();
+        boolean rekeyed = loadPots();
+        rekeyed |= loadPlacedLamps();
+        if (rekeyed) {
+            // Re-keying only dropped the legacy sections in memory; write plants.yml now, or a
+            // re-keyed pot or lamp removed before the next export would come back from them
+            plugin.getPersistenceManager().export(potStore);
+        }
+        applyLampCoverageToAllPlants();
+        if (plugin.getPlayerModifierCache() != null) {
+            plugin.getPlayerModifierCache().addInvalidationListener(this::onModifiersInvalidated);
+        }
         startGrowthTask();
-        startParticleTask();
-        startCareDecayTask();
-        startLampEffectTask();
+        startSimulation();
     }
 
     private void loadPlants() {
+        plantStore.replay();
         FileConfiguration config = dataManager.getPlantsConfig();
         ConfigurationSection plantsSection = config.getConfigurationSection("plants");
         
@@ -103,7 +154,7 @@ public class FarmingManager {
                 Plant plant = new Plant(id, strainId, location, ownerUuid, plantedTime, 
                     growthStage, quality, lastGrowthUpdate, potRating, seedRating, 
                     lampRating, fertilizerRating, waterLevel, nutrientLevel, potId);
-                plants.put(plant.getLocationString(), plant);
+                registerPlant(plant);
                 
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to load plant: " + key);
@@ -120,91 +171,228 @@ public class FarmingManager {
         }
     }
 
+    /**
+     * Exports plants, pots and lamps to plants.yml. Changes are persisted incrementally,
+     * so this is only needed to get an up-to-date file.
+     */
     public void savePlants() {
-        FileConfiguration config = dataManager.getPlantsConfig();
-        config.set("plants", null); // Clear existing
+        plugin.getPersistenceManager().export(plantStore);
+    }
 
-        for (Plant plant : plants.values()) {
-            String key = "plants." + plant.getId().toString();
-            config.set(key + ".id", plant.getId().toString());
-            config.set(key + ".strain-id", plant.getStrainId());
-            config.set(key + ".owner", plant.getOwnerUuid().toString());
-            config.set(key + ".planted-time", plant.getPlantedTime());
-            config.set(key + ".growth-stage", plant.getGrowthStage());
-            config.set(key + ".quality", plant.getQuality());
-            config.set(key + ".last-growth-update", plant.getLastGrowthUpdate());
-            config.set(key + ".world", plant.getLocation().getWorld().getName());
-            config.set(key + ".x", plant.getLocation().getBlockX());
-            config.set(key + ".y", plant.getLocation().getBlockY());
-            config.set(key + ".z", plant.getLocation().getBlockZ());
-            
-            // Save star ratings
-            if (plant.getPotRating() != null) {
-                config.set(key + ".pot-rating", plant.getPotRating().name());
-            }
-            if (plant.getSeedRating() != null) {
-                config.set(key + ".seed-rating", plant.getSeedRating().name());
-            }
-            if (plant.getLampRating() != null) {
-                config.set(key + ".lamp-rating", plant.getLampRating().name());
-            }
-            if (plant.getFertilizerRating() != null) {
-                config.set(key + ".fertilizer-rating", plant.getFertilizerRating().name());
-            }
-            config.set(key + ".water-level", plant.getWaterLevel());
-            config.set(key + ".nutrient-level", plant.getNutrientLevel());
-            if (plant.getPotId() != null) {
-                config.set(key + ".pot-id", plant.getPotId().toString());
-            }
+    private boolean writePlant(Plant plant, ConfigurationSection section) {
+        // Harvested or removed plants are no longer registered at their block
+        if (plants.get(plant.getBlockKey()) != plant || plant.getLocation().getWorld() == null) {
+            return false;
         }
-
-        dataManager.savePlants();
+        section.set("id", plant.getId().toString());
+        section.set("strain-id", plant.getStrainId());
+        section.set("owner", plant.getOwnerUuid().toString());
+        section.set("planted-time", plant.getPlantedTime());
+        section.set("growth-stage", plant.getGrowthStage());
+        section.set("quality", plant.getQuality());
+        section.set("last-growth-update", plant.getLastGrowthUpdate());
+        section.set("world", plant.getLocation().getWorld().getName());
+        section.set("x", plant.getLocation().getBlockX());
+        section.set("y", plant.getLocation().getBlockY());
+        section.set("z", plant.getLocation().getBlockZ());
+        
+        // Save star ratings
+        if (plant.getPotRating() != null) {
+            section.set("pot-rating", plant.getPotRating().name());
+        }
+        if (plant.getSeedRating() != null) {
+            section.set("seed-rating", plant.getSeedRating().name());
+        }
+        if (plant.getLampRating() != null) {
+            section.set("lamp-rating", plant.getLampRating().name());
+        }
+        if (plant.getFertilizerRating() != null) {
+            section.set("fertilizer-rating", plant.getFertilizerRating().name());
+        }
+        section.set("water-level", plant.getWaterLevel());
+        section.set("nutrient-level", plant.getNutrientLevel());
+        if (plant.getPotId() != null) {
+            section.set("pot-id", plant.getPotId().toString());
+        }
+        
+        return true;
     }
 
     private void startGrowthTask() {
-        int intervalTicks = plugin.getConfig().getInt("farming.growth-check-interval-seconds", 60) * 20;
+        double budgetMs = plugin.getConfig().getDouble("farming.growth-tick-budget-ms", 2.0);
+        long budgetNanos = (long) (budgetMs * 1_000_000L);
+        
+        // Chunks may load (and catch their plants up) before the first tick
+        readGrowthIntervals();
+        
+        // Drain whatever is due every tick; idle ticks cost a single heap peek
+        growthTask = plugin.getTaskProfiler().runTaskTimer("FarmingManager.growth", () -> {
+            readGrowthIntervals();
+            playerPositions.markStale();
+            int checked = growthScheduler.runDue(System.currentTimeMillis(), budgetNanos, this::runGrowthCheck);
+            plugin.getTaskProfiler().touched(checked);
+        }, 1L, 1L);
+        
+        // Watch players crossing chunk borders so cooperative bonuses are re-evaluated
+        farmPresenceTask = plugin.getTaskProfiler().runTaskTimer("FarmingManager.farmPresence", 
+            this::trackFarmPresence, 20L, 20L);
+    }
+    
+    private void readGrowthIntervals() {
+        baseGrowthIntervalMs = plugin.getConfig().getLong("farming.growth-interval-seconds", 300) * 1000;
+        growthRetryIntervalMs = plugin.getConfig().getLong("farming.growth-check-interval-seconds", 60) * 1000;
+    }
+    
+    /**
+     * Runs one scheduled growth check.
+     * @return The next due time, or -1 once the plant no longer needs growth checks
+     */
+    private long runGrowthCheck(Plant plant) {
+        if (plant.isFullyGrown()) return -1;
         
-        growthTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            long currentTime = System.currentTimeMillis();
-            long baseGrowthIntervalMs = plugin.getConfig().getLong("farming.growth-interval-seconds", 300) * 1000;
-
-            for (Plant plant : plants.values()) {
-                if (plant.isFullyGrown()) continue;
-
-                // Calculate effective growth interval based on plant's quality bonuses
-                double growthMultiplier = plant.getGrowthSpeedMultiplier();
-                
-                UUID ownerUuid = plant.getOwnerUuid();
-                
-                // Apply skill-based growth speed bonus (Green Fingers, Accelerated Growth)
-                if (ownerUuid != null && plugin.getSkillManager() != null) {
-                    double skillGrowthBonus = plugin.getSkillManager().getBonusMultiplier(ownerUuid, 
-                        com.budlords.skills.Skill.BonusType.GROWTH_SPEED);
-                    growthMultiplier *= skillGrowthBonus;
-                }
-                
-                // Apply prestige growth speed bonus if available
-                if (plugin.getPrestigeManager() != null && plugin.getStatsManager() != null) {
-                    if (ownerUuid != null) {
-                        com.budlords.stats.PlayerStats stats = plugin.getStatsManager().getStats(ownerUuid);
-                        if (stats != null && stats.getPrestigeLevel() > 0) {
-                            double prestigeMult = plugin.getPrestigeManager().getGrowthSpeedMultiplier(stats.getPrestigeLevel());
-                            growthMultiplier *= prestigeMult;
-                        }
-                    }
-                }
-                
-                // Apply cooperative farming bonus (nearby players boost growth)
-                double coopBonus = getCooperativeFarmingBonus(plant.getLocation());
-                growthMultiplier *= coopBonus;
-                
-                long effectiveInterval = (long) (baseGrowthIntervalMs / growthMultiplier);
-
-                if (currentTime - plant.getLastGrowthUpdate() >= effectiveInterval) {
-                    processGrowth(plant);
+        long now = System.currentTimeMillis();
+        long dueTime = plant.getLastGrowthUpdate() + getEffectiveGrowthIntervalMs(plant);
+        
+        // Conditions may have worsened since this check was scheduled (e.g. water decay)
+        if (now < dueTime) return dueTime;
+        
+        if (!processGrowth(plant)) {
+            // Chunk not loaded - try again later
+            return now + growthRetryIntervalMs;
+        }
+        
+        return plant.isFullyGrown() ? -1 : plant.getLastGrowthUpdate() + getEffectiveGrowthIntervalMs(plant);
+    }
+    
+    /**
+     * Calculates the effective growth interval of a plant from its own care bonuses,
+     * its owner's skill and prestige bonuses and the cooperative farming bonus.
+     */
+    private long getEffectiveGrowthIntervalMs(Plant plant) {
+        // Apply cooperative farming bonus (nearby players boost growth)
+        double growthMultiplier = getGrowthMultiplier(plant) * getCooperativeFarmingBonus(plant.getLocation());
+        
+        return (long) (baseGrowthIntervalMs / growthMultiplier);
+    }
+    
+    /**
+     * Gets the growth multiplier of a plant from its own care bonuses and its owner's
+     * skill and prestige bonuses, without the cooperative farming bonus.
+     */
+    private double getGrowthMultiplier(Plant plant) {
+        double growthMultiplier = plant.getGrowthSpeedMultiplier();
+        
+        UUID ownerUuid = plant.getOwnerUuid();
+        if (ownerUuid != null) {
+            growthMultiplier *= getOwnerGrowthMultiplier(ownerUuid);
+        }
+        return growthMultiplier;
+    }
+    
+    /**
+     * Gets the skill x prestige growth multiplier of a plant owner from the modifier cache.
+     */
+    private double getOwnerGrowthMultiplier(UUID ownerUuid) {
+        com.budlords.progression.PlayerModifierCache cache = plugin.getPlayerModifierCache();
+        return cache != null ? cache.get(ownerUuid).growthMultiplier() : 1.0;
+    }
+    
+    /**
+     * Re-queues plants whose owner's modifiers changed so the new speed applies right away.
+     * @param ownerUuid The affected owner, or null when every owner's modifiers changed
+     */
+    private void onModifiersInvalidated(UUID ownerUuid) {
+        long now = System.currentTimeMillis();
+        for (Plant plant : activePlants.values()) {
+            if (ownerUuid == null || ownerUuid.equals(plant.getOwnerUuid())) {
+                requestGrowthCheck(plant, now);
+            }
+        }
+    }
+    
+    /**
+     * Queues a plant for a growth re-evaluation. The check itself runs under the
+     * growth tick budget; if the plant is not due yet it is simply re-queued.
+     * Sleeping plants are left alone until their chunk loads.
+     */
+    private void requestGrowthCheck(Plant plant, long now) {
+        if (!plant.isFullyGrown() && activePlants.containsKey(plant.getBlockKey())) {
+            growthScheduler.schedule(plant, now);
+        }
+    }
+    
+    /**
+     * Re-queues a plant whose water or nutrients were raised outside of player care,
+     * such as by rain or a random event, so the shorter growth interval applies right away.
+     */
+    public void onCareImproved(Plant plant) {
+        requestGrowthCheck(plant, System.currentTimeMillis());
+    }
+    
+    /**
+     * Detects players entering or leaving farm areas by comparing the chunk each
+     * online player is in with the one seen last time, and re-queues plants around
+     * both positions so their cooperative bonus is recalculated.
+     */
+    private void trackFarmPresence() {
+        if (plantIndex.size() == 0) {
+            lastPlayerChunks.clear();
+            return;
+        }
+        
+        long now = System.currentTimeMillis();
+        Set<UUID> seen = new HashSet<>();
+        
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            UUID uuid = player.getUniqueId();
+            seen.add(uuid);
+            Location loc = player.getLocation();
+            PlayerChunk current = new PlayerChunk(loc.getWorld().getUID(), loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+            PlayerChunk previous = lastPlayerChunks.put(uuid, current);
+            
+            if (!current.equals(previous)) {
+                requestGrowthChecksAround(current, now);
+                if (previous != null) {
+                    requestGrowthChecksAround(previous, now);
                 }
             }
-        }, intervalTicks, intervalTicks);
+        }
+        
+        // Players that logged out left their farm area as well
+        Iterator<Map.Entry<UUID, PlayerChunk>> it = lastPlayerChunks.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, PlayerChunk> entry = it.next();
+            if (!seen.contains(entry.getKey())) {
+                requestGrowthChecksAround(entry.getValue(), now);
+                it.remove();
+            }
+        }
+    }
+    
+    private void requestGrowthChecksAround(PlayerChunk chunk, long now) {
+        // Any plant whose cooperative radius can reach into this chunk
+        int reach = (COOPERATIVE_FARMING_RADIUS >> 4) + 1;
+        plantIndex.forEachInBox(chunk.worldId(),
+            (chunk.x() - reach) << 4, Integer.MIN_VALUE, (chunk.z() - reach) << 4,
+            ((chunk.x() + reach) << 4) + 15, Integer.MAX_VALUE, ((chunk.z() + reach) << 4) + 15,
+            plant -> requestGrowthCheck(plant, now));
+    }
+    
+    private record PlayerChunk(UUID worldId, int x, int z) {}
+    
+    /**
+     * @return Player distance checks done by the last cooperative bonus pass
+     */
+    public int getLastCooperativeDistanceChecks() {
+        return playerPositions.getLastDistanceChecks();
+    }
+    
+    public long getTotalCooperativeDistanceChecks() {
+        return playerPositions.getTotalDistanceChecks();
+    }
+    
+    public GrowthScheduler getGrowthScheduler() {
+        return growthScheduler;
     }
     
     /**
@@ -218,13 +406,8 @@ public class FarmingManager {
     private double getCooperativeFarmingBonus(Location location) {
         if (location.getWorld() == null) return 1.0;
         
-        // Count nearby players within configured radius
-        int nearbyPlayers = 0;
-        for (Player player : location.getWorld().getPlayers()) {
-            if (player.getLocation().distance(location) <= COOPERATIVE_FARMING_RADIUS) {
-                nearbyPlayers++;
-            }
-        }
+        // Count nearby players within configured radius (counting stops at the 4-player cap)
+        int nearbyPlayers = playerPositions.countPlayersNear(location, 4);
         
         // Bonus caps at 4 players for max 50% boost
         // 1 player: +10%, 2 players: +20%, 3 players: +35%, 4+ players: +50%
@@ -237,14 +420,42 @@ public class FarmingManager {
         };
     }
 
-    private void startParticleTask() {
-        int intervalTicks = plugin.getConfig().getInt("farming.particle-interval-ticks", 40);
-        
-        particleTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            for (Plant plant : plants.values()) {
-                spawnGrowthParticles(plant);
+    private void startSimulation() {
+        double budgetMs = plugin.getConfig().getDouble("farming.simulation-tick-budget-ms", 2.0);
+        long budgetNanos = (long) (budgetMs * 1_000_000L);
+        int particleIntervalTicks = plugin.getConfig().getInt("farming.particle-interval-ticks", 40);
+        
+        // Slowly decrease water and nutrients, by the time since the plant's last decay:
+        // passes take longer than a minute when the simulation is over budget
+        simulation.addStage("care-decay", (int) DECAY_INTERVAL_TICKS, new PlantSimulation.Stage() {
+            private long passTime;
+
+            @Override
+            public void beginPass() {
+                passTime = System.currentTimeMillis();
             }
-        }, intervalTicks, intervalTicks);
+
+            @Override
+            public void tick(Plant plant) {
+                // Plants woken since the pass started are already caught up
+                if (plant.getLastCareDecay() >= passTime) return;
+                decayCare(plant, passTime - plant.getLastCareDecay());
+                plant.setLastCareDecay(passTime);
+            }
+        });
+        simulation.addStage("growth-particles", particleIntervalTicks, this::spawnGrowthParticles);
+        
+        // Other managers add their stages when they start
+        simulationTask = plugin.getTaskProfiler().runTaskTimer("FarmingManager.simulation", 
+            () -> plugin.getTaskProfiler().touched(simulation.tick(budgetNanos, this::isActive)), 1L, 1L);
+    }
+    
+    /**
+     * Gets the plant simulation pipeline. Periodic work on every plant should be added
+     * to it as a stage instead of running its own timer over getActivePlants().
+     */
+    public PlantSimulation getSimulation() {
+        return simulation;
     }
     
     // Decay rate constants for plant care system
@@ -252,26 +463,134 @@ public class FarmingManager {
     private static final double WATER_DECAY_RATE = 0.02;    // 2% per minute
     private static final double NUTRIENT_DECAY_RATE = 0.01; // 1% per minute
     private static final long DECAY_INTERVAL_TICKS = 1200L; // 1 minute in ticks
+    private static final long DECAY_INTERVAL_MS = 60_000L;
+    
+    private void decayCare(Plant plant, long elapsedMs) {
+        double minutes = (double) elapsedMs / DECAY_INTERVAL_MS;
+        plant.setWaterLevel(plant.getWaterLevel() - WATER_DECAY_RATE * minutes);
+        plant.setNutrientLevel(plant.getNutrientLevel() - NUTRIENT_DECAY_RATE * minutes);
+    }
+    
+    // ====== CHUNK SLEEP ======
+    
+    /**
+     * When a plant went to sleep, and the weather's rain counter at that moment.
+     */
+    private record Dormancy(long since, double rainfall) {}
+    
+    /**
+     * Puts the plants of an unloading chunk to sleep. They leave the growth schedule and
+     * every periodic task until the chunk loads again, so idle farms cost nothing.
+     */
+    public void sleepChunk(UUID worldId, int chunkX, int chunkZ) {
+        long now = System.currentTimeMillis();
+        double rainfall = plugin.getWeatherManager() != null ? plugin.getWeatherManager().getRainfall() : 0;
+        plantIndex.forEachInChunk(worldId, chunkX, chunkZ, plant -> {
+            if (activePlants.remove(plant.getBlockKey()) == null) return;
+            growthScheduler.unschedule(plant);
+            dormantPlants.put(plant.getBlockKey(), new Dormancy(now, rainfall));
+        });
+    }
+    
+    /**
+     * Wakes the plants of a loading chunk, catching each one up on the time it slept.
+     */
+    public void wakeChunk(UUID worldId, int chunkX, int chunkZ) {
+        if (dormantPlants.isEmpty()) return;
+        
+        // Catching up can kill a plant (disease), which changes the chunk's bucket
+        List<Plant> waking = new ArrayList<>();
+        plantIndex.forEachInChunk(worldId, chunkX, chunkZ, waking::add);
+        
+        long now = System.currentTimeMillis();
+        for (Plant plant : waking) {
+            BlockKey key = plant.getBlockKey();
+            Dormancy dormancy = dormantPlants.remove(key);
+            if (dormancy == null) continue;
+            
+            activePlants.put(key, plant);
+            catchUp(plant, dormancy, now);
+            plant.setLastCareDecay(now);
+            if (isActive(plant)) {
+                requestGrowthCheck(plant, now);
+            }
+        }
+    }
     
-    private void startCareDecayTask() {
-        // Decay water and nutrients over time
-        careDecayTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            for (Plant plant : plants.values()) {
-                // Slowly decrease water and nutrients
-                plant.setWaterLevel(plant.getWaterLevel() - WATER_DECAY_RATE);
-                plant.setNutrientLevel(plant.getNutrientLevel() - NUTRIENT_DECAY_RATE);
+    /**
+     * Advances a plant by the time it slept, the way the periodic tasks would have:
+     * water and nutrients decay by the minute, every growth stage that came due in the
+     * meantime is grown (and accrues quality) with the care levels it had by then, rain
+     * is added if the plant is open to the sky, and missed disease checks are rolled.
+     *
+     * Nobody farms next to an unloaded chunk, so the cooperative bonus doesn't apply.
+     * Only the final stage is drawn; no particles are spawned for the skipped ones.
+     */
+    private void catchUp(Plant plant, Dormancy dormancy, long now) {
+        long time = dormancy.since();
+        boolean grew = false;
+        
+        while (!plant.isFullyGrown()) {
+            long interval = (long) (baseGrowthIntervalMs / getGrowthMultiplier(plant));
+            long dueTime = Math.max(time, plant.getLastGrowthUpdate() + interval);
+            if (dueTime > now) break;
+            
+            decayCare(plant, dueTime - time);
+            time = dueTime;
+            growStage(plant);
+            plant.setLastGrowthUpdate(dueTime);
+            grew = true;
+        }
+        decayCare(plant, now - time);
+        
+        WeatherManager weatherManager = plugin.getWeatherManager();
+        if (weatherManager != null) {
+            double rain = weatherManager.getRainfall() - dormancy.rainfall();
+            if (rain > 0 && skyExposure.isExposed(plant)) {
+                plant.setWaterLevel(Math.min(1.0, plant.getWaterLevel() + rain));
             }
-        }, DECAY_INTERVAL_TICKS, DECAY_INTERVAL_TICKS);
+        }
+        
+        // This runs during ChunkLoadEvent, before the chunk's entities are back: the
+        // visualization puts the redraw (or the removal of a plant killed by a disease)
+        // off until they are, so the old model isn't left behind
+        if (grew) {
+            updatePlantVisual(plant);
+        }
+        
+        if (plugin.getDiseaseManager() != null) {
+            plugin.getDiseaseManager().catchUp(plant, now - dormancy.since());
+        }
     }
 
-    private void processGrowth(Plant plant) {
+    /**
+     * Advances a due plant by one growth stage.
+     * @return false if the plant's chunk is not loaded and nothing was done
+     */
+    private boolean processGrowth(Plant plant) {
         Location loc = plant.getLocation();
         
         // Check if chunk is loaded
         if (!loc.getWorld().isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) {
-            return;
+            return false;
         }
 
+        growStage(plant);
+
+        // Update visual with enhanced effects
+        updatePlantVisual(plant);
+        
+        // Spawn growth transition particles
+        spawnGrowthTransitionParticles(plant);
+        return true;
+    }
+
+    /**
+     * Accrues the quality of one growth stage and grows the plant. Its chunk must be loaded.
+     */
+    private void growStage(Plant plant) {
+        Location loc = plant.getLocation();
+
         // Calculate quality modifiers
         int qualityBonus = 0;
 
@@ -329,25 +648,17 @@ public class FarmingManager {
         }
         
         // Apply prestige quality bonus
-        if (plugin.getPrestigeManager() != null && plugin.getStatsManager() != null) {
-            UUID ownerUuid = plant.getOwnerUuid();
-            if (ownerUuid != null) {
-                com.budlords.stats.PlayerStats stats = plugin.getStatsManager().getStats(ownerUuid);
-                if (stats != null && stats.getPrestigeLevel() > 0) {
-                    double qualityMult = plugin.getPrestigeManager().getQualityMultiplier(stats.getPrestigeLevel());
-                    qualityBonus = (int) Math.round(qualityBonus * qualityMult);
-                }
+        UUID ownerUuid = plant.getOwnerUuid();
+        if (ownerUuid != null && plugin.getPlayerModifierCache() != null) {
+            com.budlords.progression.PlayerModifierCache.PlayerModifiers modifiers =
+                plugin.getPlayerModifierCache().get(ownerUuid);
+            if (modifiers.prestigeLevel() > 0) {
+                qualityBonus = (int) Math.round(qualityBonus * modifiers.qualityMultiplier());
             }
         }
 
         plant.addQuality(qualityBonus);
         plant.grow();
-
-        // Update visual with enhanced effects
-        updatePlantVisual(plant);
-        
-        // Spawn growth transition particles
-        spawnGrowthTransitionParticles(plant);
     }
 
     private int countSurroundingWalls(Location loc) {
@@ -553,12 +864,7 @@ public class FarmingManager {
         }
 
         // Check if location already has a plant
-        String locationKey = location.getWorld().getName() + "," + 
-                            location.getBlockX() + "," + 
-                            location.getBlockY() + "," + 
-                            location.getBlockZ();
-        
-        if (plants.containsKey(locationKey)) {
+        if (plantIndex.get(location) != null) {
             player.sendMessage("§cThere is already a plant here!");
             return false;
         }
@@ -574,7 +880,14 @@ public class FarmingManager {
             plant.setNutrientLevel(0.5);
         }
         
-        plants.put(plant.getLocationString(), plant);
+        registerPlant(plant);
+        plantStore.markDirty(plant);
+        
+        // Pick up light from any placed lamp already covering this block
+        StarRating coveringLamp = lampCoverage.getBestRatingAt(location);
+        if (coveringLamp != null) {
+            plant.setLampRating(coveringLamp);
+        }
         
         // Check for 666 Demon Formation and apply bonus if detected
         if (isPotPlanting && plugin.getFormationManager() != null) {
@@ -673,6 +986,9 @@ public class FarmingManager {
                 String.format("%.0f%%", plant.getWaterLevel() * 100));
         }
         
+        // Better care speeds growth up - re-evaluate the due time
+        requestGrowthCheck(plant, System.currentTimeMillis());
+        
         // Update challenge progress
         if (plugin.getChallengeManager() != null) {
             plugin.getChallengeManager().updateProgress(player, 
@@ -698,6 +1014,7 @@ public class FarmingManager {
         }
         
         plant.fertilize(fertilizerRating);
+        requestGrowthCheck(plant, System.currentTimeMillis());
         player.sendMessage("§aFertilized the plant with " + fertilizerRating.getDisplay() + " §afertilizer!");
         player.sendMessage("§7Nutrient level: §e" + String.format("%.0f%%", plant.getNutrientLevel() * 100));
         
@@ -726,6 +1043,7 @@ public class FarmingManager {
         }
         
         plant.setLampRating(lampRating);
+        requestGrowthCheck(plant, System.currentTimeMillis());
         player.sendMessage("§aAdded " + lampRating.getDisplay() + " §aGrow Lamp to the plant!");
         
         // Lamp glow particles
@@ -741,12 +1059,7 @@ public class FarmingManager {
     }
     
     public Plant harvestPlant(Player player, Location location, StarRating scissorsRating) {
-        String locationKey = location.getWorld().getName() + "," + 
-                            location.getBlockX() + "," + 
-                            location.getBlockY() + "," + 
-                            location.getBlockZ();
-        
-        Plant plant = plants.get(locationKey);
+        Plant plant = plantIndex.get(location);
         if (plant == null) {
             return null;
         }
@@ -757,7 +1070,7 @@ public class FarmingManager {
         }
 
         // Remove plant
-        plants.remove(locationKey);
+        unregisterPlant(plant);
         location.getBlock().setType(Material.AIR);
         
         // Clean up 3D visualization armor stands
@@ -794,19 +1107,28 @@ public class FarmingManager {
     }
 
     public Plant getPlantAt(Location location) {
-        String locationKey = location.getWorld().getName() + "," + 
-                            location.getBlockX() + "," + 
-                            location.getBlockY() + "," + 
-                            location.getBlockZ();
-        return plants.get(locationKey);
+        return plantIndex.get(location);
+    }
+    
+    /**
+     * Gets the plant at the given block coordinates without building a Location or key string.
+     */
+    public Plant getPlantAt(World world, int x, int y, int z) {
+        return plantIndex.get(world.getUID(), x, y, z);
+    }
+
+    /**
+     * Gets the plant at a block, or null.
+     */
+    public Plant getPlantAt(BlockKey key) {
+        return plantIndex.get(key.getWorldId(), key.getX(), key.getY(), key.getZ());
     }
 
     public void removePlant(Location location) {
-        String locationKey = location.getWorld().getName() + "," + 
-                            location.getBlockX() + "," + 
-                            location.getBlockY() + "," + 
-                            location.getBlockZ();
-        plants.remove(locationKey);
+        Plant plant = plantIndex.get(location);
+        if (plant != null) {
+            unregisterPlant(plant);
+        }
         
         // Clean up 3D visualization if enabled
         PlantVisualizationManager vizManager = plugin.getPlantVisualizationManager();
@@ -823,6 +1145,37 @@ public class FarmingManager {
         return Collections.unmodifiableCollection(plants.values());
     }
     
+    /**
+     * @return Whether the plant is registered and its chunk is loaded
+     */
+    public boolean isActive(Plant plant) {
+        return activePlants.get(plant.getBlockKey()) == plant;
+    }
+    
+    /**
+     * Gets the plants in loaded chunks. Periodic tasks should walk these instead of
+     * getAllPlants(); plants in unloaded chunks are caught up when their chunk loads.
+     */
+    public Collection<Plant> getActivePlants() {
+        return Collections.unmodifiableCollection(activePlants.values());
+    }
+    
+    /**
+     * Gets the shared chunk-bucketed plant index.
+     * Other managers should use this for area lookups instead of scanning getAllPlants().
+     * Read-only for callers; plants are registered through FarmingManager.
+     */
+    public SpatialIndex<Plant> getPlantIndex() {
+        return plantIndex;
+    }
+    
+    /**
+     * Gets the cached sky exposure of plants.
+     */
+    public SkyExposureMap getSkyExposure() {
+        return skyExposure;
+    }
+    
     /**
      * Gets all plants within a certain radius of a location.
      * @param location The center location
@@ -830,29 +1183,52 @@ public class FarmingManager {
      * @return List of plants within the radius
      */
     public List<Plant> getNearbyPlants(Location location, int radius) {
-        List<Plant> nearbyPlants = new ArrayList<>();
-        for (Plant plant : plants.values()) {
-            Location plantLoc = plant.getLocation();
-            if (plantLoc.getWorld().equals(location.getWorld())) {
-                double distance = plantLoc.distance(location);
-                if (distance <= radius) {
-                    nearbyPlants.add(plant);
-                }
-            }
+        return plantIndex.queryRadius(location, radius);
+    }
+    
+    private void registerPlant(Plant plant) {
+        plants.put(plant.getBlockKey(), plant);
+        plantIndex.put(plant.getLocation(), plant);
+        plant.setChangeListener(() -> plantStore.markDirty(plant));
+        
+        long now = System.currentTimeMillis();
+        plant.setLastCareDecay(now);
+        if (plant.getBlockKey().isChunkLoaded()) {
+            activePlants.put(plant.getBlockKey(), plant);
+            requestGrowthCheck(plant, now);
+        } else {
+            // Loaded from disk into an unloaded chunk; downtime isn't caught up on
+            double rainfall = plugin.getWeatherManager() != null ? plugin.getWeatherManager().getRainfall() : 0;
+            dormantPlants.put(plant.getBlockKey(), new Dormancy(now, rainfall));
         }
-        return nearbyPlants;
+    }
+    
+    private void unregisterPlant(Plant plant) {
+        plants.remove(plant.getBlockKey());
+        activePlants.remove(plant.getBlockKey());
+        dormantPlants.remove(plant.getBlockKey());
+        plantIndex.remove(plant.getLocation());
+        skyExposure.forget(plant.getLocation());
+        growthScheduler.unschedule(plant);
+        plant.setChangeListener(null);
+        plantStore.markDirty(plant); // Written as a delete
     }
     
     // ====== POT MANAGEMENT ======
     
-    private void loadPots() {
+    /**
+     * @return Whether legacy pot keys were re-keyed
+     */
+    private boolean loadPots() {
+        potStore.replay();
         FileConfiguration config = dataManager.getPlantsConfig();
         ConfigurationSection potsSection = config.getConfigurationSection("pots");
         
         if (potsSection == null) {
-            return;
+            return false;
         }
 
+        boolean legacyKeys = false;
         for (String key : potsSection.getKeys(false)) {
             try {
                 ConfigurationSection potSection = potsSection.getConfigurationSection(key);
@@ -878,55 +1254,67 @@ public class FarmingManager {
                 UUID owner = ownerStr != null ? UUID.fromString(ownerStr) : null;
                 
                 GrowingPot pot = new GrowingPot(UUID.randomUUID(), rating, location, owner);
-                pots.put(getLocationKey(location), pot);
+                BlockKey blockKey = BlockKey.of(location);
+                pots.put(blockKey, pot);
+                legacyKeys |= !key.equals(recordKey(blockKey));
                 
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to load pot: " + key);
             }
         }
         
+        // Pots used to be saved as pot_0, pot_1, ...; re-key them by block so they can be written one at a time
+        if (legacyKeys) {
+            potStore.reimport(pots.keySet());
+        }
+        
         plugin.getLogger().info("Loaded " + pots.size() + " placed pots.");
+        return legacyKeys;
     }
     
     public void savePots() {
-        FileConfiguration config = dataManager.getPlantsConfig();
-        config.set("pots", null); // Clear existing
+        plugin.getPersistenceManager().export(potStore);
+    }
 
-        int counter = 0;
-        for (Map.Entry<String, GrowingPot> entry : pots.entrySet()) {
-            GrowingPot pot = entry.getValue();
-            Location loc = pot.getLocation();
-            if (loc == null || loc.getWorld() == null) continue;
-            
-            String key = "pots.pot_" + counter;
-            config.set(key + ".world", loc.getWorld().getName());
-            config.set(key + ".x", loc.getBlockX());
-            config.set(key + ".y", loc.getBlockY());
-            config.set(key + ".z", loc.getBlockZ());
-            config.set(key + ".rating", pot.getStarRating().name());
-            if (pot.getOwnerUuid() != null) {
-                config.set(key + ".owner", pot.getOwnerUuid().toString());
-            }
-            counter++;
+    private boolean writePot(BlockKey key, ConfigurationSection section) {
+        GrowingPot pot = pots.get(key);
+        Location loc = pot != null ? pot.getLocation() : null;
+        if (loc == null || loc.getWorld() == null) {
+            return false;
         }
+        section.set("world", loc.getWorld().getName());
+        section.set("x", loc.getBlockX());
+        section.set("y", loc.getBlockY());
+        section.set("z", loc.getBlockZ());
+        section.set("rating", pot.getStarRating().name());
+        if (pot.getOwnerUuid() != null) {
+            section.set("owner", pot.getOwnerUuid().toString());
+        }
+        return true;
+    }
 
-        dataManager.savePlants();
+    /**
+     * Section name of a pot or lamp record: the block, in a form without dots.
+     */
+    private static String recordKey(BlockKey key) {
+        return key.getWorldId() + "_" + key.getX() + "_" + key.getY() + "_" + key.getZ();
     }
     
     /**
      * Places a pot at the specified location with the given star rating.
      */
     public void placePot(Location location, StarRating rating, UUID ownerUuid) {
-        String key = getLocationKey(location);
+        BlockKey key = BlockKey.of(location);
         GrowingPot pot = new GrowingPot(UUID.randomUUID(), rating, location, ownerUuid);
         pots.put(key, pot);
+        potStore.markDirty(key);
     }
     
     /**
      * Gets the pot at the specified location.
      */
     public GrowingPot getPotAt(Location location) {
-        return pots.get(getLocationKey(location));
+        return pots.get(BlockKey.of(location));
     }
     
     /**
@@ -941,33 +1329,36 @@ public class FarmingManager {
      * Removes the pot at the specified location and returns it.
      */
     public GrowingPot removePot(Location location) {
-        return pots.remove(getLocationKey(location));
+        BlockKey key = BlockKey.of(location);
+        GrowingPot pot = pots.remove(key);
+        if (pot != null) {
+            potStore.markDirty(key);
+        }
+        return pot;
     }
     
     /**
      * Checks if there is a pot at the specified location.
      */
     public boolean hasPotAt(Location location) {
-        return pots.containsKey(getLocationKey(location));
-    }
-    
-    private String getLocationKey(Location location) {
-        return location.getWorld().getName() + "," + 
-               location.getBlockX() + "," + 
-               location.getBlockY() + "," + 
-               location.getBlockZ();
+        return pots.containsKey(BlockKey.of(location));
     }
     
     // ====== PLACED LAMP MANAGEMENT ======
     
-    private void loadPlacedLamps() {
+    /**
+     * @return Whether legacy lamp keys were re-keyed
+     */
+    private boolean loadPlacedLamps() {
+        lampStore.replay();
         FileConfiguration config = dataManager.getPlantsConfig();
         ConfigurationSection lampsSection = config.getConfigurationSection("placed-lamps");
         
         if (lampsSection == null) {
-            return;
+            return false;
         }
 
+        boolean legacyKeys = false;
         for (String key : lampsSection.getKeys(false)) {
             try {
                 ConfigurationSection lampSection = lampsSection.getConfigurationSection(key);
@@ -994,40 +1385,45 @@ public class FarmingManager {
                 UUID owner = ownerStr != null ? UUID.fromString(ownerStr) : null;
                 
                 PlacedLamp lamp = new PlacedLamp(UUID.randomUUID(), location, rating, owner, placedTime);
-                placedLamps.put(getLocationKey(location), lamp);
+                BlockKey blockKey = BlockKey.of(location);
+                placedLamps.put(blockKey, lamp);
+                lampCoverage.addLamp(lamp);
+                legacyKeys |= !key.equals(recordKey(blockKey));
                 
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to load placed lamp: " + key);
             }
         }
         
+        // Same re-keying as for pots (lamps were saved as lamp_0, lamp_1, ...)
+        if (legacyKeys) {
+            lampStore.reimport(placedLamps.keySet());
+        }
+        
         plugin.getLogger().info("Loaded " + placedLamps.size() + " placed lamps.");
+        return legacyKeys;
     }
     
     public void savePlacedLamps() {
-        FileConfiguration config = dataManager.getPlantsConfig();
-        config.set("placed-lamps", null); // Clear existing
+        plugin.getPersistenceManager().export(lampStore);
+    }
 
-        int counter = 0;
-        for (Map.Entry<String, PlacedLamp> entry : placedLamps.entrySet()) {
-            PlacedLamp lamp = entry.getValue();
-            Location loc = lamp.getLocation();
-            if (loc == null || loc.getWorld() == null) continue;
-            
-            String key = "placed-lamps.lamp_" + counter;
-            config.set(key + ".world", loc.getWorld().getName());
-            config.set(key + ".x", loc.getBlockX());
-            config.set(key + ".y", loc.getBlockY());
-            config.set(key + ".z", loc.getBlockZ());
-            config.set(key + ".rating", lamp.getStarRating().name());
-            if (lamp.getOwnerUuid() != null) {
-                config.set(key + ".owner", lamp.getOwnerUuid().toString());
-            }
-            config.set(key + ".placed-time", lamp.getPlacedTime());
-            counter++;
+    private boolean writeLamp(BlockKey key, ConfigurationSection section) {
+        PlacedLamp lamp = placedLamps.get(key);
+        Location loc = lamp != null ? lamp.getLocation() : null;
+        if (loc == null || loc.getWorld() == null) {
+            return false;
         }
-
-        dataManager.savePlants();
+        section.set("world", loc.getWorld().getName());
+        section.set("x", loc.getBlockX());
+        section.set("y", loc.getBlockY());
+        section.set("z", loc.getBlockZ());
+        section.set("rating", lamp.getStarRating().name());
+        if (lamp.getOwnerUuid() != null) {
+            section.set("owner", lamp.getOwnerUuid().toString());
+        }
+        section.set("placed-time", lamp.getPlacedTime());
+        return true;
     }
     
     /**
@@ -1038,13 +1434,15 @@ public class FarmingManager {
      * @return true if placement was successful
      */
     public boolean placeLamp(Location location, StarRating rating, UUID ownerUuid) {
-        String key = getLocationKey(location);
+        BlockKey key = BlockKey.of(location);
         if (placedLamps.containsKey(key)) {
             return false; // Already a lamp here
         }
         
         PlacedLamp lamp = new PlacedLamp(UUID.randomUUID(), location, rating, ownerUuid);
         placedLamps.put(key, lamp);
+        lampStore.markDirty(key);
+        lampCoverage.addLamp(lamp);
         
         // Apply lamp effects to all plants in range immediately
         applyLampEffectsToNearbyPlants(lamp);
@@ -1058,9 +1456,12 @@ public class FarmingManager {
      * @return The removed lamp, or null if no lamp was there
      */
     public PlacedLamp removePlacedLamp(Location location) {
-        PlacedLamp lamp = placedLamps.remove(getLocationKey(location));
+        BlockKey key = BlockKey.of(location);
+        PlacedLamp lamp = placedLamps.remove(key);
         
         if (lamp != null) {
+            lampStore.markDirty(key);
+            lampCoverage.removeLamp(lamp);
             // Remove lamp effects from plants that were in range
             removeLampEffectsFromNearbyPlants(lamp);
         }
@@ -1072,48 +1473,68 @@ public class FarmingManager {
      * Gets the placed lamp at the specified location.
      */
     public PlacedLamp getPlacedLampAt(Location location) {
-        return placedLamps.get(getLocationKey(location));
+        return placedLamps.get(BlockKey.of(location));
     }
     
     /**
      * Checks if there is a placed lamp at the specified location.
      */
     public boolean hasPlacedLampAt(Location location) {
-        return placedLamps.containsKey(getLocationKey(location));
+        return placedLamps.containsKey(BlockKey.of(location));
     }
     
     /**
      * Applies lamp effects to all plants within range of a lamp.
      */
     private void applyLampEffectsToNearbyPlants(PlacedLamp lamp) {
-        for (Plant plant : plants.values()) {
+        forEachPlantInLampArea(lamp, plant -> {
             if (lamp.isLocationInRange(plant.getLocation())) {
                 // Only apply if this lamp has a better rating than current lamp
                 StarRating currentLamp = plant.getLampRating();
                 if (currentLamp == null || lamp.getStarRating().getStars() > currentLamp.getStars()) {
                     plant.setLampRating(lamp.getStarRating());
+                    requestGrowthCheck(plant, System.currentTimeMillis());
                 }
             }
-        }
+        });
+    }
+    
+    /**
+     * Visits every plant in the bounding box of a lamp's range (all blocks at or below the lamp).
+     */
+    private void forEachPlantInLampArea(PlacedLamp lamp, java.util.function.Consumer<Plant> consumer) {
+        Location loc = lamp.getLocation();
+        int range = lamp.getRange();
+        plantIndex.forEachInBox(loc.getWorld().getUID(),
+            loc.getBlockX() - range, Integer.MIN_VALUE, loc.getBlockZ() - range,
+            loc.getBlockX() + range, loc.getBlockY(), loc.getBlockZ() + range,
+            consumer);
     }
     
     /**
      * Removes lamp effects from plants when a lamp is removed.
-     * Recalculates lamp effects from other lamps in range.
+     * Only plants inside the removed lamp's range are touched; their new rating comes
+     * from the remaining coverage (the removed lamp must already be out of the map).
      */
     private void removeLampEffectsFromNearbyPlants(PlacedLamp removedLamp) {
-        for (Plant plant : plants.values()) {
+        forEachPlantInLampArea(removedLamp, plant -> {
             if (removedLamp.isLocationInRange(plant.getLocation())) {
-                // Check if any other lamp affects this plant
-                StarRating bestLampRating = null;
-                for (PlacedLamp otherLamp : placedLamps.values()) {
-                    if (otherLamp.isLocationInRange(plant.getLocation())) {
-                        if (bestLampRating == null || otherLamp.getStarRating().getStars() > bestLampRating.getStars()) {
-                            bestLampRating = otherLamp.getStarRating();
-                        }
-                    }
-                }
-                plant.setLampRating(bestLampRating); // May be null if no other lamps in range
+                // May be null if no other lamps in range
+                plant.setLampRating(lampCoverage.getBestRatingAt(plant.getLocation()));
+            }
+        });
+    }
+    
+    /**
+     * One-time pass after loading so saved plants pick up lamps placed around them.
+     * Like placing a lamp, this only ever upgrades a plant's lamp rating.
+     */
+    private void applyLampCoverageToAllPlants() {
+        for (Plant plant : plants.values()) {
+            StarRating covering = lampCoverage.getBestRatingAt(plant.getLocation());
+            StarRating current = plant.getLampRating();
+            if (covering != null && (current == null || covering.getStars() > current.getStars())) {
+                plant.setLampRating(covering);
             }
         }
     }
@@ -1124,15 +1545,7 @@ public class FarmingManager {
      * @return The best StarRating from lamps in range, or null if no lamps
      */
     public StarRating getBestLampRatingAt(Location location) {
-        StarRating best = null;
-        for (PlacedLamp lamp : placedLamps.values()) {
-            if (lamp.isLocationInRange(location)) {
-                if (best == null || lamp.getStarRating().getStars() > best.getStars()) {
-                    best = lamp.getStarRating();
-                }
-            }
-        }
-        return best;
+        return lampCoverage.getBestRatingAt(location);
     }
     
     /**
@@ -1181,19 +1594,6 @@ public class FarmingManager {
     public Collection<PlacedLamp> getAllPlacedLamps() {
         return Collections.unmodifiableCollection(placedLamps.values());
     }
-    
-    /**
-     * Starts the lamp effect task that periodically applies lamp bonuses to plants.
-     * This ensures newly planted seeds get lamp effects from existing lamps.
-     */
-    private void startLampEffectTask() {
-        // Run every 5 seconds (100 ticks) to apply lamp effects
-        lampEffectTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            for (PlacedLamp lamp : placedLamps.values()) {
-                applyLampEffectsToNearbyPlants(lamp);
-            }
-        }, 100L, 100L);
-    }
 
     /**
      * Applies the demon formation bonus by upgrading the pot rating.
@@ -1218,11 +1618,12 @@ public class FarmingManager {
         // Update pot in registry
         GrowingPot pot = getPotAt(location);
         if (pot != null) {
-            String key = getLocationKey(location);
+            BlockKey key = BlockKey.of(location);
             GrowingPot upgradedPot = new GrowingPot(pot.getId(), upgradedRating, location, player.getUniqueId());
             upgradedPot.setPlantedStrainId(strainId);
             upgradedPot.setSeedRating(seedRating);
             pots.put(key, upgradedPot);
+            potStore.markDirty(key);
         }
         
         return upgradedRating;
@@ -1250,17 +1651,12 @@ public class FarmingManager {
         if (growthTask != null) {
             growthTask.cancel();
         }
-        if (particleTask != null) {
-            particleTask.cancel();
-        }
-        if (careDecayTask != null) {
-            careDecayTask.cancel();
+        if (farmPresenceTask != null) {
+            farmPresenceTask.cancel();
         }
-        if (lampEffectTask != null) {
-            lampEffectTask.cancel();
+        if (simulationTask != null) {
+            simulationTask.cancel();
         }
-        savePlants();
-        savePots();
-        savePlacedLamps();
+        // Plants, pots and lamps are exported to plants.yml by the PersistenceManager on shutdown
     }
 }
@@ -607,8 +607,8 @@ public class FormationManager {
      */
     private boolean matchesSinglePattern(Location plantLoc, String strainId, int[][] pattern) {
         for (int[] offset : pattern) {
-            Location checkLoc = plantLoc.clone().add(offset[0], 0, offset[1]);
-            Plant neighborPlant = farmingManager.getPlantAt(checkLoc);
+            Plant neighborPlant = farmingManager.getPlantAt(plantLoc.getWorld(),
+                plantLoc.getBlockX() + offset[0], plantLoc.getBlockY(), plantLoc.getBlockZ() + offset[1]);
             
             if (neighborPlant == null || !neighborPlant.getStrainId().equals(strainId)) {
                 return false;
@@ -643,8 +643,8 @@ public class FormationManager {
             for (int[][] pattern : patternSet) {
                 if (matchesSinglePattern(plantLoc, strainId, pattern)) {
                     for (int[] offset : pattern) {
-                        Location neighborLoc = plantLoc.clone().add(offset[0], 0, offset[1]);
-                        Plant neighborPlant = farmingManager.getPlantAt(neighborLoc);
+                        Plant neighborPlant = farmingManager.getPlantAt(plantLoc.getWorld(),
+                            plantLoc.getBlockX() + offset[0], plantLoc.getBlockY(), plantLoc.getBlockZ() + offset[1]);
                         if (neighborPlant != null && !formationPlants.contains(neighborPlant)) {
                             formationPlants.add(neighborPlant);
                         }
@@ -871,8 +871,8 @@ public class FormationManager {
         
         // Check if both offset positions have matching plants
         for (int[] offset : pattern) {
-            Location checkLoc = centerLoc.clone().add(offset[0], 0, offset[1]);
-            Plant plant = farmingManager.getPlantAt(checkLoc);
+            Plant plant = farmingManager.getPlantAt(world,
+                centerLoc.getBlockX() + offset[0], centerLoc.getBlockY(), centerLoc.getBlockZ() + offset[1]);
             
             // Must have a plant of the same strain
             if (plant == null || !plant.getStrainId().equals(strainId)) {
@@ -914,8 +914,8 @@ public class FormationManager {
             
             boolean matches = true;
             for (int[] offset : pattern) {
-                Location checkLoc = centerLoc.clone().add(offset[0], 0, offset[1]);
-                Plant plant = farmingManager.getPlantAt(checkLoc);
+                Plant plant = farmingManager.getPlantAt(centerLoc.getWorld(),
+                    centerLoc.getBlockX() + offset[0], centerLoc.getBlockY(), centerLoc.getBlockZ() + offset[1]);
                 
                 if (plant == null || !plant.getStrainId().equals(strainId)) {
                     matches = false;
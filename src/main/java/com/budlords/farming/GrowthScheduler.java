@@ -0,0 +1,139 @@
+package com.budlords.farming;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Min-heap of plants keyed by the time their next growth check is due.
+ *
+ * Each tick only the plants at the head of the heap are examined, and processing stops
+ * once the per-tick time budget is used up, so the cost per tick follows the number of
+ * plants that are actually due instead of the total plant count. Leftover due plants
+ * simply stay at the head of the heap for the next tick.
+ *
+ * Rescheduling a plant pushes a fresh entry and leaves the old one in the heap; stale
+ * entries are recognised and dropped when they surface. Mutate from the main thread only.
+ */
+public class GrowthScheduler {
+
+    // Rebuild the heap once stale entries outnumber live ones by this factor
+    private static final int COMPACTION_FACTOR = 2;
+    private static final int COMPACTION_MIN_SIZE = 256;
+
+    private final PriorityQueue<Entry> queue;
+    private final Map<UUID, Entry> liveEntries; // plantId -> current entry
+
+    // Stats from the most recent tick
+    private int lastProcessed;
+    private boolean backlog;
+
+    public GrowthScheduler() {
+        this.queue = new PriorityQueue<>();
+        this.liveEntries = new HashMap<>();
+    }
+
+    /**
+     * Schedules (or reschedules) a plant's next growth check.
+     * @param dueTime Epoch millis at which the plant should be checked
+     */
+    public void schedule(Plant plant, long dueTime) {
+        Entry entry = new Entry(plant, dueTime);
+        liveEntries.put(plant.getId(), entry);
+        queue.add(entry);
+        compactIfNeeded();
+    }
+
+    /**
+     * Removes a plant from the schedule (e.g. when it is harvested or destroyed).
+     */
+    public void unschedule(Plant plant) {
+        liveEntries.remove(plant.getId());
+    }
+
+    public boolean isScheduled(Plant plant) {
+        return liveEntries.containsKey(plant.getId());
+    }
+
+    /**
+     * Processes due plants until none are due or the budget is spent.
+     *
+     * @param now Current epoch millis
+     * @param budgetNanos Maximum time to spend this tick
+     * @param handler Called for each due plant; returns the next due time, or a negative
+     *                value to stop scheduling the plant
+     * @return Number of plants processed
+     */
+    public int runDue(long now, long budgetNanos, ToLongFunction<Plant> handler) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int processed = 0;
+
+        while (!queue.isEmpty()) {
+            Entry head = queue.peek();
+            if (head.dueTime > now) break;
+            queue.poll();
+
+            // Skip entries that were superseded or unscheduled
+            if (liveEntries.get(head.plant.getId()) != head) continue;
+            liveEntries.remove(head.plant.getId());
+
+            long nextDue = handler.applyAsLong(head.plant);
+            if (nextDue >= 0 && !liveEntries.containsKey(head.plant.getId())) {
+                schedule(head.plant, nextDue);
+            }
+            processed++;
+
+            if (System.nanoTime() >= deadline) break;
+        }
+
+        Entry head = queue.peek();
+        lastProcessed = processed;
+        backlog = head != null && head.dueTime <= now;
+        return processed;
+    }
+
+    private void compactIfNeeded() {
+        if (queue.size() < COMPACTION_MIN_SIZE || queue.size() < liveEntries.size() * COMPACTION_FACTOR) {
+            return;
+        }
+        queue.clear();
+        queue.addAll(liveEntries.values());
+    }
+
+    public int size() {
+        return liveEntries.size();
+    }
+
+    public int getLastProcessed() {
+        return lastProcessed;
+    }
+
+    /**
+     * @return true if due plants were left over when the last tick's budget ran out
+     */
+    public boolean hadBacklog() {
+        return backlog;
+    }
+
+    public void clear() {
+        queue.clear();
+        liveEntries.clear();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final Plant plant;
+        private final long dueTime;
+
+        private Entry(Plant plant, long dueTime) {
+            this.plant = plant;
+            this.dueTime = dueTime;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(dueTime, other.dueTime);
+        }
+    }
+}
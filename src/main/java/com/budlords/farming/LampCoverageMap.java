@@ -0,0 +1,136 @@
+package com.budlords.farming;
+
+import com.budlords.quality.PlacedLamp;
+import com.budlords.quality.StarRating;
+import org.bukkit.Location;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Incrementally maintained grow lamp coverage.
+ *
+ * A placed lamp lights every block at or below its own height whose horizontal
+ * distance is within its range, so coverage is stored per block column (x, z).
+ * Each covered column keeps the few lamps reaching it, which makes "best lamp at
+ * this block" a constant-time lookup. Placing or removing a lamp only touches the
+ * columns inside that lamp's range.
+ *
+ * Mutate from the main server thread only.
+ */
+public class LampCoverageMap {
+
+    // worldId -> (columnKey -> covering lamps)
+    private final Map<UUID, Map<Long, Column>> worlds;
+
+    public LampCoverageMap() {
+        this.worlds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Adds a lamp's coverage to every column within its range.
+     */
+    public void addLamp(PlacedLamp lamp) {
+        Location loc = lamp.getLocation();
+        Map<Long, Column> columns = worlds.computeIfAbsent(loc.getWorld().getUID(), id -> new HashMap<>());
+        int range = lamp.getRange();
+        int rangeSq = range * range;
+        int lampY = loc.getBlockY();
+        int stars = lamp.getStarRating().getStars();
+
+        for (int dx = -range; dx <= range; dx++) {
+            for (int dz = -range; dz <= range; dz++) {
+                if (dx * dx + dz * dz > rangeSq) continue;
+                long key = SpatialIndex.chunkKey(loc.getBlockX() + dx, loc.getBlockZ() + dz);
+                columns.computeIfAbsent(key, k -> new Column()).add(lampY, stars);
+            }
+        }
+    }
+
+    /**
+     * Removes a lamp's coverage from the columns within its range.
+     */
+    public void removeLamp(PlacedLamp lamp) {
+        Location loc = lamp.getLocation();
+        Map<Long, Column> columns = worlds.get(loc.getWorld().getUID());
+        if (columns == null) return;
+
+        int range = lamp.getRange();
+        int rangeSq = range * range;
+        int lampY = loc.getBlockY();
+        int stars = lamp.getStarRating().getStars();
+
+        for (int dx = -range; dx <= range; dx++) {
+            for (int dz = -range; dz <= range; dz++) {
+                if (dx * dx + dz * dz > rangeSq) continue;
+                long key = SpatialIndex.chunkKey(loc.getBlockX() + dx, loc.getBlockZ() + dz);
+                Column column = columns.get(key);
+                if (column != null && column.remove(lampY, stars) && column.size == 0) {
+                    columns.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the best lamp rating lighting the given block.
+     * @return The best StarRating, or null if no lamp covers the block
+     */
+    public StarRating getBestRatingAt(Location location) {
+        Map<Long, Column> columns = worlds.get(location.getWorld().getUID());
+        if (columns == null) return null;
+        Column column = columns.get(SpatialIndex.chunkKey(location.getBlockX(), location.getBlockZ()));
+        if (column == null) return null;
+        int stars = column.bestAt(location.getBlockY());
+        return stars > 0 ? StarRating.fromValueAllowSixStar(stars) : null;
+    }
+
+    public void clear() {
+        worlds.clear();
+    }
+
+    /**
+     * Lamps covering one block column, stored as parallel (lamp height, stars) arrays.
+     * Columns rarely have more than a couple of lamps overlapping them.
+     */
+    private static final class Column {
+        private int[] heights = new int[2];
+        private int[] stars = new int[2];
+        private int size;
+
+        void add(int lampY, int lampStars) {
+            if (size == heights.length) {
+                heights = Arrays.copyOf(heights, size * 2);
+                stars = Arrays.copyOf(stars, size * 2);
+            }
+            heights[size] = lampY;
+            stars[size] = lampStars;
+            size++;
+        }
+
+        boolean remove(int lampY, int lampStars) {
+            for (int i = 0; i < size; i++) {
+                if (heights[i] == lampY && stars[i] == lampStars) {
+                    int last = --size;
+                    heights[i] = heights[last];
+                    stars[i] = stars[last];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int bestAt(int y) {
+            int best = 0;
+            for (int i = 0; i < size; i++) {
+                if (heights[i] >= y && stars[i] > best) {
+                    best = stars[i];
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -10,6 +10,7 @@ public class Plant {
     private final UUID id;
     private final String strainId;
     private final Location location;
+    private BlockKey blockKey; // Derived from location on first use
     private final UUID ownerUuid;
     private final long plantedTime;
     
@@ -31,6 +32,13 @@ public class Plant {
     
     // Cooldown tracking for watering quality bonus
     private long lastWateringBonusTime;
+    
+    // When water and nutrients last decayed; not persisted, reset when the plant becomes active
+    private long lastCareDecay;
+    
+    // Called when a persisted field changes
+    private Runnable changeListener;
+    
     // Default cooldown - can be overridden by config via FarmingManager
     private static final long DEFAULT_WATERING_BONUS_COOLDOWN_MS = 60000L;
 
@@ -88,6 +96,16 @@ public class Plant {
         this.lastWateringBonusTime = 0;
     }
 
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void markDirty() {
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+
     public UUID getId() {
         return id;
     }
@@ -113,6 +131,7 @@ public class Plant {
     }
 
     public void setGrowthStage(int growthStage) {
+        markDirty();
         this.growthStage = Math.max(0, Math.min(3, growthStage));
     }
 
@@ -121,6 +140,7 @@ public class Plant {
     }
 
     public void setQuality(int quality) {
+        markDirty();
         this.quality = Math.max(0, Math.min(100, quality));
     }
 
@@ -133,14 +153,24 @@ public class Plant {
     }
 
     public void setLastGrowthUpdate(long lastGrowthUpdate) {
+        markDirty();
         this.lastGrowthUpdate = lastGrowthUpdate;
     }
 
+    public long getLastCareDecay() {
+        return lastCareDecay;
+    }
+
+    public void setLastCareDecay(long lastCareDecay) {
+        this.lastCareDecay = lastCareDecay;
+    }
+
     public boolean isFullyGrown() {
         return growthStage >= 3;
     }
 
     public void grow() {
+        markDirty();
         if (growthStage < 3) {
             growthStage++;
             lastGrowthUpdate = System.currentTimeMillis();
@@ -157,6 +187,16 @@ public class Plant {
         };
     }
 
+    /**
+     * @return The plant's block position as a map key
+     */
+    public BlockKey getBlockKey() {
+        if (blockKey == null) {
+            blockKey = BlockKey.of(location);
+        }
+        return blockKey;
+    }
+
     public String getLocationString() {
         return location.getWorld().getName() + "," + 
                location.getBlockX() + "," + 
@@ -171,6 +211,7 @@ public class Plant {
     }
 
     public void setPotRating(StarRating potRating) {
+        markDirty();
         this.potRating = potRating;
     }
 
@@ -179,6 +220,7 @@ public class Plant {
     }
 
     public void setSeedRating(StarRating seedRating) {
+        markDirty();
         this.seedRating = seedRating;
     }
 
@@ -187,6 +229,7 @@ public class Plant {
     }
 
     public void setLampRating(StarRating lampRating) {
+        markDirty();
         this.lampRating = lampRating;
     }
 
@@ -195,6 +238,7 @@ public class Plant {
     }
 
     public void setFertilizerRating(StarRating fertilizerRating) {
+        markDirty();
         this.fertilizerRating = fertilizerRating;
     }
 
@@ -203,10 +247,12 @@ public class Plant {
     }
 
     public void setWaterLevel(double waterLevel) {
+        markDirty();
         this.waterLevel = Math.max(0, Math.min(1.0, waterLevel));
     }
 
     public void water() {
+        markDirty();
         this.waterLevel = 1.0;
     }
     
@@ -219,6 +265,7 @@ public class Plant {
      * @return true if quality bonus was applied, false if still on cooldown
      */
     public boolean water(StarRating wateringCanRating, long cooldownMs) {
+        markDirty();
         this.waterLevel = 1.0;
         
         // Higher star watering cans give quality bonus when watering
@@ -255,10 +302,12 @@ public class Plant {
     }
 
     public void setNutrientLevel(double nutrientLevel) {
+        markDirty();
         this.nutrientLevel = Math.max(0, Math.min(1.0, nutrientLevel));
     }
 
     public void fertilize(StarRating fertilizerQuality) {
+        markDirty();
         this.fertilizerRating = fertilizerQuality;
         this.nutrientLevel = Math.min(1.0, this.nutrientLevel + (0.2 * fertilizerQuality.getStars()));
     }
@@ -268,6 +317,7 @@ public class Plant {
     }
 
     public void setPotId(UUID potId) {
+        markDirty();
         this.potId = potId;
     }
 
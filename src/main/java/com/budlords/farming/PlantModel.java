@@ -0,0 +1,90 @@
+package com.budlords.farming;
+
+import com.budlords.strain.StrainVisualConfig;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The entities making up one plant's model, as returned by a {@link PlantRenderer}.
+ *
+ * Besides the UUIDs (the stable identity of the entities) the model keeps direct
+ * references to them, so the animation loop does not have to look every entity up
+ * in the world's entity map on each run. References are dropped when the plant's
+ * chunk unloads, since the server creates new entity objects when it loads again,
+ * and are looked up by UUID once more the next time they are needed.
+ *
+ * Renderers subclass this to keep their per-entity animation state next to the refs.
+ */
+public class PlantModel {
+
+    // Consecutive liveness checks without any entity before the model counts as gone
+    private static final int MAX_MISSED_CHECKS = 2;
+
+    private final List<UUID> entityIds;
+    private final StrainVisualConfig config;
+    private Entity[] entities; // null until resolved, entries null while not loaded
+    private int missedChecks;
+
+    public PlantModel(List<UUID> entityIds, StrainVisualConfig config, Entity[] entities) {
+        this.entityIds = entityIds;
+        this.config = config;
+        this.entities = entities;
+    }
+
+    public List<UUID> getEntityIds() {
+        return entityIds;
+    }
+
+    public StrainVisualConfig getConfig() {
+        return config;
+    }
+
+    public int size() {
+        return entityIds.size();
+    }
+
+    /**
+     * Gets the model's entities, indexed like {@link #getEntityIds()}.
+     * Only looks them up by UUID after {@link #invalidate()} or when the held
+     * references went stale; entries are null for entities that are not loaded.
+     */
+    public Entity[] getEntities() {
+        Entity[] current = entities;
+        if (current != null && (current.length == 0 || (current[0] != null && current[0].isValid()))) {
+            return current;
+        }
+
+        Entity[] resolved = new Entity[entityIds.size()];
+        for (int i = 0; i < resolved.length; i++) {
+            resolved[i] = Bukkit.getEntity(entityIds.get(i));
+        }
+        entities = resolved;
+        return resolved;
+    }
+
+    /**
+     * Drops the entity references (chunk unloaded).
+     */
+    public void invalidate() {
+        entities = null;
+    }
+
+    /**
+     * Checks whether any of the model's entities still exists.
+     * Entities load slightly after their chunk, so a model only counts as gone
+     * after several checks in a row found nothing.
+     */
+    public boolean checkAlive() {
+        for (Entity entity : getEntities()) {
+            if (entity != null && entity.isValid()) {
+                missedChecks = 0;
+                return true;
+            }
+        }
+        invalidate();
+        return ++missedChecks < MAX_MISSED_CHECKS;
+    }
+}
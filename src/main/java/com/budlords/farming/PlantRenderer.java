@@ -0,0 +1,90 @@
+package com.budlords.farming;
+
+import com.budlords.farming.PlantVisualizationManager.DetailLevel;
+import com.budlords.quality.StarRating;
+import com.budlords.strain.StrainVisualConfig;
+import com.budlords.strain.StrainVisualConfig.BudType;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+
+/**
+ * Builds and animates the in-world model of a plant.
+ *
+ * PlantVisualizationManager keeps the bookkeeping (which entities belong to which
+ * plant, visual configs, detail level, ambient particles) and hands the entity work
+ * to the renderer selected with {@code farming.visualization-renderer}.
+ */
+public interface PlantRenderer {
+
+    /**
+     * @return The config name of this renderer
+     */
+    String getName();
+
+    /**
+     * Builds the model for the plant's current growth stage.
+     * @return The entities making up the model
+     */
+    PlantModel render(Plant plant, Location loc, StrainVisualConfig config, DetailLevel lod);
+
+    /**
+     * Takes down a model previously returned by {@link #render}.
+     * @return Number of entities that were still present
+     */
+    int remove(PlantModel model);
+
+    /**
+     * Advances the animation of one model. Called from the animation task,
+     * so implementations should not allocate or look entities up per call.
+     */
+    void animate(PlantModel model, long time, DetailLevel lod);
+
+    /**
+     * Releases everything still held by the renderer (plugin disable).
+     */
+    void shutdown();
+
+    /**
+     * Creates a bud item based on the visual config and bud type.
+     * This supports skulls, heads, and special materials for unique strains.
+     */
+    static ItemStack createBudItem(StarRating rating, BudType budType, StrainVisualConfig config) {
+        if (budType == null) budType = BudType.NORMAL;
+        
+        // Use the bud type's default material
+        Material budMaterial = budType.getDefaultMaterial();
+        
+        // For normal type, adjust based on quality
+        if (budType == BudType.NORMAL) {
+            if (rating == null) {
+                budMaterial = Material.GREEN_WOOL;
+            } else {
+                budMaterial = switch (rating) {
+                    case ONE_STAR -> Material.MOSS_BLOCK;
+                    case TWO_STAR -> Material.GREEN_WOOL;
+                    case THREE_STAR -> Material.LIME_WOOL;
+                    case FOUR_STAR -> Material.LIME_CONCRETE;
+                    case FIVE_STAR -> Material.EMERALD_BLOCK;
+                    case SIX_STAR -> Material.DIAMOND_BLOCK;
+                };
+            }
+        }
+        
+        ItemStack budItem = new ItemStack(budMaterial);
+        
+        // For player head type, set custom texture or owner
+        if (budType == BudType.PLAYER_HEAD && config != null) {
+            if (config.getCustomHeadOwner() != null) {
+                SkullMeta meta = (SkullMeta) budItem.getItemMeta();
+                if (meta != null) {
+                    meta.setOwner(config.getCustomHeadOwner());
+                    budItem.setItemMeta(meta);
+                }
+            }
+        }
+        
+        return budItem;
+    }
+}
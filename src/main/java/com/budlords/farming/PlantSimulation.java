@@ -0,0 +1,251 @@
+package com.budlords.farming;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The one periodic pass over plants in loaded chunks.
+ *
+ * Care decay, rain, disease checks and the particle effects used to be separate timers,
+ * each walking every plant at its own interval. They are now stages of this pipeline,
+ * which sweeps the plants once per {@link #PASS_TICKS} ticks: each tick takes the next
+ * slice of plants, and runs every stage that is due this pass on a plant before moving
+ * on to the next one. A stage with a period of n ticks runs on every n / PASS_TICKS-th
+ * pass.
+ *
+ * A tick stops once the time budget is spent; the rest of the slice carries over, and
+ * the pass simply takes longer than PASS_TICKS.
+ *
+ * Main thread only.
+ */
+public class PlantSimulation {
+
+    /**
+     * Ticks a full pass over the plants is spread over.
+     */
+    public static final int PASS_TICKS = 20;
+
+    /**
+     * Work done on each plant by a stage.
+     */
+    public interface Stage {
+
+        /**
+         * Called before the first plant of a pass the stage runs in.
+         */
+        default void beginPass() {
+        }
+
+        void tick(Plant plant);
+
+        /**
+         * Called after the last plant of a pass the stage runs in.
+         */
+        default void endPass() {
+        }
+    }
+
+    /**
+     * A registered stage and its timings.
+     */
+    public static final class StageInfo {
+        private final String name;
+        private final int periodTicks;
+        private final int periodPasses;
+        private final Stage stage;
+
+        private boolean running;
+        private long invocations;
+        private long totalNanos;
+        private long passNanos;
+        private long lastPassNanos;
+        private int lastPassPlants;
+        private int passPlants;
+
+        private StageInfo(String name, int periodTicks, Stage stage) {
+            this.name = name;
+            this.periodTicks = periodTicks;
+            this.periodPasses = Math.max(1, Math.round((float) periodTicks / PASS_TICKS));
+            this.stage = stage;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPeriodTicks() {
+            return periodTicks;
+        }
+
+        /**
+         * @return How many plants the stage was run on since startup
+         */
+        public long getInvocations() {
+            return invocations;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return Time spent in the stage during the last pass it ran in
+         */
+        public long getLastPassNanos() {
+            return lastPassNanos;
+        }
+
+        public int getLastPassPlants() {
+            return lastPassPlants;
+        }
+    }
+
+    private final Supplier<? extends Collection<Plant>> plantSource;
+    private final List<StageInfo> stages;
+
+    // Plants of the current pass, and how far the pass got
+    private Plant[] passPlants;
+    private int cursor;
+    private int passTick;
+    private long pass;
+
+    // Stats
+    private long lastTickNanos;
+    private int lastPassTicks;
+    private long overBudgetTicks;
+
+    /**
+     * @param plantSource The plants to simulate; copied at the start of each pass
+     */
+    public PlantSimulation(Supplier<? extends Collection<Plant>> plantSource) {
+        this.plantSource = plantSource;
+        this.stages = new ArrayList<>();
+        this.passPlants = new Plant[0];
+        this.passTick = PASS_TICKS; // The first tick starts a pass
+    }
+
+    /**
+     * Adds a stage, run on every plant about every periodTicks ticks.
+     * Stages run on a plant in the order they were added.
+     */
+    public void addStage(String name, int periodTicks, Stage stage) {
+        stages.add(new StageInfo(name, periodTicks, stage));
+    }
+
+    public List<StageInfo> getStages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * Runs one tick of the pipeline.
+     *
+     * @param budgetNanos Maximum time to spend on plants this tick
+     * @param isLive Whether a plant of the pass is still simulated; plants removed or
+     *               put to sleep since the pass started are skipped
+     * @return How many plants were simulated this tick
+     */
+    public int tick(long budgetNanos, Predicate<Plant> isLive) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+
+        if (cursor >= passPlants.length && passTick >= PASS_TICKS) {
+            finishPass();
+            startPass();
+        }
+        passTick++;
+
+        // Spread what is left of the pass evenly over the ticks left in it
+        int ticksLeft = Math.max(1, PASS_TICKS - passTick + 1);
+        int remaining = passPlants.length - cursor;
+        int slice = (remaining + ticksLeft - 1) / ticksLeft;
+
+        // At least one plant per tick, so the pass always moves on
+        boolean overBudget = false;
+        int simulated = 0;
+        for (int first = cursor, end = cursor + slice; cursor < end; cursor++) {
+            if (cursor > first && System.nanoTime() >= deadline) {
+                overBudget = true;
+                break;
+            }
+
+            Plant plant = passPlants[cursor];
+            passPlants[cursor] = null;
+            if (!isLive.test(plant)) continue;
+            simulated++;
+
+            for (StageInfo info : stages) {
+                if (!info.running) continue;
+                long stageStart = System.nanoTime();
+                info.stage.tick(plant);
+                info.passNanos += System.nanoTime() - stageStart;
+                info.passPlants++;
+            }
+        }
+
+        if (overBudget) {
+            overBudgetTicks++;
+        }
+        lastTickNanos = System.nanoTime() - start;
+        return simulated;
+    }
+
+    private void startPass() {
+        pass++;
+        passPlants = plantSource.get().toArray(new Plant[0]);
+        cursor = 0;
+        passTick = 0;
+
+        for (StageInfo info : stages) {
+            info.running = pass % info.periodPasses == 0;
+            if (info.running) {
+                long stageStart = System.nanoTime();
+                info.stage.beginPass();
+                info.passNanos = System.nanoTime() - stageStart;
+                info.passPlants = 0;
+            }
+        }
+    }
+
+    private void finishPass() {
+        lastPassTicks = passTick;
+        for (StageInfo info : stages) {
+            if (!info.running) continue;
+            long stageStart = System.nanoTime();
+            info.stage.endPass();
+            info.passNanos += System.nanoTime() - stageStart;
+
+            info.lastPassNanos = info.passNanos;
+            info.lastPassPlants = info.passPlants;
+            info.totalNanos += info.passNanos;
+            info.invocations += info.passPlants;
+            info.running = false;
+        }
+    }
+
+    /**
+     * @return Time the last tick took
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * @return How many ticks the last pass took; more than PASS_TICKS means the budget
+     *         couldn't keep up
+     */
+    public int getLastPassTicks() {
+        return lastPassTicks;
+    }
+
+    public long getOverBudgetTicks() {
+        return overBudgetTicks;
+    }
+
+    public long getPasses() {
+        return pass;
+    }
+}
@@ -0,0 +1,416 @@
+package com.budlords.farming;
+
+import com.budlords.BudLords;
+import com.budlords.farming.PlantVisualizationManager.DetailLevel;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Tracks which plant visuals can actually be seen, and how closely.
+ *
+ * Players and plants are bucketed by chunk. Each plant chunk gets a detail level
+ * from the chunk distance to the nearest player: HIGH next to a viewer, MEDIUM a
+ * little further out, LOW up to the view distance, and none beyond that or while
+ * the chunk is unloaded. Plants without a detail level get no animation or particle
+ * work at all.
+ *
+ * Nothing is polled: levels are re-evaluated only for the plant chunks around a
+ * player when they cross a chunk border, join, quit, teleport or respawn, and for
+ * a single chunk when it loads or unloads. Main thread only.
+ */
+public class PlantViewTracker implements Listener {
+
+    // Chunk distances (Chebyshev) up to which a viewer gives HIGH / MEDIUM detail
+    private static final int HIGH_DETAIL_CHUNKS = 1;
+    private static final int MEDIUM_DETAIL_CHUNKS = 2;
+
+    // Model detail thresholds for the plants in the surrounding 3x3 chunks
+    private static final int HIGH_MODEL_PLANTS = 10;
+    private static final int MEDIUM_MODEL_PLANTS = 20;
+
+    private final int viewDistance; // In chunks
+
+    // Plant block -> block location of the plant
+    private final Map<BlockKey, Location> plants;
+    // worldId -> (chunkKey -> plants in that chunk)
+    private final Map<UUID, Map<Long, Set<BlockKey>>> plantChunks;
+    // worldId -> (chunkKey -> number of players in that chunk)
+    private final Map<UUID, Map<Long, Integer>> viewerChunks;
+    // playerId -> chunk the player was last counted in
+    private final Map<UUID, ViewerPosition> viewers;
+    // worldId -> (chunkKey -> detail level) for plant chunks with a viewer in range
+    private final Map<UUID, Map<Long, DetailLevel>> chunkDetail;
+    // Plants with at least one viewer in range, with their current detail level
+    private final Map<BlockKey, DetailLevel> viewedPlants;
+    // The same plants in an indexable list (swap-remove), for round-robin cursors
+    private final List<BlockKey> viewedOrder;
+    private final Map<BlockKey, Integer> viewedSlots;
+
+    // Notified with each plant of a chunk that is about to unload
+    private Consumer<BlockKey> unloadListener;
+
+    private long reevaluations;
+
+    public PlantViewTracker(BudLords plugin, int viewDistance) {
+        this.viewDistance = Math.max(MEDIUM_DETAIL_CHUNKS, viewDistance);
+        this.plants = new HashMap<>();
+        this.plantChunks = new HashMap<>();
+        this.viewerChunks = new HashMap<>();
+        this.viewers = new HashMap<>();
+        this.chunkDetail = new HashMap<>();
+        this.viewedPlants = new HashMap<>();
+        this.viewedOrder = new ArrayList<>();
+        this.viewedSlots = new HashMap<>();
+
+        // Pick up players already online (plugin reload)
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            moveViewer(player.getUniqueId(), player.getLocation());
+        }
+
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    // ===== PLANTS =====
+
+    /**
+     * Starts tracking a plant visual. Does nothing if it is already tracked.
+     */
+    public void addPlant(BlockKey locKey, Location loc) {
+        World world = loc.getWorld();
+        if (world == null || plants.containsKey(locKey)) return;
+
+        Location blockLoc = new Location(world, loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+        plants.put(locKey, blockLoc);
+
+        UUID worldId = world.getUID();
+        long chunkKey = locKey.getChunkKey();
+        plantChunks.computeIfAbsent(worldId, id -> new HashMap<>())
+            .computeIfAbsent(chunkKey, key -> new HashSet<>())
+            .add(locKey);
+
+        DetailLevel lod = getChunkDetail(worldId, chunkKey);
+        if (lod != null) {
+            markViewed(locKey, lod);
+        } else {
+            evaluateChunk(worldId, chunkKey, world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4));
+        }
+    }
+
+    /**
+     * Stops tracking a plant visual.
+     */
+    public void removePlant(BlockKey locKey) {
+        Location loc = plants.remove(locKey);
+        markUnviewed(locKey);
+        if (loc == null) return;
+
+        UUID worldId = locKey.getWorldId();
+        long chunkKey = locKey.getChunkKey();
+        Map<Long, Set<BlockKey>> chunks = plantChunks.get(worldId);
+        if (chunks == null) return;
+
+        Set<BlockKey> inChunk = chunks.get(chunkKey);
+        if (inChunk != null && inChunk.remove(locKey) && inChunk.isEmpty()) {
+            chunks.remove(chunkKey);
+            Map<Long, DetailLevel> details = chunkDetail.get(worldId);
+            if (details != null) details.remove(chunkKey);
+        }
+    }
+
+    /**
+     * @return The plant's animation/particle detail level, or null if nobody is close enough to see it
+     */
+    public DetailLevel getDetailLevel(BlockKey locKey) {
+        return viewedPlants.get(locKey);
+    }
+
+    /**
+     * Gets a viewed plant by position, for cursors that walk the viewed plants
+     * round-robin. Positions shift as plants gain or lose viewers.
+     * @param index 0 to {@link #getViewedCount()} - 1
+     */
+    public BlockKey getViewedPlant(int index) {
+        return viewedOrder.get(index);
+    }
+
+    /**
+     * Sets the callback run for every tracked plant in a chunk that is unloading.
+     */
+    public void setUnloadListener(Consumer<BlockKey> unloadListener) {
+        this.unloadListener = unloadListener;
+    }
+
+    /**
+     * @return Block location of a tracked plant, or null
+     */
+    public Location getPlantLocation(BlockKey locKey) {
+        return plants.get(locKey);
+    }
+
+    /**
+     * Model detail for a plant, from how many plants stand in the surrounding 3x3 chunks.
+     * A big farm only simplifies its own models instead of every plant on the server.
+     */
+    public DetailLevel getModelDetail(Location loc) {
+        if (loc.getWorld() == null) return DetailLevel.HIGH;
+        Map<Long, Set<BlockKey>> chunks = plantChunks.get(loc.getWorld().getUID());
+        if (chunks == null) return DetailLevel.HIGH;
+
+        int chunkX = loc.getBlockX() >> 4;
+        int chunkZ = loc.getBlockZ() >> 4;
+        int nearby = 0;
+        for (int cx = chunkX - 1; cx <= chunkX + 1; cx++) {
+            for (int cz = chunkZ - 1; cz <= chunkZ + 1; cz++) {
+                Set<BlockKey> inChunk = chunks.get(SpatialIndex.chunkKey(cx, cz));
+                if (inChunk != null) nearby += inChunk.size();
+            }
+        }
+
+        if (nearby < HIGH_MODEL_PLANTS) return DetailLevel.HIGH;
+        if (nearby < MEDIUM_MODEL_PLANTS) return DetailLevel.MEDIUM;
+        return DetailLevel.LOW;
+    }
+
+    // ===== VIEWERS =====
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        moveViewer(event.getPlayer().getUniqueId(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        removeViewer(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null) return;
+        // Most moves stay inside a chunk
+        if ((from.getBlockX() >> 4) == (to.getBlockX() >> 4) && (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4)
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        moveViewer(event.getPlayer().getUniqueId(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        if (event.getTo() != null) {
+            moveViewer(event.getPlayer().getUniqueId(), event.getTo());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        moveViewer(event.getPlayer().getUniqueId(), event.getRespawnLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        evaluateChunkIfPlanted(event.getWorld().getUID(), event.getChunk().getX(), event.getChunk().getZ(), true);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        UUID worldId = event.getWorld().getUID();
+        Map<Long, Set<BlockKey>> chunks = plantChunks.get(worldId);
+        Set<BlockKey> inChunk = chunks != null
+            ? chunks.get(SpatialIndex.chunkKey(event.getChunk().getX(), event.getChunk().getZ())) : null;
+        if (inChunk == null) return;
+
+        if (unloadListener != null) {
+            for (BlockKey locKey : inChunk) {
+                unloadListener.accept(locKey);
+            }
+        }
+        evaluateChunkIfPlanted(worldId, event.getChunk().getX(), event.getChunk().getZ(), false);
+    }
+
+    private void moveViewer(UUID playerId, Location loc) {
+        World world = loc.getWorld();
+        if (world == null) return;
+
+        ViewerPosition next = new ViewerPosition(world.getUID(), loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+        ViewerPosition previous = viewers.put(playerId, next);
+        if (next.equals(previous)) return;
+
+        if (previous != null) {
+            adjustViewerCount(previous, -1);
+        }
+        adjustViewerCount(next, 1);
+
+        if (previous != null) {
+            reevaluateAround(previous);
+        }
+        reevaluateAround(next);
+    }
+
+    private void removeViewer(UUID playerId) {
+        ViewerPosition previous = viewers.remove(playerId);
+        if (previous == null) return;
+        adjustViewerCount(previous, -1);
+        reevaluateAround(previous);
+    }
+
+    private void adjustViewerCount(ViewerPosition pos, int delta) {
+        Map<Long, Integer> chunks = viewerChunks.computeIfAbsent(pos.worldId(), id -> new HashMap<>());
+        long key = SpatialIndex.chunkKey(pos.chunkX(), pos.chunkZ());
+        int count = chunks.getOrDefault(key, 0) + delta;
+        if (count <= 0) {
+            chunks.remove(key);
+        } else {
+            chunks.put(key, count);
+        }
+    }
+
+    // ===== EVALUATION =====
+
+    /**
+     * Re-evaluates the plant chunks a viewer at {@code pos} can affect.
+     */
+    private void reevaluateAround(ViewerPosition pos) {
+        Map<Long, Set<BlockKey>> chunks = plantChunks.get(pos.worldId());
+        if (chunks == null || chunks.isEmpty()) return;
+
+        World world = Bukkit.getWorld(pos.worldId());
+        if (world == null) return;
+
+        for (int cx = pos.chunkX() - viewDistance; cx <= pos.chunkX() + viewDistance; cx++) {
+            for (int cz = pos.chunkZ() - viewDistance; cz <= pos.chunkZ() + viewDistance; cz++) {
+                long key = SpatialIndex.chunkKey(cx, cz);
+                if (chunks.containsKey(key)) {
+                    evaluateChunk(pos.worldId(), key, world.isChunkLoaded(cx, cz));
+                }
+            }
+        }
+    }
+
+    private void evaluateChunkIfPlanted(UUID worldId, int chunkX, int chunkZ, boolean loaded) {
+        Map<Long, Set<BlockKey>> chunks = plantChunks.get(worldId);
+        long key = SpatialIndex.chunkKey(chunkX, chunkZ);
+        if (chunks != null && chunks.containsKey(key)) {
+            evaluateChunk(worldId, key, loaded);
+        }
+    }
+
+    /**
+     * Recomputes a plant chunk's detail level and pushes a change to its plants.
+     */
+    private void evaluateChunk(UUID worldId, long chunkKey, boolean loaded) {
+        reevaluations++;
+        DetailLevel lod = loaded ? nearestViewerDetail(worldId, (int) (chunkKey >> 32), (int) chunkKey) : null;
+
+        Map<Long, DetailLevel> details = chunkDetail.computeIfAbsent(worldId, id -> new HashMap<>());
+        DetailLevel previous = lod == null ? details.remove(chunkKey) : details.put(chunkKey, lod);
+        if (previous == lod) return;
+
+        Map<Long, Set<BlockKey>> chunks = plantChunks.get(worldId);
+        Set<BlockKey> inChunk = chunks != null ? chunks.get(chunkKey) : null;
+        if (inChunk == null) return;
+        for (BlockKey locKey : inChunk) {
+            if (lod == null) {
+                markUnviewed(locKey);
+            } else {
+                markViewed(locKey, lod);
+            }
+        }
+    }
+
+    private void markViewed(BlockKey locKey, DetailLevel lod) {
+        if (viewedPlants.put(locKey, lod) == null) {
+            viewedSlots.put(locKey, viewedOrder.size());
+            viewedOrder.add(locKey);
+        }
+    }
+
+    private void markUnviewed(BlockKey locKey) {
+        if (viewedPlants.remove(locKey) == null) return;
+
+        // Swap the last plant into the freed slot
+        int slot = viewedSlots.remove(locKey);
+        BlockKey last = viewedOrder.remove(viewedOrder.size() - 1);
+        if (slot < viewedOrder.size()) {
+            viewedOrder.set(slot, last);
+            viewedSlots.put(last, slot);
+        }
+    }
+
+    /**
+     * Detail level from the chunk distance to the closest viewer, or null if none is in range.
+     */
+    private DetailLevel nearestViewerDetail(UUID worldId, int chunkX, int chunkZ) {
+        Map<Long, Integer> chunks = viewerChunks.get(worldId);
+        if (chunks == null || chunks.isEmpty()) return null;
+
+        // Search outwards ring by ring so the closest viewer ends the search
+        for (int ring = 0; ring <= viewDistance; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                int step = Math.abs(dx) == ring ? 1 : ring * 2;
+                for (int dz = -ring; dz <= ring; dz += Math.max(1, step)) {
+                    if (chunks.containsKey(SpatialIndex.chunkKey(chunkX + dx, chunkZ + dz))) {
+                        if (ring <= HIGH_DETAIL_CHUNKS) return DetailLevel.HIGH;
+                        if (ring <= MEDIUM_DETAIL_CHUNKS) return DetailLevel.MEDIUM;
+                        return DetailLevel.LOW;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private DetailLevel getChunkDetail(UUID worldId, long chunkKey) {
+        Map<Long, DetailLevel> details = chunkDetail.get(worldId);
+        return details != null ? details.get(chunkKey) : null;
+    }
+
+    public int getTrackedCount() {
+        return plants.size();
+    }
+
+    public int getViewedCount() {
+        return viewedPlants.size();
+    }
+
+    /**
+     * @return Plant chunk evaluations performed since startup
+     */
+    public long getReevaluationCount() {
+        return reevaluations;
+    }
+
+    public void clear() {
+        plants.clear();
+        plantChunks.clear();
+        chunkDetail.clear();
+        viewedPlants.clear();
+        viewedOrder.clear();
+        viewedSlots.clear();
+    }
+
+    private record ViewerPosition(UUID worldId, int chunkX, int chunkZ) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.budlords.farming;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Online player positions captured once per tick and bucketed by chunk.
+ *
+ * Used for the cooperative farming bonus: instead of measuring the distance from
+ * every plant to every player in the world, the players that can possibly reach a
+ * chunk of plants are collected once per plant chunk, and only those few are
+ * distance-checked for each plant in it.
+ *
+ * The snapshot is rebuilt lazily on the first query after {@link #markStale()}, so
+ * ticks without growth checks never touch player locations. Main thread only.
+ */
+public class PlayerPositionSnapshot {
+
+    private final double radius;
+    private final double radiusSq;
+    // How many chunks a player can be away from a plant chunk and still reach it
+    private final int chunkReach;
+
+    // worldId -> (chunkKey -> player coordinates as x,y,z triples)
+    private final Map<UUID, Map<Long, double[]>> playerChunks;
+    // worldId -> (plant chunkKey -> players that can reach that chunk this tick)
+    private final Map<UUID, Map<Long, double[]>> candidateCache;
+    private boolean stale;
+
+    // Distance checks performed since the last rebuild / overall
+    private int lastDistanceChecks;
+    private int distanceChecks;
+    private long totalDistanceChecks;
+
+    private static final double[] NO_PLAYERS = new double[0];
+
+    public PlayerPositionSnapshot(double radius) {
+        this.radius = radius;
+        this.radiusSq = radius * radius;
+        this.chunkReach = ((int) Math.ceil(radius) >> 4) + 1;
+        this.playerChunks = new HashMap<>();
+        this.candidateCache = new HashMap<>();
+        this.stale = true;
+    }
+
+    /**
+     * Marks the snapshot out of date; it is rebuilt on the next query.
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    /**
+     * Counts players within the radius of a block, stopping once {@code limit} is reached.
+     */
+    public int countPlayersNear(Location location, int limit) {
+        World world = location.getWorld();
+        if (world == null) return 0;
+        if (stale) rebuild();
+
+        UUID worldId = world.getUID();
+        int blockX = location.getBlockX();
+        int blockZ = location.getBlockZ();
+        double[] candidates = getCandidates(worldId, blockX >> 4, blockZ >> 4);
+        if (candidates.length == 0) return 0;
+
+        int count = 0;
+        for (int i = 0; i < candidates.length && count < limit; i += 3) {
+            double dx = candidates[i] - blockX;
+            double dy = candidates[i + 1] - location.getBlockY();
+            double dz = candidates[i + 2] - blockZ;
+            distanceChecks++;
+            if (dx * dx + dy * dy + dz * dz <= radiusSq) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Collects the players whose horizontal distance to the plant chunk is within the
+     * radius. Computed once per plant chunk per snapshot and shared by all its plants.
+     */
+    private double[] getCandidates(UUID worldId, int chunkX, int chunkZ) {
+        Map<Long, double[]> worldPlayers = playerChunks.get(worldId);
+        if (worldPlayers == null) return NO_PLAYERS;
+
+        Map<Long, double[]> cache = candidateCache.computeIfAbsent(worldId, id -> new HashMap<>());
+        long key = SpatialIndex.chunkKey(chunkX, chunkZ);
+        double[] cached = cache.get(key);
+        if (cached != null) return cached;
+
+        double minX = chunkX << 4;
+        double minZ = chunkZ << 4;
+        double maxX = minX + 15;
+        double maxZ = minZ + 15;
+
+        double[] result = NO_PLAYERS;
+        int size = 0;
+        for (int cx = chunkX - chunkReach; cx <= chunkX + chunkReach; cx++) {
+            for (int cz = chunkZ - chunkReach; cz <= chunkZ + chunkReach; cz++) {
+                double[] positions = worldPlayers.get(SpatialIndex.chunkKey(cx, cz));
+                if (positions == null) continue;
+
+                for (int i = 0; i < positions.length; i += 3) {
+                    // Horizontal gap between the player and the chunk's block area
+                    double gapX = Math.max(0, Math.max(minX - positions[i], positions[i] - maxX));
+                    double gapZ = Math.max(0, Math.max(minZ - positions[i + 2], positions[i + 2] - maxZ));
+                    if (gapX * gapX + gapZ * gapZ > radiusSq) continue;
+
+                    if (size + 3 > result.length) {
+                        result = Arrays.copyOf(result, Math.max(6, result.length * 2));
+                    }
+                    System.arraycopy(positions, i, result, size, 3);
+                    size += 3;
+                }
+            }
+        }
+
+        if (size != result.length) {
+            result = size == 0 ? NO_PLAYERS : Arrays.copyOf(result, size);
+        }
+        cache.put(key, result);
+        return result;
+    }
+
+    private void rebuild() {
+        playerChunks.clear();
+        candidateCache.clear();
+        totalDistanceChecks += distanceChecks;
+        lastDistanceChecks = distanceChecks;
+        distanceChecks = 0;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Location loc = player.getLocation();
+            World world = loc.getWorld();
+            if (world == null) continue;
+
+            long key = SpatialIndex.chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+            Map<Long, double[]> chunks = playerChunks.computeIfAbsent(world.getUID(), id -> new HashMap<>());
+            double[] existing = chunks.get(key);
+            double[] positions = existing == null ? new double[3] : Arrays.copyOf(existing, existing.length + 3);
+            int offset = positions.length - 3;
+            positions[offset] = loc.getX();
+            positions[offset + 1] = loc.getY();
+            positions[offset + 2] = loc.getZ();
+            chunks.put(key, positions);
+        }
+        stale = false;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * @return Distance checks performed by the last completed snapshot pass
+     */
+    public int getLastDistanceChecks() {
+        return lastDistanceChecks;
+    }
+
+    /**
+     * @return Distance checks performed since startup
+     */
+    public long getTotalDistanceChecks() {
+        return totalDistanceChecks + distanceChecks;
+    }
+}
@@ -0,0 +1,225 @@
+package com.budlords.farming;
+
+import com.budlords.BudLords;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers which plants are open to the sky, for rain watering and weather effects.
+ *
+ * A plant is exposed when the highest block of its column is at most the block above
+ * it. Weather passes used to probe that with getHighestBlockYAt for every plant, every
+ * time, and loaded the chunks of plants nobody was near. Now each plant is probed once
+ * and the flag is kept per block column (x, z) until a block above the plant in its
+ * column changes: placed, broken, blown up, grown, burnt, decayed, formed or faded, pushed
+ * by a piston, flowed into, or changed by an entity (falling blocks, endermen).
+ *
+ * Only loaded chunks are probed. Plants in unloaded chunks sleep (see FarmingManager)
+ * and are probed when they wake up and catch up on the rain they missed.
+ *
+ * Main thread only.
+ */
+public class SkyExposureMap implements Listener {
+
+    // worldId -> (columnKey -> plant height -> exposed)
+    private final Map<UUID, Map<Long, Map<Integer, Boolean>>> worlds;
+
+    private long probes;
+
+    public SkyExposureMap(BudLords plugin) {
+        this.worlds = new HashMap<>();
+
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * @return Whether the plant is open to the sky, or null if that isn't known yet and
+     *         its chunk isn't loaded
+     */
+    public Boolean getExposure(Plant plant) {
+        Location loc = plant.getLocation();
+        World world = loc.getWorld();
+        if (world == null) return null;
+
+        Map<Integer, Boolean> column = getColumn(world.getUID(), loc.getBlockX(), loc.getBlockZ());
+        Boolean exposed = column != null ? column.get(loc.getBlockY()) : null;
+        if (exposed != null) return exposed;
+
+        if (!world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) return null;
+        return probe(world, loc);
+    }
+
+    /**
+     * @return Whether the plant is known to be open to the sky
+     */
+    public boolean isExposed(Plant plant) {
+        return Boolean.TRUE.equals(getExposure(plant));
+    }
+
+    /**
+     * Drops the flag of a plant that was removed.
+     */
+    public void forget(Location loc) {
+        World world = loc.getWorld();
+        if (world == null) return;
+        Map<Long, Map<Integer, Boolean>> columns = worlds.get(world.getUID());
+        if (columns == null) return;
+
+        long key = SpatialIndex.chunkKey(loc.getBlockX(), loc.getBlockZ());
+        Map<Integer, Boolean> column = columns.get(key);
+        if (column != null && column.remove(loc.getBlockY()) != null && column.isEmpty()) {
+            columns.remove(key);
+        }
+    }
+
+    /**
+     * @return How many times the world was probed since startup
+     */
+    public long getProbes() {
+        return probes;
+    }
+
+    private boolean probe(World world, Location loc) {
+        probes++;
+        boolean exposed = world.getHighestBlockYAt(loc) <= loc.getBlockY() + 1;
+        worlds.computeIfAbsent(world.getUID(), id -> new HashMap<>())
+            .computeIfAbsent(SpatialIndex.chunkKey(loc.getBlockX(), loc.getBlockZ()), k -> new HashMap<>())
+            .put(loc.getBlockY(), exposed);
+        return exposed;
+    }
+
+    private Map<Integer, Boolean> getColumn(UUID worldId, int x, int z) {
+        Map<Long, Map<Integer, Boolean>> columns = worlds.get(worldId);
+        return columns != null ? columns.get(SpatialIndex.chunkKey(x, z)) : null;
+    }
+
+    /**
+     * Drops the flags of the plants below a changed block.
+     */
+    private void blockChanged(UUID worldId, int x, int y, int z) {
+        Map<Long, Map<Integer, Boolean>> columns = worlds.get(worldId);
+        if (columns == null) return;
+
+        long key = SpatialIndex.chunkKey(x, z);
+        Map<Integer, Boolean> column = columns.get(key);
+        if (column == null) return;
+
+        column.keySet().removeIf(plantY -> plantY < y);
+        if (column.isEmpty()) {
+            columns.remove(key);
+        }
+    }
+
+    private void blockChanged(Block block) {
+        blockChanged(block.getWorld().getUID(), block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Drops the flags below the blocks a piston moves and below the piston head. Both
+     * neighbours along the piston's axis are dropped, as retract events don't agree across
+     * versions on which way the direction points.
+     */
+    private void pistonMoved(Block piston, List<Block> blocks, BlockFace direction) {
+        blockChanged(piston.getRelative(direction));
+        blockChanged(piston.getRelative(direction.getOppositeFace()));
+        for (Block block : blocks) {
+            blockChanged(block);
+            blockChanged(block.getRelative(direction));
+            blockChanged(block.getRelative(direction.getOppositeFace()));
+        }
+    }
+
+    // ===== EVENTS =====
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        blockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        blockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        event.blockList().forEach(this::blockChanged);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        event.blockList().forEach(this::blockChanged);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        blockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        blockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        blockChanged(event.getBlock()); // Also spreading, which is a form event
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        blockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFluidFlow(BlockFromToEvent event) {
+        blockChanged(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        pistonMoved(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        pistonMoved(event.getBlock(), event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        blockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        UUID worldId = event.getWorld().getUID();
+        for (BlockState state : event.getBlocks()) {
+            blockChanged(worldId, state.getX(), state.getY(), state.getZ());
+        }
+    }
+}
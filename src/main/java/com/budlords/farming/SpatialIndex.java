@@ -0,0 +1,360 @@
+package com.budlords.farming;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-world, chunk-bucketed spatial index for block-positioned objects (plants, lamps, ...).
+ *
+ * Block positions are packed into a single long (26 bits X, 26 bits Z, 12 bits Y) and
+ * grouped into one bucket per 16x16 chunk column. Each bucket stores its keys in a
+ * primitive long[] with a parallel value array, so radius and box queries only touch
+ * the handful of buckets overlapping the query area instead of every entry on the server.
+ *
+ * Not thread-safe for writers: mutate from the main server thread only.
+ */
+public class SpatialIndex<T> {
+
+    private static final int INITIAL_BUCKET_CAPACITY = 8;
+
+    // worldId -> (chunkKey -> bucket)
+    private final Map<UUID, Map<Long, Bucket<T>>> worlds;
+    private int size;
+
+    public SpatialIndex() {
+        this.worlds = new ConcurrentHashMap<>();
+    }
+
+    // ====== KEY PACKING ======
+
+    /**
+     * Packs block coordinates into a single long.
+     * Layout: X (26 bits) | Z (26 bits) | Y (12 bits), matching vanilla block positions.
+     */
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    /**
+     * Packs chunk coordinates into a single long bucket key.
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    // ====== MUTATION ======
+
+    /**
+     * Inserts or replaces the value at the given block.
+     * @return The previous value at that block, or null
+     */
+    public T put(UUID worldId, int x, int y, int z, T value) {
+        Map<Long, Bucket<T>> chunks = worlds.computeIfAbsent(worldId, id -> new HashMap<>());
+        Bucket<T> bucket = chunks.computeIfAbsent(chunkKey(x >> 4, z >> 4), k -> new Bucket<>());
+        T previous = bucket.put(pack(x, y, z), value);
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    public T put(Location location, T value) {
+        return put(location.getWorld().getUID(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), value);
+    }
+
+    /**
+     * Removes the value at the given block.
+     * @return The removed value, or null if nothing was indexed there
+     */
+    public T remove(UUID worldId, int x, int y, int z) {
+        Map<Long, Bucket<T>> chunks = worlds.get(worldId);
+        if (chunks == null) return null;
+
+        long chunk = chunkKey(x >> 4, z >> 4);
+        Bucket<T> bucket = chunks.get(chunk);
+        if (bucket == null) return null;
+
+        T removed = bucket.remove(pack(x, y, z));
+        if (removed != null) {
+            size--;
+            if (bucket.size() == 0) {
+                chunks.remove(chunk);
+            }
+        }
+        return removed;
+    }
+
+    public T remove(Location location) {
+        return remove(location.getWorld().getUID(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public void clear() {
+        worlds.clear();
+        size = 0;
+    }
+
+    // ====== QUERIES ======
+
+    public T get(UUID worldId, int x, int y, int z) {
+        Map<Long, Bucket<T>> chunks = worlds.get(worldId);
+        if (chunks == null) return null;
+        Bucket<T> bucket = chunks.get(chunkKey(x >> 4, z >> 4));
+        return bucket != null ? bucket.get(pack(x, y, z)) : null;
+    }
+
+    public T get(Location location) {
+        return get(location.getWorld().getUID(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visits every value inside the inclusive block box.
+     * Pass Integer.MIN_VALUE / Integer.MAX_VALUE for an unbounded Y range.
+     */
+    public void forEachInBox(UUID worldId, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                             Consumer<T> consumer) {
+        Map<Long, Bucket<T>> chunks = worlds.get(worldId);
+        if (chunks == null || chunks.isEmpty()) return;
+
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                Bucket<T> bucket = chunks.get(chunkKey(cx, cz));
+                if (bucket == null) continue;
+
+                for (int i = 0; i < bucket.size; i++) {
+                    long key = bucket.keys[i];
+                    int x = unpackX(key);
+                    int y = unpackY(key);
+                    int z = unpackZ(key);
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                        consumer.accept(bucket.valueAt(i));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits every value whose block position is within {@code radius} of the given point.
+     * Distance is measured from the block corner, the same way {@code Location#distance}
+     * compares a block location to an arbitrary point.
+     */
+    public void forEachInRadius(UUID worldId, double x, double y, double z, double radius, Consumer<T> consumer) {
+        Map<Long, Bucket<T>> chunks = worlds.get(worldId);
+        if (chunks == null || chunks.isEmpty()) return;
+
+        double radiusSq = radius * radius;
+        int minCx = (int) Math.floor(x - radius) >> 4;
+        int maxCx = (int) Math.floor(x + radius) >> 4;
+        int minCz = (int) Math.floor(z - radius) >> 4;
+        int maxCz = (int) Math.floor(z + radius) >> 4;
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                Bucket<T> bucket = chunks.get(chunkKey(cx, cz));
+                if (bucket == null) continue;
+
+                for (int i = 0; i < bucket.size; i++) {
+                    long key = bucket.keys[i];
+                    double dx = unpackX(key) - x;
+                    double dy = unpackY(key) - y;
+                    double dz = unpackZ(key) - z;
+                    if (dx * dx + dy * dy + dz * dz <= radiusSq) {
+                        consumer.accept(bucket.valueAt(i));
+                    }
+                }
+            }
+        }
+    }
+
+    public void forEachInRadius(Location center, double radius, Consumer<T> consumer) {
+        World world = center.getWorld();
+        if (world == null) return;
+        forEachInRadius(world.getUID(), center.getX(), center.getY(), center.getZ(), radius, consumer);
+    }
+
+    public List<T> queryRadius(Location center, double radius) {
+        List<T> result = new ArrayList<>();
+        forEachInRadius(center, radius, result::add);
+        return result;
+    }
+
+    /**
+     * Visits every value in a single chunk column.
+     */
+    public void forEachInChunk(UUID worldId, int chunkX, int chunkZ, Consumer<T> consumer) {
+        Map<Long, Bucket<T>> chunks = worlds.get(worldId);
+        if (chunks == null) return;
+        Bucket<T> bucket = chunks.get(chunkKey(chunkX, chunkZ));
+        if (bucket == null) return;
+        for (int i = 0; i < bucket.size; i++) {
+            consumer.accept(bucket.valueAt(i));
+        }
+    }
+
+    /**
+     * Visits every non-empty chunk bucket across all worlds.
+     * Lets callers do per-chunk work (e.g. a single isChunkLoaded check) once per bucket.
+     * Iteration stops as soon as the visitor returns false.
+     */
+    public void forEachChunk(ChunkVisitor<T> visitor) {
+        for (Map.Entry<UUID, Map<Long, Bucket<T>>> world : worlds.entrySet()) {
+            for (Map.Entry<Long, Bucket<T>> entry : world.getValue().entrySet()) {
+                long chunk = entry.getKey();
+                if (!visitor.visit(world.getKey(), (int) (chunk >> 32), (int) chunk, entry.getValue())) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChunkVisitor<T> {
+        /**
+         * @return false to stop iterating
+         */
+        boolean visit(UUID worldId, int chunkX, int chunkZ, Bucket<T> bucket);
+    }
+
+    /**
+     * All entries of one chunk column, stored as parallel primitive key / value arrays.
+     *
+     * A dense farm puts hundreds of plants in one column, so point lookups go through an
+     * open-addressing table from key to array index (linear probing, index + 1 per slot,
+     * 0 for empty) instead of scanning the keys. The table is kept at twice the array
+     * capacity, so it is at most half full.
+     */
+    public static final class Bucket<T> {
+        private long[] keys = new long[INITIAL_BUCKET_CAPACITY];
+        private Object[] values = new Object[INITIAL_BUCKET_CAPACITY];
+        private int[] slots = new int[INITIAL_BUCKET_CAPACITY * 2];
+        private int size;
+
+        public int size() {
+            return size;
+        }
+
+        public long keyAt(int index) {
+            return keys[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        public T valueAt(int index) {
+            return (T) values[index];
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        /**
+         * @return Position of the key in the slot table, or -1
+         */
+        private int slotOf(long key) {
+            int mask = slots.length - 1;
+            for (int slot = hash(key) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slots[slot] - 1] == key) return slot;
+            }
+            return -1;
+        }
+
+        private void insertSlot(long key, int index) {
+            int mask = slots.length - 1;
+            int slot = hash(key) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+
+        /**
+         * Empties a slot, moving later entries of the probe run back so lookups still find them.
+         */
+        private void deleteSlot(int hole) {
+            int mask = slots.length - 1;
+            for (int next = (hole + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+                int home = hash(keys[slots[next] - 1]) & mask;
+                // The entry may fill the hole unless its home lies between the hole and it
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    slots[hole] = slots[next];
+                    hole = next;
+                }
+            }
+            slots[hole] = 0;
+        }
+
+        private int indexOf(long key) {
+            int slot = slotOf(key);
+            return slot >= 0 ? slots[slot] - 1 : -1;
+        }
+
+        private T get(long key) {
+            int index = indexOf(key);
+            return index >= 0 ? valueAt(index) : null;
+        }
+
+        private T put(long key, T value) {
+            int index = indexOf(key);
+            if (index >= 0) {
+                T previous = valueAt(index);
+                values[index] = value;
+                return previous;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+                slots = new int[keys.length * 2];
+                for (int i = 0; i < size; i++) {
+                    insertSlot(keys[i], i);
+                }
+            }
+            keys[size] = key;
+            values[size] = value;
+            insertSlot(key, size);
+            size++;
+            return null;
+        }
+
+        private T remove(long key) {
+            int slot = slotOf(key);
+            if (slot < 0) return null;
+            int index = slots[slot] - 1;
+            T removed = valueAt(index);
+            deleteSlot(slot);
+            // Swap-remove: order inside a bucket is not significant
+            int last = --size;
+            if (index != last) {
+                slots[slotOf(keys[last])] = index + 1;
+                keys[index] = keys[last];
+                values[index] = values[last];
+            }
+            values[last] = null;
+            return removed;
+        }
+    }
+}
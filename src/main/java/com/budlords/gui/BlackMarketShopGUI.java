@@ -9,11 +9,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -31,7 +28,7 @@ import java.util.stream.Collectors;
  * - Grow Lamps
  * - Rare Collection
  */
-public class BlackMarketShopGUI implements InventoryHolder, Listener {
+public class BlackMarketShopGUI implements MenuHolder {
 
     private final BudLords plugin;
     private final EconomyManager economyManager;
@@ -80,7 +77,6 @@ public class BlackMarketShopGUI implements InventoryHolder, Listener {
         this.plugin = plugin;
         this.economyManager = economyManager;
         this.strainManager = strainManager;
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
     // Using deprecated Inventory title API for Bukkit/Spigot compatibility
@@ -516,9 +512,8 @@ public class BlackMarketShopGUI implements InventoryHolder, Listener {
         return item;
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof BlackMarketShopGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
         event.setCancelled(true);
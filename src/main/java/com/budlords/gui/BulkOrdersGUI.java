@@ -7,11 +7,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -21,7 +18,7 @@ import java.util.List;
 /**
  * GUI for viewing and managing bulk orders.
  */
-public class BulkOrdersGUI implements InventoryHolder, Listener {
+public class BulkOrdersGUI implements MenuHolder {
     
     private final BudLords plugin;
     private final BulkOrderManager bulkOrderManager;
@@ -29,7 +26,6 @@ public class BulkOrdersGUI implements InventoryHolder, Listener {
     public BulkOrdersGUI(BudLords plugin, BulkOrderManager bulkOrderManager) {
         this.plugin = plugin;
         this.bulkOrderManager = bulkOrderManager;
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     /**
@@ -132,9 +128,8 @@ public class BulkOrdersGUI implements InventoryHolder, Listener {
             List.of("", "§7Click to close")));
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof BulkOrdersGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
         
         event.setCancelled(true);
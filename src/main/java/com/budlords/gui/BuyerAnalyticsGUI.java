@@ -9,11 +9,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -31,7 +28,7 @@ import java.util.stream.Collectors;
  * - Market trends and insights
  * - Achievement progress
  */
-public class BuyerAnalyticsGUI implements InventoryHolder, Listener {
+public class BuyerAnalyticsGUI implements MenuHolder {
     
     private final BudLords plugin;
     private final BuyerRegistry buyerRegistry;
@@ -41,7 +38,6 @@ public class BuyerAnalyticsGUI implements InventoryHolder, Listener {
         this.plugin = plugin;
         this.buyerRegistry = buyerRegistry;
         this.requestManager = requestManager;
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     /**
@@ -307,9 +303,8 @@ public class BuyerAnalyticsGUI implements InventoryHolder, Listener {
         return item;
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof BuyerAnalyticsGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
         
         event.setCancelled(true);
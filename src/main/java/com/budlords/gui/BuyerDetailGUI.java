@@ -8,11 +8,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -31,7 +28,7 @@ import java.util.stream.Collectors;
  * - Special requests and dialogue
  * - Statistics and insights
  */
-public class BuyerDetailGUI implements InventoryHolder, Listener {
+public class BuyerDetailGUI implements MenuHolder {
     
     private final BudLords plugin;
     private final StrainManager strainManager;
@@ -43,7 +40,6 @@ public class BuyerDetailGUI implements InventoryHolder, Listener {
         this.plugin = plugin;
         this.strainManager = strainManager;
         this.viewingSessions = new HashMap<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     /**
@@ -297,9 +293,8 @@ public class BuyerDetailGUI implements InventoryHolder, Listener {
         return item;
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof BuyerDetailGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
         
         event.setCancelled(true);
@@ -8,11 +8,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -30,7 +27,7 @@ import java.util.*;
  * - Visual indicators for relationship levels
  * - Search/filter capabilities
  */
-public class BuyerListGUI implements InventoryHolder, Listener {
+public class BuyerListGUI implements MenuHolder {
     
     private final BudLords plugin;
     private final BuyerRegistry buyerRegistry;
@@ -48,7 +45,6 @@ public class BuyerListGUI implements InventoryHolder, Listener {
         this.detailGUI = detailGUI;
         this.currentPage = new HashMap<>();
         this.currentSort = new HashMap<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     /**
@@ -235,9 +231,8 @@ public class BuyerListGUI implements InventoryHolder, Listener {
         return item;
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof BuyerListGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
         
         event.setCancelled(true);
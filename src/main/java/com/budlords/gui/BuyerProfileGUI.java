@@ -10,11 +10,8 @@ import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
@@ -26,7 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * Professional GUI for viewing buyer profiles and reputation.
  * Accessed by using the Dealer Phone on NPCs or in air.
  */
-public class BuyerProfileGUI implements InventoryHolder, Listener {
+public class BuyerProfileGUI implements MenuHolder {
 
     private final BudLords plugin;
     private final EconomyManager economyManager;
@@ -49,7 +46,6 @@ public class BuyerProfileGUI implements InventoryHolder, Listener {
         this.viewingSessions = new ConcurrentHashMap<>();
         this.plantMonitoringUnlocked = ConcurrentHashMap.newKeySet();
         this.currentPage = new ConcurrentHashMap<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     /**
@@ -242,40 +238,8 @@ public class BuyerProfileGUI implements InventoryHolder, Listener {
                 "§8ID: app_weather"
             )));
 
-        boolean hasMonitoring = hasPlantMonitoring(player.getUniqueId());
-        int plantCount = 0;
-        if (hasMonitoring) {
-            for (com.budlords.farming.Plant plant : plugin.getFarmingManager().getAllPlants()) {
-                if (plant.getOwnerUuid().equals(player.getUniqueId())) {
-                    plantCount++;
-                }
-            }
-        }
-        inv.setItem(22, createItem(hasMonitoring ? Material.LIME_DYE : Material.RED_DYE, 
-            hasMonitoring ? "§a§l🌿 Plants §7(" + plantCount + ")" : "§c§l🌿 Plants",
-            Arrays.asList(
-                "§8━━━━━━━━━━━━━━━━",
-                "",
-                hasMonitoring ? "§7Monitor your plants" : "§cFeature locked!",
-                hasMonitoring ? "§7remotely." : "§7Unlock for §e$20,000",
-                "",
-                hasMonitoring ? "§e▶ Tap to view plants" : "§e▶ Tap to unlock",
-                "§8ID: app_plants"
-            )));
-
-        inv.setItem(24, createItem(Material.GOLD_INGOT, 
-            "§6§l💰 Wallet",
-            Arrays.asList(
-                "§8━━━━━━━━━━━━━━━━",
-                "",
-                "§7Balance: §a" + economyManager.formatMoney(economyManager.getBalance(player)),
-                "",
-                "§7Check balance and",
-                "§7send money to players.",
-                "",
-                "§e▶ Tap to open",
-                "§8ID: app_wallet"
-            )));
+        drawPlantsApp(inv, player);
+        drawWalletApp(inv, player);
 
         // ===== Row 3: Skills, Daily, Challenges =====
         inv.setItem(29, createItem(Material.EXPERIENCE_BOTTLE, 
@@ -345,6 +309,48 @@ public class BuyerProfileGUI implements InventoryHolder, Listener {
             Arrays.asList("", "§8Tap to close phone")));
     }
 
+    /**
+     * Draws the plants app, which changes when plant monitoring is unlocked.
+     */
+    private void drawPlantsApp(Inventory inv, Player player) {
+        boolean hasMonitoring = hasPlantMonitoring(player.getUniqueId());
+        int plantCount = 0;
+        if (hasMonitoring) {
+            for (com.budlords.farming.Plant plant : plugin.getFarmingManager().getAllPlants()) {
+                if (plant.getOwnerUuid().equals(player.getUniqueId())) {
+                    plantCount++;
+                }
+            }
+        }
+        inv.setItem(22, createItem(hasMonitoring ? Material.LIME_DYE : Material.RED_DYE, 
+            hasMonitoring ? "§a§l🌿 Plants §7(" + plantCount + ")" : "§c§l🌿 Plants",
+            Arrays.asList(
+                "§8━━━━━━━━━━━━━━━━",
+                "",
+                hasMonitoring ? "§7Monitor your plants" : "§cFeature locked!",
+                hasMonitoring ? "§7remotely." : "§7Unlock for §e$20,000",
+                "",
+                hasMonitoring ? "§e▶ Tap to view plants" : "§e▶ Tap to unlock",
+                "§8ID: app_plants"
+            )));
+    }
+
+    private void drawWalletApp(Inventory inv, Player player) {
+        inv.setItem(24, createItem(Material.GOLD_INGOT, 
+            "§6§l💰 Wallet",
+            Arrays.asList(
+                "§8━━━━━━━━━━━━━━━━",
+                "",
+                "§7Balance: §a" + economyManager.formatMoney(economyManager.getBalance(player)),
+                "",
+                "§7Check balance and",
+                "§7send money to players.",
+                "",
+                "§e▶ Tap to open",
+                "§8ID: app_wallet"
+            )));
+    }
+
     /**
      * Updates the contacts page.
      */
@@ -496,7 +502,36 @@ public class BuyerProfileGUI implements InventoryHolder, Listener {
                 "§8━━━━━━━━━━━━━━━━━━━━━━"
             )));
 
-        // Current order display
+        drawOrderSlot(inv, player);
+
+        // Order info
+        inv.setItem(22, createItem(Material.BOOK, 
+            "§e§l? How Orders Work",
+            Arrays.asList(
+                "",
+                "§7Complete buyer orders for",
+                "§7bonus prices on your sales!",
+                "",
+                "§7• Get orders from this menu",
+                "§7• Sell the requested strain",
+                "§7• Earn bonus multipliers",
+                "",
+                "§6Higher rep = better orders!"
+            )));
+
+        // Back button
+        inv.setItem(38, createItem(Material.ARROW, "§7§l← Back",
+            Arrays.asList("", "§8Return to apps", "§8ID: back_to_apps")));
+
+        // Close button
+        inv.setItem(40, createItem(Material.BARRIER, "§c§l✗ Close",
+            Arrays.asList("", "§8Tap to close phone")));
+    }
+
+    /**
+     * Draws the current order, which changes when a new order is requested.
+     */
+    private void drawOrderSlot(Inventory inv, Player player) {
         com.budlords.economy.BulkOrderManager orderManager = plugin.getBulkOrderManager();
         com.budlords.economy.BulkOrderManager.BulkOrder activeOrder = 
             orderManager != null ? orderManager.getActiveOrder(player.getUniqueId()) : null;
@@ -537,29 +572,6 @@ public class BuyerProfileGUI implements InventoryHolder, Listener {
                 cooldown > 0 ? "§7§lNo Active Order" : "§a§l+ Get New Order",
                 orderLore));
         }
-
-        // Order info
-        inv.setItem(22, createItem(Material.BOOK, 
-            "§e§l? How Orders Work",
-            Arrays.asList(
-                "",
-                "§7Complete buyer orders for",
-                "§7bonus prices on your sales!",
-                "",
-                "§7• Get orders from this menu",
-                "§7• Sell the requested strain",
-                "§7• Earn bonus multipliers",
-                "",
-                "§6Higher rep = better orders!"
-            )));
-
-        // Back button
-        inv.setItem(38, createItem(Material.ARROW, "§7§l← Back",
-            Arrays.asList("", "§8Return to apps", "§8ID: back_to_apps")));
-
-        // Close button
-        inv.setItem(40, createItem(Material.BARRIER, "§c§l✗ Close",
-            Arrays.asList("", "§8Tap to close phone")));
     }
 
     /**
@@ -1199,9 +1211,8 @@ public class BuyerProfileGUI implements InventoryHolder, Listener {
     // EVENT HANDLERS
     // ═══════════════════════════════════════
 
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof BuyerProfileGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
         event.setCancelled(true);
@@ -1393,8 +1404,8 @@ public class BuyerProfileGUI implements InventoryHolder, Listener {
         orderManager.generateOrder(player.getUniqueId());
         player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.7f, 1.2f);
         
-        // Refresh the GUI
-        updateOrdersPage(inv, player);
+        // Only the order slot changed
+        drawOrderSlot(inv, player);
     }
     
     /**
@@ -1419,8 +1430,9 @@ public class BuyerProfileGUI implements InventoryHolder, Listener {
                 
                 player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.7f, 1.2f);
                 
-                // Refresh the GUI
-                updateAppsPage(inv, player);
+                // Only the plants app and the balance changed
+                drawPlantsApp(inv, player);
+                drawWalletApp(inv, player);
             } else {
                 player.sendMessage("§cYou need $20,000 to unlock Plant Monitoring!");
                 player.sendMessage("§7Current balance: " + economyManager.formatMoney(balance));
@@ -8,12 +8,9 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -22,7 +19,7 @@ import java.util.*;
 /**
  * GUI for selecting strain effects in the Strain Creator.
  */
-public class EffectSelectorGUI implements InventoryHolder, Listener {
+public class EffectSelectorGUI implements MenuHolder {
     
     private final BudLords plugin;
     private final StrainCreatorGUI strainCreatorGUI;
@@ -35,7 +32,6 @@ public class EffectSelectorGUI implements InventoryHolder, Listener {
         this.plugin = plugin;
         this.strainCreatorGUI = strainCreatorGUI;
         this.activeSessions = new HashMap<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     @SuppressWarnings("deprecation")
@@ -223,9 +219,8 @@ public class EffectSelectorGUI implements InventoryHolder, Listener {
         return effects;
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof EffectSelectorGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
         
         event.setCancelled(true);
@@ -383,9 +378,8 @@ public class EffectSelectorGUI implements InventoryHolder, Listener {
         return available.get(available.size() - 1);
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClose(InventoryCloseEvent event) {
-        if (!(event.getInventory().getHolder() instanceof EffectSelectorGUI)) return;
         if (!(event.getPlayer() instanceof Player player)) return;
         
         // Keep session for reopening
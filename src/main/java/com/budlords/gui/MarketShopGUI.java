@@ -10,11 +10,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -29,7 +26,7 @@ import java.util.List;
  * - Harvest Scissors (★1-5)
  * - Disease Cures
  */
-public class MarketShopGUI implements InventoryHolder, Listener {
+public class MarketShopGUI implements MenuHolder {
 
     private final BudLords plugin;
     private final EconomyManager economyManager;
@@ -45,7 +42,6 @@ public class MarketShopGUI implements InventoryHolder, Listener {
         this.plugin = plugin;
         this.economyManager = economyManager;
         this.qualityItemManager = qualityItemManager;
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
     // Using deprecated Inventory title API for Bukkit/Spigot compatibility
@@ -280,9 +276,8 @@ public class MarketShopGUI implements InventoryHolder, Listener {
         return item;
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof MarketShopGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
         event.setCancelled(true);
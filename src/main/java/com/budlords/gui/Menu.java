@@ -0,0 +1,130 @@
+package com.budlords.gui;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Objects;
+
+/**
+ * Holder of a menu opened to one player.
+ *
+ * The menu carries the session it was opened for (the skill tree or page being viewed,
+ * ...), so clicks never have to recover it from the title, and every click goes straight
+ * to the handler of the clicked slot.
+ *
+ * Slots are drawn through {@link #set}, which remembers what each slot shows and skips
+ * items that didn't change. A menu can therefore be redrawn in place after a click, and
+ * only the slots that changed are sent to the player.
+ *
+ * @param <S> Session state of the menu
+ */
+public class Menu<S> implements MenuHolder {
+
+    /**
+     * Handles a click in a menu. The event is already cancelled; un-cancel it to let the
+     * click through.
+     */
+    @FunctionalInterface
+    public interface ClickHandler {
+        void onClick(Player player, InventoryClickEvent event);
+    }
+
+    @FunctionalInterface
+    public interface CloseHandler {
+        void onClose(Player player);
+    }
+
+    private final S session;
+    private final Inventory inventory;
+    private final ClickHandler[] handlers;
+    private final ItemStack[] shown;
+    private ClickHandler otherClickHandler;
+    private CloseHandler closeHandler;
+
+    public Menu(S session, int size, String title) {
+        this.session = session;
+        this.inventory = Bukkit.createInventory(this, size, title);
+        this.handlers = new ClickHandler[size];
+        this.shown = new ItemStack[size];
+    }
+
+    public S getSession() {
+        return session;
+    }
+
+    /**
+     * Shows an item in a slot, unless the slot already shows an equal one.
+     * Slots of a menu must only be changed through the menu.
+     */
+    public void set(int slot, ItemStack item) {
+        if (Objects.equals(shown[slot], item)) return;
+        shown[slot] = item;
+        inventory.setItem(slot, item);
+    }
+
+    /**
+     * Shows an item in a slot and handles clicks on it.
+     */
+    public void set(int slot, ItemStack item, ClickHandler handler) {
+        set(slot, item);
+        handlers[slot] = handler;
+    }
+
+    /**
+     * Empties a slot and removes its click handler.
+     */
+    public void clear(int slot) {
+        set(slot, null, null);
+    }
+
+    /**
+     * Handles clicks on slots without a handler of their own, including the player's
+     * inventory below the menu.
+     */
+    public void setOtherClickHandler(ClickHandler handler) {
+        this.otherClickHandler = handler;
+    }
+
+    public void setCloseHandler(CloseHandler handler) {
+        this.closeHandler = handler;
+    }
+
+    public void open(Player player) {
+        player.openInventory(inventory);
+    }
+
+    /**
+     * Dispatches a click to the handler of its slot. Nothing can be taken out of or put
+     * into a menu unless a handler allows it.
+     */
+    @Override
+    public void onInventoryClick(InventoryClickEvent event) {
+        event.setCancelled(true);
+        if (!(event.getWhoClicked() instanceof Player player)) return;
+
+        int slot = event.getRawSlot();
+        ClickHandler handler = slot >= 0 && slot < handlers.length ? handlers[slot] : null;
+        if (handler == null) {
+            handler = otherClickHandler;
+        }
+        if (handler != null) {
+            handler.onClick(player, event);
+        }
+    }
+
+    @Override
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (closeHandler != null && event.getPlayer() instanceof Player player) {
+            closeHandler.onClose(player);
+        }
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+}
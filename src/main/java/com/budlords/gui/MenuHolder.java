@@ -0,0 +1,24 @@
+package com.budlords.gui;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * Holder of a BudLords GUI. The {@link com.budlords.listeners.GUIListener} hands the
+ * clicks in its inventories straight to it, so GUIs don't listen to every inventory
+ * click on the server themselves.
+ */
+public interface MenuHolder extends InventoryHolder {
+
+    /**
+     * Handles a click in an inventory held by this holder.
+     */
+    void onInventoryClick(InventoryClickEvent event);
+
+    /**
+     * Handles an inventory held by this holder being closed.
+     */
+    default void onInventoryClose(InventoryCloseEvent event) {
+    }
+}
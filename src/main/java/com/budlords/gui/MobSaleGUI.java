@@ -16,12 +16,9 @@ import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -34,7 +31,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * Features: Enhanced visuals, bulk selling, quick actions, detailed analytics
  * Quality of Life: Auto-sort, quick-fill, price preview, bonus indicators
  */
-public class MobSaleGUI implements InventoryHolder, Listener {
+public class MobSaleGUI implements MenuHolder {
 
     private final BudLords plugin;
     private final EconomyManager economyManager;
@@ -75,7 +72,6 @@ public class MobSaleGUI implements InventoryHolder, Listener {
         this.strainManager = strainManager;
         this.activeSessions = new ConcurrentHashMap<>();
         this.entityCooldowns = new ConcurrentHashMap<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
     /**
@@ -103,6 +99,7 @@ public class MobSaleGUI implements InventoryHolder, Listener {
         String buyerName = getBuyerName(buyerType);
         // ENHANCED: Larger inventory for more features (54 slots)
         Inventory inv = Bukkit.createInventory(this, 54, "§6§l✦ §a§lPREMIUM TRADE §6§l✦ §f" + buyerName);
+        drawFrame(inv);
         updateInventory(inv, session, player);
         player.openInventory(inv);
         
@@ -150,9 +147,10 @@ public class MobSaleGUI implements InventoryHolder, Listener {
         };
     }
 
-    private void updateInventory(Inventory inv, SaleSession session, Player player) {
-        inv.clear();
-
+    /**
+     * Draws the slots of a sale inventory that never change.
+     */
+    private void drawFrame(Inventory inv) {
         // PROFESSIONAL: Premium animated border with better colors
         ItemStack borderGold = createItem(Material.YELLOW_STAINED_GLASS_PANE, "§6✦", null);
         ItemStack borderEmerald = createItem(Material.LIME_STAINED_GLASS_PANE, "§a✦", null);
@@ -186,10 +184,46 @@ public class MobSaleGUI implements InventoryHolder, Listener {
             inv.setItem(i + 8, borderDark);
         }
 
+        // Cancel button
+        inv.setItem(CANCEL_SLOT, createItem(Material.BARRIER, "§c§l✗ Cancel",
+            Arrays.asList(
+                "",
+                "§7Close without selling",
+                "§7Items will be returned"
+            )));
+
+        // Enhanced Tips with more info
+        inv.setItem(44, createItem(Material.ENCHANTED_BOOK, "§6§l★ PRO TIPS",
+            Arrays.asList(
+                "",
+                "§e✦ QUALITY MATTERS:",
+                "§7  Higher star ratings = more money",
+                "",
+                "§e✦ STRAIN RARITY:",
+                "§7  Legendary strains pay 2.5x more!",
+                "",
+                "§e✦ BUYER TYPES:",
+                "§a  • Market Joe: §7Standard prices",
+                "§5  • BlackMarket Joe: §7+50% premium",
+                "§e  • Village Vendor: §7-20% discount",
+                "",
+                "§e✦ BULK SELLING:",
+                "§7  Use Quick Fill for faster trades!"
+            )));
+    }
+
+    /**
+     * Redraws the slots of a sale inventory after a click. Each slot is keyed by the values
+     * it shows, and only slots whose values changed are built and sent again.
+     */
+    private void updateInventory(Inventory inv, SaleSession session, Player player) {
+        SlotCache slots = session.slots;
+        updatePricing(session);
+
         // Header info
         String buyerName = getBuyerName(session.buyerType);
         double balance = economyManager.getBalance(player);
-        ItemStack header = createItem(Material.EMERALD, 
+        slots.render(inv, INFO_SLOT, balance, () -> createItem(Material.EMERALD, 
             "§a§l💰 Sale to " + buyerName,
             Arrays.asList(
                 "",
@@ -200,16 +234,14 @@ public class MobSaleGUI implements InventoryHolder, Listener {
                 "",
                 "§7" + buyerName + " buys:",
                 getPriceModifierText(session.buyerType)
-            ));
-        inv.setItem(INFO_SLOT, header);
+            )));
 
         // Sale slots (empty or with items)
         for (int i = 0; i < SALE_SLOTS.length; i++) {
-            int slot = SALE_SLOTS[i];
             ItemStack saleItem = session.itemsToSell[i];
             
             if (saleItem == null) {
-                inv.setItem(slot, createItem(Material.LIGHT_GRAY_STAINED_GLASS_PANE, 
+                slots.render(inv, SALE_SLOTS[i], SlotCache.STATIC, () -> createItem(Material.LIGHT_GRAY_STAINED_GLASS_PANE, 
                     "§7§l[ Empty Slot ]",
                     Arrays.asList(
                         "",
@@ -217,75 +249,61 @@ public class MobSaleGUI implements InventoryHolder, Listener {
                         "§7packaged product to sell"
                     )));
             } else {
-                inv.setItem(slot, saleItem);
+                slots.render(inv, SALE_SLOTS[i], saleItem, () -> saleItem);
             }
         }
 
         // Calculate total value
-        double totalValue = calculateTotalValue(session);
-        double successChance = calculateSuccessChance(player, session);
-        String chanceColor = getSuccessChanceColor(successChance);
+        double totalValue = session.baseTotal * session.priceMultiplier;
+        double successChance = calculateSuccessChance(player.getUniqueId(), session, session.totalDoses);
+        PriceBonuses bonuses = getPriceBonuses(player.getUniqueId(), session.buyerType);
         
         // Price display with detailed bonuses
-        List<String> priceInfo = new ArrayList<>();
-        priceInfo.add("");
-        priceInfo.add("§7Items: §e" + countItems(session));
-        priceInfo.add("§7Base Total: §e" + economyManager.formatMoney(calculateBaseTotalValue(session)));
-        priceInfo.add("");
-        
-        // Show active bonuses
-        UUID playerId = player.getUniqueId();
-        boolean hasBonuses = false;
-        
-        if (plugin.getSkillManager() != null) {
-            double skillBonus = plugin.getSkillManager().getTotalBonus(playerId, 
-                com.budlords.skills.Skill.BonusType.PRICE_BONUS);
-            if (skillBonus > 0) {
-                priceInfo.add("§a✦ Skills: §e+" + String.format("%.0f%%", skillBonus * 100));
+        slots.render(inv, 13, List.of(session.pricing, totalValue, bonuses), () -> {
+            List<String> priceInfo = new ArrayList<>();
+            priceInfo.add("");
+            priceInfo.add("§7Items: §e" + session.itemCount);
+            priceInfo.add("§7Base Total: §e" + economyManager.formatMoney(session.baseTotal));
+            priceInfo.add("");
+            
+            // Show active bonuses
+            boolean hasBonuses = false;
+            if (bonuses.skill() > 0) {
+                priceInfo.add("§a✦ Skills: §e+" + String.format("%.0f%%", bonuses.skill() * 100));
                 hasBonuses = true;
             }
-        }
-        
-        if (plugin.getPrestigeManager() != null && plugin.getStatsManager() != null) {
-            PlayerStats stats = plugin.getStatsManager().getStats(player);
-            if (stats != null && stats.getPrestigeLevel() > 0) {
-                double prestigeBonus = (plugin.getPrestigeManager().getEarningsMultiplier(stats.getPrestigeLevel()) - 1.0);
-                priceInfo.add("§d✦ Prestige: §e+" + String.format("%.0f%%", prestigeBonus * 100));
+            if (bonuses.prestigeLevel() > 0) {
+                priceInfo.add("§d✦ Prestige: §e+" + String.format("%.0f%%", bonuses.prestige() * 100));
                 hasBonuses = true;
             }
-        }
-        
-        if (plugin.getReputationManager() != null) {
-            int rep = plugin.getReputationManager().getReputation(playerId, session.buyerType.name());
-            double repBonus = (plugin.getReputationManager().getReputationMultiplier(rep) - 1.0);
-            if (repBonus != 0) {
+            if (bonuses.reputation() != 0) {
+                double repBonus = bonuses.reputation();
                 String repColor = repBonus > 0 ? "§a" : "§c";
                 priceInfo.add(repColor + "✦ Reputation: §e" + (repBonus > 0 ? "+" : "") + String.format("%.0f%%", repBonus * 100));
                 hasBonuses = true;
             }
-        }
-        
-        if (hasBonuses) {
+            
+            if (hasBonuses) {
+                priceInfo.add("");
+            }
+            
+            priceInfo.add("§7Final Total: §a§l" + economyManager.formatMoney(totalValue));
             priceInfo.add("");
-        }
-        
-        priceInfo.add("§7Final Total: §a§l" + economyManager.formatMoney(totalValue));
-        priceInfo.add("");
-        priceInfo.add(getPriceBreakdown(session));
-        
-        inv.setItem(13, createItem(Material.GOLD_INGOT, "§e§lTotal Value", priceInfo));
+            priceInfo.add(session.breakdown);
+            return createItem(Material.GOLD_INGOT, "§e§lTotal Value", priceInfo);
+        });
 
         // Confirm button
         boolean hasItems = totalValue > 0;
-        inv.setItem(CONFIRM_SLOT, createItem(
+        slots.render(inv, CONFIRM_SLOT, List.of(session.itemCount, totalValue, successChance), () -> createItem(
             hasItems ? Material.EMERALD_BLOCK : Material.COAL_BLOCK,
             hasItems ? "§a§l✓ CONFIRM SALE" : "§7§l✗ No Items",
             hasItems ? Arrays.asList(
                 "",
-                "§7Click to sell §e" + countItems(session) + " §7item(s)",
+                "§7Click to sell §e" + session.itemCount + " §7item(s)",
                 "§7for §a" + economyManager.formatMoney(totalValue),
                 "",
-                "§7Success chance: " + chanceColor + String.format("%.0f%%", successChance * 100),
+                "§7Success chance: " + getSuccessChanceColor(successChance) + String.format("%.0f%%", successChance * 100),
                 "",
                 successChance < 0.5 ? "§c⚠ Low chance! Build more reputation." : "§a▶ Click to confirm"
             ) : Arrays.asList(
@@ -294,17 +312,9 @@ public class MobSaleGUI implements InventoryHolder, Listener {
                 "§7above to sell them"
             )));
 
-        // Cancel button
-        inv.setItem(CANCEL_SLOT, createItem(Material.BARRIER, "§c§l✗ Cancel",
-            Arrays.asList(
-                "",
-                "§7Close without selling",
-                "§7Items will be returned"
-            )));
-
         // NEW: Quick Fill Button - Auto-fill slots with sellable items
         int sellableCount = countSellableItemsInInventory(player);
-        inv.setItem(QUICK_FILL_SLOT, createItem(Material.HOPPER, 
+        slots.render(inv, QUICK_FILL_SLOT, sellableCount, () -> createItem(Material.HOPPER, 
             "§b§l⚡ QUICK FILL",
             Arrays.asList(
                 "",
@@ -317,8 +327,8 @@ public class MobSaleGUI implements InventoryHolder, Listener {
             )));
         
         // NEW: Sort Button - Organize items by value
-        boolean hasItemsToSort = countItems(session) > 1;
-        inv.setItem(SORT_SLOT, createItem(
+        boolean hasItemsToSort = session.itemCount > 1;
+        slots.render(inv, SORT_SLOT, hasItemsToSort, () -> createItem(
             hasItemsToSort ? Material.COMPARATOR : Material.GRAY_DYE,
             hasItemsToSort ? "§d§l⚙ SORT BY VALUE" : "§7§l⚙ Sort",
             hasItemsToSort ? Arrays.asList(
@@ -338,7 +348,7 @@ public class MobSaleGUI implements InventoryHolder, Listener {
                              session.priceMultiplier > 1.0 ? "§c↓ Lower" : "§7Normal";
         
         // Price Down Button
-        inv.setItem(PRICE_DOWN_SLOT, createItem(Material.RED_CONCRETE, 
+        slots.render(inv, PRICE_DOWN_SLOT, hasItems, () -> createItem(Material.RED_CONCRETE, 
             "§c§l▼ Lower Price",
             Arrays.asList(
                 "",
@@ -351,7 +361,7 @@ public class MobSaleGUI implements InventoryHolder, Listener {
             )));
         
         // Price Reset / Current Price Display
-        inv.setItem(PRICE_RESET_SLOT, createItem(Material.GOLD_NUGGET, 
+        slots.render(inv, PRICE_RESET_SLOT, List.of(session.priceMultiplier, hasItems), () -> createItem(Material.GOLD_NUGGET, 
             "§6§l◆ PRICE: " + pricePercent + "%",
             Arrays.asList(
                 "",
@@ -365,7 +375,7 @@ public class MobSaleGUI implements InventoryHolder, Listener {
             )));
         
         // Price Up Button
-        inv.setItem(PRICE_UP_SLOT, createItem(Material.LIME_CONCRETE, 
+        slots.render(inv, PRICE_UP_SLOT, hasItems, () -> createItem(Material.LIME_CONCRETE, 
             "§a§l▲ Raise Price",
             Arrays.asList(
                 "",
@@ -376,25 +386,62 @@ public class MobSaleGUI implements InventoryHolder, Listener {
                 "",
                 hasItems ? "§e▶ Click to raise price" : "§7Add items first"
             )));
+    }
 
-        // Enhanced Tips with more info
-        inv.setItem(44, createItem(Material.ENCHANTED_BOOK, "§6§l★ PRO TIPS",
-            Arrays.asList(
-                "",
-                "§e✦ QUALITY MATTERS:",
-                "§7  Higher star ratings = more money",
-                "",
-                "§e✦ STRAIN RARITY:",
-                "§7  Legendary strains pay 2.5x more!",
-                "",
-                "§e✦ BUYER TYPES:",
-                "§a  • Market Joe: §7Standard prices",
-                "§5  • BlackMarket Joe: §7+50% premium",
-                "§e  • Village Vendor: §7-20% discount",
-                "",
-                "§e✦ BULK SELLING:",
-                "§7  Use Quick Fill for faster trades!"
-            )));
+    /**
+     * Prices the items on sale again if they or the market demand changed since they
+     * were last priced. The player's bonuses aren't part of it, they are looked up on
+     * every redraw.
+     */
+    private void updatePricing(SaleSession session) {
+        int demandVersion = plugin.getMarketDemandManager() != null
+            ? plugin.getMarketDemandManager().getVersion() : 0;
+        if (session.pricedItems != null && session.pricedDemandVersion == demandVersion
+                && sameItems(session.pricedItems, session.itemsToSell)) {
+            return;
+        }
+        session.pricedItems = session.itemsToSell.clone();
+        session.pricedDemandVersion = demandVersion;
+        session.pricing++;
+        session.baseTotal = calculateBaseTotalValue(session);
+        session.itemCount = countItems(session);
+        session.totalDoses = countTotalDoses(session);
+        session.breakdown = getPriceBreakdown(session);
+    }
+
+    /**
+     * Items on sale are replaced, never changed, so comparing them by identity is enough.
+     */
+    private static boolean sameItems(ItemStack[] a, ItemStack[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Bonuses of a player shown in the total value; each is a fraction (0.1 = +10%).
+     */
+    private record PriceBonuses(double skill, int prestigeLevel, double prestige, double reputation) {}
+
+    private PriceBonuses getPriceBonuses(UUID playerId, NPCManager.NPCType buyerType) {
+        double skill = 0;
+        int prestigeLevel = 0;
+        double prestige = 0;
+        if (plugin.getPlayerModifierCache() != null) {
+            com.budlords.progression.PlayerModifierCache.PlayerModifiers modifiers =
+                plugin.getPlayerModifierCache().get(playerId);
+            skill = modifiers.priceBonusMultiplier() - 1.0;
+            prestigeLevel = modifiers.prestigeLevel();
+            prestige = modifiers.earningsMultiplier() - 1.0;
+        }
+        
+        double reputation = 0;
+        if (plugin.getReputationManager() != null) {
+            int rep = plugin.getReputationManager().getReputation(playerId, buyerType.name());
+            reputation = plugin.getReputationManager().getReputationMultiplier(rep) - 1.0;
+        }
+        return new PriceBonuses(skill, prestigeLevel, prestige, reputation);
     }
 
     private String getPriceModifierText(NPCManager.NPCType type) {
@@ -575,7 +622,10 @@ public class MobSaleGUI implements InventoryHolder, Listener {
      * Calculates the success chance for a sale to display in the UI.
      */
     private double calculateSuccessChance(Player player, SaleSession session) {
-        UUID playerId = player.getUniqueId();
+        return calculateSuccessChance(player.getUniqueId(), session, countTotalDoses(session));
+    }
+    
+    private double calculateSuccessChance(UUID playerId, SaleSession session, int totalDoses) {
         String buyerTypeName = session.buyerType.name();
         
         int reputation = 0;
@@ -598,25 +648,22 @@ public class MobSaleGUI implements InventoryHolder, Listener {
             successChance = 0.30;
         }
         
-        // Apply skill bonus
-        if (plugin.getSkillManager() != null) {
-            double skillBonus = plugin.getSkillManager().getBonusMultiplier(playerId, 
-                com.budlords.skills.Skill.BonusType.TRADE_SUCCESS);
-            successChance = Math.min(0.99, successChance + (skillBonus - 1.0));
-        }
-        
-        // Apply prestige bonus
-        if (plugin.getPrestigeManager() != null && plugin.getStatsManager() != null) {
-            com.budlords.stats.PlayerStats stats = plugin.getStatsManager().getStats(player);
-            if (stats != null && stats.getPrestigeLevel() > 0) {
-                double prestigeBonus = stats.getPrestigeLevel() * 0.02;
+        if (plugin.getPlayerModifierCache() != null) {
+            com.budlords.progression.PlayerModifierCache.PlayerModifiers modifiers =
+                plugin.getPlayerModifierCache().get(playerId);
+            
+            // Apply skill bonus
+            successChance = Math.min(0.99, successChance + (modifiers.tradeSuccessMultiplier() - 1.0));
+            
+            // Apply prestige bonus
+            if (modifiers.prestigeLevel() > 0) {
+                double prestigeBonus = modifiers.prestigeLevel() * 0.02;
                 successChance = Math.min(0.99, successChance + prestigeBonus);
             }
         }
         
         // Penalty for large sales - based on total doses (grams) being sold
         // This makes selling larger packages riskier than many small ones
-        int totalDoses = countTotalDoses(session);
         if (totalDoses > DOSE_PENALTY_THRESHOLD) {
             double penalty = ((totalDoses - DOSE_PENALTY_THRESHOLD) / DOSE_PENALTY_DIVISOR) * DOSE_PENALTY_RATE;
             successChance = Math.max(0.1, successChance - penalty);
@@ -650,9 +697,8 @@ public class MobSaleGUI implements InventoryHolder, Listener {
         return packagingManager.isPackagedProduct(item) || JointItems.isJoint(item);
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof MobSaleGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
         SaleSession session = activeSessions.get(player.getUniqueId());
@@ -846,9 +892,8 @@ public class MobSaleGUI implements InventoryHolder, Listener {
         }
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClose(InventoryCloseEvent event) {
-        if (!(event.getInventory().getHolder() instanceof MobSaleGUI)) return;
         if (!(event.getPlayer() instanceof Player player)) return;
 
         SaleSession session = activeSessions.remove(player.getUniqueId());
@@ -884,30 +929,28 @@ public class MobSaleGUI implements InventoryHolder, Listener {
         // Track the base price before any bonuses for display
         double basePrice = total;
         
+        com.budlords.progression.PlayerModifierCache.PlayerModifiers modifiers =
+            plugin.getPlayerModifierCache() != null ? plugin.getPlayerModifierCache().get(playerId) : null;
+        
         // Apply skill PRICE_BONUS (e.g., Haggler +5%, Premium Prices +10%, Master Dealer +15%)
         double skillPriceBonus = 1.0;
-        if (plugin.getSkillManager() != null) {
-            skillPriceBonus = plugin.getSkillManager().getBonusMultiplier(playerId, 
-                com.budlords.skills.Skill.BonusType.PRICE_BONUS);
+        if (modifiers != null) {
+            skillPriceBonus = modifiers.priceBonusMultiplier();
             total *= skillPriceBonus;
         }
         
         // Apply black market skill bonus if selling to black market
         double blackMarketSkillBonus = 1.0;
-        if (session.buyerType == NPCManager.NPCType.BLACKMARKET_JOE && plugin.getSkillManager() != null) {
-            blackMarketSkillBonus = plugin.getSkillManager().getBonusMultiplier(playerId, 
-                com.budlords.skills.Skill.BonusType.BLACK_MARKET_BONUS);
+        if (session.buyerType == NPCManager.NPCType.BLACKMARKET_JOE && modifiers != null) {
+            blackMarketSkillBonus = modifiers.blackMarketMultiplier();
             total *= blackMarketSkillBonus;
         }
         
         // Apply prestige earnings bonus
         double prestigeMultiplier = 1.0;
-        if (plugin.getPrestigeManager() != null && plugin.getStatsManager() != null) {
-            com.budlords.stats.PlayerStats stats = plugin.getStatsManager().getStats(player);
-            if (stats != null && stats.getPrestigeLevel() > 0) {
-                prestigeMultiplier = plugin.getPrestigeManager().getEarningsMultiplier(stats.getPrestigeLevel());
-                total *= prestigeMultiplier;
-            }
+        if (modifiers != null && modifiers.prestigeLevel() > 0) {
+            prestigeMultiplier = modifiers.earningsMultiplier();
+            total *= prestigeMultiplier;
         }
         
         // Apply reputation bonus
@@ -1546,6 +1589,84 @@ public class MobSaleGUI implements InventoryHolder, Listener {
         }
     }
 
+    /**
+     * Times the redraws of sale trades, once drawing every slot on each click like the
+     * sale inventory used to and once drawing only the slots that changed. The trades are
+     * played on a detached inventory with copies of the player's sellable items, so
+     * nothing is opened, taken or sold.
+     *
+     * @param clicks Clicks per trade
+     * @param trades Trades timed for each way of drawing
+     * @return Lines describing the result
+     */
+    public List<String> benchmarkTrades(Player player, int clicks, int trades) {
+        List<ItemStack> stock = new ArrayList<>();
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (item != null && isSellableItem(item)) {
+                stock.add(item.clone());
+            }
+        }
+        if (stock.isEmpty()) {
+            return List.of("§cCarry some packaged products or joints to benchmark a trade.");
+        }
+
+        Inventory inv = Bukkit.createInventory(null, 54, "Sale benchmark");
+        // Warm up both ways first
+        runBenchmarkTrades(player, inv, stock, clicks, trades, true);
+        runBenchmarkTrades(player, inv, stock, clicks, trades, false);
+        long[] full = runBenchmarkTrades(player, inv, stock, clicks, trades, true);
+        long[] incremental = runBenchmarkTrades(player, inv, stock, clicks, trades, false);
+
+        double totalClicks = (double) clicks * trades;
+        return List.of(
+            "§6§lSale GUI benchmark §7(" + trades + " trades of " + clicks + " clicks)",
+            "§7Full redraw: §e" + String.format("%.1f", full[0] / 1000.0 / totalClicks) + "µs§7/click, §e"
+                + String.format("%.1f", full[1] / totalClicks) + " §7info slots/click",
+            "§7Incremental: §e" + String.format("%.1f", incremental[0] / 1000.0 / totalClicks) + "µs§7/click, §e"
+                + String.format("%.1f", incremental[1] / totalClicks) + " §7info slots/click",
+            "§7Speedup: §a" + String.format("%.1fx", (double) full[0] / Math.max(1, incremental[0]))
+        );
+    }
+
+    /**
+     * @return Nanoseconds spent and info slots drawn
+     */
+    private long[] runBenchmarkTrades(Player player, Inventory inv, List<ItemStack> stock,
+                                      int clicks, int trades, boolean fullRedraw) {
+        long nanos = 0;
+        long rendered = 0;
+        for (int trade = 0; trade < trades; trade++) {
+            SaleSession session = new SaleSession(player.getUniqueId(), player.getUniqueId(),
+                NPCManager.NPCType.MARKET_JOE);
+            inv.clear();
+
+            long start = System.nanoTime();
+            drawFrame(inv);
+            updateInventory(inv, session, player);
+            for (int click = 0; click < clicks; click++) {
+                // A typical trade: fill slots and haggle over the price
+                switch (click % 5) {
+                    case 0 -> session.itemsToSell[(click / 5) % SALE_SLOTS.length] =
+                        stock.get((click / 5) % stock.size()).clone();
+                    case 1 -> session.priceMultiplier = Math.min(1.5, session.priceMultiplier + 0.1);
+                    case 2 -> session.priceMultiplier = Math.max(0.5, session.priceMultiplier - 0.1);
+                    case 3 -> sortItemsByValue(session);
+                    default -> session.priceMultiplier = 1.0;
+                }
+                if (fullRedraw) {
+                    inv.clear();
+                    drawFrame(inv);
+                    session.slots.invalidate();
+                    session.pricedItems = null;
+                }
+                updateInventory(inv, session, player);
+            }
+            nanos += System.nanoTime() - start;
+            rendered += session.slots.getRendered();
+        }
+        return new long[] {nanos, rendered};
+    }
+
     /**
      * Session data for a sale - ENHANCED with 6 slots and price adjustment
      */
@@ -1556,6 +1677,16 @@ public class MobSaleGUI implements InventoryHolder, Listener {
         final ItemStack[] itemsToSell;
         final Map<Integer, ItemStack> items;
         double priceMultiplier; // Player-adjustable price modifier (0.5 to 1.5)
+        final SlotCache slots;
+
+        // Prices of the items on sale, see updatePricing
+        ItemStack[] pricedItems;
+        int pricedDemandVersion;
+        int pricing;
+        double baseTotal;
+        int itemCount;
+        int totalDoses;
+        String breakdown;
 
         SaleSession(UUID playerId, UUID buyerId, NPCManager.NPCType buyerType) {
             this.playerId = playerId;
@@ -1564,6 +1695,7 @@ public class MobSaleGUI implements InventoryHolder, Listener {
             this.itemsToSell = new ItemStack[6]; // ENHANCED: 6 slots instead of 4
             this.items = new HashMap<>();
             this.priceMultiplier = 1.0; // Default to base price
+            this.slots = new SlotCache(54);
         }
     }
 }
@@ -9,11 +9,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -24,7 +21,7 @@ import java.util.List;
  * Shop GUI for purchasing joint rolling supplies and packaging materials.
  * Extends the Market Joe's shop with additional categories.
  */
-public class RollingShopGUI implements InventoryHolder, Listener {
+public class RollingShopGUI implements MenuHolder {
 
     private final BudLords plugin;
     private final EconomyManager economyManager;
@@ -41,7 +38,6 @@ public class RollingShopGUI implements InventoryHolder, Listener {
     public RollingShopGUI(BudLords plugin, EconomyManager economyManager) {
         this.plugin = plugin;
         this.economyManager = economyManager;
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
     // Using deprecated Inventory title API for Bukkit/Spigot compatibility
@@ -316,9 +312,8 @@ public class RollingShopGUI implements InventoryHolder, Listener {
         return item;
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof RollingShopGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
         event.setCancelled(true);
@@ -7,11 +7,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -23,7 +20,7 @@ import java.util.Map;
  * Feature #1: Sale History and Analytics Panel
  * Shows player's recent sales, statistics, trends, and insights.
  */
-public class SaleAnalyticsGUI implements InventoryHolder, Listener {
+public class SaleAnalyticsGUI implements MenuHolder {
     
     private final BudLords plugin;
     private final SaleHistory saleHistory;
@@ -31,7 +28,6 @@ public class SaleAnalyticsGUI implements InventoryHolder, Listener {
     public SaleAnalyticsGUI(BudLords plugin, SaleHistory saleHistory) {
         this.plugin = plugin;
         this.saleHistory = saleHistory;
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
     
     public void open(Player player) {
@@ -134,9 +130,8 @@ public class SaleAnalyticsGUI implements InventoryHolder, Listener {
         inv.setItem(49, createItem(Material.BARRIER, "§c§lClose", List.of("", "§7Click to close")));
     }
     
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof SaleAnalyticsGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
         
         event.setCancelled(true);
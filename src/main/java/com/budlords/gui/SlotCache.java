@@ -0,0 +1,71 @@
+package com.budlords.gui;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Remembers what each slot of a GUI was drawn from.
+ *
+ * A slot is drawn together with a key holding everything its item depends on (a count,
+ * a price, ...). When the GUI is redrawn, slots whose key didn't change keep their item,
+ * so their lore isn't built again and nothing is sent to the player for them.
+ */
+public final class SlotCache {
+
+    /**
+     * Key of slots that always show the same item.
+     */
+    public static final Object STATIC = new Object();
+
+    private final Object[] keys;
+    private long rendered;
+    private long skipped;
+
+    public SlotCache(int size) {
+        this.keys = new Object[size];
+    }
+
+    /**
+     * Draws a slot, unless it was last drawn with an equal key.
+     *
+     * @param key Everything the item depends on; compared with {@code equals}
+     * @param item Builds the item, only called when the slot is drawn
+     */
+    public void render(Inventory inventory, int slot, Object key, Supplier<ItemStack> item) {
+        if (key.equals(keys[slot])) {
+            skipped++;
+            return;
+        }
+        keys[slot] = key;
+        rendered++;
+        inventory.setItem(slot, item.get());
+    }
+
+    /**
+     * Forgets every key, so the next redraw draws every slot.
+     */
+    public void invalidate() {
+        Arrays.fill(keys, null);
+    }
+
+    public void invalidate(int slot) {
+        keys[slot] = null;
+    }
+
+    /**
+     * @return How many times a slot was drawn
+     */
+    public long getRendered() {
+        return rendered;
+    }
+
+    /**
+     * @return How many times a slot was kept because its key didn't change
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+}
@@ -9,18 +9,15 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.*;
 
-public class StrainCreatorGUI implements InventoryHolder, Listener {
+public class StrainCreatorGUI implements MenuHolder {
 
     private final BudLords plugin;
     private final StrainManager strainManager;
@@ -35,7 +32,6 @@ public class StrainCreatorGUI implements InventoryHolder, Listener {
         this.plugin = plugin;
         this.strainManager = strainManager;
         this.activeBuilders = new HashMap<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
         
         // Initialize effect selector
         this.effectSelectorGUI = new EffectSelectorGUI(plugin, this);
@@ -384,9 +380,8 @@ public class StrainCreatorGUI implements InventoryHolder, Listener {
         return item;
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof StrainCreatorGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
         StrainBuilder builder = activeBuilders.get(player.getUniqueId());
@@ -559,9 +554,8 @@ public class StrainCreatorGUI implements InventoryHolder, Listener {
         }
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClose(InventoryCloseEvent event) {
-        if (!(event.getInventory().getHolder() instanceof StrainCreatorGUI)) return;
         if (!(event.getPlayer() instanceof Player player)) return;
         
         StrainBuilder builder = activeBuilders.get(player.getUniqueId());
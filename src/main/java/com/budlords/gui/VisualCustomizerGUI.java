@@ -12,7 +12,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -28,7 +27,7 @@ import java.util.*;
  * - Scale/size adjustments
  * - Glow effects
  */
-public class VisualCustomizerGUI implements InventoryHolder, Listener {
+public class VisualCustomizerGUI implements MenuHolder {
 
     private final BudLords plugin;
     private final StrainCreatorGUI strainCreatorGUI;
@@ -49,7 +48,6 @@ public class VisualCustomizerGUI implements InventoryHolder, Listener {
         this.themePage = new HashMap<>();
         this.budTypePage = new HashMap<>();
         this.awaitingHeadOwner = new HashSet<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
     @SuppressWarnings("deprecation")
@@ -306,9 +304,8 @@ public class VisualCustomizerGUI implements InventoryHolder, Listener {
             Arrays.asList("", "§7Save visual settings", "§7and return to creator")));
     }
 
-    @EventHandler
+    @Override
     public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getInventory().getHolder() instanceof VisualCustomizerGUI)) return;
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
         // Always cancel to prevent item manipulation
@@ -601,9 +598,8 @@ public class VisualCustomizerGUI implements InventoryHolder, Listener {
      * Handles inventory close to ensure builder is not prematurely removed.
      * The StrainCreatorGUI will handle cleanup.
      */
-    @org.bukkit.event.EventHandler
+    @Override
     public void onInventoryClose(org.bukkit.event.inventory.InventoryCloseEvent event) {
-        if (!(event.getInventory().getHolder() instanceof VisualCustomizerGUI)) return;
         // Don't do anything - let StrainCreatorGUI handle the builder cleanup
         // This prevents premature removal of the builder when navigating between GUIs
     }
@@ -0,0 +1,234 @@
+package com.budlords.items;
+
+import com.budlords.quality.StarRating;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Identifies BudLords items by tags in their PersistentDataContainer.
+ *
+ * Items get their tags when they are created. {@link #classify(ItemStack)} reads an
+ * item's meta once and returns everything the plugin needs to know about it, instead of
+ * each check copying the meta and scanning the display name and lore again.
+ *
+ * Items made before tags existed are recognized by their name and lore like before.
+ * Classifying never changes an item; legacy items are only tagged by {@link #upgrade},
+ * when a player joins, picks them up or opens a container holding them.
+ */
+public final class ItemTags {
+
+    /**
+     * The kinds of items that carry tags.
+     */
+    public enum Kind {
+        SEED,
+        BUD,
+        POT,
+        LAMP,
+        FERTILIZER,
+        SCISSORS,
+        WATERING_CAN
+    }
+
+    /**
+     * What an item is. Strain id is only set for seeds and buds, water only for cans.
+     */
+    public record Tag(Kind kind, String strainId, StarRating rating, int water) {
+
+        public boolean is(Kind other) {
+            return kind == other;
+        }
+    }
+
+    private static final NamespacedKey TYPE_KEY = NamespacedKey.fromString("budlords:item_type");
+    private static final NamespacedKey STRAIN_KEY = NamespacedKey.fromString("budlords:strain_id");
+    private static final NamespacedKey RATING_KEY = NamespacedKey.fromString("budlords:rating");
+    private static final NamespacedKey WATER_KEY = NamespacedKey.fromString("budlords:water");
+
+    private ItemTags() {
+        // Utility class
+    }
+
+    /**
+     * Writes the tags into an item's meta (before {@code setItemMeta}).
+     *
+     * @param strainId Strain of a seed or bud, otherwise null
+     * @param rating May be null
+     */
+    public static void tag(ItemMeta meta, Kind kind, String strainId, StarRating rating, int water) {
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        pdc.set(TYPE_KEY, PersistentDataType.STRING, kind.name().toLowerCase(Locale.ROOT));
+        if (strainId != null) {
+            pdc.set(STRAIN_KEY, PersistentDataType.STRING, strainId);
+        }
+        if (rating != null) {
+            pdc.set(RATING_KEY, PersistentDataType.INTEGER, rating.getStars());
+        }
+        if (kind == Kind.WATERING_CAN) {
+            pdc.set(WATER_KEY, PersistentDataType.INTEGER, water);
+        }
+    }
+
+    /**
+     * @return What the item is, or null if it isn't a tagged kind of BudLords item
+     */
+    public static Tag classify(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+        ItemMeta meta = item.getItemMeta();
+        return meta != null ? classify(item, meta) : null;
+    }
+
+    private static Tag classify(ItemStack item, ItemMeta meta) {
+        Tag tag = readTag(meta);
+        return tag != null ? tag : classifyLegacy(item.getType(), meta);
+    }
+
+    /**
+     * @return The tags written into the meta, or null if it has none
+     */
+    private static Tag readTag(ItemMeta meta) {
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        String type = pdc.get(TYPE_KEY, PersistentDataType.STRING);
+        if (type != null) {
+            Kind kind;
+            try {
+                kind = Kind.valueOf(type.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            Integer rating = pdc.get(RATING_KEY, PersistentDataType.INTEGER);
+            Integer water = pdc.get(WATER_KEY, PersistentDataType.INTEGER);
+            return new Tag(kind, pdc.get(STRAIN_KEY, PersistentDataType.STRING),
+                rating != null ? StarRating.fromValue(rating) : null, water != null ? water : 0);
+        }
+        return null;
+    }
+
+    public static boolean is(ItemStack item, Kind kind) {
+        Tag tag = classify(item);
+        return tag != null && tag.kind() == kind;
+    }
+
+    /**
+     * Star rating of any BudLords item; untagged kinds (seed bags, joints, ...) are read
+     * from their lore.
+     */
+    public static StarRating getRating(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return null;
+        Tag tag = classify(item, meta);
+        return tag != null ? tag.rating() : parseRating(meta.getLore());
+    }
+
+    /**
+     * Strain id of a seed or bud; untagged kinds (packages, ...) are read from their lore.
+     */
+    public static String getStrainId(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) return null;
+        Tag tag = classify(item, meta);
+        return tag != null ? tag.strainId() : parseLore(meta.getLore(), "§8ID: ");
+    }
+
+    /**
+     * Tags the legacy BudLords items in an inventory, so they keep stacking with new ones.
+     */
+    public static void upgrade(Inventory inventory) {
+        ItemStack[] contents = inventory.getContents();
+        boolean changed = false;
+        for (ItemStack item : contents) {
+            changed |= upgrade(item);
+        }
+        if (changed) {
+            inventory.setContents(contents);
+        }
+    }
+
+    /**
+     * Tags a legacy BudLords item in place.
+     * @return Whether the item was changed
+     */
+    public static boolean upgrade(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return false;
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null || meta.getPersistentDataContainer().has(TYPE_KEY, PersistentDataType.STRING)) return false;
+
+        Tag legacy = classifyLegacy(item.getType(), meta);
+        if (legacy == null) return false;
+        tag(meta, legacy.kind(), legacy.strainId(), legacy.rating(), legacy.water());
+        item.setItemMeta(meta);
+        return true;
+    }
+
+    /**
+     * The checks items were identified by before they had tags.
+     */
+    private static Tag classifyLegacy(Material type, ItemMeta meta) {
+        if (!meta.hasDisplayName()) return null;
+        String name = meta.getDisplayName();
+
+        Kind kind = null;
+        if (type == Material.FLOWER_POT && name.contains("Growing Pot")) {
+            kind = Kind.POT;
+        } else if (name.contains("Grow Lamp")) {
+            kind = Kind.LAMP;
+        } else if (isSeedMaterial(type) && name.contains("Seed")) {
+            kind = Kind.SEED;
+        } else if (type == Material.BONE_MEAL && name.contains("Fertilizer")) {
+            kind = Kind.FERTILIZER;
+        } else if (type == Material.BUCKET && name.contains("Watering Can")) {
+            kind = Kind.WATERING_CAN;
+        } else if (type == Material.SHEARS && name.contains("Harvest Scissors")) {
+            kind = Kind.SCISSORS;
+        } else if (type.name().endsWith("_DYE") && name.contains("Bud")) {
+            kind = Kind.BUD;
+        }
+        if (kind == null) return null;
+
+        List<String> lore = meta.getLore();
+        String strainId = kind == Kind.SEED || kind == Kind.BUD ? parseLore(lore, "§8ID: ") : null;
+        int water = 0;
+        if (kind == Kind.WATERING_CAN) {
+            String level = parseLore(lore, "§8Water: ");
+            try {
+                water = level != null ? Integer.parseInt(level.trim()) : 0;
+            } catch (NumberFormatException ignored) {}
+        }
+        return new Tag(kind, strainId, parseRating(lore), water);
+    }
+
+    private static boolean isSeedMaterial(Material type) {
+        return type == Material.WHEAT_SEEDS || type == Material.BEETROOT_SEEDS
+            || type == Material.MELON_SEEDS || type == Material.PUMPKIN_SEEDS;
+    }
+
+    private static StarRating parseRating(List<String> lore) {
+        String rating = parseLore(lore, "§8Rating: ");
+        if (rating == null) return null;
+        try {
+            return StarRating.fromValue(Integer.parseInt(rating.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String parseLore(List<String> lore, String prefix) {
+        if (lore == null) return null;
+        for (String line : lore) {
+            if (line.startsWith(prefix)) {
+                return line.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+}
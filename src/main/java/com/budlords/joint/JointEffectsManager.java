@@ -3,6 +3,7 @@ package com.budlords.joint;
 import com.budlords.BudLords;
 import com.budlords.quality.StarRating;
 import com.budlords.strain.Strain;
+import com.budlords.perf.ProfiledRunnable;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -346,10 +347,10 @@ public class JointEffectsManager implements Listener {
         player.playSound(loc, Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.4f, 0.8f);
         
         // Massive initial smoke burst with swirl effect
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "JointEffectsManager.smokeBurst") {
             int burst = 0;
             @Override
-            public void run() {
+            protected void tick() {
                 if (burst >= 5 || !player.isOnline()) {
                     cancel();
                     return;
@@ -444,13 +445,13 @@ public class JointEffectsManager implements Listener {
         // ═══════════════════════════════════════
         // CONTINUOUS AMBIENT EFFECTS - PROFESSIONAL!
         // ═══════════════════════════════════════
-        BukkitTask task = new BukkitRunnable() {
+        BukkitTask task = new ProfiledRunnable(plugin.getTaskProfiler(), "JointEffectsManager.ambient") {
             int ticks = 0;
             final int maxTicks = session.getDuration();
             double spiralAngle = 0;
 
             @Override
-            public void run() {
+            protected void tick() {
                 if (!player.isOnline() || ticks >= maxTicks) {
                     activeSessions.remove(player.getUniqueId());
                     particleTasks.remove(player.getUniqueId());
@@ -13,7 +13,7 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.budlords.perf.ProfiledRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
@@ -714,12 +714,12 @@ public class JointRollingManager implements InventoryHolder {
         
         clickerPosition.put(player.getUniqueId(), 0);
         
-        BukkitTask task = new BukkitRunnable() {
+        BukkitTask task = new ProfiledRunnable(plugin.getTaskProfiler(), "JointRollingManager.minigame") {
             int tick = 0;
             int direction = 1;
             
             @Override
-            public void run() {
+            protected void tick() {
                 if (!activeSessions.containsKey(player.getUniqueId())) {
                     cancel();
                     return;
@@ -4,9 +4,11 @@ import com.budlords.BudLords;
 import com.budlords.diseases.PlantDisease;
 import com.budlords.farming.FarmingManager;
 import com.budlords.farming.Plant;
+import com.budlords.items.ItemTags;
 import com.budlords.quality.*;
 import com.budlords.strain.Strain;
 import com.budlords.strain.StrainManager;
+import org.bukkit.Chunk;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -22,6 +24,9 @@ import org.bukkit.event.block.Action;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.player.PlayerBucketFillEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -118,34 +123,40 @@ public class FarmingListener implements Listener {
             }
         }
 
-        // Check if placing a pot
-        if (GrowingPot.isPotItem(item)) {
-            handlePotPlacement(event, player, item, clickedBlock);
-            return;
-        }
-        
-        // Check if using a lamp on a plant
-        if (GrowLamp.isLampItem(item)) {
-            handleLampUsage(event, player, item, clickedBlock);
-            return;
-        }
-
-        // Check if planting a seed
-        if (strainManager.isSeedItem(item)) {
-            handleSeedPlanting(event, player, item, clickedBlock);
-            return;
-        }
-        
-        // Check if using fertilizer
-        if (Fertilizer.isFertilizerItem(item)) {
-            handleFertilizer(event, player, item, clickedBlock);
-            return;
-        }
-        
-        // Check if using watering can (BudLords custom item)
-        if (plugin.getQualityItemManager().isWateringCanItem(item)) {
-            handleWateringCan(event, player, item, clickedBlock);
-            return;
+        // One classification instead of a check per item kind
+        ItemTags.Tag tag = ItemTags.classify(item);
+        if (tag != null) {
+            switch (tag.kind()) {
+                case POT -> {
+                    handlePotPlacement(event, player, item, clickedBlock);
+                    return;
+                }
+                case LAMP -> {
+                    // Using a lamp on a plant
+                    handleLampUsage(event, player, item, clickedBlock);
+                    return;
+                }
+                case SEED -> {
+                    handleSeedPlanting(event, player, item, clickedBlock);
+                    return;
+                }
+                case FERTILIZER -> {
+                    handleFertilizer(event, player, item, clickedBlock);
+                    return;
+                }
+                case WATERING_CAN -> {
+                    handleWateringCan(event, player, item, clickedBlock);
+                    return;
+                }
+                case SCISSORS -> {
+                    // Harvesting with scissors
+                    handleScissorsHarvest(event, player, item, clickedBlock);
+                    return;
+                }
+                default -> {
+                    // Buds fall through to the plain interactions below
+                }
+            }
         }
         
         // Check if using watering (water bucket on plant)
@@ -154,12 +165,6 @@ public class FarmingListener implements Listener {
             return;
         }
         
-        // Check if harvesting with scissors
-        if (HarvestScissors.isScissorsItem(item)) {
-            handleScissorsHarvest(event, player, item, clickedBlock);
-            return;
-        }
-        
         // Check if using a cure item on a plant
         if (isCureItem(item)) {
             handleCureUsage(event, player, item, clickedBlock);
@@ -777,6 +782,32 @@ public class FarmingListener implements Listener {
         player.sendMessage("");
     }
 
+    /**
+     * Plants wake up with their chunk and are caught up on the time it was unloaded.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        farmingManager.wakeChunk(event.getWorld().getUID(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Plant models are redrawn or removed once the entities they are made of are loaded,
+     * which happens after the chunk itself.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        if (plugin.getPlantVisualizationManager() == null) return;
+        Chunk chunk = event.getChunk();
+        plugin.getPlantVisualizationManager().onEntitiesLoad(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        farmingManager.sleepChunk(event.getWorld().getUID(), chunk.getX(), chunk.getZ());
+    }
+
     @EventHandler(priority = EventPriority.HIGH)
     public void onBlockBreak(BlockBreakEvent event) {
         Block block = event.getBlock();
@@ -1167,7 +1198,6 @@ public class FarmingListener implements Listener {
         // Update collection book
         if (plugin.getCollectionManager() != null) {
             plugin.getCollectionManager().addToCollection(player, strain.getId());
-            plugin.getCollectionManager().saveCollections();
         }
         
         // Update challenge progress
@@ -2,16 +2,29 @@ package com.budlords.listeners;
 
 import com.budlords.BudLords;
 import com.budlords.data.DataManager;
+import com.budlords.items.ItemTags;
 import com.budlords.items.PhoneItems;
+import org.bukkit.block.DoubleChest;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.BlockInventoryHolder;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.logging.Level;
+
 public class PlayerListener implements Listener {
 
     private final BudLords plugin;
@@ -22,9 +35,31 @@ public class PlayerListener implements Listener {
         this.dataManager = dataManager;
     }
 
+    /**
+     * Loads the player's records off the main thread while they log in, so join doesn't
+     * wait on storage. Refuses the login if they can't be read rather than starting the
+     * player from scratch and overwriting their data.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+        if (plugin.getPersistenceManager() == null) return;
+
+        try {
+            plugin.getPersistenceManager().loadPlayer(event.getUniqueId());
+        } catch (IllegalStateException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not load data for " + event.getName(), e);
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, "§cYour BudLords data could not be loaded. Please try again.");
+        }
+    }
+
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        if (plugin.getPersistenceManager() != null) {
+            plugin.getPersistenceManager().playerJoined(player.getUniqueId());
+        }
+        boolean firstJoin = !plugin.getEconomyManager().hasAccount(player.getUniqueId());
         
         // Initialize player data
         plugin.getEconomyManager().initializePlayer(player);
@@ -32,8 +67,12 @@ public class PlayerListener implements Listener {
         // Initialize stats (ensures player has stats entry)
         if (plugin.getStatsManager() != null) {
             plugin.getStatsManager().getStats(player);
+            plugin.getStatsManager().getSummaryIndex().updateName(player.getUniqueId(), player.getName());
         }
         
+        // Tag items made before item tags existed, so they stack with newly made ones
+        ItemTags.upgrade(player.getInventory());
+        
         // Sync achievements with stats on login
         if (plugin.getAchievementManager() != null) {
             // Delay slightly to ensure all systems are initialized
@@ -43,7 +82,7 @@ public class PlayerListener implements Listener {
         }
         
         // Send welcome message if first time
-        if (!dataManager.getPlayersConfig().contains("players." + player.getUniqueId())) {
+        if (firstJoin) {
             plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                 player.sendMessage("");
                 player.sendMessage("§2§l  Welcome to BudLords!");
@@ -55,27 +94,50 @@ public class PlayerListener implements Listener {
         }
     }
 
+    /**
+     * Tags legacy items as they are picked up, before they merge into a stack.
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player)) return;
+        ItemStack stack = event.getItem().getItemStack();
+        if (ItemTags.upgrade(stack)) {
+            event.getItem().setItemStack(stack);
+        }
+    }
+
+    /**
+     * Tags legacy items in chests, other containers and seed bags when they are opened.
+     * BudLords GUIs hold their own inventories and are left alone, so their display
+     * items aren't rewritten and resent on every open.
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        Inventory inventory = event.getInventory();
+        if (!isStorage(inventory, event.getPlayer())) return;
+        ItemTags.upgrade(inventory);
+    }
+
+    private boolean isStorage(Inventory inventory, HumanEntity viewer) {
+        InventoryHolder holder = inventory.getHolder();
+        if (holder instanceof BlockInventoryHolder || holder instanceof DoubleChest || holder instanceof Entity) {
+            return true;
+        }
+        // Seed bags are the one plugin inventory that stores the player's items
+        return holder == null && viewer instanceof Player player
+            && plugin.getSeedBagManager() != null
+            && plugin.getSeedBagManager().getOpenBag(player) == inventory;
+    }
+
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        // Save player data asynchronously
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            plugin.getEconomyManager().saveBalances();
-            
-            // Save stats
-            if (plugin.getStatsManager() != null) {
-                plugin.getStatsManager().saveStats();
-            }
-            
-            // Save skills
-            if (plugin.getSkillManager() != null) {
-                plugin.getSkillManager().saveSkills();
-            }
-            
-            // Save achievements
-            if (plugin.getAchievementManager() != null) {
-                plugin.getAchievementManager().saveAchievements();
-            }
-        });
+        // Balances, stats, skills and achievements are marked dirty as they change and
+        // written by the periodic persistence flush; the player's last changes are written
+        // shortly, batched with other quits, after which their records may be unloaded
+        // once enough other players went offline
+        if (plugin.getPersistenceManager() != null) {
+            plugin.getPersistenceManager().playerQuit(event.getPlayer().getUniqueId());
+        }
     }
     
     /**
@@ -1,6 +1,7 @@
 package com.budlords.npc;
 
 import com.budlords.BudLords;
+import com.budlords.data.RecordStore;
 import com.budlords.economy.CustomerType;
 import com.budlords.strain.Strain;
 import org.bukkit.configuration.ConfigurationSection;
@@ -26,6 +27,7 @@ public class BuyerRegistry {
     private final Map<UUID, IndividualBuyer> buyers;
     private final File buyersFile;
     private FileConfiguration buyersConfig;
+    private final RecordStore<UUID> buyerStore;
     
     // Fixed UUIDs for permanent NPCs to ensure they persist across restarts
     private static final UUID MARKET_JOE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
@@ -60,6 +62,8 @@ public class BuyerRegistry {
         this.plugin = plugin;
         this.buyers = new ConcurrentHashMap<>();
         this.buyersFile = new File(plugin.getDataFolder(), "buyers.yml");
+        this.buyerStore = plugin.getPersistenceManager().register("buyers", () -> buyersConfig, buyersFile,
+            "buyers", UUID::toString, this::writeBuyer);
         loadBuyers();
         
         // Initialize fixed NPCs if they don't exist
@@ -77,19 +81,26 @@ public class BuyerRegistry {
         // Check if Market Joe exists, if not create him
         if (!buyers.containsKey(MARKET_JOE_ID)) {
             IndividualBuyer marketJoe = new IndividualBuyer(MARKET_JOE_ID, "Market Joe", CustomerType.CASUAL_USER);
-            buyers.put(MARKET_JOE_ID, marketJoe);
+            track(marketJoe);
             plugin.getLogger().info("Initialized Market Joe in buyer registry");
         }
         
         // Check if BlackMarket Joe exists, if not create him
         if (!buyers.containsKey(BLACKMARKET_JOE_ID)) {
             IndividualBuyer blackMarketJoe = new IndividualBuyer(BLACKMARKET_JOE_ID, "BlackMarket Joe", CustomerType.VIP_CLIENT);
-            buyers.put(BLACKMARKET_JOE_ID, blackMarketJoe);
+            track(blackMarketJoe);
             plugin.getLogger().info("Initialized BlackMarket Joe in buyer registry");
         }
-        
-        // Save after initialization
-        saveBuyers();
+    }
+    
+    /**
+     * Puts a buyer in the registry and persists it, along with its future changes.
+     */
+    private void track(IndividualBuyer buyer) {
+        UUID id = buyer.getId();
+        buyers.put(id, buyer);
+        buyer.setChangeListener(() -> buyerStore.markDirty(id));
+        buyerStore.markDirty(id);
     }
     
     /**
@@ -110,6 +121,7 @@ public class BuyerRegistry {
      * Loads all buyers from storage.
      */
     private void loadBuyers() {
+        long start = System.nanoTime();
         if (!buyersFile.exists()) {
             try {
                 buyersFile.createNewFile();
@@ -120,6 +132,7 @@ public class BuyerRegistry {
         }
         
         buyersConfig = YamlConfiguration.loadConfiguration(buyersFile);
+        buyerStore.replay();
         ConfigurationSection buyersSection = buyersConfig.getConfigurationSection("buyers");
         
         if (buyersSection == null) {
@@ -138,98 +151,70 @@ public class BuyerRegistry {
                 IndividualBuyer buyer = new IndividualBuyer(id, name, personality);
                 
                 // Load purchase history
+                Map<String, Integer> history = new HashMap<>();
+                int purchased = 0;
                 ConfigurationSection historySection = buyerSection.getConfigurationSection("purchase-history");
                 if (historySection != null) {
                     for (String strainId : historySection.getKeys(false)) {
                         int amount = historySection.getInt(strainId);
-                        double totalPrice = buyerSection.getDouble("total-spent", 0.0);
-                        // Restore purchases (simplified - just adds to history)
-                        for (int i = 0; i < amount; i++) {
-                            buyer.recordPurchase(strainId, 1, totalPrice / amount);
-                        }
+                        history.put(strainId, amount);
+                        purchased += amount;
                     }
                 }
+                long now = System.currentTimeMillis();
+                buyer.restoreHistory(history,
+                    buyerSection.getInt("total-purchases", purchased),
+                    buyerSection.getDouble("total-spent", 0.0),
+                    buyerSection.getLong("first-met", now),
+                    buyerSection.getLong("last-seen", now));
                 
                 buyers.put(id, buyer);
+                buyer.setChangeListener(() -> buyerStore.markDirty(id));
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to load buyer: " + key + " - " + e.getMessage());
             }
         }
         
-        plugin.getLogger().info("Loaded " + buyers.size() + " individual buyers");
+        plugin.getLogger().info("Loaded " + buyers.size() + " individual buyers in " +
+            String.format("%.1f", (System.nanoTime() - start) / 1_000_000.0) + "ms");
     }
     
     /**
-     * Saves all buyers to storage.
+     * Exports all buyers to buyers.yml. Changes are persisted incrementally,
+     * so this is only needed to get an up-to-date file.
      */
     public void saveBuyers() {
-        buyersConfig.set("buyers", null); // Clear existing
-        
-        for (IndividualBuyer buyer : buyers.values()) {
-            String path = "buyers." + buyer.getId().toString();
-            buyersConfig.set(path + ".id", buyer.getId().toString());
-            buyersConfig.set(path + ".name", buyer.getName());
-            buyersConfig.set(path + ".personality", buyer.getPersonality().name());
-            buyersConfig.set(path + ".total-purchases", buyer.getTotalPurchases());
-            buyersConfig.set(path + ".total-spent", buyer.getTotalMoneySpent());
-            buyersConfig.set(path + ".first-met", buyer.getFirstMetTimestamp());
-            buyersConfig.set(path + ".last-seen", buyer.getLastSeenTimestamp());
-            
-            // Save purchase history
-            Map<String, Integer> history = buyer.getPurchaseHistory();
-            for (Map.Entry<String, Integer> entry : history.entrySet()) {
-                buyersConfig.set(path + ".purchase-history." + entry.getKey(), entry.getValue());
-            }
+        plugin.getPersistenceManager().export(buyerStore);
+    }
+    
+    private boolean writeBuyer(UUID buyerId, ConfigurationSection section) {
+        IndividualBuyer buyer = buyers.get(buyerId);
+        if (buyer == null) {
+            return false;
         }
+        section.set("id", buyer.getId().toString());
+        section.set("name", buyer.getName());
+        section.set("personality", buyer.getPersonality().name());
+        section.set("total-purchases", buyer.getTotalPurchases());
+        section.set("total-spent", buyer.getTotalMoneySpent());
+        section.set("first-met", buyer.getFirstMetTimestamp());
+        section.set("last-seen", buyer.getLastSeenTimestamp());
         
-        try {
-            buyersConfig.save(buyersFile);
-        } catch (IOException e) {
-            plugin.getLogger().warning("Could not save buyers.yml: " + e.getMessage());
+        // Purchase history
+        Map<String, Integer> history = buyer.getPurchaseHistory();
+        for (Map.Entry<String, Integer> entry : history.entrySet()) {
+            section.set("purchase-history." + entry.getKey(), entry.getValue());
         }
+        return true;
     }
     
     /**
-     * Reloads buyer data from storage file.
-     * FIXED: Ensures phone contacts show latest buyer statistics after purchases.
+     * Syncs buyer data with storage.
+     * Buyers in the registry always hold the latest state and storage can only lag behind
+     * them, so rather than reading buyers.yml back this writes out pending buyer changes.
      */
     public void reloadFromStorage() {
-        if (!buyersFile.exists()) {
-            return;
-        }
-        
-        // Reload config from disk
-        buyersConfig = YamlConfiguration.loadConfiguration(buyersFile);
-        ConfigurationSection buyersSection = buyersConfig.getConfigurationSection("buyers");
-        
-        if (buyersSection == null) {
-            return;
-        }
-        
-        // Update existing buyers with latest data from storage
-        for (String key : buyersSection.getKeys(false)) {
-            try {
-                ConfigurationSection buyerSection = buyersSection.getConfigurationSection(key);
-                if (buyerSection == null) continue;
-                
-                UUID id = UUID.fromString(buyerSection.getString("id"));
-                IndividualBuyer buyer = buyers.get(id);
-                
-                if (buyer != null) {
-                    // Update stats from storage
-                    int totalPurchases = buyerSection.getInt("total-purchases", 0);
-                    double totalSpent = buyerSection.getDouble("total-spent", 0.0);
-                    long lastSeen = buyerSection.getLong("last-seen", System.currentTimeMillis());
-                    
-                    // Force update internal state
-                    buyer.setTotalPurchases(totalPurchases);
-                    buyer.setTotalMoneySpent(totalSpent);
-                    buyer.setLastSeenTimestamp(lastSeen);
-                }
-            } catch (Exception e) {
-                plugin.getLogger().warning("Failed to reload buyer: " + key + " - " + e.getMessage());
-            }
-        }
+        plugin.getPersistenceManager().flush();
     }
     
     /**
@@ -244,11 +229,10 @@ public class BuyerRegistry {
             CustomerType personality = types[ThreadLocalRandom.current().nextInt(types.length)];
             
             IndividualBuyer buyer = new IndividualBuyer(UUID.randomUUID(), name, personality);
-            buyers.put(buyer.getId(), buyer);
+            track(buyer);
             usedNames.add(name);
         }
         
-        saveBuyers();
         plugin.getLogger().info("Generated " + count + " initial buyers");
     }
     
@@ -380,8 +364,7 @@ public class BuyerRegistry {
      */
     public IndividualBuyer createBuyer(String name, CustomerType personality) {
         IndividualBuyer buyer = new IndividualBuyer(UUID.randomUUID(), name, personality);
-        buyers.put(buyer.getId(), buyer);
-        saveBuyers();
+        track(buyer);
         return buyer;
     }
 
@@ -390,8 +373,7 @@ public class BuyerRegistry {
      */
     public void addBuyer(IndividualBuyer buyer) {
         if (buyer != null) {
-            buyers.put(buyer.getId(), buyer);
-            saveBuyers();
+            track(buyer);
         }
     }
     
@@ -417,7 +399,8 @@ public class BuyerRegistry {
         IndividualBuyer removed = buyers.remove(buyerId);
         
         if (removed != null) {
-            saveBuyers();
+            removed.setChangeListener(null);
+            buyerStore.markDirty(buyerId);
             return true;
         }
         
@@ -431,7 +414,6 @@ public class BuyerRegistry {
         IndividualBuyer buyer = buyers.get(buyerId);
         if (buyer != null) {
             buyer.recordPurchase(strainId, amount, price);
-            saveBuyers();
         }
     }
     
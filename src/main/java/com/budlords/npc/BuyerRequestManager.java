@@ -6,7 +6,7 @@ import com.budlords.strain.Strain;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.budlords.perf.ProfiledRunnable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -54,9 +54,9 @@ public class BuyerRequestManager {
      * Starts the background task that generates new requests.
      */
     private void startRequestGenerationTask() {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "BuyerRequestManager.requestGeneration") {
             @Override
-            public void run() {
+            protected void tick() {
                 if (activeRequests.size() < MAX_ACTIVE_REQUESTS) {
                     if (ThreadLocalRandom.current().nextDouble() < REQUEST_GENERATION_CHANCE) {
                         generateRandomRequest();
@@ -70,9 +70,9 @@ public class BuyerRequestManager {
      * Starts the background task that checks for expired requests.
      */
     private void startExpirationCheckTask() {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "BuyerRequestManager.expirationCheck") {
             @Override
-            public void run() {
+            protected void tick() {
                 List<UUID> expiredIds = new ArrayList<>();
                 
                 for (BuyerRequest request : activeRequests.values()) {
@@ -111,9 +111,10 @@ public class BuyerRequestManager {
      * Starts the bossbar update task for high-value requests.
      */
     private void startBossBarUpdateTask() {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "BuyerRequestManager.bossBarUpdate") {
             @Override
-            public void run() {
+            protected void tick() {
+                touched(activeRequests.size());
                 for (Map.Entry<UUID, BuyerRequest> entry : activeRequests.entrySet()) {
                     BuyerRequest request = entry.getValue();
                     
@@ -12,7 +12,7 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.NamespacedKey;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.budlords.perf.ProfiledRunnable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -342,9 +342,10 @@ public class DynamicBuyerManager {
      * Starts the task that shows demand indicators above buyers.
      */
     private void startDemandIndicatorTask() {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "DynamicBuyerManager.demandIndicator") {
             @Override
-            public void run() {
+            protected void tick() {
+                touched(demandIndicators.size());
                 for (UUID entityId : new HashSet<>(demandIndicators.keySet())) {
                     Entity entity = Bukkit.getEntity(entityId);
                     
@@ -420,8 +421,6 @@ public class DynamicBuyerManager {
             // Update name tag to reflect new mood
             updateNameTag(entity, buyer);
             
-            buyerRegistry.saveBuyers();
-            
             // Show visual feedback for successful purchase
             showPurchaseFeedback(entity, qualityRating);
         }
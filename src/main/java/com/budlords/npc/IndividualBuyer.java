@@ -37,6 +37,9 @@ public class IndividualBuyer {
     private final double loyaltyBonus; // Additional price multiplier for repeat business
     private final String specialRequest; // Unique request or comment
     
+    // Called when persisted fields change
+    private Runnable changeListener;
+    
     /**
      * Creates a new individual buyer with generated personality.
      */
@@ -61,6 +64,16 @@ public class IndividualBuyer {
         this.specialRequest = generateSpecialRequest(personality);
     }
     
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+    
+    private void markDirty() {
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+    
     /**
      * Generates a contextual backstory based on personality type.
      */
@@ -168,6 +181,39 @@ public class IndividualBuyer {
         
         // Add contextual dialogue
         addMemoryDialogue(strainId, amount);
+        
+        markDirty();
+    }
+    
+    /**
+     * Restores the purchase history and totals in one go (loading from storage). Derived
+     * state (favorites, mood, dialogue) is rebuilt once instead of per purchase, and the
+     * buyer isn't marked dirty.
+     */
+    public void restoreHistory(Map<String, Integer> history, int totalPurchases, double totalMoneySpent,
+                               long firstMetTimestamp, long lastSeenTimestamp) {
+        purchaseHistory.clear();
+        purchaseHistory.putAll(history);
+        lastPurchaseTime.clear();
+        for (String strainId : history.keySet()) {
+            lastPurchaseTime.put(strainId, lastSeenTimestamp);
+        }
+        this.totalPurchases = totalPurchases;
+        this.totalMoneySpent = totalMoneySpent;
+        this.firstMetTimestamp = firstMetTimestamp;
+        this.lastSeenTimestamp = lastSeenTimestamp;
+
+        updateFavorites();
+        updateMood();
+        memoryDialogue.clear();
+        for (Map.Entry<String, Integer> entry : history.entrySet()) {
+            if (entry.getValue() > 5) {
+                memoryDialogue.add("You always bring me that " + entry.getKey() + ". I love it!");
+            }
+        }
+        while (memoryDialogue.size() > 5) {
+            memoryDialogue.remove(0);
+        }
     }
     
     /**
@@ -211,6 +257,7 @@ public class IndividualBuyer {
     public void updateLastSeen() {
         this.lastSeenTimestamp = System.currentTimeMillis();
         updateMood();
+        markDirty();
     }
     
     /**
@@ -444,6 +491,7 @@ public class IndividualBuyer {
     public void setTotalPurchases(int totalPurchases) {
         this.totalPurchases = totalPurchases;
         updateMood();
+        markDirty();
     }
     
     /**
@@ -451,6 +499,7 @@ public class IndividualBuyer {
      */
     public void setTotalMoneySpent(double totalMoneySpent) {
         this.totalMoneySpent = totalMoneySpent;
+        markDirty();
     }
     
     /**
@@ -459,5 +508,6 @@ public class IndividualBuyer {
     public void setLastSeenTimestamp(long lastSeenTimestamp) {
         this.lastSeenTimestamp = lastSeenTimestamp;
         updateMood();
+        markDirty();
     }
 }
@@ -253,11 +253,8 @@ public class NPCManager {
         }
         
         // Apply prestige success bonus
-        if (plugin.getPrestigeManager() != null && plugin.getStatsManager() != null) {
-            com.budlords.stats.PlayerStats stats = plugin.getStatsManager().getStats(player);
-            if (stats != null && stats.getPrestigeLevel() > 0) {
-                chance += plugin.getPrestigeManager().getSuccessBonus(stats.getPrestigeLevel());
-            }
+        if (plugin.getPlayerModifierCache() != null) {
+            chance += plugin.getPlayerModifierCache().get(player.getUniqueId()).prestigeSuccessBonus();
         }
         
         return Math.max(0.3, Math.min(0.98, chance));
@@ -5,7 +5,7 @@ import com.budlords.economy.CustomerType;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.budlords.perf.ProfiledRunnable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -61,9 +61,9 @@ public class SpecialBuyerEvent {
      * Starts background task to generate random events.
      */
     private void startEventGenerationTask() {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "SpecialBuyerEvent.eventGeneration") {
             @Override
-            public void run() {
+            protected void tick() {
                 if (currentEvent == null || System.currentTimeMillis() > eventEndTime) {
                     // 5% chance per check to generate event (every 10 minutes)
                     if (ThreadLocalRandom.current().nextDouble() < 0.05) {
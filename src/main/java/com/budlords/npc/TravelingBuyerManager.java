@@ -11,7 +11,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Villager;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitRunnable;
+import com.budlords.perf.ProfiledRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
@@ -68,9 +68,9 @@ public class TravelingBuyerManager {
      * Starts the spawn task for traveling buyers.
      */
     private void startSpawnTask() {
-        spawnTask = new BukkitRunnable() {
+        spawnTask = new ProfiledRunnable(plugin.getTaskProfiler(), "TravelingBuyerManager.spawn") {
             @Override
-            public void run() {
+            protected void tick() {
                 if (activeTravelers.size() >= MAX_ACTIVE_TRAVELERS) {
                     return;
                 }
@@ -86,9 +86,9 @@ public class TravelingBuyerManager {
      * Starts cleanup task to remove expired travelers.
      */
     private void startCleanupTask() {
-        cleanupTask = new BukkitRunnable() {
+        cleanupTask = new ProfiledRunnable(plugin.getTaskProfiler(), "TravelingBuyerManager.cleanup") {
             @Override
-            public void run() {
+            protected void tick() {
                 long now = System.currentTimeMillis();
                 List<UUID> toRemove = new ArrayList<>();
                 
@@ -108,9 +108,10 @@ public class TravelingBuyerManager {
      * Starts task to update bossbars based on player proximity.
      */
     private void startBossBarUpdateTask() {
-        new BukkitRunnable() {
+        new ProfiledRunnable(plugin.getTaskProfiler(), "TravelingBuyerManager.bossBarUpdate") {
             @Override
-            public void run() {
+            protected void tick() {
+                touched(activeTravelers.size());
                 for (Map.Entry<UUID, TravelingBuyer> entry : activeTravelers.entrySet()) {
                     TravelingBuyer traveler = entry.getValue();
                     BossBar bossBar = activeBossBars.get(entry.getKey());
@@ -1,8 +1,13 @@
 package com.budlords.packaging;
 
+import com.budlords.farming.BlockKey;
+import com.budlords.farming.SpatialIndex;
 import org.bukkit.Location;
 import org.bukkit.entity.Item;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,17 +15,37 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Tracks dropped bud items for the drag-and-drop packaging system.
  * When buds are dropped, they are tracked so packs can be dropped on them.
+ *
+ * Buds are also bucketed by chunk, so nearby lookups only look at the chunks around
+ * the location, and filed in a timing wheel by the second they expire in, so expiring
+ * only touches the buds that are due. Mutate from the main server thread only.
  */
 public class DroppedBudTracker {
 
     // Maps dropped item entity UUID to bud info
     private final Map<UUID, DroppedBudInfo> trackedBuds;
+
+    // worldId -> (chunkKey -> buds dropped in that chunk)
+    private final Map<UUID, Map<Long, List<DroppedBudInfo>>> chunkIndex;
     
     // Cleanup interval - remove old entries after 60 seconds
     private static final long EXPIRY_MS = 60_000;
 
+    // Expiry wheel: one slot per second, more slots than seconds a bud can live
+    private static final long WHEEL_TICK_MS = 1_000;
+    private static final int WHEEL_SIZE = 64;
+    private final List<DroppedBudInfo>[] wheel;
+    private long wheelTick;
+
+    @SuppressWarnings("unchecked")
     public DroppedBudTracker() {
         this.trackedBuds = new ConcurrentHashMap<>();
+        this.chunkIndex = new HashMap<>();
+        this.wheel = new List[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.wheelTick = System.currentTimeMillis() / WHEEL_TICK_MS;
     }
 
     /**
@@ -28,6 +53,8 @@ public class DroppedBudTracker {
      */
     public void trackBud(Item itemEntity, String strainId, int amount, 
                           com.budlords.quality.StarRating rating, UUID dropperId) {
+        long now = System.currentTimeMillis();
+        cleanup(now);
         DroppedBudInfo info = new DroppedBudInfo(
             itemEntity.getUniqueId(),
             strainId,
@@ -35,10 +62,16 @@ public class DroppedBudTracker {
             rating,
             dropperId,
             itemEntity.getLocation(),
-            System.currentTimeMillis()
+            now
         );
-        trackedBuds.put(itemEntity.getUniqueId(), info);
-        cleanup(); // Clean old entries
+        DroppedBudInfo previous = trackedBuds.put(itemEntity.getUniqueId(), info);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(info);
+        // Due in the first wheel tick after it expires
+        long expiryTick = (now + EXPIRY_MS) / WHEEL_TICK_MS + 1;
+        wheel[(int) (expiryTick % WHEEL_SIZE)].add(info);
     }
 
     /**
@@ -47,7 +80,7 @@ public class DroppedBudTracker {
     public DroppedBudInfo getTrackedBud(UUID entityId) {
         DroppedBudInfo info = trackedBuds.get(entityId);
         if (info != null && isExpired(info)) {
-            trackedBuds.remove(entityId);
+            untrackBud(entityId);
             return null;
         }
         return info;
@@ -55,23 +88,38 @@ public class DroppedBudTracker {
 
     /**
      * Removes a tracked bud (after it's been packaged or picked up).
+     * Its wheel entry is dropped when its slot comes due.
      */
     public void untrackBud(UUID entityId) {
-        trackedBuds.remove(entityId);
+        DroppedBudInfo info = trackedBuds.remove(entityId);
+        if (info != null) {
+            unindex(info);
+        }
     }
 
     /**
      * Finds nearby tracked buds at a location.
      */
     public DroppedBudInfo findNearbyBud(Location location, double radius) {
+        if (location.getWorld() == null) return null;
         cleanup();
-        for (DroppedBudInfo info : trackedBuds.values()) {
-            if (info.getLocation() != null && 
-                info.getLocation().getWorld() != null &&
-                location.getWorld() != null &&
-                info.getLocation().getWorld().equals(location.getWorld()) &&
-                info.getLocation().distanceSquared(location) <= radius * radius) {
-                return info;
+        Map<Long, List<DroppedBudInfo>> chunks = chunkIndex.get(location.getWorld().getUID());
+        if (chunks == null) return null;
+
+        double radiusSq = radius * radius;
+        int minCx = (int) Math.floor(location.getX() - radius) >> 4;
+        int maxCx = (int) Math.floor(location.getX() + radius) >> 4;
+        int minCz = (int) Math.floor(location.getZ() - radius) >> 4;
+        int maxCz = (int) Math.floor(location.getZ() + radius) >> 4;
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                List<DroppedBudInfo> bucket = chunks.get(SpatialIndex.chunkKey(cx, cz));
+                if (bucket == null) continue;
+                for (DroppedBudInfo info : bucket) {
+                    if (!isExpired(info) && info.getLocation().distanceSquared(location) <= radiusSq) {
+                        return info;
+                    }
+                }
             }
         }
         return null;
@@ -81,7 +129,48 @@ public class DroppedBudTracker {
      * Cleans up expired entries.
      */
     public void cleanup() {
-        trackedBuds.entrySet().removeIf(entry -> isExpired(entry.getValue()));
+        cleanup(System.currentTimeMillis());
+    }
+
+    /**
+     * Turns the wheel up to now, dropping the buds in every slot that came due.
+     */
+    private void cleanup(long now) {
+        long tick = now / WHEEL_TICK_MS;
+        // After a full turn every slot is due, each only needs to be emptied once
+        long from = Math.max(wheelTick + 1, tick - WHEEL_SIZE + 1);
+        for (long t = from; t <= tick; t++) {
+            List<DroppedBudInfo> slot = wheel[(int) (t % WHEEL_SIZE)];
+            for (DroppedBudInfo info : slot) {
+                // Skip buds that were untracked or tracked again since
+                if (trackedBuds.remove(info.getEntityId(), info)) {
+                    unindex(info);
+                }
+            }
+            slot.clear();
+        }
+        wheelTick = Math.max(wheelTick, tick);
+    }
+
+    private void index(DroppedBudInfo info) {
+        info.indexedAt = info.getBlockKey();
+        if (info.indexedAt == null) return;
+        chunkIndex.computeIfAbsent(info.indexedAt.getWorldId(), id -> new HashMap<>())
+            .computeIfAbsent(info.indexedAt.getChunkKey(), k -> new ArrayList<>())
+            .add(info);
+    }
+
+    private void unindex(DroppedBudInfo info) {
+        BlockKey key = info.indexedAt;
+        if (key == null) return;
+        Map<Long, List<DroppedBudInfo>> chunks = chunkIndex.get(key.getWorldId());
+        if (chunks == null) return;
+        List<DroppedBudInfo> bucket = chunks.get(key.getChunkKey());
+        if (bucket == null) return;
+        bucket.remove(info);
+        if (bucket.isEmpty()) {
+            chunks.remove(key.getChunkKey());
+        }
     }
 
     private boolean isExpired(DroppedBudInfo info) {
@@ -98,6 +187,8 @@ public class DroppedBudTracker {
         private final com.budlords.quality.StarRating rating;
         private final UUID dropperId;
         private Location location;
+        private BlockKey blockKey; // Block the bud lies in, derived from location
+        private BlockKey indexedAt; // Block the tracker indexed the bud under
         private final long droppedTime;
 
         public DroppedBudInfo(UUID entityId, String strainId, int amount, 
@@ -138,6 +229,17 @@ public class DroppedBudTracker {
 
         public void setLocation(Location location) {
             this.location = location;
+            this.blockKey = null;
+        }
+
+        /**
+         * @return The block the bud lies in, or null if its location has no world
+         */
+        public BlockKey getBlockKey() {
+            if (blockKey == null && location != null) {
+                blockKey = BlockKey.of(location);
+            }
+            return blockKey;
         }
 
         public long getDroppedTime() {
@@ -0,0 +1,35 @@
+package com.budlords.perf;
+
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * A BukkitRunnable whose runs are timed by the {@link TaskProfiler}.
+ * Implement {@link #tick()} instead of run(); cancel() works as usual.
+ */
+public abstract class ProfiledRunnable extends BukkitRunnable {
+
+    private final TaskProfiler profiler;
+    private final TaskStats stats;
+
+    protected ProfiledRunnable(TaskProfiler profiler, String name) {
+        this.profiler = profiler;
+        this.stats = profiler.getOrCreate(name);
+    }
+
+    /**
+     * One run of the task.
+     */
+    protected abstract void tick();
+
+    @Override
+    public final void run() {
+        profiler.run(stats, this::tick);
+    }
+
+    /**
+     * Credits this run with going through some entities.
+     */
+    protected void touched(int count) {
+        stats.touched(count);
+    }
+}
@@ -0,0 +1,215 @@
+package com.budlords.perf;
+
+import com.budlords.BudLords;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Times the plugin's scheduled tasks.
+ *
+ * Repeating tasks are started through {@link #runTaskTimer} or as a {@link ProfiledRunnable},
+ * under a name of the form {@code Class.task}. Every run is timed into the task's
+ * {@link TaskStats}; a task can also report how many entities (plants, players, buyers,
+ * ...) it went through with {@link #touched(int)}.
+ *
+ * The timings are shown by {@code /budlords perf} and written to {@code perf/tasks.csv}
+ * (a row per task, appended) or {@code perf/tasks.json} (latest snapshot) in the data
+ * folder every {@code profiler.dump-interval-minutes}.
+ *
+ * Main thread only.
+ */
+public class TaskProfiler {
+
+    private final BudLords plugin;
+    private final Map<String, TaskStats> stats;
+    private long resetAt;
+
+    // The task running right now, credited with touched entities
+    private TaskStats current;
+    private BukkitTask dumpTask;
+
+    public TaskProfiler(BudLords plugin) {
+        this.plugin = plugin;
+        this.stats = new LinkedHashMap<>();
+        this.resetAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Starts the periodic dump to the data folder.
+     */
+    public void start() {
+        long intervalTicks = plugin.getConfig().getLong("profiler.dump-interval-minutes", 10) * 20L * 60;
+        if (intervalTicks <= 0) return;
+        dumpTask = runTaskTimer("TaskProfiler.dump", this::dump, intervalTicks, intervalTicks);
+    }
+
+    public void shutdown() {
+        if (dumpTask != null) {
+            dumpTask.cancel();
+        }
+    }
+
+    /**
+     * Schedules a repeating task on the main thread and times every run.
+     */
+    public BukkitTask runTaskTimer(String name, Runnable task, long delay, long period) {
+        TaskStats taskStats = getOrCreate(name);
+        return plugin.getServer().getScheduler().runTaskTimer(plugin, () -> run(taskStats, task), delay, period);
+    }
+
+    /**
+     * Schedules a repeating task that is handed its own BukkitTask, e.g. to cancel itself.
+     */
+    public void runTaskTimer(String name, Consumer<BukkitTask> task, long delay, long period) {
+        TaskStats taskStats = getOrCreate(name);
+        plugin.getServer().getScheduler().runTaskTimer(plugin,
+            bukkitTask -> run(taskStats, () -> task.accept(bukkitTask)), delay, period);
+    }
+
+    /**
+     * Credits the task running now with going through some entities.
+     */
+    public void touched(int count) {
+        if (current != null) {
+            current.touched(count);
+        }
+    }
+
+    void run(TaskStats taskStats, Runnable task) {
+        TaskStats previous = current;
+        current = taskStats;
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            taskStats.record(System.nanoTime() - start);
+            current = previous;
+        }
+    }
+
+    TaskStats getOrCreate(String name) {
+        return stats.computeIfAbsent(name, TaskStats::new);
+    }
+
+    /**
+     * @return The tasks, heaviest (most total time) first
+     */
+    public List<TaskStats> getStats() {
+        List<TaskStats> sorted = new ArrayList<>(stats.values());
+        sorted.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+        return sorted;
+    }
+
+    /**
+     * Starts a new measuring window.
+     */
+    public void reset() {
+        for (TaskStats taskStats : stats.values()) {
+            taskStats.reset();
+        }
+        resetAt = System.currentTimeMillis();
+    }
+
+    /**
+     * @return When the current measuring window started
+     */
+    public long getResetAt() {
+        return resetAt;
+    }
+
+    /**
+     * Writes the timings to the data folder. The text is built here and written off the
+     * main thread.
+     * @return The file written to
+     */
+    public File dump() {
+        boolean json = "json".equalsIgnoreCase(plugin.getConfig().getString("profiler.dump-format", "csv"));
+        File dir = new File(plugin.getDataFolder(), "perf");
+        File file = new File(dir, json ? "tasks.json" : "tasks.csv");
+        String text = json ? toJson() : toCsvRows();
+
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                Files.createDirectories(dir.toPath());
+                if (json) {
+                    Files.writeString(file.toPath(), text, StandardCharsets.UTF_8);
+                } else {
+                    if (!file.exists()) {
+                        Files.writeString(file.toPath(), CSV_HEADER, StandardCharsets.UTF_8);
+                    }
+                    Files.writeString(file.toPath(), text, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not write task timings to " + file, e);
+            }
+        });
+        return file;
+    }
+
+    private static final String CSV_HEADER =
+        "time,window_start,task,invocations,total_ms,p50_ms,p99_ms,max_ms,entities,last_entities\n";
+
+    private String toCsvRows() {
+        String time = Instant.ofEpochMilli(System.currentTimeMillis()).toString();
+        String windowStart = Instant.ofEpochMilli(resetAt).toString();
+        StringBuilder sb = new StringBuilder();
+        for (TaskStats taskStats : getStats()) {
+            sb.append(time).append(',')
+                .append(windowStart).append(',')
+                .append(taskStats.getName()).append(',')
+                .append(taskStats.getInvocations()).append(',')
+                .append(millis(taskStats.getTotalNanos())).append(',')
+                .append(millis(taskStats.getPercentileNanos(50))).append(',')
+                .append(millis(taskStats.getPercentileNanos(99))).append(',')
+                .append(millis(taskStats.getMaxNanos())).append(',')
+                .append(taskStats.getEntities()).append(',')
+                .append(taskStats.getLastEntities()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"time\": \"").append(Instant.ofEpochMilli(System.currentTimeMillis())).append("\",\n");
+        sb.append("  \"windowStart\": \"").append(Instant.ofEpochMilli(resetAt)).append("\",\n");
+        sb.append("  \"tasks\": [");
+        boolean first = true;
+        for (TaskStats taskStats : getStats()) {
+            sb.append(first ? "\n" : ",\n");
+            first = false;
+            sb.append("    {\"task\": \"").append(taskStats.getName()).append('"')
+                .append(", \"invocations\": ").append(taskStats.getInvocations())
+                .append(", \"totalMs\": ").append(millis(taskStats.getTotalNanos()))
+                .append(", \"p50Ms\": ").append(millis(taskStats.getPercentileNanos(50)))
+                .append(", \"p99Ms\": ").append(millis(taskStats.getPercentileNanos(99)))
+                .append(", \"maxMs\": ").append(millis(taskStats.getMaxNanos()))
+                .append(", \"entities\": ").append(taskStats.getEntities())
+                .append(", \"lastEntities\": ").append(taskStats.getLastEntities())
+                .append('}');
+        }
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Formats nanoseconds as milliseconds for reports.
+     */
+    public static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
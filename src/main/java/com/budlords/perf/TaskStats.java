@@ -0,0 +1,116 @@
+package com.budlords.perf;
+
+import java.util.Arrays;
+
+/**
+ * Timings of one scheduled task.
+ *
+ * Run times go into a log-linear histogram: every power of two is split into 8 buckets,
+ * so recording is an array increment and percentiles are within about 12% of the exact
+ * value. Main thread only.
+ */
+public final class TaskStats {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final String name;
+    private final long[] buckets;
+
+    private long invocations;
+    private long totalNanos;
+    private long maxNanos;
+    private long entities;
+    private long lastEntities;
+    private long runEntities;
+
+    TaskStats(String name) {
+        this.name = name;
+        this.buckets = new long[BUCKETS];
+    }
+
+    void touched(int count) {
+        runEntities += count;
+    }
+
+    void record(long nanos) {
+        invocations++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        buckets[bucketOf(nanos)]++;
+
+        entities += runEntities;
+        lastEntities = runEntities;
+        runEntities = 0;
+    }
+
+    void reset() {
+        Arrays.fill(buckets, 0);
+        invocations = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+        entities = 0;
+        lastEntities = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @return Entities (plants, players, buyers, ...) the task went through, summed over all runs
+     */
+    public long getEntities() {
+        return entities;
+    }
+
+    public long getLastEntities() {
+        return lastEntities;
+    }
+
+    /**
+     * @param percentile Between 0 and 100
+     * @return Upper bound of the run time below which the given share of runs fall
+     */
+    public long getPercentileNanos(double percentile) {
+        if (invocations == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(invocations * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(maxNanos, upperBoundOf(i));
+            }
+        }
+        return maxNanos;
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) Math.max(0, nanos);
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        return ((SUB_BUCKETS + sub) << (exponent - SUB_BITS)) + width - 1;
+    }
+}
@@ -2,6 +2,7 @@ package com.budlords.prestige;
 
 import com.budlords.BudLords;
 import com.budlords.economy.EconomyManager;
+import com.budlords.gui.Menu;
 import com.budlords.stats.PlayerStats;
 import com.budlords.stats.StatsManager;
 import org.bukkit.Bukkit;
@@ -9,8 +10,6 @@ import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -21,7 +20,7 @@ import java.util.List;
  * Manages the prestige system for BudLords.
  * Players can reset their progress to gain permanent bonuses.
  */
-public class PrestigeManager implements InventoryHolder {
+public class PrestigeManager {
 
     private final BudLords plugin;
     private final EconomyManager economyManager;
@@ -54,7 +53,7 @@ public class PrestigeManager implements InventoryHolder {
      */
     @SuppressWarnings("deprecation")
     public void openPrestigeGUI(Player player) {
-        Inventory inv = Bukkit.createInventory(this, 45, "§5§l✦ Prestige Menu ✦");
+        Menu<Void> menu = new Menu<>(null, 45, "§5§l✦ Prestige Menu ✦");
         
         PlayerStats stats = statsManager.getStats(player);
         int currentPrestige = stats.getPrestigeLevel();
@@ -66,16 +65,16 @@ public class PrestigeManager implements InventoryHolder {
         ItemStack borderPurple = createItem(Material.PURPLE_STAINED_GLASS_PANE, " ", null);
         ItemStack borderMagenta = createItem(Material.MAGENTA_STAINED_GLASS_PANE, " ", null);
         for (int i = 0; i < 9; i++) {
-            inv.setItem(i, i % 2 == 0 ? borderPurple : borderMagenta);
-            inv.setItem(36 + i, i % 2 == 0 ? borderPurple : borderMagenta);
+            menu.set(i, i % 2 == 0 ? borderPurple : borderMagenta);
+            menu.set(36 + i, i % 2 == 0 ? borderPurple : borderMagenta);
         }
         for (int i = 9; i < 36; i += 9) {
-            inv.setItem(i, borderPurple);
-            inv.setItem(i + 8, borderPurple);
+            menu.set(i, borderPurple);
+            menu.set(i + 8, borderPurple);
         }
         
         // Current status
-        inv.setItem(4, createItem(Material.NETHER_STAR, 
+        menu.set(4, createItem(Material.NETHER_STAR, 
             "§5§l✦ Your Prestige Status ✦",
             Arrays.asList(
                 "",
@@ -86,7 +85,7 @@ public class PrestigeManager implements InventoryHolder {
             )));
         
         // Current bonuses display
-        inv.setItem(20, createItem(Material.GOLD_INGOT, 
+        menu.set(20, createItem(Material.GOLD_INGOT, 
             "§e§l💰 Current Bonuses",
             Arrays.asList(
                 "",
@@ -99,7 +98,7 @@ public class PrestigeManager implements InventoryHolder {
         
         // Next prestige preview
         if (currentPrestige < maxPrestige) {
-            inv.setItem(22, createItem(Material.EXPERIENCE_BOTTLE, 
+            menu.set(22, createItem(Material.EXPERIENCE_BOTTLE, 
                 "§a§l⬆ Next Prestige Preview",
                 Arrays.asList(
                     "",
@@ -111,7 +110,7 @@ public class PrestigeManager implements InventoryHolder {
                     ""
                 )));
         } else {
-            inv.setItem(22, createItem(Material.DIAMOND_BLOCK, 
+            menu.set(22, createItem(Material.DIAMOND_BLOCK, 
                 "§6§l✦ MAX PRESTIGE ✦",
                 Arrays.asList(
                     "",
@@ -123,7 +122,7 @@ public class PrestigeManager implements InventoryHolder {
         }
         
         // Cost display
-        inv.setItem(24, createItem(Material.EMERALD_BLOCK, 
+        menu.set(24, createItem(Material.EMERALD_BLOCK, 
             "§e§l💵 Prestige Cost",
             Arrays.asList(
                 "",
@@ -160,10 +159,10 @@ public class PrestigeManager implements InventoryHolder {
                 ""
             );
         
-        inv.setItem(31, createItem(buttonMat, buttonName, buttonLore));
+        menu.set(31, createItem(buttonMat, buttonName, buttonLore), (p, event) -> handlePrestigeClick(p, 31));
         
         // Info panel
-        inv.setItem(40, createItem(Material.BOOK, 
+        menu.set(40, createItem(Material.BOOK, 
             "§e§l? What is Prestige?",
             Arrays.asList(
                 "",
@@ -180,7 +179,7 @@ public class PrestigeManager implements InventoryHolder {
                 "§7Max Prestige Level: §6" + maxPrestige
             )));
         
-        player.openInventory(inv);
+        menu.open(player);
         player.playSound(player.getLocation(), Sound.BLOCK_ENDER_CHEST_OPEN, 0.5f, 1.2f);
     }
 
@@ -220,6 +219,9 @@ public class PrestigeManager implements InventoryHolder {
         
         // Increment prestige
         stats.incrementPrestige();
+        if (plugin.getPlayerModifierCache() != null) {
+            plugin.getPlayerModifierCache().invalidate(player.getUniqueId());
+        }
         
         // Award skill points for prestige (3 points per prestige level)
         int skillPointsAwarded = 3;
@@ -235,9 +237,9 @@ public class PrestigeManager implements InventoryHolder {
             plugin.getAchievementManager().syncWithStats(player);
         }
         
-        // Save stats
-        if (plugin.getStatsManager() != null) {
-            plugin.getStatsManager().saveStats();
+        // Persist the reset right away instead of waiting for the next flush
+        if (plugin.getPersistenceManager() != null) {
+            plugin.getPersistenceManager().flush();
         }
         
         // Epic celebration effects!
@@ -352,9 +354,4 @@ public class PrestigeManager implements InventoryHolder {
         }
         return item;
     }
-
-    @Override
-    public Inventory getInventory() {
-        return null;
-    }
 }
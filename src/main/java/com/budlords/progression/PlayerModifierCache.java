@@ -0,0 +1,131 @@
+package com.budlords.progression;
+
+import com.budlords.BudLords;
+import com.budlords.prestige.PrestigeManager;
+import com.budlords.skills.Skill;
+import com.budlords.skills.SkillManager;
+import com.budlords.stats.PlayerStats;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Caches each player's combined skill and prestige modifiers.
+ *
+ * Skill bonuses are summed over the unlocked skill set and prestige bonuses are
+ * derived from the stats record, so computing them on every growth tick or sale
+ * is wasted work: they only change on a skill unlock, a prestige, or a global
+ * change such as a new season or random event. Snapshots are computed on first
+ * use and dropped when one of those hooks calls {@link #invalidate(UUID)} or
+ * {@link #invalidateAll()}.
+ */
+public class PlayerModifierCache {
+
+    private final BudLords plugin;
+    private final Map<UUID, PlayerModifiers> snapshots;
+    // Notified with the invalidated player, or null when every snapshot was dropped
+    private final List<Consumer<UUID>> invalidationListeners;
+
+    public PlayerModifierCache(BudLords plugin) {
+        this.plugin = plugin;
+        this.snapshots = new ConcurrentHashMap<>();
+        this.invalidationListeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Gets the modifier snapshot of a player, computing it if needed.
+     */
+    public PlayerModifiers get(UUID playerId) {
+        PlayerModifiers cached = snapshots.get(playerId);
+        if (cached != null) return cached;
+
+        PlayerModifiers computed = compute(playerId);
+        snapshots.put(playerId, computed);
+        return computed;
+    }
+
+    /**
+     * Drops a player's snapshot (skill unlocked, prestige changed, ...).
+     */
+    public void invalidate(UUID playerId) {
+        snapshots.remove(playerId);
+        for (Consumer<UUID> listener : invalidationListeners) {
+            listener.accept(playerId);
+        }
+    }
+
+    /**
+     * Drops every snapshot (season change, random event started or ended, ...).
+     */
+    public void invalidateAll() {
+        snapshots.clear();
+        for (Consumer<UUID> listener : invalidationListeners) {
+            listener.accept(null);
+        }
+    }
+
+    /**
+     * Registers a callback run after snapshots are dropped.
+     * The callback receives the affected player, or null after {@link #invalidateAll()}.
+     */
+    public void addInvalidationListener(Consumer<UUID> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    private PlayerModifiers compute(UUID playerId) {
+        double growth = 1.0;
+        double priceBonus = 1.0;
+        double blackMarket = 1.0;
+        double tradeSuccess = 1.0;
+
+        SkillManager skillManager = plugin.getSkillManager();
+        if (skillManager != null) {
+            growth = skillManager.getBonusMultiplier(playerId, Skill.BonusType.GROWTH_SPEED);
+            priceBonus = skillManager.getBonusMultiplier(playerId, Skill.BonusType.PRICE_BONUS);
+            blackMarket = skillManager.getBonusMultiplier(playerId, Skill.BonusType.BLACK_MARKET_BONUS);
+            tradeSuccess = skillManager.getBonusMultiplier(playerId, Skill.BonusType.TRADE_SUCCESS);
+        }
+
+        int prestigeLevel = 0;
+        double quality = 1.0;
+        double earnings = 1.0;
+        double prestigeSuccess = 0.0;
+
+        PrestigeManager prestigeManager = plugin.getPrestigeManager();
+        if (prestigeManager != null && plugin.getStatsManager() != null) {
+            PlayerStats stats = plugin.getStatsManager().getStats(playerId);
+            if (stats != null && stats.getPrestigeLevel() > 0) {
+                prestigeLevel = stats.getPrestigeLevel();
+                growth *= prestigeManager.getGrowthSpeedMultiplier(prestigeLevel);
+                quality = prestigeManager.getQualityMultiplier(prestigeLevel);
+                earnings = prestigeManager.getEarningsMultiplier(prestigeLevel);
+                prestigeSuccess = prestigeManager.getSuccessBonus(prestigeLevel);
+            }
+        }
+
+        return new PlayerModifiers(prestigeLevel, growth, quality, earnings,
+            priceBonus, blackMarket, tradeSuccess, prestigeSuccess);
+    }
+
+    /**
+     * Immutable snapshot of a player's modifiers.
+     *
+     * @param prestigeLevel Prestige level the snapshot was built from
+     * @param growthMultiplier Skill growth speed x prestige growth speed
+     * @param qualityMultiplier Prestige harvest quality multiplier
+     * @param earningsMultiplier Prestige earnings multiplier
+     * @param priceBonusMultiplier Skill sale price multiplier
+     * @param blackMarketMultiplier Skill black market sale multiplier
+     * @param tradeSuccessMultiplier Skill trade success multiplier
+     * @param prestigeSuccessBonus Flat prestige trade success bonus
+     */
+    public record PlayerModifiers(int prestigeLevel, double growthMultiplier, double qualityMultiplier,
+                                  double earningsMultiplier, double priceBonusMultiplier,
+                                  double blackMarketMultiplier, double tradeSuccessMultiplier,
+                                  double prestigeSuccessBonus) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.budlords.quality;
 
+import com.budlords.items.ItemTags;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -88,6 +89,7 @@ public class GrowLamp {
             lore.add("");
             lore.add("§8Rating: " + rating.getStars());
             meta.setLore(lore);
+            ItemTags.tag(meta, ItemTags.Kind.LAMP, null, rating, 0);
             item.setItemMeta(meta);
         }
         
@@ -98,34 +100,13 @@ public class GrowLamp {
      * Gets the star rating from a lamp item.
      */
     public static StarRating getRatingFromItem(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) return null;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return null;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) return null;
-        
-        for (String line : lore) {
-            if (line.startsWith("§8Rating: ")) {
-                try {
-                    int rating = Integer.parseInt(line.substring(10).trim());
-                    return StarRating.fromValue(rating);
-                } catch (NumberFormatException e) {
-                    return null;
-                }
-            }
-        }
-        return null;
+        return ItemTags.getRating(item);
     }
 
     /**
      * Checks if an item is a BudLords grow lamp.
      */
     public static boolean isLampItem(ItemStack item) {
-        if (item == null) return false;
-        if (!item.hasItemMeta()) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) return false;
-        return meta.getDisplayName().contains("Grow Lamp");
+        return ItemTags.is(item, ItemTags.Kind.LAMP);
     }
 }
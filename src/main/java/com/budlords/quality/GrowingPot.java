@@ -1,5 +1,6 @@
 package com.budlords.quality;
 
+import com.budlords.items.ItemTags;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -207,6 +208,7 @@ public class GrowingPot {
             lore.add("");
             lore.add("§8Rating: " + rating.getStars());
             meta.setLore(lore);
+            ItemTags.tag(meta, ItemTags.Kind.POT, null, rating, 0);
             pot.setItemMeta(meta);
         }
         
@@ -217,35 +219,14 @@ public class GrowingPot {
      * Gets the star rating from a pot item.
      */
     public static StarRating getRatingFromItem(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) return null;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return null;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) return null;
-        
-        for (String line : lore) {
-            if (line.startsWith("§8Rating: ")) {
-                try {
-                    int rating = Integer.parseInt(line.substring(10).trim());
-                    return StarRating.fromValue(rating);
-                } catch (NumberFormatException e) {
-                    return null;
-                }
-            }
-        }
-        return null;
+        return ItemTags.getRating(item);
     }
 
     /**
      * Checks if an item is a BudLords growing pot.
      */
     public static boolean isPotItem(ItemStack item) {
-        if (item == null || item.getType() != Material.FLOWER_POT) return false;
-        if (!item.hasItemMeta()) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) return false;
-        return meta.getDisplayName().contains("Growing Pot");
+        return ItemTags.is(item, ItemTags.Kind.POT);
     }
 
     public String getLocationString() {
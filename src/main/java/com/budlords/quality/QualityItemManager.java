@@ -1,6 +1,7 @@
 package com.budlords.quality;
 
 import com.budlords.BudLords;
+import com.budlords.items.ItemTags;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -119,6 +120,7 @@ public class QualityItemManager {
             lore.add("§8Rating: " + rating.getStars());
             lore.add("§8Water: " + currentWater);
             meta.setLore(lore);
+            ItemTags.tag(meta, ItemTags.Kind.WATERING_CAN, null, rating, currentWater);
             can.setItemMeta(meta);
         }
         
@@ -146,24 +148,8 @@ public class QualityItemManager {
      * Gets the current water level of a watering can.
      */
     public int getWateringCanWater(ItemStack item) {
-        if (!isWateringCanItem(item)) return 0;
-        if (!item.hasItemMeta()) return 0;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return 0;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) return 0;
-        
-        for (String line : lore) {
-            if (line.startsWith("§8Water: ")) {
-                try {
-                    return Integer.parseInt(line.substring(9).trim());
-                } catch (NumberFormatException e) {
-                    return 0;
-                }
-            }
-        }
-        return 0;
+        ItemTags.Tag tag = ItemTags.classify(item);
+        return tag != null && tag.is(ItemTags.Kind.WATERING_CAN) ? tag.water() : 0;
     }
     
     /**
@@ -196,43 +182,15 @@ public class QualityItemManager {
     }
 
     public boolean isWateringCanItem(ItemStack item) {
-        if (item == null || item.getType() != Material.BUCKET) return false;
-        if (!item.hasItemMeta()) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) return false;
-        return meta.getDisplayName().contains("Watering Can");
+        return ItemTags.is(item, ItemTags.Kind.WATERING_CAN);
     }
 
     public StarRating getWateringCanRating(ItemStack item) {
-        return getRatingFromItemLore(item);
+        return ItemTags.getRating(item);
     }
 
     // ====== UTILITY METHODS ======
 
-    /**
-     * Gets a star rating from any item's lore.
-     */
-    private StarRating getRatingFromItemLore(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) return null;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return null;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) return null;
-        
-        for (String line : lore) {
-            if (line.startsWith("§8Rating: ")) {
-                try {
-                    int rating = Integer.parseInt(line.substring(10).trim());
-                    return StarRating.fromValue(rating);
-                } catch (NumberFormatException e) {
-                    return null;
-                }
-            }
-        }
-        return null;
-    }
-
     /**
      * Generates a random star rating with weighted probabilities.
      * 1★: 40%, 2★: 30%, 3★: 18%, 4★: 9%, 5★: 3%
@@ -271,26 +229,24 @@ public class QualityItemManager {
      * Identifies any quality item and returns its type.
      */
     public QualityItemType getItemType(ItemStack item) {
-        if (isPotItem(item)) return QualityItemType.POT;
-        if (isLampItem(item)) return QualityItemType.LAMP;
-        if (isFertilizerItem(item)) return QualityItemType.FERTILIZER;
-        if (isScissorsItem(item)) return QualityItemType.SCISSORS;
-        if (isWateringCanItem(item)) return QualityItemType.WATERING_CAN;
-        return QualityItemType.NONE;
+        ItemTags.Tag tag = ItemTags.classify(item);
+        if (tag == null) return QualityItemType.NONE;
+        return switch (tag.kind()) {
+            case POT -> QualityItemType.POT;
+            case LAMP -> QualityItemType.LAMP;
+            case FERTILIZER -> QualityItemType.FERTILIZER;
+            case SCISSORS -> QualityItemType.SCISSORS;
+            case WATERING_CAN -> QualityItemType.WATERING_CAN;
+            case SEED, BUD -> QualityItemType.NONE;
+        };
     }
 
     /**
      * Gets the star rating from any quality item.
      */
     public StarRating getItemRating(ItemStack item) {
-        return switch (getItemType(item)) {
-            case POT -> getPotRating(item);
-            case LAMP -> getLampRating(item);
-            case FERTILIZER -> getFertilizerRating(item);
-            case SCISSORS -> getScissorsRating(item);
-            case WATERING_CAN -> getWateringCanRating(item);
-            case NONE -> null;
-        };
+        ItemTags.Tag tag = ItemTags.classify(item);
+        return tag != null && !tag.is(ItemTags.Kind.SEED) && !tag.is(ItemTags.Kind.BUD) ? tag.rating() : null;
     }
 
     public enum QualityItemType {
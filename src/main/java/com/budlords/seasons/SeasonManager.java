@@ -74,7 +74,7 @@ public class SeasonManager {
 
     private void startSeasonTasks() {
         // Check for season change every hour
-        seasonTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        seasonTask = plugin.getTaskProfiler().runTaskTimer("SeasonManager.seasonCheck", () -> {
             long elapsed = System.currentTimeMillis() - seasonStartTime;
             
             if (elapsed >= seasonDurationMs) {
@@ -83,7 +83,7 @@ public class SeasonManager {
         }, 20L * 60 * 60, 20L * 60 * 60); // Every hour
         
         // Ambient particle effects based on season
-        ambientTask = Bukkit.getScheduler().runTaskTimer(plugin, this::spawnSeasonalAmbientEffects, 
+        ambientTask = plugin.getTaskProfiler().runTaskTimer("SeasonManager.ambient", this::spawnSeasonalAmbientEffects, 
             AMBIENT_PARTICLE_INTERVAL_TICKS, AMBIENT_PARTICLE_INTERVAL_TICKS);
     }
 
@@ -95,6 +95,10 @@ public class SeasonManager {
         currentSeason = currentSeason.next();
         seasonStartTime = System.currentTimeMillis();
         
+        if (plugin.getPlayerModifierCache() != null) {
+            plugin.getPlayerModifierCache().invalidateAll();
+        }
+        
         // Broadcast season change
         broadcastSeasonChange(previousSeason, currentSeason);
         
@@ -264,6 +268,10 @@ public class SeasonManager {
         currentSeason = season;
         seasonStartTime = System.currentTimeMillis();
         
+        if (plugin.getPlayerModifierCache() != null) {
+            plugin.getPlayerModifierCache().invalidateAll();
+        }
+        
         broadcastSeasonChange(previous, season);
         
         plugin.getConfig().set("seasons.current", season.name());
@@ -1,7 +1,8 @@
 package com.budlords.skills;
 
 import com.budlords.BudLords;
-import org.bukkit.Bukkit;
+import com.budlords.data.RecordStore;
+import com.budlords.gui.Menu;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -9,8 +10,6 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
@@ -22,7 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Manages player skills and skill trees in BudLords v2.0.0.
  */
-public class SkillManager implements InventoryHolder {
+public class SkillManager {
 
     private final BudLords plugin;
     
@@ -38,6 +37,7 @@ public class SkillManager implements InventoryHolder {
     // Data file
     private File skillsFile;
     private FileConfiguration skillsConfig;
+    private RecordStore<UUID> skillsStore;
 
     public SkillManager(BudLords plugin) {
         this.plugin = plugin;
@@ -60,29 +60,18 @@ public class SkillManager implements InventoryHolder {
             }
         }
         skillsConfig = YamlConfiguration.loadConfiguration(skillsFile);
+        skillsStore = plugin.getPersistenceManager().registerPlayerStore("skills", () -> skillsConfig, skillsFile,
+            "players", this::writeSkills, this::readSkills, this::unloadSkills);
+        skillsStore.replay();
         
         ConfigurationSection playersSection = skillsConfig.getConfigurationSection("players");
         if (playersSection != null) {
             for (String uuidStr : playersSection.getKeys(false)) {
                 try {
                     UUID uuid = UUID.fromString(uuidStr);
-                    
-                    // Load unlocked skills
-                    List<String> unlocked = playersSection.getStringList(uuidStr + ".skills");
-                    playerSkills.put(uuid, new HashSet<>(unlocked));
-                    
-                    // Load skill points
-                    int points = playersSection.getInt(uuidStr + ".points", 0);
-                    skillPoints.put(uuid, points);
-                    
-                    // Load tree XP
-                    ConfigurationSection xpSection = playersSection.getConfigurationSection(uuidStr + ".tree-xp");
-                    if (xpSection != null) {
-                        Map<String, Integer> xpMap = new HashMap<>();
-                        for (String tree : xpSection.getKeys(false)) {
-                            xpMap.put(tree, xpSection.getInt(tree));
-                        }
-                        treeXP.put(uuid, xpMap);
+                    ConfigurationSection section = playersSection.getConfigurationSection(uuidStr);
+                    if (section != null) {
+                        readSkills(uuid, section);
                     }
                 } catch (Exception e) {
                     plugin.getLogger().warning("Failed to load skills for " + uuidStr);
@@ -91,47 +80,77 @@ public class SkillManager implements InventoryHolder {
         }
     }
 
-    public void saveSkills() {
-        skillsConfig.set("players", null);
-        
-        for (UUID uuid : playerSkills.keySet()) {
-            String path = "players." + uuid.toString();
-            
-            // Save unlocked skills
-            Set<String> skills = playerSkills.get(uuid);
-            skillsConfig.set(path + ".skills", new ArrayList<>(skills));
-            
-            // Save skill points
-            skillsConfig.set(path + ".points", skillPoints.getOrDefault(uuid, 0));
-            
-            // Save tree XP
-            Map<String, Integer> xp = treeXP.get(uuid);
-            if (xp != null) {
-                for (Map.Entry<String, Integer> entry : xp.entrySet()) {
-                    skillsConfig.set(path + ".tree-xp." + entry.getKey(), entry.getValue());
-                }
+    private void readSkills(UUID uuid, ConfigurationSection section) {
+        // Load unlocked skills
+        List<String> unlocked = section.getStringList("skills");
+        playerSkills.put(uuid, new HashSet<>(unlocked));
+        
+        // Load skill points
+        skillPoints.put(uuid, section.getInt("points", 0));
+        
+        // Load tree XP
+        ConfigurationSection xpSection = section.getConfigurationSection("tree-xp");
+        if (xpSection != null) {
+            Map<String, Integer> xpMap = new HashMap<>();
+            for (String tree : xpSection.getKeys(false)) {
+                xpMap.put(tree, xpSection.getInt(tree));
             }
+            treeXP.put(uuid, xpMap);
+        }
+    }
+
+    /**
+     * Exports all skills to skills.yml. Changes are persisted incrementally,
+     * so this is only needed to get an up-to-date file.
+     */
+    public void saveSkills() {
+        plugin.getPersistenceManager().export(skillsStore);
+    }
+
+    private void unloadSkills(UUID uuid) {
+        playerSkills.remove(uuid);
+        skillPoints.remove(uuid);
+        treeXP.remove(uuid);
+    }
+
+    private boolean writeSkills(UUID uuid, ConfigurationSection section) {
+        Set<String> skills = playerSkills.get(uuid);
+        Integer points = skillPoints.get(uuid);
+        Map<String, Integer> xp = treeXP.get(uuid);
+        if (skills == null && points == null && xp == null) {
+            return false;
         }
         
-        try {
-            skillsConfig.save(skillsFile);
-        } catch (IOException e) {
-            plugin.getLogger().warning("Failed to save skills: " + e.getMessage());
+        // Unlocked skills
+        section.set("skills", skills != null ? new ArrayList<>(skills) : new ArrayList<>());
+        
+        // Skill points
+        section.set("points", points != null ? points : 0);
+        
+        // Tree XP
+        if (xp != null) {
+            for (Map.Entry<String, Integer> entry : xp.entrySet()) {
+                section.set("tree-xp." + entry.getKey(), entry.getValue());
+            }
         }
+        return true;
     }
 
     /**
      * Adds skill points to a player.
      */
     public void addSkillPoints(UUID uuid, int amount) {
+        skillsStore.load(uuid);
         int current = skillPoints.getOrDefault(uuid, 0);
         skillPoints.put(uuid, current + amount);
+        skillsStore.markDirty(uuid);
     }
 
     /**
      * Gets available skill points for a player.
      */
     public int getSkillPoints(UUID uuid) {
+        skillsStore.load(uuid);
         return skillPoints.getOrDefault(uuid, 0);
     }
 
@@ -139,10 +158,12 @@ public class SkillManager implements InventoryHolder {
      * Adds XP to a specific skill tree and checks for skill point rewards.
      */
     public void addTreeXP(UUID uuid, Skill.SkillTree tree, int amount) {
+        skillsStore.load(uuid);
         Map<String, Integer> xp = treeXP.computeIfAbsent(uuid, k -> new HashMap<>());
         int previousXP = xp.getOrDefault(tree.name(), 0);
         int newXP = previousXP + amount;
         xp.put(tree.name(), newXP);
+        skillsStore.markDirty(uuid);
         
         // Check for XP milestones that award skill points
         // Award 1 skill point for every 100 XP gained in a tree
@@ -167,6 +188,7 @@ public class SkillManager implements InventoryHolder {
      * Gets XP for a specific skill tree.
      */
     public int getTreeXP(UUID uuid, Skill.SkillTree tree) {
+        skillsStore.load(uuid);
         Map<String, Integer> xp = treeXP.get(uuid);
         return xp != null ? xp.getOrDefault(tree.name(), 0) : 0;
     }
@@ -176,6 +198,7 @@ public class SkillManager implements InventoryHolder {
      */
     public boolean unlockSkill(Player player, Skill skill) {
         UUID uuid = player.getUniqueId();
+        skillsStore.load(uuid);
         Set<String> skills = playerSkills.computeIfAbsent(uuid, k -> new HashSet<>());
         
         // Check if already unlocked
@@ -222,11 +245,15 @@ public class SkillManager implements InventoryHolder {
         skills.add(skill.name());
         skillPoints.put(uuid, available - cost);
         
+        // Skill bonuses feed the cached growth and sale modifiers
+        if (plugin.getPlayerModifierCache() != null) {
+            plugin.getPlayerModifierCache().invalidate(uuid);
+        }
+        
         // Send notification
         sendSkillUnlockNotification(player, skill);
         
-        // Save
-        saveSkills();
+        skillsStore.markDirty(uuid);
         
         return true;
     }
@@ -252,6 +279,7 @@ public class SkillManager implements InventoryHolder {
      * Checks if a player has a specific skill.
      */
     public boolean hasSkill(UUID uuid, Skill skill) {
+        skillsStore.load(uuid);
         Set<String> skills = playerSkills.get(uuid);
         return skills != null && skills.contains(skill.name());
     }
@@ -260,6 +288,7 @@ public class SkillManager implements InventoryHolder {
      * Gets the total bonus for a specific bonus type for a player.
      */
     public double getTotalBonus(UUID uuid, Skill.BonusType bonusType) {
+        skillsStore.load(uuid);
         Set<String> skills = playerSkills.get(uuid);
         if (skills == null) return 0;
         
@@ -289,10 +318,20 @@ public class SkillManager implements InventoryHolder {
      */
     @SuppressWarnings("deprecation")
     public void openSkillTreeGUI(Player player, Skill.SkillTree selectedTree) {
-        Inventory inv = Bukkit.createInventory(this, 54, 
+        Menu<Skill.SkillTree> menu = new Menu<>(selectedTree, 54, 
             "§a§l✦ Skill Tree - " + selectedTree.getDisplayName() + " ✦");
-        
+        drawSkillTree(menu, player);
+        menu.open(player);
+        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.0f);
+    }
+
+    /**
+     * Draws the tree the menu was opened for. Unlocking a skill redraws it in place.
+     */
+    private void drawSkillTree(Menu<Skill.SkillTree> menu, Player player) {
+        Skill.SkillTree selectedTree = menu.getSession();
         UUID uuid = player.getUniqueId();
+        skillsStore.load(uuid);
         Set<String> unlockedSkills = playerSkills.getOrDefault(uuid, new HashSet<>());
         int points = skillPoints.getOrDefault(uuid, 0);
         int treeXPAmount = getTreeXP(uuid, selectedTree);
@@ -300,12 +339,12 @@ public class SkillManager implements InventoryHolder {
         // Border
         ItemStack border = createItem(Material.BLACK_STAINED_GLASS_PANE, " ", null);
         for (int i = 0; i < 9; i++) {
-            inv.setItem(i, border);
-            inv.setItem(45 + i, border);
+            menu.set(i, border);
+            menu.set(45 + i, border);
         }
         for (int i = 9; i < 45; i += 9) {
-            inv.setItem(i, border);
-            inv.setItem(i + 8, border);
+            menu.set(i, border);
+            menu.set(i + 8, border);
         }
         
         // Tree selection at bottom
@@ -314,11 +353,11 @@ public class SkillManager implements InventoryHolder {
             Material mat = tree == selectedTree ? Material.EMERALD : Material.COAL;
             ItemStack treeItem = createItem(mat, tree.getColor() + tree.getDisplayName(),
                 Arrays.asList("", "§7" + tree.getDescription(), "", "§eClick to view"));
-            inv.setItem(treeSlot++, treeItem);
+            menu.set(treeSlot++, treeItem, (p, event) -> openSkillTreeGUI(p, tree));
         }
         
         // Player info
-        inv.setItem(4, createItem(Material.PLAYER_HEAD, 
+        menu.set(4, createItem(Material.PLAYER_HEAD, 
             "§e" + player.getName() + "'s Skills",
             Arrays.asList(
                 "",
@@ -388,23 +427,24 @@ public class SkillManager implements InventoryHolder {
                 lore.add(statusLine);
                 
                 String name = unlocked ? skill.getColoredName() : "§7" + skill.getDisplayName();
-                inv.setItem(slots[i], createItem(material, name, lore));
+                menu.set(slots[i], createItem(material, name, lore), (p, event) -> {
+                    if (unlockSkill(p, skill)) {
+                        drawSkillTree(menu, p);
+                    }
+                });
             }
         }
         
         // Tier labels
-        inv.setItem(10, createItem(Material.PAPER, "§eTier 1", 
+        menu.set(10, createItem(Material.PAPER, "§eTier 1", 
             Arrays.asList("", "§7Basic skills", "§7No prerequisites")));
-        inv.setItem(11, createItem(Material.ARROW, "§7→", null));
+        menu.set(11, createItem(Material.ARROW, "§7→", null));
         
-        inv.setItem(27, createItem(Material.PAPER, "§6Tier 2", 
+        menu.set(27, createItem(Material.PAPER, "§6Tier 2", 
             Arrays.asList("", "§7Advanced skills", "§7Requires Tier 1 + XP")));
         
-        inv.setItem(36, createItem(Material.PAPER, "§c§lTier 3", 
+        menu.set(36, createItem(Material.PAPER, "§c§lTier 3", 
             Arrays.asList("", "§7Master skills", "§7Requires Tier 2 + XP")));
-        
-        player.openInventory(inv);
-        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 0.5f, 1.0f);
     }
 
     private boolean canUnlockSkill(UUID uuid, Skill skill) {
@@ -457,6 +497,7 @@ public class SkillManager implements InventoryHolder {
      * Gets the count of unlocked skills for a player.
      */
     public int getUnlockedCount(UUID uuid) {
+        skillsStore.load(uuid);
         Set<String> skills = playerSkills.get(uuid);
         return skills != null ? skills.size() : 0;
     }
@@ -471,9 +512,4 @@ public class SkillManager implements InventoryHolder {
         }
         return item;
     }
-
-    @Override
-    public Inventory getInventory() {
-        return null;
-    }
 }
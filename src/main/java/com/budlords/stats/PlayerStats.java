@@ -67,16 +67,85 @@ public class PlayerStats {
     private int strainsCollected;
     private int seasonalHarvests;
     private int eventsExperienced;
+    
+    // Called on every change so the stats get persisted
+    private Runnable changeListener;
 
     public PlayerStats(UUID playerId) {
         this.playerId = playerId;
         this.achievementUnlocks = new HashMap<>();
     }
 
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void markDirty() {
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+
     public UUID getPlayerId() {
         return playerId;
     }
 
+    // ===== RESTORE (loading from storage, doesn't mark dirty) =====
+
+    void restoreGrowing(int grown, int harvested, int legendaryBuds, int fiveStarBuds, int perfect) {
+        this.totalPlantsGrown = grown;
+        this.totalPlantsHarvested = harvested;
+        this.legendaryBudsHarvested = legendaryBuds;
+        this.fiveStarBudsHarvested = fiveStarBuds;
+        this.perfectHarvests = perfect;
+    }
+
+    void restoreTrading(int successful, int failed, double highestSale, double moneyEarned) {
+        this.totalSalesSuccess = successful;
+        this.totalSalesFailed = failed;
+        this.highestSingleSale = highestSale;
+        this.totalMoneyEarned = moneyEarned;
+    }
+
+    void restoreJoints(int rolled, int perfect, int legendary) {
+        this.jointsRolled = rolled;
+        this.perfectRolls = perfect;
+        this.legendaryJointsRolled = legendary;
+    }
+
+    void restoreTime(long playtimeMinutes, long longestSession, long lastLogin) {
+        this.totalPlaytimeMinutes = playtimeMinutes;
+        this.longestPlaySession = longestSession;
+        this.lastLoginTime = lastLogin;
+    }
+
+    void restorePrestige(int level, int total) {
+        this.prestigeLevel = level;
+        this.totalPrestiges = total;
+    }
+
+    void restoreStreak(int current, int longest, long lastClaim) {
+        this.currentDailyStreak = current;
+        this.longestDailyStreak = Math.max(longest, current);
+        this.lastDailyClaimTime = lastClaim;
+    }
+
+    void restoreAchievement(String achievementId, long unlockTime) {
+        achievementUnlocks.put(achievementId, unlockTime);
+    }
+
+    void restoreChallenges(int daily, int weekly) {
+        this.dailyChallengesCompleted = daily;
+        this.weeklyChallengesCompleted = weekly;
+        this.challengesCompleted = daily + weekly;
+    }
+
+    void restoreCrossbreed(int created, int attempted, int legendary) {
+        this.strainsCreated = created;
+        this.crossbreedsAttempted = attempted;
+        this.legendaryStrainsDiscovered = legendary;
+    }
+
     // ===== GROWING STATS =====
     
     public int getTotalPlantsGrown() {
@@ -84,6 +153,7 @@ public class PlayerStats {
     }
 
     public void incrementPlantsGrown() {
+        markDirty();
         this.totalPlantsGrown++;
     }
 
@@ -92,6 +162,7 @@ public class PlayerStats {
     }
 
     public void incrementPlantsHarvested() {
+        markDirty();
         this.totalPlantsHarvested++;
     }
 
@@ -100,6 +171,7 @@ public class PlayerStats {
     }
 
     public void incrementLegendaryBuds() {
+        markDirty();
         this.legendaryBudsHarvested++;
     }
 
@@ -108,6 +180,7 @@ public class PlayerStats {
     }
 
     public void incrementFiveStarBuds() {
+        markDirty();
         this.fiveStarBudsHarvested++;
     }
 
@@ -116,6 +189,7 @@ public class PlayerStats {
     }
 
     public void incrementPerfectHarvests() {
+        markDirty();
         this.perfectHarvests++;
     }
 
@@ -126,6 +200,7 @@ public class PlayerStats {
     }
 
     public void incrementSuccessfulSales() {
+        markDirty();
         this.totalSalesSuccess++;
     }
 
@@ -134,6 +209,7 @@ public class PlayerStats {
     }
 
     public void incrementFailedSales() {
+        markDirty();
         this.totalSalesFailed++;
     }
 
@@ -148,6 +224,7 @@ public class PlayerStats {
     }
 
     public void recordSale(double amount) {
+        markDirty();
         if (amount > highestSingleSale) {
             highestSingleSale = amount;
         }
@@ -165,6 +242,7 @@ public class PlayerStats {
     }
 
     public void incrementJointsRolled() {
+        markDirty();
         this.jointsRolled++;
     }
 
@@ -173,6 +251,7 @@ public class PlayerStats {
     }
 
     public void incrementPerfectRolls() {
+        markDirty();
         this.perfectRolls++;
     }
 
@@ -181,6 +260,7 @@ public class PlayerStats {
     }
 
     public void incrementLegendaryJoints() {
+        markDirty();
         this.legendaryJointsRolled++;
     }
     
@@ -189,6 +269,7 @@ public class PlayerStats {
     }
     
     public void incrementJointsSmoked() {
+        markDirty();
         this.jointsSmoked++;
     }
 
@@ -199,6 +280,7 @@ public class PlayerStats {
     }
 
     public void addPlaytime(long minutes) {
+        markDirty();
         this.totalPlaytimeMinutes += minutes;
     }
 
@@ -207,6 +289,7 @@ public class PlayerStats {
     }
 
     public void updatePlaySession(long minutes) {
+        markDirty();
         if (minutes > longestPlaySession) {
             longestPlaySession = minutes;
         }
@@ -217,6 +300,7 @@ public class PlayerStats {
     }
 
     public void setLastLoginTime(long time) {
+        markDirty();
         this.lastLoginTime = time;
     }
 
@@ -227,6 +311,7 @@ public class PlayerStats {
     }
 
     public void unlockAchievement(String achievementId) {
+        markDirty();
         if (!hasAchievement(achievementId)) {
             achievementUnlocks.put(achievementId, System.currentTimeMillis());
         }
@@ -247,10 +332,12 @@ public class PlayerStats {
     }
 
     public void setPrestigeLevel(int level) {
+        markDirty();
         this.prestigeLevel = level;
     }
 
     public void incrementPrestige() {
+        markDirty();
         this.prestigeLevel++;
         this.totalPrestiges++;
     }
@@ -266,6 +353,7 @@ public class PlayerStats {
     }
 
     public void incrementDailyStreak() {
+        markDirty();
         this.currentDailyStreak++;
         if (currentDailyStreak > longestDailyStreak) {
             longestDailyStreak = currentDailyStreak;
@@ -273,6 +361,7 @@ public class PlayerStats {
     }
 
     public void resetDailyStreak() {
+        markDirty();
         this.currentDailyStreak = 0;
     }
 
@@ -281,6 +370,7 @@ public class PlayerStats {
     }
 
     public void setCurrentDailyStreak(int streak) {
+        markDirty();
         this.currentDailyStreak = streak;
         if (currentDailyStreak > longestDailyStreak) {
             longestDailyStreak = currentDailyStreak;
@@ -288,6 +378,7 @@ public class PlayerStats {
     }
 
     public void setLongestDailyStreak(int streak) {
+        markDirty();
         // Ensure longest streak is at least equal to current streak
         this.longestDailyStreak = Math.max(streak, currentDailyStreak);
     }
@@ -297,6 +388,7 @@ public class PlayerStats {
     }
 
     public void setLastDailyClaimTime(long time) {
+        markDirty();
         this.lastDailyClaimTime = time;
     }
 
@@ -307,6 +399,7 @@ public class PlayerStats {
     }
 
     public void incrementChallengesCompleted() {
+        markDirty();
         this.challengesCompleted++;
     }
 
@@ -315,6 +408,7 @@ public class PlayerStats {
     }
 
     public void incrementDailyChallenges() {
+        markDirty();
         this.dailyChallengesCompleted++;
         this.challengesCompleted++;
     }
@@ -324,6 +418,7 @@ public class PlayerStats {
     }
 
     public void incrementWeeklyChallenges() {
+        markDirty();
         this.weeklyChallengesCompleted++;
         this.challengesCompleted++;
     }
@@ -335,6 +430,7 @@ public class PlayerStats {
     }
 
     public void incrementStrainsCreated() {
+        markDirty();
         this.strainsCreated++;
     }
 
@@ -343,6 +439,7 @@ public class PlayerStats {
     }
 
     public void incrementCrossbreeds() {
+        markDirty();
         this.crossbreedsAttempted++;
     }
 
@@ -351,6 +448,7 @@ public class PlayerStats {
     }
 
     public void incrementLegendaryStrains() {
+        markDirty();
         this.legendaryStrainsDiscovered++;
     }
     
@@ -359,6 +457,7 @@ public class PlayerStats {
     }
     
     public void incrementSixStarStrains() {
+        markDirty();
         this.sixStarStrainsCreated++;
     }
     
@@ -369,6 +468,7 @@ public class PlayerStats {
     }
     
     public void incrementDiseasesCured() {
+        markDirty();
         this.diseasesCured++;
     }
     
@@ -377,6 +477,7 @@ public class PlayerStats {
     }
     
     public void incrementMutations() {
+        markDirty();
         this.mutations++;
     }
     
@@ -385,6 +486,7 @@ public class PlayerStats {
     }
     
     public void incrementAchievements() {
+        markDirty();
         this.achievementsUnlocked++;
     }
     
@@ -393,6 +495,7 @@ public class PlayerStats {
     }
     
     public void incrementSkillsUnlocked() {
+        markDirty();
         this.skillsUnlocked++;
     }
     
@@ -401,6 +504,7 @@ public class PlayerStats {
     }
     
     public void incrementStrainsCollected() {
+        markDirty();
         this.strainsCollected++;
     }
     
@@ -409,6 +513,7 @@ public class PlayerStats {
     }
     
     public void incrementSeasonalHarvests() {
+        markDirty();
         this.seasonalHarvests++;
     }
     
@@ -417,6 +522,7 @@ public class PlayerStats {
     }
     
     public void incrementEventsExperienced() {
+        markDirty();
         this.eventsExperienced++;
     }
     
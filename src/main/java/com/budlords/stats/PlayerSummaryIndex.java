@@ -0,0 +1,190 @@
+package com.budlords.stats;
+
+import com.budlords.BudLords;
+import com.budlords.data.RecordStore;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A few numbers per player, kept in memory for every player that has ever played.
+ *
+ * Full player data is only loaded while a player is online (or was recently), so
+ * leaderboards and offline name lookups (e.g. /pay) are answered from this index
+ * instead. Entries are refreshed whenever a player's stats are flushed.
+ */
+public class PlayerSummaryIndex {
+
+    /**
+     * What the index knows about one player.
+     */
+    public record Summary(String name, int score, double moneyEarned, int harvests, int prestige, int streak) {
+    }
+
+    private final BudLords plugin;
+    private final Map<UUID, Summary> summaries;
+    private final Map<String, UUID> byName;
+    private File indexFile;
+    private FileConfiguration indexConfig;
+    private RecordStore<UUID> indexStore;
+
+    PlayerSummaryIndex(BudLords plugin) {
+        this.plugin = plugin;
+        this.summaries = new ConcurrentHashMap<>();
+        this.byName = new ConcurrentHashMap<>();
+        loadIndex();
+    }
+
+    private void loadIndex() {
+        indexFile = new File(plugin.getDataFolder(), "player-index.yml");
+        if (!indexFile.exists()) {
+            try {
+                indexFile.createNewFile();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not create player-index.yml");
+            }
+        }
+        indexConfig = YamlConfiguration.loadConfiguration(indexFile);
+        indexStore = plugin.getPersistenceManager().register("player-index", () -> indexConfig, indexFile,
+            "players", UUID::toString, this::writeSummary);
+        indexStore.replay();
+
+        ConfigurationSection playersSection = indexConfig.getConfigurationSection("players");
+        if (playersSection == null) return;
+
+        for (String uuidStr : playersSection.getKeys(false)) {
+            ConfigurationSection section = playersSection.getConfigurationSection(uuidStr);
+            if (section == null) continue;
+            try {
+                put(UUID.fromString(uuidStr), new Summary(
+                    section.getString("name"),
+                    section.getInt("score", 0),
+                    section.getDouble("money-earned", 0),
+                    section.getInt("harvests", 0),
+                    section.getInt("prestige", 0),
+                    section.getInt("streak", 0)));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Invalid UUID in player-index.yml: " + uuidStr);
+            }
+        }
+    }
+
+    private boolean writeSummary(UUID playerId, ConfigurationSection section) {
+        Summary summary = summaries.get(playerId);
+        if (summary == null) {
+            return false;
+        }
+        if (summary.name() != null) {
+            section.set("name", summary.name());
+        }
+        section.set("score", summary.score());
+        section.set("money-earned", summary.moneyEarned());
+        section.set("harvests", summary.harvests());
+        section.set("prestige", summary.prestige());
+        section.set("streak", summary.streak());
+        return true;
+    }
+
+    /**
+     * Refreshes a player's numbers from their stats, keeping the known name.
+     */
+    void update(PlayerStats stats) {
+        Summary current = summaries.get(stats.getPlayerId());
+        update(stats, current != null ? current.name() : null);
+    }
+
+    void update(PlayerStats stats, String name) {
+        Summary summary = new Summary(name, stats.calculateBudLordScore(), stats.getTotalMoneyEarned(),
+            stats.getTotalPlantsHarvested(), stats.getPrestigeLevel(), stats.getCurrentDailyStreak());
+        if (!summary.equals(summaries.get(stats.getPlayerId()))) {
+            put(stats.getPlayerId(), summary);
+            indexStore.markDirty(stats.getPlayerId());
+        }
+    }
+
+    /**
+     * Records the player's current name (call on join).
+     */
+    public void updateName(UUID playerId, String name) {
+        Summary current = summaries.get(playerId);
+        if (current != null && name.equals(current.name())) return;
+
+        Summary updated = current != null
+            ? new Summary(name, current.score(), current.moneyEarned(), current.harvests(), current.prestige(), current.streak())
+            : new Summary(name, 0, 0, 0, 0, 0);
+        put(playerId, updated);
+        indexStore.markDirty(playerId);
+    }
+
+    private void put(UUID playerId, Summary summary) {
+        Summary previous = summaries.put(playerId, summary);
+        if (previous != null && previous.name() != null && !previous.name().equals(summary.name())) {
+            byName.remove(previous.name().toLowerCase(Locale.ROOT), playerId);
+        }
+        if (summary.name() != null) {
+            byName.put(summary.name().toLowerCase(Locale.ROOT), playerId);
+        }
+    }
+
+    /**
+     * @return The player last seen with this name (case-insensitive), or null
+     */
+    public UUID findByName(String name) {
+        return byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return The player's last known name, or null
+     */
+    public String getName(UUID playerId) {
+        Summary summary = summaries.get(playerId);
+        return summary != null ? summary.name() : null;
+    }
+
+    public boolean isEmpty() {
+        return summaries.isEmpty();
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+
+    /**
+     * The highest {@code limit} players by the given value, best first. Keeps a heap of
+     * {@code limit} entries rather than sorting every player.
+     */
+    List<StatsManager.LeaderboardEntry> top(int limit, ToDoubleFunction<Summary> value) {
+        if (limit <= 0) return List.of();
+
+        Comparator<Map.Entry<UUID, Summary>> byValue = Comparator.comparingDouble(entry -> value.applyAsDouble(entry.getValue()));
+        PriorityQueue<Map.Entry<UUID, Summary>> heap = new PriorityQueue<>(limit + 1, byValue);
+        for (Map.Entry<UUID, Summary> entry : summaries.entrySet()) {
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (value.applyAsDouble(entry.getValue()) > value.applyAsDouble(heap.peek().getValue())) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        List<Map.Entry<UUID, Summary>> best = new ArrayList<>(heap);
+        best.sort(byValue.reversed());
+        List<StatsManager.LeaderboardEntry> entries = new ArrayList<>(best.size());
+        for (Map.Entry<UUID, Summary> entry : best) {
+            entries.add(new StatsManager.LeaderboardEntry(entry.getKey(), (int) value.applyAsDouble(entry.getValue())));
+        }
+        return entries;
+    }
+}
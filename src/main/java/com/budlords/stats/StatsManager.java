@@ -2,6 +2,8 @@ package com.budlords.stats;
 
 import com.budlords.BudLords;
 import com.budlords.data.DataManager;
+import com.budlords.data.RecordStore;
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -11,7 +13,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Manages player statistics, leaderboards, and stat persistence.
@@ -22,14 +23,41 @@ public class StatsManager {
     private final Map<UUID, PlayerStats> playerStats;
     private File statsFile;
     private FileConfiguration statsConfig;
+    private RecordStore<UUID> statsStore;
+    private PlayerSummaryIndex summaryIndex;
 
     public StatsManager(BudLords plugin) {
         this.plugin = plugin;
         this.playerStats = new ConcurrentHashMap<>();
         loadStats();
+        loadSummaryIndex();
+    }
+
+    private void loadSummaryIndex() {
+        summaryIndex = new PlayerSummaryIndex(plugin);
+        if (!summaryIndex.isEmpty()) return;
+
+        // First start with the index: build it from every stored player once
+        statsStore.scan((uuidStr, section) -> {
+            try {
+                UUID uuid = UUID.fromString(uuidStr);
+                summaryIndex.update(loadPlayerStats(uuid, section), Bukkit.getOfflinePlayer(uuid).getName());
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Invalid UUID in stats: " + uuidStr);
+            }
+        });
+        plugin.getLogger().info("Built player index for " + summaryIndex.size() + " players");
+    }
+
+    /**
+     * @return Leaderboard numbers and last known names of every player
+     */
+    public PlayerSummaryIndex getSummaryIndex() {
+        return summaryIndex;
     }
 
     private void loadStats() {
+        long start = System.nanoTime();
         statsFile = new File(plugin.getDataFolder(), "stats.yml");
         if (!statsFile.exists()) {
             try {
@@ -39,6 +67,9 @@ public class StatsManager {
             }
         }
         statsConfig = YamlConfiguration.loadConfiguration(statsFile);
+        statsStore = plugin.getPersistenceManager().registerPlayerStore("stats", () -> statsConfig, statsFile,
+            "players", this::writePlayerStats, this::readPlayerStats, this::unloadPlayerStats);
+        statsStore.replay();
         
         ConfigurationSection playersSection = statsConfig.getConfigurationSection("players");
         if (playersSection == null) return;
@@ -46,14 +77,27 @@ public class StatsManager {
         for (String uuidStr : playersSection.getKeys(false)) {
             try {
                 UUID uuid = UUID.fromString(uuidStr);
-                PlayerStats stats = loadPlayerStats(uuid, playersSection.getConfigurationSection(uuidStr));
-                playerStats.put(uuid, stats);
+                readPlayerStats(uuid, playersSection.getConfigurationSection(uuidStr));
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to load stats for: " + uuidStr);
             }
         }
         
-        plugin.getLogger().info("Loaded stats for " + playerStats.size() + " players");
+        plugin.getLogger().info("Loaded stats for " + playerStats.size() + " players in " +
+            String.format("%.1f", (System.nanoTime() - start) / 1_000_000.0) + "ms");
+    }
+
+    private void readPlayerStats(UUID uuid, ConfigurationSection section) {
+        PlayerStats stats = loadPlayerStats(uuid, section);
+        stats.setChangeListener(() -> statsStore.markDirty(uuid));
+        playerStats.put(uuid, stats);
+    }
+
+    private void unloadPlayerStats(UUID uuid) {
+        PlayerStats stats = playerStats.remove(uuid);
+        if (stats != null) {
+            stats.setChangeListener(null); // Anything still holding on to it must not mark the player dirty
+        }
     }
 
     private PlayerStats loadPlayerStats(UUID uuid, ConfigurationSection section) {
@@ -61,131 +105,129 @@ public class StatsManager {
         
         if (section == null) return stats;
         
+        // Counters are restored as stored, so loading doesn't depend on how large they are
         // Load growing stats
-        ConfigurationSection growing = section.getConfigurationSection("growing");
-        if (growing != null) {
-            for (int i = 0; i < growing.getInt("plants-grown", 0); i++) stats.incrementPlantsGrown();
-            for (int i = 0; i < growing.getInt("plants-harvested", 0); i++) stats.incrementPlantsHarvested();
-            for (int i = 0; i < growing.getInt("legendary-buds", 0); i++) stats.incrementLegendaryBuds();
-            for (int i = 0; i < growing.getInt("five-star-buds", 0); i++) stats.incrementFiveStarBuds();
-            for (int i = 0; i < growing.getInt("perfect-harvests", 0); i++) stats.incrementPerfectHarvests();
-        }
+        stats.restoreGrowing(
+            section.getInt("growing.plants-grown", 0),
+            section.getInt("growing.plants-harvested", 0),
+            section.getInt("growing.legendary-buds", 0),
+            section.getInt("growing.five-star-buds", 0),
+            section.getInt("growing.perfect-harvests", 0));
         
         // Load trading stats
-        ConfigurationSection trading = section.getConfigurationSection("trading");
-        if (trading != null) {
-            for (int i = 0; i < trading.getInt("successful-sales", 0); i++) stats.incrementSuccessfulSales();
-            for (int i = 0; i < trading.getInt("failed-sales", 0); i++) stats.incrementFailedSales();
-            stats.recordSale(trading.getDouble("highest-sale", 0));
-        }
+        double highestSale = section.getDouble("trading.highest-sale", 0);
+        stats.restoreTrading(
+            section.getInt("trading.successful-sales", 0),
+            section.getInt("trading.failed-sales", 0),
+            highestSale,
+            section.getDouble("trading.total-earned", highestSale));
         
         // Load joint stats
-        ConfigurationSection joints = section.getConfigurationSection("joints");
-        if (joints != null) {
-            for (int i = 0; i < joints.getInt("total-rolled", 0); i++) stats.incrementJointsRolled();
-            for (int i = 0; i < joints.getInt("perfect-rolls", 0); i++) stats.incrementPerfectRolls();
-            for (int i = 0; i < joints.getInt("legendary-joints", 0); i++) stats.incrementLegendaryJoints();
-        }
+        stats.restoreJoints(
+            section.getInt("joints.total-rolled", 0),
+            section.getInt("joints.perfect-rolls", 0),
+            section.getInt("joints.legendary-joints", 0));
         
         // Load time stats
-        stats.addPlaytime(section.getLong("playtime-minutes", 0));
-        stats.updatePlaySession(section.getLong("longest-session", 0));
-        stats.setLastLoginTime(section.getLong("last-login", 0));
+        stats.restoreTime(
+            section.getLong("playtime-minutes", 0),
+            section.getLong("longest-session", 0),
+            section.getLong("last-login", 0));
         
         // Load prestige
-        stats.setPrestigeLevel(section.getInt("prestige-level", 0));
+        int prestigeLevel = section.getInt("prestige-level", 0);
+        stats.restorePrestige(prestigeLevel, section.getInt("total-prestiges", 0));
         
         // Load streaks
-        for (int i = 0; i < section.getInt("daily-streak", 0); i++) stats.incrementDailyStreak();
-        stats.setLastDailyClaimTime(section.getLong("last-daily-claim", 0));
+        int dailyStreak = section.getInt("daily-streak", 0);
+        stats.restoreStreak(dailyStreak, section.getInt("longest-streak", dailyStreak),
+            section.getLong("last-daily-claim", 0));
         
         // Load achievements
         ConfigurationSection achievements = section.getConfigurationSection("achievements");
         if (achievements != null) {
+            long now = System.currentTimeMillis();
             for (String achievementId : achievements.getKeys(false)) {
-                stats.unlockAchievement(achievementId);
+                stats.restoreAchievement(achievementId, achievements.getLong(achievementId, now));
             }
         }
         
         // Load challenges
-        for (int i = 0; i < section.getInt("daily-challenges-completed", 0); i++) {
-            stats.incrementDailyChallenges();
-        }
-        for (int i = 0; i < section.getInt("weekly-challenges-completed", 0); i++) {
-            stats.incrementWeeklyChallenges();
-        }
+        stats.restoreChallenges(
+            section.getInt("daily-challenges-completed", 0),
+            section.getInt("weekly-challenges-completed", 0));
         
         // Load crossbreed stats
-        ConfigurationSection crossbreed = section.getConfigurationSection("crossbreed");
-        if (crossbreed != null) {
-            for (int i = 0; i < crossbreed.getInt("strains-created", 0); i++) stats.incrementStrainsCreated();
-            for (int i = 0; i < crossbreed.getInt("crossbreeds-attempted", 0); i++) stats.incrementCrossbreeds();
-            for (int i = 0; i < crossbreed.getInt("legendary-strains", 0); i++) stats.incrementLegendaryStrains();
-        }
+        stats.restoreCrossbreed(
+            section.getInt("crossbreed.strains-created", 0),
+            section.getInt("crossbreed.crossbreeds-attempted", 0),
+            section.getInt("crossbreed.legendary-strains", 0));
         
         return stats;
     }
 
+    /**
+     * Exports all stats to stats.yml. Changes are persisted incrementally,
+     * so this is only needed to get an up-to-date file.
+     */
     public void saveStats() {
-        for (Map.Entry<UUID, PlayerStats> entry : playerStats.entrySet()) {
-            savePlayerStats(entry.getKey(), entry.getValue());
-        }
-        
-        try {
-            statsConfig.save(statsFile);
-        } catch (IOException e) {
-            plugin.getLogger().warning("Failed to save stats.yml");
-        }
+        plugin.getPersistenceManager().export(statsStore);
     }
 
-    private void savePlayerStats(UUID uuid, PlayerStats stats) {
-        String path = "players." + uuid.toString();
+    private boolean writePlayerStats(UUID uuid, ConfigurationSection section) {
+        PlayerStats stats = playerStats.get(uuid);
+        if (stats == null) {
+            return false;
+        }
         
         // Growing stats
-        statsConfig.set(path + ".growing.plants-grown", stats.getTotalPlantsGrown());
-        statsConfig.set(path + ".growing.plants-harvested", stats.getTotalPlantsHarvested());
-        statsConfig.set(path + ".growing.legendary-buds", stats.getLegendaryBudsHarvested());
-        statsConfig.set(path + ".growing.five-star-buds", stats.getFiveStarBudsHarvested());
-        statsConfig.set(path + ".growing.perfect-harvests", stats.getPerfectHarvests());
+        section.set("growing.plants-grown", stats.getTotalPlantsGrown());
+        section.set("growing.plants-harvested", stats.getTotalPlantsHarvested());
+        section.set("growing.legendary-buds", stats.getLegendaryBudsHarvested());
+        section.set("growing.five-star-buds", stats.getFiveStarBudsHarvested());
+        section.set("growing.perfect-harvests", stats.getPerfectHarvests());
         
         // Trading stats
-        statsConfig.set(path + ".trading.successful-sales", stats.getTotalSalesSuccess());
-        statsConfig.set(path + ".trading.failed-sales", stats.getTotalSalesFailed());
-        statsConfig.set(path + ".trading.highest-sale", stats.getHighestSingleSale());
-        statsConfig.set(path + ".trading.total-earned", stats.getTotalMoneyEarned());
+        section.set("trading.successful-sales", stats.getTotalSalesSuccess());
+        section.set("trading.failed-sales", stats.getTotalSalesFailed());
+        section.set("trading.highest-sale", stats.getHighestSingleSale());
+        section.set("trading.total-earned", stats.getTotalMoneyEarned());
         
         // Joint stats
-        statsConfig.set(path + ".joints.total-rolled", stats.getJointsRolled());
-        statsConfig.set(path + ".joints.perfect-rolls", stats.getPerfectRolls());
-        statsConfig.set(path + ".joints.legendary-joints", stats.getLegendaryJointsRolled());
+        section.set("joints.total-rolled", stats.getJointsRolled());
+        section.set("joints.perfect-rolls", stats.getPerfectRolls());
+        section.set("joints.legendary-joints", stats.getLegendaryJointsRolled());
         
         // Time stats
-        statsConfig.set(path + ".playtime-minutes", stats.getTotalPlaytimeMinutes());
-        statsConfig.set(path + ".longest-session", stats.getLongestPlaySession());
-        statsConfig.set(path + ".last-login", stats.getLastLoginTime());
+        section.set("playtime-minutes", stats.getTotalPlaytimeMinutes());
+        section.set("longest-session", stats.getLongestPlaySession());
+        section.set("last-login", stats.getLastLoginTime());
         
         // Prestige
-        statsConfig.set(path + ".prestige-level", stats.getPrestigeLevel());
-        statsConfig.set(path + ".total-prestiges", stats.getTotalPrestiges());
+        section.set("prestige-level", stats.getPrestigeLevel());
+        section.set("total-prestiges", stats.getTotalPrestiges());
         
         // Streaks
-        statsConfig.set(path + ".daily-streak", stats.getCurrentDailyStreak());
-        statsConfig.set(path + ".longest-streak", stats.getLongestDailyStreak());
-        statsConfig.set(path + ".last-daily-claim", stats.getLastDailyClaimTime());
+        section.set("daily-streak", stats.getCurrentDailyStreak());
+        section.set("longest-streak", stats.getLongestDailyStreak());
+        section.set("last-daily-claim", stats.getLastDailyClaimTime());
         
         // Achievements
         for (Map.Entry<String, Long> achievement : stats.getAchievementUnlocks().entrySet()) {
-            statsConfig.set(path + ".achievements." + achievement.getKey(), achievement.getValue());
+            section.set("achievements." + achievement.getKey(), achievement.getValue());
         }
         
         // Challenges
-        statsConfig.set(path + ".daily-challenges-completed", stats.getDailyChallengesCompleted());
-        statsConfig.set(path + ".weekly-challenges-completed", stats.getWeeklyChallengesCompleted());
+        section.set("daily-challenges-completed", stats.getDailyChallengesCompleted());
+        section.set("weekly-challenges-completed", stats.getWeeklyChallengesCompleted());
         
         // Crossbreed
-        statsConfig.set(path + ".crossbreed.strains-created", stats.getStrainsCreated());
-        statsConfig.set(path + ".crossbreed.crossbreeds-attempted", stats.getCrossbreedsAttempted());
-        statsConfig.set(path + ".crossbreed.legendary-strains", stats.getLegendaryStrainsDiscovered());
+        section.set("crossbreed.strains-created", stats.getStrainsCreated());
+        section.set("crossbreed.crossbreeds-attempted", stats.getCrossbreedsAttempted());
+        section.set("crossbreed.legendary-strains", stats.getLegendaryStrainsDiscovered());
+        
+        summaryIndex.update(stats);
+        return true;
     }
 
     public PlayerStats getStats(Player player) {
@@ -193,64 +235,51 @@ public class StatsManager {
     }
 
     public PlayerStats getStats(UUID playerId) {
-        return playerStats.computeIfAbsent(playerId, PlayerStats::new);
+        statsStore.load(playerId);
+        return playerStats.computeIfAbsent(playerId, id -> {
+            PlayerStats stats = new PlayerStats(id);
+            stats.setChangeListener(() -> statsStore.markDirty(id));
+            statsStore.markDirty(id);
+            return stats;
+        });
     }
 
     // ===== LEADERBOARD METHODS =====
+    // Served from the summary index, so they cover players whose stats aren't loaded
 
     /**
      * Gets the top players by BudLord Score.
      */
     public List<LeaderboardEntry> getTopByScore(int limit) {
-        return playerStats.values().stream()
-            .sorted((a, b) -> Integer.compare(b.calculateBudLordScore(), a.calculateBudLordScore()))
-            .limit(limit)
-            .map(stats -> new LeaderboardEntry(stats.getPlayerId(), stats.calculateBudLordScore()))
-            .collect(Collectors.toList());
+        return summaryIndex.top(limit, PlayerSummaryIndex.Summary::score);
     }
 
     /**
      * Gets the top players by total money earned.
      */
     public List<LeaderboardEntry> getTopByEarnings(int limit) {
-        return playerStats.values().stream()
-            .sorted((a, b) -> Double.compare(b.getTotalMoneyEarned(), a.getTotalMoneyEarned()))
-            .limit(limit)
-            .map(stats -> new LeaderboardEntry(stats.getPlayerId(), (int) stats.getTotalMoneyEarned()))
-            .collect(Collectors.toList());
+        return summaryIndex.top(limit, PlayerSummaryIndex.Summary::moneyEarned);
     }
 
     /**
      * Gets the top players by plants harvested.
      */
     public List<LeaderboardEntry> getTopByHarvests(int limit) {
-        return playerStats.values().stream()
-            .sorted((a, b) -> Integer.compare(b.getTotalPlantsHarvested(), a.getTotalPlantsHarvested()))
-            .limit(limit)
-            .map(stats -> new LeaderboardEntry(stats.getPlayerId(), stats.getTotalPlantsHarvested()))
-            .collect(Collectors.toList());
+        return summaryIndex.top(limit, PlayerSummaryIndex.Summary::harvests);
     }
 
     /**
      * Gets the top players by prestige level.
      */
     public List<LeaderboardEntry> getTopByPrestige(int limit) {
-        return playerStats.values().stream()
-            .sorted((a, b) -> Integer.compare(b.getPrestigeLevel(), a.getPrestigeLevel()))
-            .limit(limit)
-            .map(stats -> new LeaderboardEntry(stats.getPlayerId(), stats.getPrestigeLevel()))
-            .collect(Collectors.toList());
+        return summaryIndex.top(limit, PlayerSummaryIndex.Summary::prestige);
     }
 
     /**
      * Gets the top players by daily streak.
      */
     public List<LeaderboardEntry> getTopByStreak(int limit) {
-        return playerStats.values().stream()
-            .sorted((a, b) -> Integer.compare(b.getCurrentDailyStreak(), a.getCurrentDailyStreak()))
-            .limit(limit)
-            .map(stats -> new LeaderboardEntry(stats.getPlayerId(), stats.getCurrentDailyStreak()))
-            .collect(Collectors.toList());
+        return summaryIndex.top(limit, PlayerSummaryIndex.Summary::streak);
     }
 
     /**
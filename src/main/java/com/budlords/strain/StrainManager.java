@@ -2,6 +2,7 @@ package com.budlords.strain;
 
 import com.budlords.BudLords;
 import com.budlords.data.DataManager;
+import com.budlords.items.ItemTags;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -743,6 +744,7 @@ public class StrainManager {
             lore.add("§8ID: " + strain.getId());
             lore.add("§8Rating: " + starRating.getStars());
             meta.setLore(lore);
+            ItemTags.tag(meta, ItemTags.Kind.SEED, strain.getId(), starRating, 0);
             seed.setItemMeta(meta);
         }
         
@@ -801,6 +803,7 @@ public class StrainManager {
             lore.add("§8ID: " + strain.getId());
             lore.add("§8Rating: " + starRating.getStars());
             meta.setLore(lore);
+            ItemTags.tag(meta, ItemTags.Kind.BUD, strain.getId(), starRating, 0);
             bud.setItemMeta(meta);
         }
         
@@ -816,67 +819,19 @@ public class StrainManager {
     }
 
     private com.budlords.quality.StarRating getStarRatingFromItem(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) return null;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return null;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) return null;
-        
-        for (String line : lore) {
-            if (line.startsWith("§8Rating: ")) {
-                try {
-                    int rating = Integer.parseInt(line.substring(10).trim());
-                    return com.budlords.quality.StarRating.fromValue(rating);
-                } catch (NumberFormatException e) {
-                    return null;
-                }
-            }
-        }
-        return null;
+        return ItemTags.getRating(item);
     }
 
     public String getStrainIdFromItem(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) return null;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasLore()) return null;
-        
-        List<String> lore = meta.getLore();
-        if (lore == null) return null;
-        
-        for (String line : lore) {
-            if (line.startsWith("§8ID: ")) {
-                return line.substring(6);
-            }
-        }
-        return null;
+        return ItemTags.getStrainId(item);
     }
 
     public boolean isSeedItem(ItemStack item) {
-        if (item == null) return false;
-        // Check for all seed types used by different rarity levels
-        Material type = item.getType();
-        if (type != Material.WHEAT_SEEDS && 
-            type != Material.BEETROOT_SEEDS && 
-            type != Material.MELON_SEEDS && 
-            type != Material.PUMPKIN_SEEDS) {
-            return false;
-        }
-        if (!item.hasItemMeta()) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) return false;
-        return meta.getDisplayName().contains("Seed");
+        return ItemTags.is(item, ItemTags.Kind.SEED);
     }
 
     public boolean isBudItem(ItemStack item) {
-        if (item == null) return false;
-        // Accept any dye material for buds (for colored strains like purple)
-        Material type = item.getType();
-        if (!type.name().endsWith("_DYE")) return false;
-        if (!item.hasItemMeta()) return false;
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) return false;
-        return meta.getDisplayName().contains("Bud");
+        return ItemTags.is(item, ItemTags.Kind.BUD);
     }
 
     public String generateUniqueId(String baseName) {
@@ -3,6 +3,8 @@ package com.budlords.weather;
 import com.budlords.BudLords;
 import com.budlords.farming.FarmingManager;
 import com.budlords.farming.Plant;
+import com.budlords.farming.PlantSimulation;
+import com.budlords.farming.SkyExposureMap;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Particle;
@@ -21,9 +23,15 @@ public class WeatherManager {
 
     private final BudLords plugin;
     private final FarmingManager farmingManager;
+    private final SkyExposureMap skyExposure;
+    
+    // Water rain gave every exposed plant since startup; sleeping plants get the difference
+    private double rainfall;
+    // Water given to exposed plants during the current rain pass
+    private double passRain;
+    private boolean particlesEnabled;
     
     private BukkitTask weatherTask;
-    private BukkitTask effectsTask;
     
     // Weather multipliers
     private double currentGrowthMultiplier = 1.0;
@@ -36,6 +44,7 @@ public class WeatherManager {
     public WeatherManager(BudLords plugin, FarmingManager farmingManager) {
         this.plugin = plugin;
         this.farmingManager = farmingManager;
+        this.skyExposure = farmingManager.getSkyExposure();
         
         startWeatherTasks();
         
@@ -44,14 +53,37 @@ public class WeatherManager {
 
     private void startWeatherTasks() {
         // Check weather every minute
-        weatherTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            updateWeatherState();
-            applyWeatherEffects();
-        }, 20L * 60, 20L * 60);
+        weatherTask = plugin.getTaskProfiler().runTaskTimer("WeatherManager.weatherCheck", 
+            this::updateWeatherState, 20L * 60, 20L * 60);
+        
+        // Rain every minute, as part of the plant simulation
+        farmingManager.getSimulation().addStage("rain", 20 * 60, new PlantSimulation.Stage() {
+            @Override
+            public void beginPass() {
+                passRain = currentWaterGainRate;
+                rainfall += passRain;
+            }
+
+            @Override
+            public void tick(Plant plant) {
+                applyWeatherEffects(plant);
+            }
+        });
         
         // Visual effects every 5 seconds
-        effectsTask = Bukkit.getScheduler().runTaskTimer(plugin, 
-            this::spawnWeatherParticles, 100L, 100L);
+        farmingManager.getSimulation().addStage("weather-particles", 100, new PlantSimulation.Stage() {
+            @Override
+            public void beginPass() {
+                particlesEnabled = plugin.getConfig().getBoolean("weather.particle-effects", true);
+            }
+
+            @Override
+            public void tick(Plant plant) {
+                if (particlesEnabled) {
+                    spawnWeatherParticles(plant);
+                }
+            }
+        });
     }
 
     /**
@@ -118,66 +150,55 @@ public class WeatherManager {
     }
 
     /**
-     * Applies weather effects to all plants.
+     * Applies weather effects to a plant.
      */
-    private void applyWeatherEffects() {
-        if (currentWaterGainRate > 0) {
-            // Rain/thunderstorm waters plants
-            for (Plant plant : farmingManager.getAllPlants()) {
-                Location loc = plant.getLocation();
-                
-                // Check if plant is exposed to sky
-                if (loc.getWorld() != null && loc.getWorld().getHighestBlockYAt(loc) <= loc.getBlockY() + 1) {
-                    double currentWater = plant.getWaterLevel();
-                    plant.setWaterLevel(Math.min(1.0, currentWater + currentWaterGainRate));
-                }
-            }
+    private void applyWeatherEffects(Plant plant) {
+        // Rain/thunderstorm waters plants exposed to sky; sleeping plants catch up when they wake
+        if (passRain > 0 && skyExposure.isExposed(plant)) {
+            double currentWater = plant.getWaterLevel();
+            if (currentWater >= 1.0) return;
+            plant.setWaterLevel(Math.min(1.0, currentWater + passRain));
+            farmingManager.onCareImproved(plant);
         }
     }
 
     /**
-     * Spawns weather-appropriate particles near plants.
+     * Spawns weather-appropriate particles near a plant.
      */
-    private void spawnWeatherParticles() {
-        if (!plugin.getConfig().getBoolean("weather.particle-effects", true)) return;
+    private void spawnWeatherParticles(Plant plant) {
+        Location loc = plant.getLocation();
         
-        for (Plant plant : farmingManager.getAllPlants()) {
-            Location loc = plant.getLocation();
-            if (loc.getWorld() == null) continue;
-            if (!loc.getWorld().isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) continue;
-            
-            // Only show particles if exposed to sky
-            if (loc.getWorld().getHighestBlockYAt(loc) > loc.getBlockY() + 1) continue;
-            
-            Location particleLoc = loc.clone().add(0.5, 0.8, 0.5);
-            
-            switch (currentWeather) {
-                case RAIN -> {
-                    loc.getWorld().spawnParticle(Particle.DRIP_WATER, particleLoc.add(0, 0.5, 0), 
-                        3, 0.3, 0.1, 0.3, 0);
-                }
-                case THUNDERSTORM -> {
-                    loc.getWorld().spawnParticle(Particle.DRIP_WATER, particleLoc.add(0, 0.5, 0), 
-                        5, 0.4, 0.1, 0.4, 0);
-                    if (ThreadLocalRandom.current().nextDouble() < 0.1) {
-                        loc.getWorld().spawnParticle(Particle.FIREWORKS_SPARK, particleLoc, 
-                            3, 0.2, 0.2, 0.2, 0.01);
-                    }
+        // Only show particles if exposed to sky
+        if (!skyExposure.isExposed(plant)) return;
+        
+        Location particleLoc = loc.clone().add(0.5, 0.8, 0.5);
+        
+        switch (currentWeather) {
+            case RAIN -> {
+                loc.getWorld().spawnParticle(Particle.DRIP_WATER, particleLoc.add(0, 0.5, 0), 
+                    3, 0.3, 0.1, 0.3, 0);
+            }
+            case THUNDERSTORM -> {
+                loc.getWorld().spawnParticle(Particle.DRIP_WATER, particleLoc.add(0, 0.5, 0), 
+                    5, 0.4, 0.1, 0.4, 0);
+                if (ThreadLocalRandom.current().nextDouble() < 0.1) {
+                    loc.getWorld().spawnParticle(Particle.FIREWORKS_SPARK, particleLoc, 
+                        3, 0.2, 0.2, 0.2, 0.01);
                 }
-                case SUNNY -> {
-                    if (ThreadLocalRandom.current().nextDouble() < 0.3) {
-                        loc.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 
-                            1, 0.2, 0.1, 0.2, 0.01);
-                    }
+            }
+            case SUNNY -> {
+                if (ThreadLocalRandom.current().nextDouble() < 0.3) {
+                    loc.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 
+                        1, 0.2, 0.1, 0.2, 0.01);
                 }
-                case NIGHT -> {
-                    if (ThreadLocalRandom.current().nextDouble() < 0.2) {
-                        loc.getWorld().spawnParticle(Particle.GLOW, particleLoc.add(0, 0.2, 0), 
-                            1, 0.3, 0.1, 0.3, 0);
-                    }
+            }
+            case NIGHT -> {
+                if (ThreadLocalRandom.current().nextDouble() < 0.2) {
+                    loc.getWorld().spawnParticle(Particle.GLOW, particleLoc.add(0, 0.2, 0), 
+                        1, 0.3, 0.1, 0.3, 0);
                 }
-                default -> {} // No special particles
             }
+            default -> {} // No special particles
         }
     }
 
@@ -202,6 +223,14 @@ public class WeatherManager {
         return currentQualityMultiplier;
     }
 
+    /**
+     * Gets how much water rain gave every exposed plant since startup.
+     * A plant that slept through rain is owed the difference from when it fell asleep.
+     */
+    public double getRainfall() {
+        return rainfall;
+    }
+
     /**
      * Shuts down the weather manager.
      */
@@ -209,9 +238,6 @@ public class WeatherManager {
         if (weatherTask != null) {
             weatherTask.cancel();
         }
-        if (effectsTask != null) {
-            effectsTask.cancel();
-        }
     }
 
     /**